@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.core.CreationInfo;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Fixtures shared by the benchmarks
+ * <p>
+ * The benchmarks are run from the project directory and use the license XML files in TestFiles.
+ * <p>
+ * The files in TestFiles/LicenseXmlFiles predate the listed license schema and can not be parsed by
+ * <code>LicenseXmlDocument</code>, so they are only used as a corpus of license texts.  The benchmarks which
+ * parse license XML use the schema valid license XML files in TestFiles.
+ */
+public class BenchmarkHelper {
+
+	public static final String TEST_FILES_DIR = "TestFiles";
+	public static final String CORPUS_DIR = TEST_FILES_DIR + File.separator + "LicenseXmlFiles";
+	public static final String CREATION_DATE = "2026-01-01T00:00:00Z";
+	public static final String LICENSE_LIST_VERSION = "3.25.0";
+
+	static {
+		SpdxModelFactory.init();
+		System.setProperty(LicenseXmlDocument.PROP_SCHEMA_OFFLINE, "true");
+	}
+
+	private BenchmarkHelper() {
+		// static helpers only
+	}
+
+	/**
+	 * @param fileName name of a license XML file in TestFiles
+	 * @return the license XML file
+	 */
+	public static File testFile(String fileName) {
+		return new File(TEST_FILES_DIR, fileName);
+	}
+
+	/**
+	 * @return the schema valid license XML files in TestFiles sorted by name
+	 */
+	public static List<File> licenseXmlFiles() {
+		File[] files = new File(TEST_FILES_DIR).listFiles((dir, name) -> name.toLowerCase().endsWith(".xml"));
+		List<File> retval = new ArrayList<>(Arrays.asList(files));
+		retval.sort(Comparator.comparing(File::getName));
+		return retval;
+	}
+
+	/**
+	 * Read the license texts in TestFiles/LicenseXmlFiles - files which are not well formed XML are skipped
+	 * @return map of license ID to license text ordered by license ID
+	 * @throws Exception on parsing errors
+	 */
+	public static Map<String, String> corpusTexts() throws Exception {
+		List<File> files = new ArrayList<>();
+		XmlLicenseProvider.addXmlFiles(new File(CORPUS_DIR), files);
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+		DocumentBuilder builder = factory.newDocumentBuilder();
+		Map<String, String> retval = new TreeMap<>();
+		for (File file:files) {
+			Element root;
+			try {
+				root = builder.parse(file).getDocumentElement();
+			} catch (SAXException e) {
+				continue;
+			}
+			NodeList licenseElements = root.getElementsByTagName("license");
+			if (licenseElements.getLength() > 0) {
+				retval.put(root.getAttribute("identifier"), licenseElements.item(0).getTextContent());
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Parse the listed licenses and exceptions of the schema valid license XML files into shared in-memory stores
+	 * @return licenses and exceptions in the files
+	 * @throws Exception on parsing errors
+	 */
+	public static Corpus parseCorpus() throws Exception {
+		IModelStore v2Store = new InMemSpdxStore();
+		IModelStore v3Store = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		CreationInfo creationInfo = XmlLicenseProvider.createCreationInfo(v3Store, copyManager, CREATION_DATE, LICENSE_LIST_VERSION);
+		Corpus retval = new Corpus();
+		for (File xmlFile:licenseXmlFiles()) {
+			LicenseXmlDocument doc = new LicenseXmlDocument(xmlFile, v2Store, v3Store, copyManager, creationInfo);
+			retval.licenses.addAll(doc.getListedLicenses());
+			retval.exceptions.addAll(doc.getLicenseExceptions());
+		}
+		return retval;
+	}
+
+	/**
+	 * Licenses and exceptions parsed from the license XML files
+	 */
+	public static class Corpus {
+		public final List<ListedLicenseContainer> licenses = new ArrayList<>();
+		public final List<ListedExceptionContainer> exceptions = new ArrayList<>();
+	}
+
+	/**
+	 * Parse the listed licenses in a license XML file into new in-memory stores
+	 * @param xmlFile license XML file
+	 * @return listed licenses in the file
+	 * @throws Exception on parsing errors
+	 */
+	public static List<ListedLicenseContainer> parseLicenses(File xmlFile) throws Exception {
+		IModelStore v2Store = new InMemSpdxStore();
+		IModelStore v3Store = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		LicenseXmlDocument doc = new LicenseXmlDocument(xmlFile, v2Store, v3Store, copyManager,
+				XmlLicenseProvider.createCreationInfo(v3Store, copyManager, CREATION_DATE, LICENSE_LIST_VERSION));
+		return doc.getListedLicenses();
+	}
+}
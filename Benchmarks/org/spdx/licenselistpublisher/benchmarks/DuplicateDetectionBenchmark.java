@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spdx.licenseTemplate.LicenseTextHelper;
+
+/**
+ * The duplicate license check in <code>LicenseRDFAGenerator.writeLicenseList</code> - each non-deprecated license
+ * text is tokenized and compared with the tokens of every license added before it
+ * <p>
+ * The license texts of TestFiles/LicenseXmlFiles are used so the number of comparisons is representative of a
+ * full license list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DuplicateDetectionBenchmark {
+
+	List<String[]> licenses;	// license ID and text
+
+	@Setup
+	public void setUp() throws Exception {
+		licenses = new ArrayList<>();
+		for (Entry<String, String> entry:BenchmarkHelper.corpusTexts().entrySet()) {
+			licenses.add(new String[] {entry.getKey(), entry.getValue()});
+		}
+	}
+
+	@Benchmark
+	public List<String> duplicateDetection() {
+		List<String> warnings = new ArrayList<>();
+		Map<String, String[]> addedLicIdTextMap = new HashMap<>();
+		for (String[] license:licenses) {
+			String[] licenseTokens = LicenseTextHelper.tokenizeLicenseText(license[1], new HashMap<>());
+			for (Entry<String, String[]> entry : addedLicIdTextMap.entrySet()) {
+				if (LicenseTextHelper.isLicenseTextEquivalent(entry.getValue(), licenseTokens)) {
+					warnings.add("Duplicates licenses: " + license[0] + ", " + entry.getKey());
+				}
+			}
+			addedLicIdTextMap.put(license[0], licenseTokens);
+		}
+		return warnings;
+	}
+}
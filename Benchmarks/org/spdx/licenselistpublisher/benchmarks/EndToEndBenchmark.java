@@ -0,0 +1,328 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.apache.commons.io.FileUtils;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.licenselistpublisher.LicenseRDFAGenerator;
+import org.spdx.licenselistpublisher.StandInUrlServer;
+import org.spdx.licensexml.LicenseXmlDocument;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.OperatingSystemMXBean;
+
+/**
+ * End to end performance gate for <code>LicenseRDFAGenerator.generateLicenseData</code>
+ * <p>
+ * Generates the license list for a fixed synthetic corpus several times with the seeAlso URL's and the FSF data
+ * served by a local stand-in server, so the run does not depend on the network.  The median wall time, CPU time,
+ * allocated bytes and peak RSS of the runs are compared with a checked in baseline and the process exits with a
+ * non-zero status if any of them exceeds the baseline by more than the threshold, which fails the
+ * <code>benchmarks</code> profile.
+ * <p>
+ * Allocated bytes are the increase in heap usage between garbage collections, which is an estimate that includes
+ * objects allocated directly in the old generation.  The peak RSS is read from <code>/proc/self/status</code> and
+ * is only measured on Linux.
+ * <p>
+ * The run is configured with system properties:
+ * <ul>
+ * <li><code>e2e.licenses</code> number of licenses in the corpus</li>
+ * <li><code>e2e.warmupRuns</code> number of runs before the measured runs</li>
+ * <li><code>e2e.runs</code> number of measured runs</li>
+ * <li><code>e2e.threshold</code> allowed regression as a fraction of the baseline</li>
+ * <li><code>e2e.baseline</code> baseline file</li>
+ * <li><code>e2e.resultFile</code> file the results are written to</li>
+ * <li><code>e2e.updateBaseline</code> if true, the results are written to the baseline file instead of being compared</li>
+ * </ul>
+ */
+public class EndToEndBenchmark {
+
+	static final long SEED = 20260101L;
+	static final int MAX_DEPTH = 3;
+	static final String VERSION = "3.25.0";
+	static final String RELEASE_DATE = "2026-01-01";
+	static final String[] METRICS = {"wallMillis", "cpuMillis", "allocatedMb", "peakRssMb"};
+	static final Path PROC_STATUS = Paths.get("/proc/self/status");
+	static final Path PROC_CLEAR_REFS = Paths.get("/proc/self/clear_refs");
+	static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+	/**
+	 * Heap allocation estimated from the heap usage before and after each garbage collection
+	 */
+	static class AllocationCounter implements NotificationListener {
+		private final AtomicLong allocated = new AtomicLong();
+		private final AtomicLong notifications = new AtomicLong();
+		private long lastUsedAfterGc;
+
+		AllocationCounter() {
+			for (GarbageCollectorMXBean gc:ManagementFactory.getGarbageCollectorMXBeans()) {
+				((NotificationEmitter)gc).addNotificationListener(this, null, null);
+			}
+		}
+
+		static long collections() {
+			long retval = 0;
+			for (GarbageCollectorMXBean gc:ManagementFactory.getGarbageCollectorMXBeans()) {
+				retval += Math.max(0, gc.getCollectionCount());
+			}
+			return retval;
+		}
+
+		static long heapUsed() {
+			long retval = 0;
+			for (MemoryPoolMXBean pool:ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP) {
+					retval += pool.getUsage().getUsed();
+				}
+			}
+			return retval;
+		}
+
+		private static long used(Map<String, MemoryUsage> usage) {
+			long retval = 0;
+			for (MemoryPoolMXBean pool:ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP && usage.containsKey(pool.getName())) {
+					retval += usage.get(pool.getName()).getUsed();
+				}
+			}
+			return retval;
+		}
+
+		@Override
+		public synchronized void handleNotification(Notification notification, Object handback) {
+			if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+				return;
+			}
+			GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData)notification.getUserData());
+			long before = used(info.getGcInfo().getMemoryUsageBeforeGc());
+			allocated.addAndGet(Math.max(0, before - lastUsedAfterGc));
+			lastUsedAfterGc = used(info.getGcInfo().getMemoryUsageAfterGc());
+			notifications.incrementAndGet();
+		}
+
+		/**
+		 * Start counting from the current heap usage
+		 */
+		synchronized void reset() {
+			awaitNotifications();
+			allocated.set(0);
+			lastUsedAfterGc = heapUsed();
+		}
+
+		/**
+		 * @return bytes allocated since the last reset
+		 */
+		synchronized long allocated() {
+			awaitNotifications();
+			return allocated.get() + Math.max(0, heapUsed() - lastUsedAfterGc);
+		}
+
+		/**
+		 * The notifications are delivered asynchronously - wait for the notifications of the collections so far
+		 */
+		private void awaitNotifications() {
+			long expected = collections();
+			long deadline = System.currentTimeMillis() + 2000;
+			while (notifications.get() < expected && System.currentTimeMillis() < deadline) {
+				try {
+					wait(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return peak resident set size in bytes or -1 if it is not available
+	 */
+	static long peakRss() {
+		try {
+			for (String line:Files.readAllLines(PROC_STATUS, StandardCharsets.UTF_8)) {
+				if (line.startsWith("VmHWM:")) {
+					return Long.parseLong(line.substring("VmHWM:".length()).replace("kB", "").trim()) * 1024;
+				}
+			}
+		} catch (IOException | NumberFormatException e) {
+			// not Linux
+		}
+		return -1;
+	}
+
+	/**
+	 * Reset the peak resident set size to the current resident set size
+	 */
+	static void resetPeakRss() {
+		try {
+			Files.write(PROC_CLEAR_REFS, "5".getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			// not Linux - the peak is for the whole process
+		}
+	}
+
+	static double median(List<Double> values) {
+		List<Double> sorted = new ArrayList<>(values);
+		Collections.sort(sorted);
+		int middle = sorted.size() / 2;
+		return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+	}
+
+	static double round(double value) {
+		return Math.round(value * 10) / 10.0;
+	}
+
+	/**
+	 * @param args not used - see the class documentation for the system properties
+	 */
+	public static void main(String[] args) {
+		try {
+			System.exit(run());
+		} catch (Exception e) {
+			e.printStackTrace();
+			System.exit(2);
+		}
+	}
+
+	static int run() throws Exception {
+		int licenses = Integer.getInteger("e2e.licenses", 200);
+		int warmupRuns = Integer.getInteger("e2e.warmupRuns", 2);
+		int runs = Integer.getInteger("e2e.runs", 5);
+		double threshold = Double.parseDouble(System.getProperty("e2e.threshold", "0.25"));
+		File baselineFile = new File(System.getProperty("e2e.baseline", "Benchmarks/end-to-end-baseline.json"));
+		File resultFile = new File(System.getProperty("e2e.resultFile", "target/end-to-end-result.json"));
+		boolean updateBaseline = Boolean.parseBoolean(System.getProperty("e2e.updateBaseline", "false"));
+
+		System.setProperty(LicenseXmlDocument.PROP_SCHEMA_OFFLINE, "true");
+		System.setProperty("org.spdx.useJARLicenseInfoOnly", "true");
+		SpdxModelFactory.init();
+		Path tempDir = Files.createTempDirectory("end-to-end-benchmark");
+		StandInUrlServer server = new StandInUrlServer(SEED, MAX_DEPTH, licenses);
+		server.start();
+		System.setProperty("LocalFsfFreeJson", "false");
+		System.setProperty("FsfFreeJsonUrl", server.getFsfUrl());
+		OperatingSystemMXBean os = (OperatingSystemMXBean)ManagementFactory.getOperatingSystemMXBean();
+		AllocationCounter allocationCounter = new AllocationCounter();
+		List<List<Double>> measurements = new ArrayList<>();
+		for (int i = 0; i < METRICS.length; i++) {
+			measurements.add(new ArrayList<>());
+		}
+		try {
+			File xmlDir = tempDir.resolve("xml").toFile();
+			server.getCorpus().generate(xmlDir, licenses);
+			for (int run = 0; run < warmupRuns + runs; run++) {
+				File outputDir = tempDir.resolve("output").toFile();
+				FileUtils.deleteDirectory(outputDir);
+				System.gc();
+				allocationCounter.reset();
+				resetPeakRss();
+				long cpuStart = os.getProcessCpuTime();
+				long start = System.nanoTime();
+				LicenseRDFAGenerator.generateLicenseData(xmlDir, outputDir, VERSION, RELEASE_DATE, null, false, null);
+				long wallNanos = System.nanoTime() - start;
+				long cpuNanos = os.getProcessCpuTime() - cpuStart;
+				long allocated = allocationCounter.allocated();
+				long rss = peakRss();
+				double[] values = {wallNanos / 1000000.0, cpuNanos / 1000000.0, allocated / BYTES_PER_MB,
+						rss < 0 ? -1 : rss / BYTES_PER_MB};
+				boolean warmup = run < warmupRuns;
+				System.out.printf("%s %d: wall %.0f ms, CPU %.0f ms, allocated %.1f MB, peak RSS %.1f MB%n",
+						warmup ? "Warmup" : "Run", warmup ? run + 1 : run - warmupRuns + 1, values[0], values[1], values[2], values[3]);
+				if (!warmup) {
+					for (int i = 0; i < METRICS.length; i++) {
+						measurements.get(i).add(values[i]);
+					}
+				}
+			}
+		} finally {
+			server.stop();
+			FileUtils.deleteDirectory(tempDir.toFile());
+		}
+
+		JsonObject result = new JsonObject();
+		result.addProperty("licenses", licenses);
+		result.addProperty("runs", runs);
+		for (int i = 0; i < METRICS.length; i++) {
+			result.addProperty(METRICS[i], round(median(measurements.get(i))));
+		}
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		File output = updateBaseline ? baselineFile : resultFile;
+		if (Objects.nonNull(output.getParentFile())) {
+			Files.createDirectories(output.getParentFile().toPath());
+		}
+		try (Writer writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+			gson.toJson(result, writer);
+		}
+		System.out.println("Wrote " + (updateBaseline ? "baseline " : "results ") + output);
+		if (updateBaseline) {
+			return 0;
+		}
+		if (!baselineFile.exists()) {
+			System.out.println("No baseline " + baselineFile + " - run with -De2e.updateBaseline=true to create one");
+			return 0;
+		}
+		JsonObject baseline;
+		try (Reader reader = Files.newBufferedReader(baselineFile.toPath(), StandardCharsets.UTF_8)) {
+			baseline = JsonParser.parseReader(reader).getAsJsonObject();
+		}
+		if (baseline.get("licenses").getAsInt() != licenses) {
+			System.out.println("Baseline is for " + baseline.get("licenses").getAsInt() + " licenses - not compared");
+			return 0;
+		}
+		List<String> regressions = new ArrayList<>();
+		for (String metric:METRICS) {
+			double baselineValue = baseline.has(metric) ? baseline.get(metric).getAsDouble() : -1;
+			double value = result.get(metric).getAsDouble();
+			if (baselineValue <= 0 || value < 0) {
+				System.out.printf("%-12s %10.1f (no baseline)%n", metric, value);
+				continue;
+			}
+			double change = (value - baselineValue) / baselineValue;
+			System.out.printf("%-12s %10.1f baseline %10.1f %+6.1f%%%n", metric, value, baselineValue, change * 100);
+			if (change > threshold) {
+				regressions.add(String.format("%s regressed by %.1f%% (%.1f, baseline %.1f)", metric, change * 100, value, baselineValue));
+			}
+		}
+		if (!regressions.isEmpty()) {
+			System.out.printf("Performance regression over the %.0f%% threshold:%n", threshold * 100);
+			for (String regression:regressions) {
+				System.out.println("  " + regression);
+			}
+			return 1;
+		}
+		return 0;
+	}
+}
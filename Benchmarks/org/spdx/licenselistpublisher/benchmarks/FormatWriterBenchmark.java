@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licenselistpublisher.licensegenerator.ILicenseFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseHtmlFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseJsonFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseMarkdownFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseRdfFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseRdfaFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseTemplateFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseTextFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseV3JsonLdFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.SpdxWebsiteFormatWriter;
+
+/**
+ * Writes every license and exception in the license XML files in TestFiles followed by the table of contents with each of the license
+ * format writers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormatWriterBenchmark {
+
+	@Param({"text", "template", "html", "rdfa", "json", "website", "rdf", "markdown", "v3jsonld"})
+	public String writer;
+
+	static final String RELEASE_DATE = "2026-01-01";
+
+	BenchmarkHelper.Corpus corpus;
+	File outputDir;
+
+	@Setup
+	public void setUp() throws Exception {
+		corpus = BenchmarkHelper.parseCorpus();
+		outputDir = Files.createTempDirectory("format-writer-benchmark").toFile();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(outputDir);
+	}
+
+	private ILicenseFormatWriter newWriter() throws Exception {
+		String version = BenchmarkHelper.LICENSE_LIST_VERSION;
+		switch (writer) {
+			case "text": return new LicenseTextFormatWriter(new File(outputDir, "text"));
+			case "template": return new LicenseTemplateFormatWriter(new File(outputDir, "template"));
+			case "html": return new LicenseHtmlFormatWriter(version, RELEASE_DATE, new File(outputDir, "html"));
+			case "rdfa": return new LicenseRdfaFormatWriter(version, RELEASE_DATE, new File(outputDir, "rdfa"));
+			case "json": return new LicenseJsonFormatWriter(version, RELEASE_DATE, new File(outputDir, "json"),
+					new File(outputDir, "json/details"), new File(outputDir, "json/exceptions"));
+			case "website": return new SpdxWebsiteFormatWriter(version, RELEASE_DATE, new File(outputDir, "website"));
+			case "rdf": return new LicenseRdfFormatWriter(new File(outputDir, "rdfxml"), new File(outputDir, "rdfturtle"),
+					new File(outputDir, "rdfnt"), new File(outputDir, "jsonld"), true);
+			case "markdown": return new LicenseMarkdownFormatWriter(version, RELEASE_DATE, new File(outputDir, "licenses.md"));
+			case "v3jsonld": return new LicenseV3JsonLdFormatWriter(version, BenchmarkHelper.CREATION_DATE, new File(outputDir, "v3jsonld"));
+			default: throw new IllegalArgumentException("Unknown writer "+writer);
+		}
+	}
+
+	@Benchmark
+	public void writeAll() throws Exception {
+		ILicenseFormatWriter formatWriter = newWriter();
+		for (ListedLicenseContainer license:corpus.licenses) {
+			formatWriter.writeLicense(license, license.getV2ListedLicense().isDeprecated(),
+					license.getV2ListedLicense().getDeprecatedVersion());
+		}
+		for (ListedExceptionContainer exception:corpus.exceptions) {
+			formatWriter.writeException(exception);
+		}
+		formatWriter.writeToC();
+	}
+}
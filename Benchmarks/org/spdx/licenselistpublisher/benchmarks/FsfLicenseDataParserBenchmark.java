@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spdx.licenselistpublisher.licensegenerator.FsfLicenseDataParser;
+
+/**
+ * Initialization of the FSF license data from the bundled licenses-full.json
+ * <p>
+ * The parser is a singleton, so a new instance is created through its private constructor for each operation.
+ * The local file is used so the benchmark does not depend on the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FsfLicenseDataParserBenchmark {
+
+	Constructor<FsfLicenseDataParser> constructor;
+
+	@Setup
+	public void setUp() throws Exception {
+		System.setProperty("LocalFsfFreeJson", "true");
+		constructor = FsfLicenseDataParser.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+	}
+
+	@Benchmark
+	public FsfLicenseDataParser initialize() throws Exception {
+		return constructor.newInstance();
+	}
+}
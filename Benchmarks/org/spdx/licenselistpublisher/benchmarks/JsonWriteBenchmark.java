@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenselistpublisher.licensegenerator.JsonOutput;
+import org.spdx.storage.listedlicense.LicenseJsonTOC;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Compares building the JSON table of contents as a string before writing it against streaming it to a buffered file
+ * <p>
+ * Run with the <code>gc</code> profiler (the default for the benchmarks profile) to compare the allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonWriteBenchmark {
+
+	/**
+	 * Number of entries in the table of contents - the license list has about 700
+	 */
+	@Param({"700"})
+	public int tocEntries;
+
+	Gson gson = new GsonBuilder().setPrettyPrinting().create();
+	LicenseJsonTOC toc;
+	File tocFile;
+
+	@Setup
+	public void setUp() throws Exception {
+		SpdxListedLicense license = BenchmarkHelper.parseLicenses(BenchmarkHelper.testFile("AGPL-3.0-only.xml")).get(0).getV2ListedLicense();
+		toc = new LicenseJsonTOC(BenchmarkHelper.LICENSE_LIST_VERSION, "2026-01-01");
+		for (int i = 0; i < tocEntries; i++) {
+			toc.addLicense(license, "./" + i + ".html", "./" + i + ".json", false);
+		}
+		tocFile = File.createTempFile("licenses", ".json");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(tocFile.toPath());
+	}
+
+	@Benchmark
+	public void toJsonString() throws IOException {
+		try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(tocFile), "UTF-8")) {
+			writer.write(gson.toJson(toc));
+		}
+	}
+
+	@Benchmark
+	public void streaming() throws IOException {
+		JsonOutput.write(gson, toc, tocFile);
+	}
+}
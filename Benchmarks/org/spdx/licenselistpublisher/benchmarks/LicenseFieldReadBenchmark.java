@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licenselistpublisher.licensegenerator.ILicenseFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseHtmlFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseRdfaFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseTemplateFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseTextFormatWriter;
+import org.spdx.licenselistpublisher.licensegenerator.OutputSink;
+
+/**
+ * Writes each license and exception in the license XML files in TestFiles with the writers which only read the
+ * license fields - text, template, HTML and RDFa
+ * <p>
+ * A new container is used for each license and exception, as it is during a run, so the cost of reading the fields
+ * from the model store is included.  The output is discarded so the time is the CPU time of the writers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LicenseFieldReadBenchmark {
+
+	static final String RELEASE_DATE = "2026-01-01";
+
+	static final OutputSink DISCARD = new OutputSink() {
+
+		@Override
+		public OutputStream newOutputStream(File file) {
+			return OutputStream.nullOutputStream();
+		}
+
+		@Override
+		public void createFolder(File folder) {
+			// nothing is stored
+		}
+
+		@Override
+		public void close() {
+			// nothing to close
+		}
+	};
+
+	BenchmarkHelper.Corpus corpus;
+	List<ILicenseFormatWriter> writers;
+
+	@Setup
+	public void setUp() throws Exception {
+		corpus = BenchmarkHelper.parseCorpus();
+		File outputDir = new File("target", "license-field-read-benchmark");
+		String version = BenchmarkHelper.LICENSE_LIST_VERSION;
+		writers = new ArrayList<>();
+		writers.add(new LicenseTextFormatWriter(new File(outputDir, "text")));
+		writers.add(new LicenseTemplateFormatWriter(new File(outputDir, "template")));
+		writers.add(new LicenseHtmlFormatWriter(version, RELEASE_DATE, new File(outputDir, "html")));
+		writers.add(new LicenseRdfaFormatWriter(version, RELEASE_DATE, new File(outputDir, "rdfa")));
+		for (ILicenseFormatWriter writer:writers) {
+			writer.setOutputSink(DISCARD);
+		}
+	}
+
+	@Benchmark
+	public void writeAll() throws Exception {
+		for (ListedLicenseContainer license:corpus.licenses) {
+			ListedLicenseContainer container = new ListedLicenseContainer(license.getV2ListedLicense(), license.getV3ListedLicense());
+			for (ILicenseFormatWriter writer:writers) {
+				writer.writeLicense(container, license.getV2ListedLicense().isDeprecated(),
+						license.getV2ListedLicense().getDeprecatedVersion());
+			}
+		}
+		for (ListedExceptionContainer exception:corpus.exceptions) {
+			ListedExceptionContainer container = new ListedExceptionContainer(exception.getV2Exception(), exception.getV3Exception());
+			for (ILicenseFormatWriter writer:writers) {
+				writer.writeException(container);
+			}
+		}
+	}
+}
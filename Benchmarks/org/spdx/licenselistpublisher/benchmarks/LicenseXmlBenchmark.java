@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v3_0_1.core.CreationInfo;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.LicenseXmlHelper;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Parsing and validating license XML documents and extracting the text, template and HTML from the license text element
+ * <p>
+ * AGPL-3.0-only is a long license, BSD-Protection and BSD-3-Clause are typical and test-optional-annotations is a
+ * short license made up mostly of optional text.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LicenseXmlBenchmark {
+
+	/**
+	 * Document for the licenseXmlFile parsed into new model stores before each invocation, so only
+	 * building the license and exception models is measured
+	 */
+	@State(Scope.Thread)
+	public static class ParsedDocument {
+		LicenseXmlDocument document;
+
+		@Setup(Level.Invocation)
+		public void parse(LicenseXmlBenchmark benchmark) throws Exception {
+			IModelStore v3Store = new InMemSpdxStore();
+			IModelCopyManager copyManager = new ModelCopyManager();
+			document = new LicenseXmlDocument(benchmark.xmlFile, new InMemSpdxStore(), v3Store, copyManager,
+					XmlLicenseProvider.createCreationInfo(v3Store, copyManager, BenchmarkHelper.CREATION_DATE,
+							BenchmarkHelper.LICENSE_LIST_VERSION));
+			document.setCreateV3OnFirstUse(true);
+		}
+	}
+
+	@Param({"AGPL-3.0-only.xml", "BSD-Protection.xml", "BSD-3-Clause.xml", "test-optional-annotations.xml"})
+	public String licenseXmlFile;
+
+	File xmlFile;
+	Element textElement;
+	IModelStore v2Store;
+	IModelStore v3Store;
+	IModelCopyManager copyManager;
+	CreationInfo creationInfo;
+	List<File> licenseXmlFiles;
+
+	@Setup
+	public void setUp() throws Exception {
+		xmlFile = BenchmarkHelper.testFile(licenseXmlFile);
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+		Document document = factory.newDocumentBuilder().parse(xmlFile);
+		textElement = (Element)document.getElementsByTagName(SpdxConstantsCompatV2.LICENSEXML_ELEMENT_TEXT).item(0);
+		v2Store = new InMemSpdxStore();
+		v3Store = new InMemSpdxStore();
+		copyManager = new ModelCopyManager();
+		creationInfo = XmlLicenseProvider.createCreationInfo(v3Store, copyManager, BenchmarkHelper.CREATION_DATE, BenchmarkHelper.LICENSE_LIST_VERSION);
+		licenseXmlFiles = BenchmarkHelper.licenseXmlFiles();
+	}
+
+	@Benchmark
+	public LicenseXmlDocument parseAndValidate() throws Exception {
+		return new LicenseXmlDocument(xmlFile, v2Store, v3Store, copyManager, creationInfo);
+	}
+
+	/**
+	 * Build the SPDX Spec version 2 models only, as the testers and runs without SPDX Spec version 3 output do
+	 */
+	@Benchmark
+	public void buildV2Models(ParsedDocument parsed, Blackhole bh) throws Exception {
+		bh.consume(parsed.document.getListedLicenses());
+		bh.consume(parsed.document.getLicenseExceptions());
+	}
+
+	/**
+	 * Build both the SPDX Spec version 2 and version 3 models
+	 */
+	@Benchmark
+	public void buildV2AndV3Models(ParsedDocument parsed, Blackhole bh) throws Exception {
+		for (ListedLicenseContainer license:parsed.document.getListedLicenses()) {
+			bh.consume(license.getOrCreateV3ListedLicense());
+		}
+		for (ListedExceptionContainer exception:parsed.document.getLicenseExceptions()) {
+			bh.consume(exception.getOrCreateV3Exception());
+		}
+	}
+
+	@Benchmark
+	public String extractText() throws Exception {
+		return LicenseXmlHelper.getLicenseText(textElement);
+	}
+
+	@Benchmark
+	public String extractTemplate() throws Exception {
+		return LicenseXmlHelper.getLicenseTemplate(textElement);
+	}
+
+	@Benchmark
+	public String extractHtml() throws Exception {
+		return LicenseXmlHelper.getLicenseTextHtml(textElement);
+	}
+
+	/**
+	 * Parse and validate all of the license XML files - independent of the licenseXmlFile parameter
+	 */
+	@Benchmark
+	public void parseAndValidateAll(Blackhole bh) throws Exception {
+		for (File file:licenseXmlFiles) {
+			bh.consume(new LicenseXmlDocument(file, v2Store, v3Store, copyManager, creationInfo));
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licenselistpublisher.MarkdownTable;
+
+/**
+ * Writing the markdown table of contents for the license XML files in TestFiles
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarkdownTableBenchmark {
+
+	MarkdownTable markdownTable;
+
+	@Setup
+	public void setUp() throws Exception {
+		BenchmarkHelper.Corpus corpus = BenchmarkHelper.parseCorpus();
+		markdownTable = new MarkdownTable(BenchmarkHelper.LICENSE_LIST_VERSION);
+		for (ListedLicenseContainer license:corpus.licenses) {
+			markdownTable.addLicense(license.getV2ListedLicense(), license.getV2ListedLicense().isDeprecated());
+		}
+		for (ListedExceptionContainer exception:corpus.exceptions) {
+			markdownTable.addException(exception.getV2Exception(), exception.getV2Exception().isDeprecated());
+		}
+	}
+
+	@Benchmark
+	public String writeTOC() throws Exception {
+		StringWriter writer = new StringWriter();
+		markdownTable.writeTOC(writer);
+		return writer.toString();
+	}
+}
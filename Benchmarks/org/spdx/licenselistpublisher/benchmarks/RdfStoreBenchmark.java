@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spdx.core.TypedValue;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.spdxRdfStore.OutputFormat;
+import org.spdx.spdxRdfStore.RdfStore;
+
+/**
+ * Compares a new RDF store per license, as used by the RDF and website writers, against a single store which is
+ * cleared and reused for each license
+ * <p>
+ * Run with the <code>gc</code> profiler (the default for the benchmarks profile) to compare the allocations per operation.
+ * Creating the store is a small part of the cost - copying and serializing the license dominate, and clearing the
+ * store through the model store API allocates more than a new store.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RdfStoreBenchmark {
+
+	@Param({"AGPL-3.0-only.xml", "BSD-3-Clause.xml"})
+	public String licenseXmlFile;
+
+	SpdxListedLicense license;
+	RdfStore reusedStore;
+
+	@Setup
+	public void setUp() throws Exception {
+		license = BenchmarkHelper.parseLicenses(BenchmarkHelper.testFile(licenseXmlFile)).get(0).getV2ListedLicense();
+		reusedStore = new RdfStore();
+		reusedStore.setDocumentUri(license.getDocumentUri(), true);
+	}
+
+	private void copy(RdfStore store) throws Exception {
+		// a copy manager can not forget what it has copied, so one is needed per license even if the store is reused
+		new ModelCopyManager().copy(store, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + license.getId(),
+				license.getModelStore(), license.getDocumentUri() + license.getId(), 
+				license.getSpecVersion(), license.getDocumentUri());
+	}
+
+	private byte[] serialize(RdfStore store) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		store.setOutputFormat(OutputFormat.N_TRIPLET);
+		store.serialize(out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] newStorePerLicense() throws Exception {
+		RdfStore onlyThisLicense = new RdfStore();
+		onlyThisLicense.setDocumentUri(license.getDocumentUri(), true);
+		copy(onlyThisLicense);
+		return serialize(onlyThisLicense);
+	}
+
+	@Benchmark
+	public byte[] reusedStore() throws Exception {
+		copy(reusedStore);
+		byte[] retval = serialize(reusedStore);
+		// listed licenses are not returned by getAllItems so the license is deleted explicitly
+		List<String> objectUris;
+		try (Stream<TypedValue> items = reusedStore.getAllItems(null, null)) {
+			objectUris = items.map(TypedValue::getObjectUri).collect(Collectors.toList());
+		}
+		objectUris.add(SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + license.getId());
+		for (String objectUri:objectUris) {
+			reusedStore.delete(objectUri);
+		}
+		return retval;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licenselistpublisher.licensegenerator.CompiledLicenseTemplate;
+import org.spdx.utility.compare.LicenseCompareHelper;
+
+/**
+ * Compares testing all of a license's test texts by re-parsing the template for each text
+ * (<code>LicenseCompareHelper.isTextStandardLicense</code>) against a template compiled once per license.
+ * <p>
+ * AGPL-3.0-only is the GPL family license in TestFiles; the GPL family has the largest templates and the most test files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TemplateMatchBenchmark {
+
+	@Param({"AGPL-3.0-only.xml", "BSD-3-Clause.xml"})
+	public String licenseXmlFile;
+
+	SpdxListedLicense license;
+	ListedLicenseContainer container;
+	List<String> testTexts;
+
+	@Setup
+	public void setUp() throws Exception {
+		container = BenchmarkHelper.parseLicenses(BenchmarkHelper.testFile(licenseXmlFile)).get(0);
+		license = container.getV2ListedLicense();
+		String text = license.getLicenseText();
+		// matching texts plus the kinds of near misses found in the bad test directories
+		testTexts = new ArrayList<>();
+		testTexts.add(text);
+		testTexts.add("Copyright (c) 2026 Example Contributor\n\n" + text);
+		testTexts.add(text.replace("\n\n", "\n"));
+		testTexts.add(text + "\nAdditional restrictions apply.");
+		testTexts.add(text.substring(0, text.length() / 2));
+		testTexts.add(text.substring(text.length() / 4));
+	}
+
+	@Benchmark
+	public void licenseCompareHelper(Blackhole bh) throws Exception {
+		for (String text:testTexts) {
+			bh.consume(LicenseCompareHelper.isTextStandardLicense(license, text).isDifferenceFound());
+		}
+	}
+
+	@Benchmark
+	public void compiledTemplate(Blackhole bh) throws Exception {
+		CompiledLicenseTemplate template = CompiledLicenseTemplate.forLicense(license);
+		for (String text:testTexts) {
+			bh.consume(template.compare(text).isDifferenceFound());
+		}
+	}
+
+	@Benchmark
+	public void standardLicenseWithinText(Blackhole bh) throws Exception {
+		for (String text:testTexts) {
+			bh.consume(LicenseCompareHelper.isStandardLicenseWithinText(text, license));
+		}
+	}
+
+	@Benchmark
+	public void compiledTemplateWithinText(Blackhole bh) throws Exception {
+		CompiledLicenseTemplate template = CompiledLicenseTemplate.forLicense(license);
+		for (String text:testTexts) {
+			bh.consume(template.isWithinText(text));
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the bytes allocated by a block of code for allocation budget tests
+ * <p>
+ * The allocations are measured with <code>com.sun.management.ThreadMXBean.getThreadAllocatedBytes</code>.  The
+ * first runs of a block include class loading and one time initialization, so the block is run several times and
+ * the smallest allocation is used.  A set up block which is not measured runs before each run to create fresh
+ * state, so the later runs do not measure hits on caches filled by the earlier runs.  Tests should use <code>assumeTrue(AllocationMeter.isSupported())</code> since
+ * the measurement is not available on every JVM.
+ */
+public final class AllocationMeter {
+
+	static final int DEFAULT_RUNS = 5;
+
+	/**
+	 * Block of code to measure
+	 */
+	@FunctionalInterface
+	public interface Allocation {
+		void run() throws Exception;
+	}
+
+	private static final com.sun.management.ThreadMXBean THREAD_BEAN = threadBean();
+
+	private static com.sun.management.ThreadMXBean threadBean() {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		com.sun.management.ThreadMXBean retval = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		try {
+			if (!retval.isThreadAllocatedMemorySupported()) {
+				return null;
+			}
+			if (!retval.isThreadAllocatedMemoryEnabled()) {
+				retval.setThreadAllocatedMemoryEnabled(true);
+			}
+			return retval;
+		} catch (UnsupportedOperationException | SecurityException e) {
+			return null;
+		}
+	}
+
+	private AllocationMeter() {
+		// static helpers only
+	}
+
+	/**
+	 * @return true if the allocated bytes can be measured on this JVM
+	 */
+	public static boolean isSupported() {
+		return THREAD_BEAN != null;
+	}
+
+	/**
+	 * @param allocation block to measure
+	 * @return bytes allocated by the current thread while running the block
+	 * @throws Exception from the block
+	 */
+	public static long allocatedBytes(Allocation allocation) throws Exception {
+		long threadId = Thread.currentThread().getId();
+		long start = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+		allocation.run();
+		return THREAD_BEAN.getThreadAllocatedBytes(threadId) - start;
+	}
+
+	/**
+	 * Measure a block which hands work to other threads, such as the common fork join pool
+	 * <p>
+	 * Allocations by other threads running at the same time are included and allocations by threads which
+	 * terminate before the end of the block are missed, so the block should be run after a warm up.
+	 * @param allocation block to measure
+	 * @return bytes allocated by all of the live threads while running the block
+	 * @throws Exception from the block
+	 */
+	public static long allocatedBytesAllThreads(Allocation allocation) throws Exception {
+		Map<Long, Long> start = allThreadsAllocatedBytes();
+		allocation.run();
+		long retval = 0;
+		for (Map.Entry<Long, Long> entry:allThreadsAllocatedBytes().entrySet()) {
+			retval += entry.getValue() - start.getOrDefault(entry.getKey(), 0L);
+		}
+		return retval;
+	}
+
+	private static Map<Long, Long> allThreadsAllocatedBytes() {
+		long[] ids = THREAD_BEAN.getAllThreadIds();
+		long[] allocated = THREAD_BEAN.getThreadAllocatedBytes(ids);
+		Map<Long, Long> retval = new HashMap<>();
+		for (int i = 0; i < ids.length; i++) {
+			if (allocated[i] >= 0) {
+				retval.put(ids[i], allocated[i]);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param allThreads if true, include the allocations of all threads
+	 * @param setUp block creating fresh state for the next run - not measured
+	 * @param allocation block to measure
+	 * @return smallest number of bytes allocated over several runs of the block
+	 * @throws Exception from the blocks
+	 */
+	public static long minAllocatedBytes(boolean allThreads, Allocation setUp, Allocation allocation) throws Exception {
+		long retval = Long.MAX_VALUE;
+		for (int i = 0; i < DEFAULT_RUNS; i++) {
+			setUp.run();
+			retval = Math.min(retval, allThreads ? allocatedBytesAllThreads(allocation) : allocatedBytes(allocation));
+		}
+		return retval;
+	}
+
+	/**
+	 * Assert that the current thread allocates at most the budget running the block
+	 * @param name name of the block for the failure message
+	 * @param budget maximum number of bytes allocated
+	 * @param setUp block creating fresh state for the next run - not measured
+	 * @param allocation block to measure
+	 * @throws Exception from the blocks
+	 */
+	public static void assertAllocatesAtMost(String name, long budget, Allocation setUp, Allocation allocation) throws Exception {
+		assertWithinBudget(name, budget, minAllocatedBytes(false, setUp, allocation));
+	}
+
+	/**
+	 * Assert that all of the threads allocate at most the budget running the block
+	 * @param name name of the block for the failure message
+	 * @param budget maximum number of bytes allocated
+	 * @param setUp block creating fresh state for the next run - not measured
+	 * @param allocation block to measure
+	 * @throws Exception from the blocks
+	 */
+	public static void assertAllThreadsAllocateAtMost(String name, long budget, Allocation setUp, Allocation allocation) throws Exception {
+		assertWithinBudget(name, budget, minAllocatedBytes(true, setUp, allocation));
+	}
+
+	private static void assertWithinBudget(String name, long budget, long allocated) {
+		assertTrue(String.format("%s allocated %,d bytes - budget is %,d bytes", name, allocated, budget), allocated <= budget);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.Reader;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseTextFormatWriter;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class GeneratorMetricsTest {
+
+	static final long MILLI = 1000000L;
+
+	@Test
+	public void testHistogram() {
+		GeneratorMetrics metrics = new GeneratorMetrics();
+		String stage = GeneratorMetrics.writerStage(LicenseTextFormatWriter.class, "writeLicense");
+		assertEquals("writer.LicenseTextFormatWriter.writeLicense", stage);
+		for (int i = 1; i <= 10; i++) {
+			metrics.record(stage, "License-" + i, i * MILLI, 2 * i * MILLI);
+		}
+		assertEquals(10, metrics.getCount(stage));
+		assertEquals(0, metrics.getCount("other"));
+		JsonObject json = metrics.toJson().getAsJsonObject("stages").getAsJsonObject(stage);
+		assertEquals(10, json.get("count").getAsLong());
+		assertEquals(55.0, json.get("totalMillis").getAsDouble(), 0.001);
+		assertEquals(1.0, json.get("minMillis").getAsDouble(), 0.001);
+		assertEquals(10.0, json.get("maxMillis").getAsDouble(), 0.001);
+		// the percentiles are the upper bound of the power of two bucket, limited to the maximum
+		double p50 = json.get("p50Millis").getAsDouble();
+		assertTrue(p50 >= 5.0 && p50 < 10.0);
+		assertEquals(10.0, json.get("p99Millis").getAsDouble(), 0.001);
+		// the calls span from 1ms to 20ms
+		assertEquals(19.0, json.get("elapsedMillis").getAsDouble(), 0.001);
+		long histogramCount = 0;
+		for (int i = 0; i < json.getAsJsonArray("histogram").size(); i++) {
+			histogramCount += json.getAsJsonArray("histogram").get(i).getAsJsonObject().get("count").getAsLong();
+		}
+		assertEquals(10, histogramCount);
+		JsonArray slowest = json.getAsJsonArray("slowest");
+		assertEquals(GeneratorMetrics.SLOWEST_ITEMS, slowest.size());
+		assertEquals("License-10", slowest.get(0).getAsJsonObject().get("item").getAsString());
+		assertEquals("License-6", slowest.get(4).getAsJsonObject().get("item").getAsString());
+
+		metrics.reset();
+		assertEquals(0, metrics.getCount(stage));
+	}
+
+	@Test
+	public void testTimerAndReport() throws Exception {
+		GeneratorMetrics metrics = new GeneratorMetrics();
+		try (GeneratorMetrics.Timer timer = metrics.start(GeneratorMetrics.STAGE_XML_DISCOVERY)) {
+			Thread.sleep(2);
+		}
+		assertEquals(1, metrics.getCount(GeneratorMetrics.STAGE_XML_DISCOVERY));
+		File report = Files.createTempFile("metrics", ".json").toFile();
+		try {
+			metrics.writeReport(report);
+			try (Reader reader = new FileReader(report)) {
+				JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+				JsonObject stage = json.getAsJsonObject("stages").getAsJsonObject(GeneratorMetrics.STAGE_XML_DISCOVERY);
+				assertTrue(stage.get("totalMillis").getAsDouble() >= 2.0);
+				assertFalse(stage.has("slowest"));
+			}
+		} finally {
+			report.delete();
+		}
+	}
+
+	@Test
+	public void testXmlStagesRecorded() throws Exception {
+		SpdxModelFactory.init();
+		GeneratorMetrics metrics = GeneratorMetrics.getInstance();
+		long parsed = metrics.getCount(GeneratorMetrics.STAGE_XML_PARSE);
+		long validated = metrics.getCount(GeneratorMetrics.STAGE_XML_VALIDATE);
+		long extracted = metrics.getCount(GeneratorMetrics.STAGE_XML_EXTRACT);
+		IModelStore v2Store = new InMemSpdxStore();
+		IModelStore v3Store = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		LicenseXmlDocument doc = new LicenseXmlDocument(new File("TestFiles", "BSD-3-Clause.xml"), v2Store, v3Store, copyManager,
+				XmlLicenseProvider.createCreationInfo(v3Store, copyManager, "2026-01-01T00:00:00Z", "3.25.0"));
+		doc.getListedLicenses();
+		assertEquals(parsed + 1, metrics.getCount(GeneratorMetrics.STAGE_XML_PARSE));
+		assertEquals(validated + 1, metrics.getCount(GeneratorMetrics.STAGE_XML_VALIDATE));
+		assertEquals(extracted + 1, metrics.getCount(GeneratorMetrics.STAGE_XML_EXTRACT));
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.crossref.CrossRefHelper;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.license.CrossRef;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Runs the generator over synthetic license corpora
+ * <p>
+ * The end to end scale test only runs if the <code>scaleTestSizes</code> system property is set to a comma
+ * separated list of corpus sizes, for example <code>mvn test -Dtest=LicenseListScaleTest -DscaleTestSizes=1000,10000</code>.
+ * The wall time and peak heap for each size are appended to <code>target/scale-test-results.csv</code> along with a
+ * metrics report for each size.  Set the <code>scaleTestPerFileStores</code> system property to true to run the
+ * generator with per file model stores.
+ */
+public class LicenseListScaleTest {
+
+	static final String PROP_SCALE_TEST_SIZES = "scaleTestSizes";
+	static final String PROP_SCALE_TEST_PER_FILE_STORES = "scaleTestPerFileStores";
+	static final File RESULTS_FILE = new File("target", "scale-test-results.csv");
+	static final long SEED = 20260101L;
+	static final int MAX_DEPTH = 3;
+
+	Path tempDir;
+	StandInUrlServer server;
+	/**
+	 * Values of the system properties set by the test before it set them - null if they were not set
+	 */
+	Map<String, String> savedProperties = new HashMap<>();
+
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		tempDir = Files.createTempDirectory("scale-test");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (Objects.nonNull(server)) {
+			server.stop();
+		}
+		for (Map.Entry<String, String> saved:savedProperties.entrySet()) {
+			if (Objects.isNull(saved.getValue())) {
+				System.clearProperty(saved.getKey());
+			} else {
+				System.setProperty(saved.getKey(), saved.getValue());
+			}
+		}
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	/**
+	 * Set a system property for the duration of the test - the previous value is restored in <code>tearDown</code>
+	 * @param key system property
+	 * @param value value for the test
+	 */
+	private void setSystemProperty(String key, String value) {
+		if (!savedProperties.containsKey(key)) {
+			savedProperties.put(key, System.getProperty(key));
+		}
+		System.setProperty(key, value);
+	}
+
+	private SpdxListedLicense parse(File xmlFile) throws Exception {
+		IModelStore v2Store = new InMemSpdxStore();
+		IModelStore v3Store = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		LicenseXmlDocument doc = new LicenseXmlDocument(xmlFile, v2Store, v3Store, copyManager,
+				XmlLicenseProvider.createCreationInfo(v3Store, copyManager, "2026-01-01T00:00:00Z", "3.25.0"));
+		List<ListedLicenseContainer> licenses = doc.getListedLicenses();
+		assertEquals(1, licenses.size());
+		return licenses.get(0).getV2ListedLicense();
+	}
+
+	@Test
+	public void testCorpusSchemaValid() throws Exception {
+		int count = 40;
+		SyntheticLicenseCorpus corpus = new SyntheticLicenseCorpus(SEED, "http://127.0.0.2:8080", MAX_DEPTH);
+		File xmlDir = tempDir.resolve("xml").toFile();
+		corpus.generate(xmlDir, count);
+		int minSize = Integer.MAX_VALUE;
+		int maxSize = 0;
+		boolean nested = false;
+		for (int i = 0; i < count; i++) {
+			SyntheticLicenseCorpus.SyntheticLicense license = corpus.license(i);
+			assertEquals(license.xml, new String(Files.readAllBytes(new File(xmlDir, license.id + ".xml").toPath()), StandardCharsets.UTF_8));
+			SpdxListedLicense parsed = parse(new File(xmlDir, license.id + ".xml"));
+			assertEquals(license.id, parsed.getLicenseId());
+			assertEquals(license.seeAlso.size(), parsed.getSeeAlso().size());
+			minSize = Math.min(minSize, license.xml.length());
+			maxSize = Math.max(maxSize, license.xml.length());
+			nested = nested || license.xml.contains("<optional><optional>") || license.xml.matches("(?s).*<optional>[^<]*<optional>.*");
+		}
+		assertTrue(maxSize > 4 * minSize);
+		assertTrue(nested);
+		// deterministic
+		assertEquals(corpus.license(7).xml, new SyntheticLicenseCorpus(SEED, "http://127.0.0.2:8080", MAX_DEPTH).license(7).xml);
+	}
+
+	@Test
+	public void testStandInServer() throws Exception {
+		int count = 20;
+		server = new StandInUrlServer(SEED, MAX_DEPTH, count);
+		assumeTrue("Stand-in address is not available", server.isCheckedAddress());
+		server.start();
+		File xmlDir = tempDir.resolve("xml").toFile();
+		server.getCorpus().generate(xmlDir, count);
+		int checked = 0;
+		boolean deadChecked = false;
+		for (int i = 0; i < count; i++) {
+			SyntheticLicenseCorpus.SyntheticLicense license = server.getCorpus().license(i);
+			if (i > 0 && license.seeAlso.size() == 1) {
+				continue;
+			}
+			Collection<CrossRef> crossRefs = CrossRefHelper.buildUrlDetails(parse(new File(xmlDir, license.id + ".xml")));
+			for (CrossRef crossRef:crossRefs) {
+				String url = crossRef.getUrl().get();
+				if (url.contains(SyntheticLicenseCorpus.GONE_PATH)) {
+					assertFalse(crossRef.getLive().get());
+					deadChecked = true;
+				} else {
+					assertTrue(url, crossRef.getLive().get());
+					assertEquals(url, "true", crossRef.getMatch().get());
+				}
+			}
+			checked++;
+		}
+		assertTrue(checked > 1);
+		assertTrue(deadChecked);
+		assertTrue(server.getRequests() > 0);
+	}
+
+	@Test
+	public void testScale() throws Exception {
+		String sizes = System.getProperty(PROP_SCALE_TEST_SIZES);
+		assumeTrue("Set -D" + PROP_SCALE_TEST_SIZES + "=n,... to run the scale test", Objects.nonNull(sizes));
+		List<Integer> counts = new ArrayList<>();
+		for (String size:sizes.split(",")) {
+			counts.add(Integer.parseInt(size.trim()));
+		}
+		boolean perFileStores = Boolean.getBoolean(PROP_SCALE_TEST_PER_FILE_STORES);
+		int maxCount = counts.stream().mapToInt(Integer::intValue).max().getAsInt();
+		server = new StandInUrlServer(SEED, MAX_DEPTH, maxCount);
+		server.start();
+		setSystemProperty("LocalFsfFreeJson", "false");
+		setSystemProperty("FsfFreeJsonUrl", server.getFsfUrl());
+		setSystemProperty(LicenseXmlDocument.PROP_SCHEMA_OFFLINE, "true");
+		Files.createDirectories(RESULTS_FILE.getParentFile().toPath());
+		if (!RESULTS_FILE.exists()) {
+			Files.write(RESULTS_FILE.toPath(), "licenses,xmlBytes,wallMillis,peakHeapMb,warnings,perFileStores\n".getBytes(StandardCharsets.UTF_8));
+		}
+		for (int count:counts) {
+			File xmlDir = tempDir.resolve("xml-" + count).toFile();
+			File outputDir = tempDir.resolve("output-" + count).toFile();
+			long xmlBytes = server.getCorpus().generate(xmlDir, count);
+			System.gc();
+			for (MemoryPoolMXBean pool:ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP) {
+					pool.resetPeakUsage();
+				}
+			}
+			GeneratorOptions options = new GeneratorOptions();
+			options.setMetricsReport(new File("target", "scale-test-metrics-" + count + ".json"));
+			options.setPerFileStores(perFileStores);
+			long start = System.nanoTime();
+			List<String> warnings = LicenseRDFAGenerator.generateLicenseData(xmlDir, outputDir, "3.25.0", "2026-01-01",
+					null, false, null, options);
+			long wallMillis = (System.nanoTime() - start) / 1000000L;
+			// the sum of the pool peaks is an upper bound on the peak heap
+			long peakHeap = 0;
+			for (MemoryPoolMXBean pool:ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP) {
+					peakHeap += pool.getPeakUsage().getUsed();
+				}
+			}
+			String result = count + "," + xmlBytes + "," + wallMillis + "," + (peakHeap / (1024 * 1024)) + "," + warnings.size() + "," + perFileStores;
+			System.out.println("Scale test: " + result);
+			Files.write(RESULTS_FILE.toPath(), (result + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+			assertTrue(new File(outputDir, "json" + File.separator + "licenses.json").exists());
+			FileUtils.deleteDirectory(outputDir);
+			FileUtils.deleteDirectory(xmlDir);
+		}
+	}
+}
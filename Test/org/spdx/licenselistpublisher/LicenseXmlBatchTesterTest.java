@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.library.SpdxModelFactory;
+
+import java.io.File;
+import java.nio.file.Files;
+
+public class LicenseXmlBatchTesterTest {
+
+    static final String BATCH_XML_DIR = "TestFiles" + File.separator + "batch-tests" + File.separator + "xml";
+    static final String BATCH_TEXT_DIR = "TestFiles" + File.separator + "batch-tests" + File.separator + "text";
+
+    @Before
+    public void setUp() {
+        SpdxModelFactory.init();
+    }
+
+    @Test
+    public void testDirectory() throws Exception {
+        LicenseXmlBatchTester.BatchReport report = LicenseXmlBatchTester.testLicenseXmlDirectory(
+                new File(BATCH_XML_DIR), new File(BATCH_TEXT_DIR), new File(LicenseXmlTesterTest.GOOD_TEST_DIR), 2);
+        Assert.assertEquals(2, report.getFiles());
+        Assert.assertEquals(1, report.getPassed());
+        Assert.assertEquals(1, report.getFailed());
+        Assert.assertEquals("BSD-3-Clause.xml", report.getResults().get(0).getFile());
+        Assert.assertEquals(LicenseXmlBatchTester.STATUS_PASSED, report.getResults().get(0).getStatus());
+        Assert.assertEquals("BSD-Protection.xml", report.getResults().get(1).getFile());
+        Assert.assertEquals(LicenseXmlBatchTester.STATUS_FAILED, report.getResults().get(1).getStatus());
+    }
+
+    @Test
+    public void testBadTestDirectory() throws Exception {
+        LicenseXmlBatchTester.BatchReport report = LicenseXmlBatchTester.testLicenseXmlDirectory(
+                new File(BATCH_XML_DIR), new File(BATCH_TEXT_DIR), new File(LicenseXmlTesterTest.BAD_TEST_DIR), 2);
+        Assert.assertEquals(LicenseXmlBatchTester.STATUS_FAILED, report.getResults().get(0).getStatus());
+    }
+
+    @Test
+    public void testWriteReport() throws Exception {
+        LicenseXmlBatchTester.BatchReport report = LicenseXmlBatchTester.testLicenseXmlDirectory(
+                new File(BATCH_XML_DIR), new File(BATCH_TEXT_DIR), null, 1);
+        File reportFile = File.createTempFile("batch-report", ".json");
+        try {
+            LicenseXmlBatchTester.writeReport(report, reportFile);
+            String json = Files.readString(reportFile.toPath());
+            Assert.assertTrue(json.contains("\"passed\": 1"));
+            Assert.assertTrue(json.contains("BSD-Protection"));
+        } finally {
+            reportFile.delete();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.spdx.licensexml.LicenseXmlDocument;
+
+import com.google.gson.Gson;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class LicenseXmlServerTest {
+
+    LicenseXmlServer server;
+    Gson gson = new Gson();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new LicenseXmlServer(0, new File(LicenseXmlTesterTest.GOOD_TEST_DIR), 2);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    private LicenseXmlServer.TestResponse post(String body, int expectedStatus) throws Exception {
+        HttpURLConnection con = (HttpURLConnection) new URL("http://localhost:" + server.getPort() +
+                LicenseXmlServer.TEST_PATH).openConnection();
+        con.setRequestMethod("POST");
+        con.setDoOutput(true);
+        try (OutputStream os = con.getOutputStream()) {
+            os.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals(expectedStatus, con.getResponseCode());
+        try (InputStream is = expectedStatus < 400 ? con.getInputStream() : con.getErrorStream()) {
+            return gson.fromJson(new String(is.readAllBytes(), StandardCharsets.UTF_8), LicenseXmlServer.TestResponse.class);
+        }
+    }
+
+    private String request(String compareTextPath) throws Exception {
+        return gson.toJson(new LicenseXmlServer.TestRequest("BSD-3-Clause.xml",
+                Files.readString(new File(LicenseXmlTesterTest.SOURCE_XML).toPath()),
+                Files.readString(new File(compareTextPath).toPath())));
+    }
+
+    @Test
+    public void testPassed() throws Exception {
+        LicenseXmlServer.TestResponse result = post(request(LicenseXmlTesterTest.COMPARE_TEXT), 200);
+        Assert.assertEquals(LicenseXmlServer.STATUS_PASSED, result.getStatus());
+        Assert.assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testFailed() throws Exception {
+        LicenseXmlServer.TestResponse result = post(request(LicenseXmlTesterTest.BAD_COMPARE_TEXT), 200);
+        Assert.assertEquals(LicenseXmlServer.STATUS_FAILED, result.getStatus());
+        Assert.assertFalse(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testInvalidXml() throws Exception {
+        LicenseXmlServer.TestResponse result = post(gson.toJson(new LicenseXmlServer.TestRequest("bad.xml",
+                "<SPDXLicenseCollection>", "text")), 200);
+        Assert.assertEquals(LicenseXmlServer.STATUS_INVALID, result.getStatus());
+    }
+
+    @Test
+    public void testRequestTooLarge() throws Exception {
+        LicenseXmlServer.TestResponse result = post(" ".repeat(LicenseXmlServer.MAX_REQUEST_BYTES + 1), 413);
+        Assert.assertEquals(LicenseXmlServer.STATUS_INVALID, result.getStatus());
+    }
+
+    @Test
+    public void testSchemaPropertyUnchanged() throws Exception {
+        String before = System.getProperty(LicenseXmlDocument.PROP_SCHEMA_OFFLINE);
+        LicenseXmlServer other = new LicenseXmlServer(0, null, 1);
+        other.stop();
+        Assert.assertEquals(before, System.getProperty(LicenseXmlDocument.PROP_SCHEMA_OFFLINE));
+    }
+
+    @Test
+    public void testMissingFields() throws Exception {
+        LicenseXmlServer.TestResponse result = post("{}", 400);
+        Assert.assertEquals(LicenseXmlServer.STATUS_INVALID, result.getStatus());
+    }
+}
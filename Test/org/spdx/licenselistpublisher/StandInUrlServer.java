@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the sites referenced by the synthetic license corpus
+ * <p>
+ * Serves an HTML page with the license text for each live seeAlso URL, 404 for the dead URL's and the FSF license
+ * data so a run of the generator over the synthetic corpus does not depend on the network.  Every third license is
+ * FSF libre.
+ * <p>
+ * URL's for localhost and 127.0.0.1 are treated as invalid by the cross reference checks, so the server listens on
+ * 127.0.0.2 where the whole 127.0.0.0/8 block is routed to the loopback interface.  If that address is not
+ * available the server falls back to 127.0.0.1 and the seeAlso URL's are not checked.
+ */
+public class StandInUrlServer {
+
+	public static final String FSF_PATH = "/fsf/licenses-full.json";
+	public static final String STAND_IN_ADDRESS = "127.0.0.2";
+	static final int THREADS = 10;
+
+	private final SyntheticLicenseCorpus corpus;
+	private final int licenseCount;
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final AtomicLong requests = new AtomicLong();
+
+	/**
+	 * Create a server on an ephemeral port along with the corpus it serves
+	 * @param seed seed for the synthetic corpus
+	 * @param maxDepth maximum nesting depth of optional and alt text in the corpus
+	 * @param licenseCount number of licenses in the corpus
+	 * @throws IOException on errors binding to the port
+	 */
+	public StandInUrlServer(long seed, int maxDepth, int licenseCount) throws IOException {
+		this.licenseCount = licenseCount;
+		HttpServer httpServer;
+		try {
+			httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getByName(STAND_IN_ADDRESS), 0), 0);
+		} catch (BindException e) {
+			httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		}
+		this.server = httpServer;
+		this.corpus = new SyntheticLicenseCorpus(seed, getBaseUrl(), maxDepth);
+		this.executor = Executors.newFixedThreadPool(THREADS);
+		server.setExecutor(executor);
+		server.createContext(SyntheticLicenseCorpus.LICENSES_PATH, this::handleLicense);
+		server.createContext(FSF_PATH, this::handleFsf);
+		server.createContext("/", exchange -> writeResponse(exchange, 404, "text/plain", "Not found"));
+	}
+
+	/**
+	 * @return base URL of the server used for the synthetic corpus seeAlso URL's
+	 */
+	public String getBaseUrl() {
+		return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + getPort();
+	}
+
+	/**
+	 * @return true if the seeAlso URL's will be checked by the generator
+	 */
+	public boolean isCheckedAddress() {
+		return STAND_IN_ADDRESS.equals(server.getAddress().getAddress().getHostAddress());
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	public void stop() {
+		server.stop(0);
+		executor.shutdown();
+	}
+
+	/**
+	 * @return port the server is listening on
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * @return corpus served, with seeAlso URLs pointing at this server
+	 */
+	public SyntheticLicenseCorpus getCorpus() {
+		return corpus;
+	}
+
+	/**
+	 * @return URL of the FSF license data
+	 */
+	public String getFsfUrl() {
+		return getBaseUrl() + FSF_PATH;
+	}
+
+	/**
+	 * @return number of requests handled
+	 */
+	public long getRequests() {
+		return requests.get();
+	}
+
+	private void handleLicense(HttpExchange exchange) throws IOException {
+		String licenseId = exchange.getRequestURI().getPath().substring(SyntheticLicenseCorpus.LICENSES_PATH.length());
+		int index = SyntheticLicenseCorpus.licenseIndex(licenseId);
+		if (index < 0 || index >= licenseCount) {
+			writeResponse(exchange, 404, "text/plain", "Not found");
+			return;
+		}
+		String text = corpus.license(index).text
+				.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+		writeResponse(exchange, 200, "text/html", "<html><head><title>" + licenseId + "</title></head><body><pre>" +
+				text + "</pre></body></html>");
+	}
+
+	private void handleFsf(HttpExchange exchange) throws IOException {
+		StringBuilder json = new StringBuilder();
+		json.append("{\"@context\":{\"@vocab\":\"https://schema.org/\"},\"@graph\":[");
+		for (int i = 0; i < licenseCount; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			String licenseId = SyntheticLicenseCorpus.licenseId(i);
+			json.append("{\"@id\":\"").append(getBaseUrl()).append("/fsf/").append(licenseId)
+				.append("\",\"keywords\":\"").append(i % 3 == 0 ? "libre" : "non-free")
+				.append("\",\"identifier\":\"").append(licenseId).append("\"}");
+		}
+		json.append("]}");
+		writeResponse(exchange, 200, "application/ld+json", json.toString());
+	}
+
+	private void writeResponse(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		requests.incrementAndGet();
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", contentType + "; charset=utf-8");
+		if ("HEAD".equals(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+			return;
+		}
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(bytes);
+		}
+	}
+}
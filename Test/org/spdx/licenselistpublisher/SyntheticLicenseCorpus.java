@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates schema valid license XML files for scale testing
+ * <p>
+ * Each license is a function of the seed and its index, so the license text served for a seeAlso URL can be
+ * regenerated without keeping the corpus in memory.  The number of words in a license follows a log-normal
+ * distribution with a median of about 250 words and a long tail capped at <code>MAX_WORDS</code>, which is close
+ * to the distribution of the SPDX license list.  Paragraphs contain <code>&lt;optional&gt;</code> text nested up to
+ * the maximum depth with <code>&lt;alt&gt;</code> text at the innermost level.
+ * <p>
+ * The seeAlso URLs point at the stand-in server base URL - one live URL for each license, with a second live
+ * mirror URL or a dead URL for some of the licenses.
+ */
+public class SyntheticLicenseCorpus {
+
+	public static final String LICENSE_ID_PREFIX = "Synthetic-";
+	public static final String LICENSES_PATH = "/licenses/";
+	public static final String GONE_PATH = "/gone/";
+	static final int MIN_WORDS = 20;
+	static final int MAX_WORDS = 15000;
+	static final double MEDIAN_WORDS = 250;
+	static final double WORDS_SIGMA = 1.1;
+	static final int WORDS_PER_PARAGRAPH = 60;
+	static final double NESTING_PROBABILITY = 0.3;
+
+	static final String[] VOCABULARY = {"software", "license", "licensor", "licensee", "copyright", "holder",
+			"permission", "hereby", "granted", "free", "charge", "person", "obtaining", "copy", "documentation",
+			"files", "deal", "without", "restriction", "including", "limitation", "rights", "use", "modify",
+			"merge", "publish", "distribute", "sublicense", "sell", "copies", "subject", "following", "conditions",
+			"above", "notice", "shall", "included", "substantial", "portions", "provided", "warranty", "kind",
+			"express", "implied", "merchantability", "fitness", "particular", "purpose", "noninfringement", "event",
+			"authors", "liable", "claim", "damages", "liability", "whether", "action", "contract", "tort",
+			"otherwise", "arising", "connection", "work", "derivative", "works", "source", "object", "form",
+			"contribution", "contributor", "patent", "trademark", "attribution", "redistribution", "binary",
+			"modification", "version", "terms", "agreement", "party", "parties", "recipient", "program", "code",
+			"library", "application", "data", "content", "notwithstanding", "jurisdiction", "law", "court",
+			"termination", "breach", "remedy", "indemnify", "defend", "warranties", "disclaimer", "limited",
+			"exclusive", "royalty", "perpetual", "worldwide", "irrevocable", "commercial", "noncommercial",
+			"reproduce", "display", "perform", "prepare", "compile", "link", "combine", "disclose", "reserve"};
+
+	/**
+	 * Synthetic license with the XML and the plain text which matches it
+	 */
+	public static class SyntheticLicense {
+		public final String id;
+		public final String name;
+		public final String xml;
+		public final String text;
+		public final List<String> seeAlso;
+
+		SyntheticLicense(String id, String name, String xml, String text, List<String> seeAlso) {
+			this.id = id;
+			this.name = name;
+			this.xml = xml;
+			this.text = text;
+			this.seeAlso = seeAlso;
+		}
+	}
+
+	private final long seed;
+	private final String baseUrl;
+	private final int maxDepth;
+
+	/**
+	 * @param seed seed for the random content
+	 * @param baseUrl base URL of the stand-in server for the seeAlso URLs
+	 * @param maxDepth maximum nesting depth of optional and alt text
+	 */
+	public SyntheticLicenseCorpus(long seed, String baseUrl, int maxDepth) {
+		this.seed = seed;
+		this.baseUrl = baseUrl;
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * @param index index of the license
+	 * @return license ID for the index
+	 */
+	public static String licenseId(int index) {
+		return String.format("%s%06d", LICENSE_ID_PREFIX, index);
+	}
+
+	/**
+	 * @param licenseId synthetic license ID
+	 * @return index of the license or -1 if the ID is not a synthetic license ID
+	 */
+	public static int licenseIndex(String licenseId) {
+		if (!licenseId.startsWith(LICENSE_ID_PREFIX)) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(licenseId.substring(LICENSE_ID_PREFIX.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Write license XML files to a directory
+	 * @param dir directory for the license XML files
+	 * @param count number of licenses
+	 * @return total size of the license XML files in bytes
+	 * @throws IOException on errors writing the files
+	 */
+	public long generate(File dir, int count) throws IOException {
+		Files.createDirectories(dir.toPath());
+		long size = 0;
+		for (int i = 0; i < count; i++) {
+			SyntheticLicense license = license(i);
+			byte[] xml = license.xml.getBytes(StandardCharsets.UTF_8);
+			Files.write(new File(dir, license.id + ".xml").toPath(), xml);
+			size += xml.length;
+		}
+		return size;
+	}
+
+	/**
+	 * @param index index of the license
+	 * @return the license for the index
+	 */
+	public SyntheticLicense license(int index) {
+		Random random = new Random(seed * 31 + index);
+		String id = licenseId(index);
+		String name = "Synthetic License " + index;
+		List<String> seeAlso = new ArrayList<>();
+		seeAlso.add(baseUrl + LICENSES_PATH + id);
+		int extraUrl = random.nextInt(10);
+		if (extraUrl < 3) {
+			seeAlso.add(baseUrl + LICENSES_PATH + id + "?mirror=1");
+		} else if (extraUrl < 4) {
+			seeAlso.add(baseUrl + GONE_PATH + id);
+		}
+		StringBuilder xml = new StringBuilder();
+		StringBuilder text = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<SPDXLicenseCollection xmlns=\"http://www.spdx.org/license\">\n");
+		xml.append("  <license isOsiApproved=\"false\" licenseId=\"").append(id).append("\" name=\"").append(name).append("\">\n");
+		xml.append("    <crossRefs>\n");
+		for (String url:seeAlso) {
+			xml.append("      <crossRef>").append(url.replace("&", "&amp;")).append("</crossRef>\n");
+		}
+		xml.append("    </crossRefs>\n");
+		xml.append("    <text>\n");
+		xml.append("      <titleText><p>").append(name).append("</p></titleText>\n");
+		text.append(name).append("\n\n");
+		xml.append("      <copyrightText><p>Copyright (c) &lt;year&gt; &lt;owner&gt;</p></copyrightText>\n");
+		text.append("Copyright (c) <year> <owner>\n\n");
+		int words = (int)Math.round(MEDIAN_WORDS * Math.exp(WORDS_SIGMA * random.nextGaussian()));
+		words = Math.max(MIN_WORDS, Math.min(MAX_WORDS, words));
+		int[] altCount = new int[] {0};
+		while (words > 0) {
+			int paragraphWords = Math.min(words, WORDS_PER_PARAGRAPH / 2 + random.nextInt(WORDS_PER_PARAGRAPH));
+			words -= paragraphWords;
+			xml.append("      <p>");
+			appendWords(random, paragraphWords, xml, text);
+			if (random.nextDouble() < NESTING_PROBABILITY * 2) {
+				appendNested(random, 1, altCount, xml, text);
+			}
+			xml.append(".</p>\n");
+			text.append(".\n\n");
+		}
+		xml.append("    </text>\n");
+		xml.append("  </license>\n");
+		xml.append("</SPDXLicenseCollection>\n");
+		return new SyntheticLicense(id, name, xml.toString(), text.toString(), seeAlso);
+	}
+
+	private void appendWords(Random random, int count, StringBuilder xml, StringBuilder text) {
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				xml.append(' ');
+				text.append(' ');
+			}
+			String word = VOCABULARY[random.nextInt(VOCABULARY.length)];
+			xml.append(word);
+			text.append(word);
+		}
+	}
+
+	/**
+	 * Append optional text containing further optional text or alt text
+	 */
+	private void appendNested(Random random, int depth, int[] altCount, StringBuilder xml, StringBuilder text) {
+		xml.append(" <optional>");
+		text.append(' ');
+		appendWords(random, 2 + random.nextInt(6), xml, text);
+		if (depth < maxDepth && random.nextDouble() < NESTING_PROBABILITY) {
+			appendNested(random, depth + 1, altCount, xml, text);
+		} else {
+			String word = VOCABULARY[random.nextInt(VOCABULARY.length)];
+			String other = VOCABULARY[random.nextInt(VOCABULARY.length)];
+			xml.append(" <alt name=\"alt").append(altCount[0]++).append("\" match=\"")
+				.append(word).append('|').append(other).append("\">").append(word).append("</alt>");
+			text.append(' ').append(word);
+		}
+		xml.append("</optional>");
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.jfr;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.licenselistpublisher.licensegenerator.DirectoryOutputSink;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class GeneratorRecordingTest {
+
+	Path tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		tempDir = Files.createTempDirectory("generator-recording-test");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	@Test
+	public void testJfrFlag() {
+		assertTrue(GeneratorRecording.isJfrFlag("--jfr"));
+		assertTrue(GeneratorRecording.isJfrFlag("--jfr=run.jfr"));
+		assertFalse(GeneratorRecording.isJfrFlag("--jfrx"));
+		assertFalse(GeneratorRecording.isJfrFlag("licenses"));
+		assertEquals(GeneratorRecording.DEFAULT_RECORDING_FILE, GeneratorRecording.recordingFile("--jfr"));
+		assertEquals("run.jfr", GeneratorRecording.recordingFile("--jfr=run.jfr"));
+	}
+
+	@Test
+	public void testRecording() throws Exception {
+		Path recordingFile = tempDir.resolve("run.jfr");
+		File output = tempDir.resolve("text/MIT.txt").toFile();
+		try (GeneratorRecording recording = new GeneratorRecording(recordingFile)) {
+			IModelStore v2Store = new InMemSpdxStore();
+			IModelStore v3Store = new InMemSpdxStore();
+			IModelCopyManager copyManager = new ModelCopyManager();
+			new LicenseXmlDocument(new File("TestFiles", "BSD-3-Clause.xml"), v2Store, v3Store, copyManager,
+					XmlLicenseProvider.createCreationInfo(v3Store, copyManager, "2026-01-01T00:00:00Z", "3.25.0"));
+			DirectoryOutputSink.INSTANCE.write(output, "MIT License".getBytes(StandardCharsets.UTF_8));
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+				.filter(event -> event.getEventType().getName().startsWith("org.spdx.licenselistpublisher."))
+				.collect(Collectors.toList());
+		RecordedEvent parsed = events.stream()
+				.filter(event -> event.getEventType().getName().equals("org.spdx.licenselistpublisher.LicenseParsed"))
+				.findFirst().orElseThrow(AssertionError::new);
+		assertEquals("BSD-3-Clause.xml", parsed.getString("documentName"));
+		assertEquals(new File("TestFiles", "BSD-3-Clause.xml").length(), parsed.getLong("bytes"));
+		assertTrue(parsed.getBoolean("valid"));
+		RecordedEvent written = events.stream()
+				.filter(event -> event.getEventType().getName().equals("org.spdx.licenselistpublisher.FileWritten"))
+				.findFirst().orElseThrow(AssertionError::new);
+		assertEquals(output.getPath(), written.getString("path"));
+		assertEquals(11, written.getLong("bytes"));
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.core.CreationInfo;
+import org.spdx.licenselistpublisher.AllocationMeter;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Upper bounds on the bytes allocated parsing and writing a single license
+ * <p>
+ * The budgets are about twice the allocations measured for AGPL-3.0-only, a long license, so a failure
+ * indicates a regression in one of the allocation heavy paths rather than noise.  Each measured run parses the
+ * license into new model stores and writes it with a new writer, so the caches of the license containers and of the
+ * JSON detail and RDF artifact registries are empty and the budgets cover the full cost of writing a license.  Lower a budget after reducing
+ * the allocations of a path so the improvement is kept.
+ */
+public class AllocationBudgetTest {
+
+	static final File LICENSE_XML = new File("TestFiles", "AGPL-3.0-only.xml");
+	static final String VERSION = "3.25.0";
+	static final String RELEASE_DATE = "2026-01-01";
+	static final long KB = 1024;
+	static final long MB = 1024 * KB;
+
+	static final long PARSE_BUDGET = 8 * MB;
+	static final long TEXT_BUDGET = 1152 * KB;
+	static final long TEMPLATE_BUDGET = 104 * KB;
+	static final long HTML_BUDGET = 128 * KB;
+	static final long RDFA_BUDGET = 2400 * KB;
+	static final long JSON_BUDGET = 2200 * KB;
+	static final long WEBSITE_BUDGET = 10400 * KB;
+	static final long RDF_BUDGET = 11 * MB;
+	static final long MARKDOWN_BUDGET = 8 * KB;
+	static final long V3_JSON_LD_BUDGET = 49 * MB;
+
+	Path tempDir;
+	IModelStore v2Store;
+	IModelStore v3Store;
+	IModelCopyManager copyManager;
+	CreationInfo creationInfo;
+	ListedLicenseContainer license;
+	ILicenseFormatWriter writer;
+
+	/**
+	 * Creates a new writer for each measured run so the run does not hit the caches of an earlier run
+	 */
+	@FunctionalInterface
+	interface WriterFactory {
+		ILicenseFormatWriter create() throws Exception;
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		assumeTrue("Allocated bytes can not be measured on this JVM", AllocationMeter.isSupported());
+		SpdxModelFactory.init();
+		tempDir = Files.createTempDirectory("allocation-budget-test");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (tempDir != null) {
+			FileUtils.deleteDirectory(tempDir.toFile());
+		}
+	}
+
+	private void newStores() throws Exception {
+		v2Store = new InMemSpdxStore();
+		v3Store = new InMemSpdxStore();
+		copyManager = new ModelCopyManager();
+		creationInfo = XmlLicenseProvider.createCreationInfo(v3Store, copyManager, "2026-01-01T00:00:00Z", VERSION);
+	}
+
+	private ListedLicenseContainer parse() throws Exception {
+		LicenseXmlDocument doc = new LicenseXmlDocument(LICENSE_XML, v2Store, v3Store, copyManager, creationInfo);
+		List<ListedLicenseContainer> licenses = doc.getListedLicenses();
+		return licenses.get(0);
+	}
+
+	private File dir(String name) {
+		return tempDir.resolve(name).toFile();
+	}
+
+	private void assertWriterBudget(String name, long budget, boolean allThreads, WriterFactory factory) throws Exception {
+		AllocationMeter.Allocation newWriter = () -> {
+			newStores();
+			license = parse();
+			writer = factory.create();
+		};
+		AllocationMeter.Allocation write = () -> writer.writeLicense(license, false, null);
+		if (allThreads) {
+			AllocationMeter.assertAllThreadsAllocateAtMost(name, budget, newWriter, write);
+		} else {
+			AllocationMeter.assertAllocatesAtMost(name, budget, newWriter, write);
+		}
+	}
+
+	/**
+	 * LicenseXmlHelper text, template and HTML extraction including fixUpText
+	 */
+	@Test
+	public void testParseBudget() throws Exception {
+		AllocationMeter.assertAllocatesAtMost("Parsing " + LICENSE_XML.getName(), PARSE_BUDGET, this::newStores, this::parse);
+	}
+
+	@Test
+	public void testWriterBudgets() throws Exception {
+		// String.split of each line and word
+		assertWriterBudget("text", TEXT_BUDGET, false, () -> new LicenseTextFormatWriter(dir("text")));
+		assertWriterBudget("template", TEMPLATE_BUDGET, false, () -> new LicenseTemplateFormatWriter(dir("template")));
+		assertWriterBudget("html", HTML_BUDGET, false, () -> new LicenseHtmlFormatWriter(VERSION, RELEASE_DATE, dir("html")));
+		assertWriterBudget("rdfa", RDFA_BUDGET, false, () -> new LicenseRdfaFormatWriter(VERSION, RELEASE_DATE, dir("rdfa")));
+		assertWriterBudget("json", JSON_BUDGET, false, () -> new LicenseJsonFormatWriter(VERSION, RELEASE_DATE, dir("json"),
+				dir("json/details"), dir("json/exceptions")));
+		assertWriterBudget("website", WEBSITE_BUDGET, true, () -> new SpdxWebsiteFormatWriter(VERSION, RELEASE_DATE, dir("website")));
+		assertWriterBudget("rdf", RDF_BUDGET, true, () -> new LicenseRdfFormatWriter(dir("rdfxml"), dir("rdfturtle"),
+				dir("rdfnt"), dir("jsonld"), true));
+		assertWriterBudget("markdown", MARKDOWN_BUDGET, false, () -> new LicenseMarkdownFormatWriter(VERSION, RELEASE_DATE, dir("licenses.md")));
+		assertWriterBudget("v3jsonld", V3_JSON_LD_BUDGET, false, () -> new LicenseV3JsonLdFormatWriter(VERSION, "2026-01-01T00:00:00Z", dir("v3jsonld")));
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+
+public class ArchiveOutputSinkTest {
+
+	static final String[] LICENSE_XML_FILES = new String[] {"BSD-3-Clause.xml", "test-license.xml"};
+
+	Path tempDir;
+	List<ListedLicenseContainer> licenses;
+	List<ListedExceptionContainer> exceptions;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("archive-sink-test");
+		LicenseXmlFixture fixture = LicenseXmlFixture.parse(LICENSE_XML_FILES);
+		licenses = fixture.getLicenses();
+		exceptions = fixture.getExceptions();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	private void writeAll(File dir, OutputSink outputSink) throws Exception {
+		List<ILicenseFormatWriter> writers = new ArrayList<>();
+		writers.add(new LicenseTextFormatWriter(new File(dir, "text")));
+		writers.add(new LicenseTemplateFormatWriter(new File(dir, "template")));
+		writers.add(new LicenseHtmlFormatWriter("3.25.0", "2026-01-01", new File(dir, "html")));
+		writers.add(new LicenseRdfaFormatWriter("3.25.0", "2026-01-01", new File(dir, "rdfa")));
+		writers.add(new LicenseJsonFormatWriter("3.25.0", "2026-01-01", new File(dir, "json"),
+				new File(dir, "json/details"), new File(dir, "json/exceptions")));
+		writers.add(new SpdxWebsiteFormatWriter("3.25.0", "2026-01-01", new File(dir, "website")));
+		writers.add(new LicenseRdfFormatWriter(new File(dir, "rdfxml"), new File(dir, "rdfturtle"),
+				new File(dir, "rdfnt"), new File(dir, "jsonld"), true));
+		writers.add(new LicenseMarkdownFormatWriter("3.25.0", "2026-01-01", new File(dir, "licenses.md")));
+		writers.add(new LicenseV3JsonLdFormatWriter("3.25.0", "2026-01-01T00:00:00Z", new File(dir, "SPDXv3/v3jsonld")));
+		for (ILicenseFormatWriter writer:writers) {
+			writer.setOutputSink(outputSink);
+			for (ListedLicenseContainer license:licenses) {
+				writer.writeLicense(license, false, null);
+			}
+			for (ListedExceptionContainer exception:exceptions) {
+				writer.writeException(exception);
+			}
+			writer.writeToC();
+		}
+	}
+
+	private static Map<String, byte[]> readDirectory(File dir) throws IOException {
+		Map<String, byte[]> retval = new TreeMap<>();
+		try (Stream<Path> paths = Files.walk(dir.toPath())) {
+			for (Path path:paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+				retval.put(dir.toPath().relativize(path).toString().replace(File.separatorChar, '/'), Files.readAllBytes(path));
+			}
+		}
+		return retval;
+	}
+
+	private static Map<String, byte[]> readZip(File zip) throws IOException {
+		Map<String, byte[]> retval = new TreeMap<>();
+		try (ZipInputStream in = new ZipInputStream(Files.newInputStream(zip.toPath()), StandardCharsets.UTF_8)) {
+			ZipEntry entry;
+			while ((entry = in.getNextEntry()) != null) {
+				assertNull("Duplicate entry "+entry.getName(), retval.put(entry.getName(), in.readAllBytes()));
+			}
+		}
+		return retval;
+	}
+
+	private static Map<String, byte[]> readTar(InputStream in) throws IOException {
+		Map<String, byte[]> retval = new TreeMap<>();
+		try (TarArchiveInputStream tar = new TarArchiveInputStream(in, StandardCharsets.UTF_8.name())) {
+			TarArchiveEntry entry;
+			while ((entry = tar.getNextEntry()) != null) {
+				assertTrue(entry.getName(), entry.isFile());
+				assertNull("Duplicate entry "+entry.getName(), retval.put(entry.getName(), tar.readAllBytes()));
+			}
+		}
+		return retval;
+	}
+
+	@Test
+	public void testZipMatchesDirectory() throws Exception {
+		File directory = tempDir.resolve("directory").toFile();
+		writeAll(directory, DirectoryOutputSink.INSTANCE);
+		File root = tempDir.resolve("root").toFile();
+		File zip = tempDir.resolve("output.zip").toFile();
+		try (ArchiveOutputSink outputSink = new ArchiveOutputSink(zip, root)) {
+			writeAll(root, outputSink);
+		}
+		assertFalse(root.exists());
+		Map<String, byte[]> expected = readDirectory(directory);
+		Map<String, byte[]> result = readZip(zip);
+		assertEquals(expected.keySet(), result.keySet());
+		assertTrue(result.containsKey("website/BSD-3-Clause"));
+		assertTrue(result.containsKey("rdfnt/licenses.nt"));
+		assertTrue(result.containsKey("SPDXv3/v3jsonld/licenses.json"));
+		for (String name:new String[] {"text/BSD-3-Clause.txt", "template/BSD-3-Clause.template.txt", "html/BSD-3-Clause.html",
+				"rdfa/BSD-3-Clause.html", "json/details/BSD-3-Clause.json", "website/BSD-3-Clause", "website/index.html", "licenses.md"}) {
+			assertArrayEquals(name, expected.get(name), result.get(name));
+		}
+	}
+
+	@Test
+	public void testTar() throws Exception {
+		File root = tempDir.resolve("root").toFile();
+		String longName = "SPDXv3/v3jsonld/" + String.join("", Collections.nCopies(90, "x")) + ".json";
+		// longer than the ustar name and prefix fields together
+		String veryLongName = String.join("/", Collections.nCopies(30, "folder")) + "/" + String.join("", Collections.nCopies(120, "y")) + ".json";
+		byte[] content = "license text\n".getBytes(StandardCharsets.UTF_8);
+		byte[] block = new byte[512];
+		Arrays.fill(block, (byte)'a');
+		for (String fileName:new String[] {"output.tar", "output.tar.gz"}) {
+			File tar = tempDir.resolve(fileName).toFile();
+			try (ArchiveOutputSink outputSink = new ArchiveOutputSink(tar, root)) {
+				outputSink.write(new File(root, "text/MIT.txt"), content);
+				outputSink.write(new File(root, longName), block);
+				outputSink.write(new File(root, veryLongName), content);
+				try (Writer writer = outputSink.newWriter(new File(root, "licenses.md"))) {
+					writer.write("# licenses");
+				}
+			}
+			Map<String, byte[]> result;
+			try (InputStream in = fileName.endsWith(".gz") ? new GZIPInputStream(Files.newInputStream(tar.toPath())) : Files.newInputStream(tar.toPath())) {
+				result = readTar(in);
+			}
+			assertEquals(4, result.size());
+			assertArrayEquals(content, result.get("text/MIT.txt"));
+			assertArrayEquals(block, result.get(longName));
+			assertArrayEquals(content, result.get(veryLongName));
+			assertEquals("# licenses", new String(result.get("licenses.md"), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void testErrors() throws Exception {
+		File root = tempDir.resolve("root").toFile();
+		ArchiveOutputSink outputSink = new ArchiveOutputSink(tempDir.resolve("output.zip").toFile(), root);
+		try {
+			outputSink.write(tempDir.resolve("outside.txt").toFile(), new byte[0]);
+			fail("Expected an IOException for a file outside the output folder");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("outside.txt"));
+		}
+		outputSink.write(new File(root, "text/MIT.txt"), new byte[0]);
+		outputSink.write(new File(root, "text/MIT.txt"), new byte[0]);
+		try {
+			outputSink.close();
+			fail("Expected an IOException for a duplicate file");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("text/MIT.txt"));
+		}
+		try {
+			new ArchiveOutputSink(tempDir.resolve("output.rar").toFile(), root);
+			fail("Expected an exception for an unsupported archive type");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("output.rar"));
+		}
+	}
+}
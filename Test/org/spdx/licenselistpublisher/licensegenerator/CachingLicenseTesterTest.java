@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+public class CachingLicenseTesterTest {
+
+	static final File BSD_3_XML = new File("TestFiles", "BSD-3-Clause.xml");
+	static final File BAD_TEST_DIR = new File("TestFiles", "bad-tests");
+
+	Path tempDir;
+	File testDir;
+	File cacheFile;
+	ListedLicenseContainer license;
+
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		tempDir = Files.createTempDirectory("cache-test");
+		testDir = tempDir.resolve("tests").toFile();
+		FileUtils.copyDirectory(BAD_TEST_DIR, testDir);
+		cacheFile = tempDir.resolve("cache").resolve("test-cache.json").toFile();
+		license = parseLicense();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	private ListedLicenseContainer parseLicense() throws Exception {
+		IModelStore v2Store = new InMemSpdxStore();
+		IModelStore v3Store = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		LicenseXmlDocument doc = new LicenseXmlDocument(BSD_3_XML, v2Store, v3Store, copyManager,
+				XmlLicenseProvider.createCreationInfo(v3Store, copyManager, "2026-01-01T00:00:00Z", "3.25.0"));
+		return doc.getListedLicenses().get(0);
+	}
+
+	private List<String> testWithCache(ListedLicenseContainer container, int expectedHits) throws Exception {
+		try (CachingLicenseTester tester = new CachingLicenseTester(new LicenseTester(testDir), cacheFile)) {
+			List<String> results = tester.testLicense(container);
+			assertEquals(expectedHits, tester.getHits());
+			assertEquals(1 - expectedHits, tester.getMisses());
+			assertEquals("Used "+expectedHits+" cached test results, ran "+(1 - expectedHits)+" tests", tester.getStatistics());
+			return results;
+		}
+	}
+
+	@Test
+	public void testCachedResultsSameAsUncached() throws Exception {
+		List<String> expected = new LicenseTester(testDir).testLicense(license);
+		assertEquals(1, expected.size());
+		assertEquals(expected, testWithCache(license, 0));
+		assertTrue(cacheFile.isFile());
+		assertEquals(expected, testWithCache(license, 1));
+		// a newly parsed license with the same XML uses the cached results
+		assertEquals(expected, testWithCache(parseLicense(), 1));
+	}
+
+	@Test
+	public void testChangedTestFile() throws Exception {
+		testWithCache(license, 0);
+		Path badTest = testDir.toPath().resolve("BSD-3-Clause").resolve("license").resolve("good").resolve("must-not-reproduce.txt");
+		Files.write(badTest, "Not the license".getBytes(StandardCharsets.UTF_8));
+		List<String> results = testWithCache(license, 0);
+		assertEquals(new LicenseTester(testDir).testLicense(license), results);
+		assertEquals(results, testWithCache(license, 1));
+	}
+
+	@Test
+	public void testChangedTemplate() throws Exception {
+		testWithCache(license, 0);
+		license.getV2ListedLicense().setStandardLicenseTemplate(license.getV2ListedLicense().getStandardLicenseTemplate() + " extra");
+		license.setV2ListedLicense(license.getV2ListedLicense());
+		List<String> results = testWithCache(license, 0);
+		assertEquals(new LicenseTester(testDir).testLicense(license), results);
+	}
+
+	@Test
+	public void testUnreadableCache() throws Exception {
+		Files.createDirectories(cacheFile.toPath().getParent());
+		Files.write(cacheFile.toPath(), "{not json".getBytes(StandardCharsets.UTF_8));
+		assertEquals(new LicenseTester(testDir).testLicense(license), testWithCache(license, 0));
+		try (Stream<Path> files = Files.list(cacheFile.toPath().getParent())) {
+			assertEquals(1, files.collect(Collectors.toList()).size());
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.utility.compare.CompareTemplateOutputHandler.DifferenceDescription;
+import org.spdx.utility.compare.LicenseCompareHelper;
+
+public class CompiledLicenseTemplateTest {
+
+	static final String[] LICENSE_XML_FILES = new String[] {"AGPL-3.0-only.xml", "BSD-3-Clause.xml",
+			"BSD-Protection.xml", "test-license.xml", "test-optional-annotations.xml"};
+	static final String BSD_3_XML = "TestFiles" + File.separator + "BSD-3-Clause.xml";
+	static final String BSD_3_TEST_DIR = "TestFiles" + File.separator + "good-tests" + File.separator + "BSD-3-Clause" +
+			File.separator + "license";
+
+	IModelStore v2Store;
+	IModelStore v3Store;
+	IModelCopyManager copyManager;
+
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		v2Store = new InMemSpdxStore();
+		v3Store = new InMemSpdxStore();
+		copyManager = new ModelCopyManager();
+	}
+
+	private List<ListedLicenseContainer> parse(File xmlFile) throws Exception {
+		LicenseXmlDocument doc = new LicenseXmlDocument(xmlFile, v2Store, v3Store, copyManager,
+				XmlLicenseProvider.createCreationInfo(v3Store, copyManager, "2026-01-01T00:00:00Z", "3.25.0"));
+		return doc.getListedLicenses();
+	}
+
+	private void assertSameResult(SpdxListedLicense license, CompiledLicenseTemplate template, String text) throws Exception {
+		DifferenceDescription expected = LicenseCompareHelper.isTextStandardLicense(license, text);
+		DifferenceDescription result = template.compare(text);
+		assertEquals(license.getLicenseId(), expected.isDifferenceFound(), result.isDifferenceFound());
+		assertEquals(license.getLicenseId(), expected.getDifferenceMessage(), result.getDifferenceMessage());
+	}
+
+	@Test
+	public void testSameResultsAsLicenseCompareHelper() throws Exception {
+		for (String xmlFileName:LICENSE_XML_FILES) {
+			for (ListedLicenseContainer container:parse(new File("TestFiles", xmlFileName))) {
+				SpdxListedLicense license = container.getV2ListedLicense();
+				CompiledLicenseTemplate template = container.getCompiledTemplate();
+				String text = license.getLicenseText();
+				assertSameResult(license, template, text);
+				// reuse of the same compiled template must give the same result
+				assertSameResult(license, template, text);
+				assertSameResult(license, template, text + "\nExtra text not in the license");
+				assertSameResult(license, template, text.substring(0, text.length() / 2));
+			}
+		}
+	}
+
+	@Test
+	public void testGoodAndBadTests() throws Exception {
+		ListedLicenseContainer container = parse(new File(BSD_3_XML)).get(0);
+		for (File test:new File(BSD_3_TEST_DIR, "good").listFiles()) {
+			String text = Files.readString(test.toPath());
+			assertSameResult(container.getV2ListedLicense(), container.getCompiledTemplate(), text);
+			assertFalse(container.getCompiledTemplate().compare(text).isDifferenceFound());
+		}
+		for (File test:new File(BSD_3_TEST_DIR, "bad").listFiles()) {
+			String text = Files.readString(test.toPath());
+			assertSameResult(container.getV2ListedLicense(), container.getCompiledTemplate(), text);
+			assertTrue(container.getCompiledTemplate().compare(text).isDifferenceFound());
+		}
+	}
+
+	@Test
+	public void testIsWithinText() throws Exception {
+		ListedLicenseContainer container = parse(new File(BSD_3_XML)).get(0);
+		String text = "Some preamble text\n" + container.getV2ListedLicense().getLicenseText() + "\nSome trailing text";
+		assertEquals(LicenseCompareHelper.isStandardLicenseWithinText(text, container.getV2ListedLicense()),
+				container.getCompiledTemplate().isWithinText(text));
+		assertTrue(container.getCompiledTemplate().isWithinText(text));
+		assertFalse(container.getCompiledTemplate().isWithinText("Not a license"));
+	}
+}
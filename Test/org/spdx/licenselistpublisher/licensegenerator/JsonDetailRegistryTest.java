@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+import static org.spdx.licenselistpublisher.licensegenerator.LicenseXmlFixture.newFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class JsonDetailRegistryTest {
+
+	static final String[] LICENSE_XML_FILES = new String[] {"BSD-3-Clause.xml", "test-license.xml", "AGPL-3.0-only.xml"};
+
+	Path tempDir;
+	List<ListedLicenseContainer> licenses;
+	List<ListedExceptionContainer> exceptions;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("json-detail-test");
+		LicenseXmlFixture fixture = LicenseXmlFixture.parse(LICENSE_XML_FILES);
+		licenses = fixture.getLicenses();
+		exceptions = fixture.getExceptions();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	@Test
+	public void testSameDetailsInBothFolders() throws Exception {
+		assertFalse(exceptions.isEmpty());
+		JsonDetailRegistry jsonDetails = new JsonDetailRegistry();
+		File json = newFolder(tempDir, "json");
+		File details = newFolder(tempDir, "json/details");
+		File exceptionDetails = newFolder(tempDir, "json/exceptions");
+		File website = newFolder(tempDir, "website");
+		LicenseJsonFormatWriter jsonWriter = new LicenseJsonFormatWriter("3.25.0", "2026-01-01", json, details, exceptionDetails, jsonDetails);
+		SpdxWebsiteFormatWriter websiteWriter = new SpdxWebsiteFormatWriter("3.25.0", "2026-01-01", website,
+				new RdfArtifactRegistry(), jsonDetails);
+		for (ListedLicenseContainer license:licenses) {
+			jsonWriter.writeLicense(license, false, null);
+			websiteWriter.writeLicense(license, false, null);
+			String name = license.getV2ListedLicense().getLicenseId() + ".json";
+			assertArrayEquals(Files.readAllBytes(new File(details, name).toPath()), Files.readAllBytes(new File(website, name).toPath()));
+		}
+		for (ListedExceptionContainer exception:exceptions) {
+			jsonWriter.writeException(exception);
+			websiteWriter.writeException(exception);
+			String name = exception.getV2Exception().getLicenseExceptionId() + ".json";
+			assertArrayEquals(Files.readAllBytes(new File(exceptionDetails, name).toPath()), Files.readAllBytes(new File(website, name).toPath()));
+		}
+		assertEquals(licenses.size() + exceptions.size(), jsonDetails.getEncodingCount());
+	}
+
+	@Test
+	public void testCrossRefsSorted() throws Exception {
+		JsonDetailRegistry jsonDetails = new JsonDetailRegistry();
+		for (ListedLicenseContainer license:licenses) {
+			JsonArray crossRefs = JsonParser.parseString(new String(jsonDetails.getLicenseDetails(license.getV2ListedLicense()),
+					StandardCharsets.UTF_8)).getAsJsonObject().getAsJsonArray("crossRef");
+			assertEquals(license.getV2ListedLicense().getCrossRef().size(), crossRefs.size());
+			for (int i = 1; i < crossRefs.size(); i++) {
+				JsonObject previous = crossRefs.get(i - 1).getAsJsonObject();
+				JsonObject next = crossRefs.get(i).getAsJsonObject();
+				int previousOrder = previous.has("order") ? previous.get("order").getAsInt() : Integer.MAX_VALUE;
+				int nextOrder = next.has("order") ? next.get("order").getAsInt() : Integer.MAX_VALUE;
+				assertTrue(previousOrder < nextOrder || (previousOrder == nextOrder && 
+						previous.get("url").getAsString().compareTo(next.get("url").getAsString()) <= 0));
+			}
+		}
+	}
+}
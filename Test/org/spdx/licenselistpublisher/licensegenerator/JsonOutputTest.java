@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.storage.listedlicense.LicenseJson;
+import org.spdx.storage.listedlicense.LicenseJsonTOC;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+public class JsonOutputTest {
+
+	SpdxListedLicense license;
+
+	@Before
+	public void setUp() throws Exception {
+		license = LicenseXmlFixture.parse("test-license.xml").getLicenses().get(0).getV2ListedLicense();
+	}
+
+	@Test
+	public void testSameAsToJson() throws Exception {
+		LicenseJson licJson = new LicenseJson();
+		licJson.copyFrom(license);
+		LicenseJsonTOC toc = new LicenseJsonTOC("3.25.0", "2026-01-01");
+		toc.addLicense(license, "./test.html", "./test.json", false);
+		File file = File.createTempFile("json-output", ".json");
+		try {
+			for (Gson gson:new Gson[] {new GsonBuilder().setPrettyPrinting().create(), new Gson()}) {
+				for (Object jsonSerializableObject:new Object[] {licJson, toc}) {
+					byte[] expected = gson.toJson(jsonSerializableObject).getBytes(StandardCharsets.UTF_8);
+					assertArrayEquals(expected, JsonOutput.encode(gson, jsonSerializableObject));
+					JsonOutput.write(gson, jsonSerializableObject, file);
+					assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+				}
+			}
+		} finally {
+			Files.delete(file.toPath());
+		}
+	}
+}
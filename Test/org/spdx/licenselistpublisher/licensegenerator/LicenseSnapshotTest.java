@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.DefaultModelStore;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.license.CrossRef;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Tests for the license and exception snapshots read by the format writers
+ */
+public class LicenseSnapshotTest {
+
+	static final String VERSION = "3.25.0";
+
+	IModelStore v2Store;
+	IModelStore v3Store;
+	ModelCopyManager copyManager;
+
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		v2Store = new InMemSpdxStore();
+		v3Store = new InMemSpdxStore();
+		copyManager = new ModelCopyManager();
+		DefaultModelStore.initialize(v2Store, "https://mydoc.uri", copyManager);
+	}
+
+	private LicenseXmlDocument parse(String fileName) throws Exception {
+		return new LicenseXmlDocument(new File("TestFiles", fileName), v2Store, v3Store, copyManager,
+				XmlLicenseProvider.createCreationInfo(v3Store, copyManager, "2026-01-01T00:00:00Z", VERSION));
+	}
+
+	@Test
+	public void testLicenseSnapshot() throws Exception {
+		ListedLicenseContainer container = parse("AGPL-3.0-only.xml").getListedLicenses().get(0);
+		SpdxListedLicense license = container.getV2ListedLicense();
+		LicenseSnapshot snapshot = container.getSnapshot();
+		assertEquals(license.getLicenseId(), snapshot.getLicenseId());
+		assertEquals(license.getName(), snapshot.getName());
+		assertEquals(LicenseHtmlFormatWriter.formLicenseHTMLFileName(license.getLicenseId()), snapshot.getFileName());
+		assertEquals(license.getLicenseText(), snapshot.getLicenseText());
+		assertEquals(license.getLicenseTextHtml(), snapshot.getLicenseTextHtml());
+		assertEquals(license.getStandardLicenseTemplate(), snapshot.getStandardLicenseTemplate());
+		assertEquals(license.getLicenseHeaderHtml(), snapshot.getLicenseHeaderHtml());
+		assertEquals(license.getComment(), snapshot.getComment());
+		assertEquals(license.isOsiApproved(), snapshot.isOsiApproved());
+		assertEquals(license.getFsfLibre(), snapshot.getFsfLibre());
+		assertEquals(license.isFsfLibre(), snapshot.isFsfLibre());
+		assertEquals(license.isNotFsfLibre(), snapshot.isNotFsfLibre());
+		assertEquals(license.isDeprecated(), snapshot.isDeprecated());
+		assertEquals(license.getDeprecatedVersion(), snapshot.getDeprecatedVersion());
+		assertEquals(new ArrayList<>(license.getSeeAlso()), snapshot.getSeeAlso());
+		assertEquals(license.getCrossRef().size(), snapshot.getCrossRefs().size());
+		// taken once and discarded when the license is replaced
+		assertSame(snapshot, container.getSnapshot());
+		container.setV2ListedLicense(license);
+		assertNotSame(snapshot, container.getSnapshot());
+	}
+
+	@Test
+	public void testCrossRefOrder() throws Exception {
+		SpdxListedLicense license = new SpdxListedLicense("name", "id", "text", Arrays.asList(new String[0]),
+				"", "", "", false, null, "", false, "");
+		license.getCrossRef().add(license.createCrossRef("https://no.order").build());
+		license.getCrossRef().add(license.createCrossRef("https://second").setOrder(2).build());
+		license.getCrossRef().add(license.createCrossRef("https://first").setOrder(1).setLive(true).build());
+		LicenseSnapshot snapshot = new LicenseSnapshot(license);
+		assertEquals(3, snapshot.getCrossRefs().size());
+		assertEquals("https://first", snapshot.getCrossRefs().get(0).getUrl().get());
+		assertTrue(snapshot.getCrossRefs().get(0).getLive().get());
+		assertEquals("https://second", snapshot.getCrossRefs().get(1).getUrl().get());
+		assertEquals("https://no.order", snapshot.getCrossRefs().get(2).getUrl().get());
+		assertFalse(snapshot.getCrossRefs().get(2).getOrder().isPresent());
+		for (CrossRef crossRef:license.getCrossRef()) {
+			crossRef.setUrl("https://changed");
+		}
+		assertEquals("https://first", snapshot.getCrossRefs().get(0).getUrl().get());
+	}
+
+	@Test
+	public void testExceptionSnapshot() throws Exception {
+		ListedExceptionContainer container = parse("test-license.xml").getLicenseExceptions().get(0);
+		ExceptionSnapshot snapshot = container.getSnapshot();
+		assertEquals(container.getV2Exception().getLicenseExceptionId(), snapshot.getLicenseExceptionId());
+		assertEquals(container.getV2Exception().getName(), snapshot.getName());
+		assertEquals(LicenseHtmlFormatWriter.formLicenseHTMLFileName(snapshot.getLicenseExceptionId()), snapshot.getFileName());
+		assertEquals(container.getV2Exception().getLicenseExceptionText(), snapshot.getLicenseExceptionText());
+		assertEquals(container.getV2Exception().getExceptionTextHtml(), snapshot.getExceptionTextHtml());
+		assertEquals(container.getV2Exception().getLicenseExceptionTemplate(), snapshot.getLicenseExceptionTemplate());
+		assertEquals(container.getV2Exception().getComment(), snapshot.getComment());
+		assertEquals(container.getV2Exception().isDeprecated(), snapshot.isDeprecated());
+		assertEquals(container.getV2Exception().getDeprecatedVersion(), snapshot.getDeprecatedVersion());
+		assertEquals(new ArrayList<>(container.getV2Exception().getSeeAlso()), snapshot.getSeeAlso());
+		assertSame(snapshot, container.getSnapshot());
+	}
+}
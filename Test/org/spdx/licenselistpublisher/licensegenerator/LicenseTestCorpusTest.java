@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LicenseTestCorpusTest {
+
+	static final File GOOD_TEST_DIR = new File("TestFiles", "good-tests");
+
+	Path tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("corpus-test");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		try (Stream<Path> files = Files.walk(tempDir)) {
+			for (Path file:files.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList())) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	private String readLines(Path file) throws Exception {
+		StringBuilder text = new StringBuilder();
+		try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+			lines.forEach(line -> {
+				text.append(line);
+				text.append("\n");
+			});
+		}
+		return text.toString();
+	}
+
+	@Test
+	public void testReadTextSameAsLines() throws Exception {
+		String[] texts = new String[] {"", "one line", "one line\n", "two\nlines", "crlf\r\nlines\r\n",
+				"cr\ronly", "blank\n\n\nlines\n\n", "unicode é’ text\r\n"};
+		for (int i = 0; i < texts.length; i++) {
+			Path file = tempDir.resolve("text" + i + ".txt");
+			Files.write(file, texts[i].getBytes(StandardCharsets.UTF_8));
+			assertEquals(texts[i], readLines(file), LicenseTestCorpus.readText(file));
+		}
+	}
+
+	@Test
+	public void testTextDirectory() throws Exception {
+		Files.write(tempDir.resolve("MIT.txt"), "MIT text".getBytes(StandardCharsets.UTF_8));
+		Files.write(tempDir.resolve("notes.md"), "not a test".getBytes(StandardCharsets.UTF_8));
+		Files.write(tempDir.resolve("Upper.TXT"), "upper case extension".getBytes(StandardCharsets.UTF_8));
+		LicenseTestCorpus corpus = LicenseTestCorpus.scanTextDirectory(tempDir.toFile());
+		assertEquals("MIT text\n", corpus.getText("MIT"));
+		// cached after the first read
+		Files.delete(tempDir.resolve("MIT.txt"));
+		assertEquals("MIT text\n", corpus.getText("MIT"));
+		assertNull(corpus.getText("notes"));
+		assertNull(corpus.getText("Apache-2.0"));
+		// only the exact {id}.txt name is matched
+		assertNull(corpus.getText("Upper"));
+	}
+
+	@Test
+	public void testTextCacheBounded() throws Exception {
+		for (int i = 0; i <= LicenseTestCorpus.TEXT_CACHE_SIZE; i++) {
+			Files.write(tempDir.resolve("L" + i + ".txt"), ("text " + i).getBytes(StandardCharsets.UTF_8));
+		}
+		LicenseTestCorpus corpus = LicenseTestCorpus.scanTextDirectory(tempDir.toFile());
+		for (int i = 0; i <= LicenseTestCorpus.TEXT_CACHE_SIZE; i++) {
+			assertEquals("text " + i + "\n", corpus.getText("L" + i));
+		}
+		// the first text has been evicted and is read again
+		Files.write(tempDir.resolve("L0.txt"), "changed".getBytes(StandardCharsets.UTF_8));
+		assertEquals("changed\n", corpus.getText("L0"));
+		// the most recent text is still cached
+		Files.delete(tempDir.resolve("L" + LicenseTestCorpus.TEXT_CACHE_SIZE + ".txt"));
+		assertEquals("text " + LicenseTestCorpus.TEXT_CACHE_SIZE + "\n", corpus.getText("L" + LicenseTestCorpus.TEXT_CACHE_SIZE));
+	}
+
+	@Test
+	public void testTestDirectory() throws Exception {
+		LicenseTestCorpus corpus = LicenseTestCorpus.scanTestDirectory(GOOD_TEST_DIR);
+		List<Path> good = corpus.getTestFiles("BSD-3-Clause", "license", LicenseTestCorpus.GOOD_TESTS);
+		assertEquals(2, good.size());
+		assertEquals("changed-copyright.txt", good.get(0).getFileName().toString());
+		assertEquals("original.txt", good.get(1).getFileName().toString());
+		assertEquals(1, corpus.getTestFiles("BSD-3-Clause", "license", LicenseTestCorpus.BAD_TESTS).size());
+		assertTrue(corpus.getTestFiles("BSD-3-Clause", "exception", LicenseTestCorpus.GOOD_TESTS).isEmpty());
+		assertTrue(corpus.getTestFiles("MIT", "license", LicenseTestCorpus.GOOD_TESTS).isEmpty());
+	}
+}
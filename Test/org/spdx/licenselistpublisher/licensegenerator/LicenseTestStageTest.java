@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+
+public class LicenseTestStageTest {
+
+	static final String[] LICENSE_XML_FILES = new String[] {"BSD-3-Clause.xml", "test-license.xml",
+			"BSD-Protection.xml", "AGPL-3.0-only.xml"};
+	static final File GOOD_TEST_DIR = new File("TestFiles", "good-tests");
+	static final File BAD_TEST_DIR = new File("TestFiles", "bad-tests");
+
+	List<ListedLicenseContainer> licenses;
+
+	@Before
+	public void setUp() throws Exception {
+		licenses = LicenseXmlFixture.parse(LICENSE_XML_FILES).getLicenses();
+	}
+
+	private void assertSameAsSequential(ILicenseTester tester, int parallelism) throws Exception {
+		try (LicenseTestStage testStage = new LicenseTestStage(tester, parallelism)) {
+			Iterator<LicenseTestStage.TestedItem<ListedLicenseContainer>> iter = testStage.testLicenses(licenses.iterator());
+			for (ListedLicenseContainer expected:licenses) {
+				assertTrue(iter.hasNext());
+				LicenseTestStage.TestedItem<ListedLicenseContainer> tested = iter.next();
+				assertSame(expected, tested.getItem());
+				assertEquals(tester.testLicense(expected), tested.getTestResults());
+			}
+			assertFalse(iter.hasNext());
+		}
+	}
+
+	@Test
+	public void testSameResultsAsSequential() throws Exception {
+		assertSameAsSequential(new LicenseTester(GOOD_TEST_DIR), 4);
+		assertSameAsSequential(new LicenseTester(BAD_TEST_DIR), 4);
+		assertSameAsSequential(new LicenseTester(BAD_TEST_DIR), 1);
+	}
+
+	@Test
+	public void testFailuresReported() throws Exception {
+		try (LicenseTestStage testStage = new LicenseTestStage(new LicenseTester(BAD_TEST_DIR), 2)) {
+			LicenseTestStage.TestedItem<ListedLicenseContainer> tested = testStage.testLicenses(licenses.iterator()).next();
+			List<String> results = tested.getTestResults();
+			assertEquals(1, results.size());
+			assertTrue(results.get(0).startsWith("Test 'positive-must-not-reproduce.txt' failed"));
+		}
+	}
+
+	@Test
+	public void testNoTester() throws Exception {
+		try (LicenseTestStage testStage = new LicenseTestStage(null)) {
+			assertNull(testStage.getTester());
+			Iterator<LicenseTestStage.TestedItem<ListedLicenseContainer>> iter = testStage.testLicenses(licenses.iterator());
+			for (ListedLicenseContainer expected:licenses) {
+				LicenseTestStage.TestedItem<ListedLicenseContainer> tested = iter.next();
+				assertSame(expected, tested.getItem());
+				assertTrue(tested.getTestResults().isEmpty());
+			}
+			assertFalse(iter.hasNext());
+		}
+	}
+}
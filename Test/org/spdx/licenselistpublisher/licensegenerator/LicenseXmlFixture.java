@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.spdx.core.IModelCopyManager;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Licenses and exceptions parsed from license XML files in the TestFiles folder for the writer tests
+ */
+final class LicenseXmlFixture {
+
+	static final File TEST_FILES = new File("TestFiles");
+	static final String VERSION = "3.25.0";
+	static final String CREATED = "2026-01-01T00:00:00Z";
+
+	private final List<ListedLicenseContainer> licenses = new ArrayList<>();
+	private final List<ListedExceptionContainer> exceptions = new ArrayList<>();
+
+	private LicenseXmlFixture() {
+		// use parse
+	}
+
+	/**
+	 * @param xmlFileNames names of the license XML files in the TestFiles folder
+	 * @return licenses and exceptions from the files parsed into one pair of model stores
+	 * @throws Exception on errors parsing the files
+	 */
+	static LicenseXmlFixture parse(String... xmlFileNames) throws Exception {
+		SpdxModelFactory.init();
+		IModelStore v2Store = new InMemSpdxStore();
+		IModelStore v3Store = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		LicenseXmlFixture retval = new LicenseXmlFixture();
+		for (String xmlFileName:xmlFileNames) {
+			LicenseXmlDocument doc = new LicenseXmlDocument(new File(TEST_FILES, xmlFileName), v2Store, v3Store, copyManager,
+					XmlLicenseProvider.createCreationInfo(v3Store, copyManager, CREATED, VERSION));
+			retval.licenses.addAll(doc.getListedLicenses());
+			retval.exceptions.addAll(doc.getLicenseExceptions());
+		}
+		return retval;
+	}
+
+	/**
+	 * @return licenses in the order of the files
+	 */
+	List<ListedLicenseContainer> getLicenses() {
+		return licenses;
+	}
+
+	/**
+	 * @return exceptions in the order of the files
+	 */
+	List<ListedExceptionContainer> getExceptions() {
+		return exceptions;
+	}
+
+	/**
+	 * @param parent folder to create the new folder in
+	 * @param name name of the new folder
+	 * @return new folder
+	 */
+	static File newFolder(Path parent, String name) {
+		File retval = parent.resolve(name).toFile();
+		assertTrue(retval.mkdirs());
+		return retval;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonParser;
+
+public class OutputVariantsTest {
+
+	static final String JSON = "{\n  \"licenseId\": \"MIT\",\n  \"crossRef\": [\n    {\n      \"url\": \"https://opensource.org/license/mit/?a=1&b=2\"\n    }\n  ]\n}";
+	static final String HTML = "<html><body><pre>  preformatted\n    text  </pre></body></html>";
+
+	Path tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("output-variants-test");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	private File write(String name, String content) throws IOException {
+		File retval = tempDir.resolve(name).toFile();
+		Files.write(retval.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return retval;
+	}
+
+	private static byte[] decompress(File file) throws IOException {
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+			return in.readAllBytes();
+		}
+	}
+
+	@Test
+	public void testVariantFileNames() {
+		File json = new File("licenses.json");
+		assertEquals("licenses.min.json", OutputVariants.minifiedFile(json).getName());
+		assertEquals("MIT.min.jsonld", OutputVariants.minifiedFile(new File("MIT.jsonld")).getName());
+		assertNull(OutputVariants.minifiedFile(new File("licenses.min.json")));
+		assertNull(OutputVariants.minifiedFile(new File("MIT.html")));
+		assertEquals("licenses.json.gz", OutputVariants.compressedFile(json).getName());
+	}
+
+	@Test
+	public void testWriteVariants() throws Exception {
+		File json = write("MIT.json", JSON);
+		File html = write("MIT.html", HTML);
+		OutputVariants variants = new OutputVariants();
+		variants.add(json);
+		variants.add(html);
+		variants.await();
+
+		assertArrayEquals(Files.readAllBytes(json.toPath()), decompress(OutputVariants.compressedFile(json)));
+		File minified = OutputVariants.minifiedFile(json);
+		String minifiedJson = new String(Files.readAllBytes(minified.toPath()), StandardCharsets.UTF_8);
+		assertFalse(minifiedJson.contains("\n"));
+		assertTrue(minifiedJson.contains("?a=1&b=2"));
+		assertEquals(JsonParser.parseString(JSON), JsonParser.parseString(minifiedJson));
+		assertArrayEquals(Files.readAllBytes(minified.toPath()), decompress(OutputVariants.compressedFile(minified)));
+
+		// HTML is only compressed
+		assertArrayEquals(Files.readAllBytes(html.toPath()), decompress(OutputVariants.compressedFile(html)));
+		assertFalse(tempDir.resolve("MIT.min.html").toFile().exists());
+	}
+
+	@Test
+	public void testInvalidJson() throws Exception {
+		OutputVariants variants = new OutputVariants();
+		variants.add(write("bad.json", "{\"licenseId\": "));
+		try {
+			variants.await();
+			fail("Expected an IOException for invalid JSON");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("bad.json"));
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.spdxRdfStore.OutputFormat;
+import org.spdx.spdxRdfStore.RdfStore;
+
+public class ParallelRdfWriterTest {
+
+	static final Map<OutputFormat, Lang> LANGS = new EnumMap<>(OutputFormat.class);
+
+	static {
+		LANGS.put(OutputFormat.XML_ABBREV, Lang.RDFXML);
+		LANGS.put(OutputFormat.TURTLE, Lang.TURTLE);
+		LANGS.put(OutputFormat.N_TRIPLET, Lang.NTRIPLES);
+		LANGS.put(OutputFormat.JSON_LD, Lang.JSONLD);
+	}
+
+	Path tempDir;
+	RdfStore rdfStore;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("parallel-rdf-test");
+		SpdxListedLicense license = LicenseXmlFixture.parse("AGPL-3.0-only.xml").getLicenses().get(0).getV2ListedLicense();
+		rdfStore = new RdfStore();
+		rdfStore.setDocumentUri(license.getDocumentUri(), true);
+		new ModelCopyManager().copy(rdfStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + license.getId(),
+				license.getModelStore(), license.getDocumentUri() + license.getId(),
+				license.getSpecVersion(), license.getDocumentUri());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	private Model serialize(OutputFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		rdfStore.setOutputFormat(format);
+		rdfStore.serialize(out);
+		Model retval = ModelFactory.createDefaultModel();
+		RDFDataMgr.read(retval, new ByteArrayInputStream(out.toByteArray()), LANGS.get(format));
+		return retval;
+	}
+
+	@Test
+	public void testSameGraphAsStore() throws Exception {
+		Map<OutputFormat, File> outputs = new EnumMap<>(OutputFormat.class);
+		for (OutputFormat format:LANGS.keySet()) {
+			outputs.put(format, tempDir.resolve(format.name()).toFile());
+		}
+		ParallelRdfWriter.write(rdfStore, outputs);
+		for (Entry<OutputFormat, File> output:outputs.entrySet()) {
+			Model expected = serialize(output.getKey());
+			assertTrue(expected.size() > 0);
+			Model result = RDFDataMgr.loadModel(output.getValue().getPath(), LANGS.get(output.getKey()));
+			assertTrue(output.getKey().name(), expected.isIsomorphicWith(result));
+		}
+		assertEquals("spdx", RDFDataMgr.loadModel(outputs.get(OutputFormat.TURTLE).getPath(), Lang.TURTLE)
+				.getNsURIPrefix("http://spdx.org/rdf/terms#"));
+	}
+
+	@Test
+	public void testSingleFormat() throws Exception {
+		File jsonLd = tempDir.resolve("license.jsonld").toFile();
+		Map<OutputFormat, File> outputs = new EnumMap<>(OutputFormat.class);
+		outputs.put(OutputFormat.JSON_LD, jsonLd);
+		ParallelRdfWriter.write(rdfStore, outputs);
+		assertTrue(serialize(OutputFormat.JSON_LD).isIsomorphicWith(RDFDataMgr.loadModel(jsonLd.getPath(), Lang.JSONLD)));
+	}
+}
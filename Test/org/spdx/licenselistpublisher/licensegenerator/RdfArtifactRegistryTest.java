@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+import static org.spdx.licenselistpublisher.licensegenerator.LicenseXmlFixture.newFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+
+public class RdfArtifactRegistryTest {
+
+	static final String[] LICENSE_XML_FILES = new String[] {"BSD-3-Clause.xml", "test-license.xml"};
+
+	Path tempDir;
+	List<ListedLicenseContainer> licenses;
+	List<ListedExceptionContainer> exceptions;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("rdf-artifact-test");
+		LicenseXmlFixture fixture = LicenseXmlFixture.parse(LICENSE_XML_FILES);
+		licenses = fixture.getLicenses();
+		exceptions = fixture.getExceptions();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	private void writeAll(ILicenseFormatWriter... writers) throws Exception {
+		for (ILicenseFormatWriter writer:writers) {
+			for (ListedLicenseContainer license:licenses) {
+				writer.writeLicense(license, false, null);
+			}
+			for (ListedExceptionContainer exception:exceptions) {
+				writer.writeException(exception);
+			}
+		}
+	}
+
+	@Test
+	public void testSerializedOncePerLicense() throws Exception {
+		assertFalse(exceptions.isEmpty());
+		RdfArtifactRegistry artifacts = new RdfArtifactRegistry();
+		File website = newFolder(tempDir, "website");
+		File rdfTurtle = newFolder(tempDir, "rdfturtle");
+		File jsonLd = newFolder(tempDir, "jsonld");
+		SpdxWebsiteFormatWriter websiteWriter = new SpdxWebsiteFormatWriter("3.25.0", "2026-01-01", website, artifacts, new JsonDetailRegistry());
+		LicenseRdfFormatWriter rdfWriter = new LicenseRdfFormatWriter(newFolder(tempDir, "rdfxml"), rdfTurtle,
+				newFolder(tempDir, "rdfnt"), jsonLd, true, artifacts);
+		for (ListedLicenseContainer license:licenses) {
+			websiteWriter.writeLicense(license, false, null);
+			rdfWriter.writeLicense(license, false, null);
+		}
+		for (ListedExceptionContainer exception:exceptions) {
+			websiteWriter.writeException(exception);
+			rdfWriter.writeException(exception);
+		}
+		assertEquals(licenses.size() + exceptions.size(), artifacts.getSerializationCount());
+		for (String name:new String[] {"BSD-3-Clause", exceptions.get(0).getV2Exception().getLicenseExceptionId()}) {
+			assertArrayEquals(Files.readAllBytes(new File(rdfTurtle, name + ".ttl").toPath()),
+					Files.readAllBytes(new File(website, name + ".ttl").toPath()));
+			assertArrayEquals(Files.readAllBytes(new File(jsonLd, name + ".jsonld").toPath()),
+					Files.readAllBytes(new File(website, name + ".jsonld").toPath()));
+		}
+	}
+
+	@Test
+	public void testSameGraphAsSeparateWriters() throws Exception {
+		File sharedWebsite = newFolder(tempDir, "shared");
+		File separateWebsite = newFolder(tempDir, "separate");
+		RdfArtifactRegistry artifacts = new RdfArtifactRegistry();
+		writeAll(new SpdxWebsiteFormatWriter("3.25.0", "2026-01-01", sharedWebsite, artifacts, new JsonDetailRegistry()),
+				new LicenseRdfFormatWriter(null, null, newFolder(tempDir, "rdfnt"), null, true, artifacts),
+				new SpdxWebsiteFormatWriter("3.25.0", "2026-01-01", separateWebsite));
+		for (String extension:new String[] {".ttl", ".jsonld"}) {
+			Model expected = RDFDataMgr.loadModel(new File(separateWebsite, "BSD-3-Clause" + extension).getPath());
+			assertTrue(expected.size() > 0);
+			assertTrue(extension, expected.isIsomorphicWith(RDFDataMgr.loadModel(new File(sharedWebsite, "BSD-3-Clause" + extension).getPath())));
+		}
+	}
+}
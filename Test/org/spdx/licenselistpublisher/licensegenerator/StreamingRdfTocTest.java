@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+
+public class StreamingRdfTocTest {
+
+	static final String[] LICENSE_XML_FILES = new String[] {"AGPL-3.0-only.xml", "BSD-3-Clause.xml",
+			"BSD-Protection.xml", "test-license.xml"};
+	static final String[] TOC_FILES = new String[] {"rdfnt/licenses.nt", "rdfturtle/licenses.ttl",
+			"rdfxml/licenses.rdf", "jsonld/licenses.jsonld"};
+
+	Path tempDir;
+	List<ListedLicenseContainer> licenses;
+	List<ListedExceptionContainer> exceptions;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("rdf-toc-test");
+		LicenseXmlFixture fixture = LicenseXmlFixture.parse(LICENSE_XML_FILES);
+		licenses = fixture.getLicenses();
+		exceptions = fixture.getExceptions();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	private File writeAll(String name, boolean streamToC) throws Exception {
+		File dir = tempDir.resolve(name).toFile();
+		File rdfXml = new File(dir, "rdfxml");
+		File rdfTurtle = new File(dir, "rdfturtle");
+		File rdfNt = new File(dir, "rdfnt");
+		File jsonLd = new File(dir, "jsonld");
+		for (File folder:new File[] {rdfXml, rdfTurtle, rdfNt, jsonLd}) {
+			assertTrue(folder.mkdirs());
+		}
+		LicenseRdfFormatWriter writer = new LicenseRdfFormatWriter(rdfXml, rdfTurtle, rdfNt, jsonLd, streamToC);
+		for (ListedLicenseContainer license:licenses) {
+			writer.writeLicense(license, false, null);
+		}
+		for (ListedExceptionContainer exception:exceptions) {
+			writer.writeException(exception);
+		}
+		writer.writeToC();
+		return dir;
+	}
+
+	@Test
+	public void testSameGraphAsModelToC() throws Exception {
+		assertFalse(exceptions.isEmpty());
+		File modelDir = writeAll("model", false);
+		File streamedDir = writeAll("streamed", true);
+		Model expected = RDFDataMgr.loadModel(new File(modelDir, TOC_FILES[0]).getPath());
+		assertTrue(expected.size() > 0);
+		for (String tocFile:TOC_FILES) {
+			Model result = RDFDataMgr.loadModel(new File(streamedDir, tocFile).getPath());
+			assertTrue(tocFile, expected.isIsomorphicWith(result));
+			assertTrue(tocFile, expected.isIsomorphicWith(RDFDataMgr.loadModel(new File(modelDir, tocFile).getPath())));
+			assertFalse(new File(streamedDir, tocFile + StreamingRdfToc.TEMP_FILE_SUFFIX).exists());
+		}
+		assertEquals("spdx", RDFDataMgr.loadModel(new File(streamedDir, TOC_FILES[1]).getPath()).getNsURIPrefix("http://spdx.org/rdf/terms#"));
+	}
+
+	@Test
+	public void testStableTurtleLayout() throws Exception {
+		String first = new String(Files.readAllBytes(new File(writeAll("first", true), TOC_FILES[1]).toPath()), StandardCharsets.UTF_8);
+		String second = new String(Files.readAllBytes(new File(writeAll("second", true), TOC_FILES[1]).toPath()), StandardCharsets.UTF_8);
+		assertEquals(first, second);
+		// one set of prefixes, the type first and the cross references nested
+		assertEquals(first.indexOf("PREFIX spdx:"), first.lastIndexOf("PREFIX spdx:"));
+		assertTrue(first.contains("<http://spdx.org/licenses/AGPL-3.0-only>\n        a "));
+		assertTrue(first.contains("spdx:crossRef                 [ a "));
+		assertFalse(first.contains("_:"));
+	}
+}
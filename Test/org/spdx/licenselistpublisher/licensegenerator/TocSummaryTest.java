@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.DefaultModelStore;
+import org.spdx.htmltemplates.ExceptionHtmlToc;
+import org.spdx.htmltemplates.LicenseTOCHTMLFile;
+import org.spdx.htmltemplates.LicenseTocRow;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.license.ListedLicenseException;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.storage.listedlicense.ExceptionJsonTOC;
+import org.spdx.storage.listedlicense.LicenseJsonTOC;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Tests for the table of contents summary shared by the format writers
+ */
+public class TocSummaryTest {
+
+	static final String VERSION = "3.25.0";
+	static final String RELEASE_DATE = "2026-01-01";
+
+	TocSummary summary;
+
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		DefaultModelStore.initialize(new InMemSpdxStore(), "https://mydoc.uri", new ModelCopyManager());
+		summary = new TocSummary();
+	}
+
+	private SpdxListedLicense license(String id, boolean osiApproved, Boolean fsfLibre) throws Exception {
+		return new SpdxListedLicense("Name of " + id, id, "text", Arrays.asList("https://" + id + ".example"),
+				"", "", "", osiApproved, fsfLibre, "", false, "");
+	}
+
+	@Test
+	public void testLicensesSortedById() throws Exception {
+		summary.addLicense(license("b-lic", true, null), false, null);
+		summary.addLicense(license("A-lic", false, true), false, null);
+		summary.addLicense(license("c-lic", false, false), true, "3.1");
+		List<LicenseTocRow> licenses = summary.getLicenses();
+		assertEquals(3, licenses.size());
+		assertEquals("A-lic", licenses.get(0).getLicenseId());
+		assertEquals(1, licenses.get(0).getIndex());
+		assertTrue(licenses.get(0).isFsfLibre());
+		assertEquals("b-lic", licenses.get(1).getLicenseId());
+		assertEquals(0, licenses.get(1).getIndex());
+		assertTrue(licenses.get(1).isOsiApproved());
+		assertNull(licenses.get(1).getFsfLibre());
+		assertFalse(licenses.get(1).isFsfLibre());
+		assertEquals(Arrays.asList("https://b-lic.example"), licenses.get(1).getSeeAlso());
+		assertEquals("c-lic", licenses.get(2).getLicenseId());
+		assertTrue(licenses.get(2).isDeprecated());
+		assertEquals("3.1", licenses.get(2).getDeprecatedVersion());
+		// rows added after the summary is read are included in the next read
+		summary.addLicense(license("0-lic", false, null), false, null);
+		assertEquals("0-lic", summary.getLicenses().get(0).getLicenseId());
+		assertEquals(3, licenses.size());
+	}
+
+	@Test
+	public void testFileName() throws Exception {
+		summary.addLicense(license("..", false, null), false, null);
+		assertEquals(LicenseHtmlFormatWriter.formLicenseHTMLFileName(".."), summary.getLicenses().get(0).getFileName());
+	}
+
+	@Test
+	public void testJsonToc() throws Exception {
+		summary.addLicense(license("b-lic", true, null), false, null);
+		summary.addLicense(license("a-lic", false, true), true, "3.1");
+		summary.addException(new ListedLicenseException("b-exc", "Name of b-exc", "text"), false, null);
+		summary.addException(new ListedLicenseException("a-exc", "Name of a-exc", "text"), true, "3.2");
+		LicenseJsonTOC licenseToc = LicenseJsonFormatWriter.licenseJsonToc(VERSION, RELEASE_DATE, summary);
+		assertEquals(VERSION, licenseToc.getLicenseListVersion());
+		assertEquals(2, licenseToc.getLicenses().size());
+		LicenseJsonTOC.LicenseJson first = licenseToc.getLicenses().get(0);
+		assertEquals("a-lic", first.getLicenseId());
+		assertEquals(1, first.getReferenceNumber());
+		assertEquals("https://spdx.org/licenses/a-lic.html", first.getReference());
+		assertEquals("https://spdx.org/licenses/a-lic.json", first.getDetailsUrl());
+		assertTrue(first.isDeprecatedLicenseId());
+		assertEquals(0, licenseToc.getLicenses().get(1).getReferenceNumber());
+		ExceptionJsonTOC exceptionToc = LicenseJsonFormatWriter.exceptionJsonToc(VERSION, RELEASE_DATE, summary);
+		assertEquals(2, exceptionToc.getExceptions().size());
+		ExceptionJsonTOC.ExceptionJson firstException = exceptionToc.getExceptions().get(0);
+		assertEquals("a-exc", firstException.getLicenseExceptionId());
+		assertEquals(2, firstException.getReferenceNumber());
+		assertEquals("https://spdx.org/licenses/a-exc.html", firstException.getReference());
+		assertEquals("https://spdx.org/licenses/a-exc.json", firstException.getDetailsUrl());
+		assertTrue(firstException.isDeprecatedLicenseId());
+		assertEquals(1, exceptionToc.getExceptions().get(1).getReferenceNumber());
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testDeprecatedHtmlTocAdapters() throws Exception {
+		SpdxListedLicense bLicense = license("b-lic", true, null);
+		SpdxListedLicense aLicense = license("a-lic", false, true);
+		aLicense.setDeprecated(true);
+		aLicense.setDeprecatedVersion("3.1");
+		ListedLicenseException bException = new ListedLicenseException("b-exc", "Name of b-exc", "text");
+		ListedLicenseException aException = new ListedLicenseException("a-exc", "Name of a-exc", "text");
+		summary.addLicense(bLicense, false, null);
+		summary.addLicense(aLicense, true, "3.1");
+		summary.addException(bException, false, null);
+		summary.addException(aException, true, "3.2");
+
+		LicenseTOCHTMLFile added = new LicenseTOCHTMLFile(VERSION, RELEASE_DATE);
+		added.addLicense(bLicense, "./b-lic.html");
+		added.addDeprecatedLicense(aLicense, "./a-lic.html");
+		StringWriter expected = new StringWriter();
+		new LicenseTOCHTMLFile(VERSION, RELEASE_DATE, summary).writeTo(expected);
+		StringWriter result = new StringWriter();
+		added.writeTo(result);
+		assertEquals(expected.toString(), result.toString());
+
+		ExceptionHtmlToc addedExceptions = new ExceptionHtmlToc();
+		addedExceptions.addException(bException, "./b-exc.html");
+		addedExceptions.addDeprecatedException(aException, "./a-exc.html", "3.2");
+		expected = new StringWriter();
+		new ExceptionHtmlToc(summary, true).writeTo(expected, VERSION);
+		result = new StringWriter();
+		addedExceptions.writeTo(result, VERSION);
+		assertEquals(expected.toString(), result.toString());
+
+		try {
+			new LicenseTOCHTMLFile(VERSION, RELEASE_DATE, summary).addLicense(bLicense, "./b-lic.html");
+			fail("Licenses can not be added to shared rows through the table of contents");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+}
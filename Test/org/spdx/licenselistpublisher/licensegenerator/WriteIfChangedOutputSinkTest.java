@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WriteIfChangedOutputSinkTest {
+
+	static final FileTime OLD_TIME = FileTime.fromMillis(1000000000000L);
+
+	Path tempDir;
+	File root;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("write-if-changed-test");
+		root = tempDir.resolve("output").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	private void writeFiles(WriteIfChangedOutputSink outputSink, String mitText) throws Exception {
+		outputSink.write(new File(root, "text/MIT.txt"), mitText.getBytes(StandardCharsets.UTF_8));
+		try (Writer writer = outputSink.newWriter(new File(root, "text/Apache-2.0.txt"))) {
+			writer.write("Apache License");
+		}
+		outputSink.close();
+	}
+
+	private void setOldTime() throws Exception {
+		Files.setLastModifiedTime(new File(root, "text/MIT.txt").toPath(), OLD_TIME);
+		Files.setLastModifiedTime(new File(root, "text/Apache-2.0.txt").toPath(), OLD_TIME);
+	}
+
+	@Test
+	public void testSkipUnchanged() throws Exception {
+		WriteIfChangedOutputSink outputSink = new WriteIfChangedOutputSink(root);
+		writeFiles(outputSink, "MIT License");
+		assertEquals(2, outputSink.getFilesWritten());
+		assertEquals(0, outputSink.getFilesUnchanged());
+		setOldTime();
+
+		outputSink = new WriteIfChangedOutputSink(root);
+		writeFiles(outputSink, "MIT License");
+		assertEquals(0, outputSink.getFilesWritten());
+		assertEquals(2, outputSink.getFilesUnchanged());
+		assertEquals(OLD_TIME, Files.getLastModifiedTime(new File(root, "text/MIT.txt").toPath()));
+
+		// same size, different content
+		outputSink = new WriteIfChangedOutputSink(root);
+		writeFiles(outputSink, "MIT Licence");
+		assertEquals(1, outputSink.getFilesWritten());
+		assertEquals(1, outputSink.getFilesUnchanged());
+		assertEquals("Wrote 1 changed files, skipped 1 unchanged files", outputSink.getStatistics());
+		assertEquals("MIT Licence", new String(Files.readAllBytes(new File(root, "text/MIT.txt").toPath()), StandardCharsets.UTF_8));
+		assertEquals(OLD_TIME, Files.getLastModifiedTime(new File(root, "text/Apache-2.0.txt").toPath()));
+	}
+
+	@Test
+	public void testManifest() throws Exception {
+		File manifest = tempDir.resolve("manifest/output.sha256").toFile();
+		WriteIfChangedOutputSink outputSink = new WriteIfChangedOutputSink(root, manifest);
+		writeFiles(outputSink, "MIT License");
+		List<String> lines = Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8);
+		assertEquals(2, lines.size());
+		assertEquals(WriteIfChangedOutputSink.hash("MIT License".getBytes(StandardCharsets.UTF_8)) + " 11 text/MIT.txt", lines.get(1));
+		setOldTime();
+
+		outputSink = new WriteIfChangedOutputSink(root, manifest);
+		writeFiles(outputSink, "MIT License");
+		assertEquals(0, outputSink.getFilesWritten());
+		assertEquals(2, outputSink.getFilesUnchanged());
+
+		// a file changed on disk since the manifest was written is rewritten
+		Files.write(new File(root, "text/MIT.txt").toPath(), "Changed".getBytes(StandardCharsets.UTF_8));
+		outputSink = new WriteIfChangedOutputSink(root, manifest);
+		writeFiles(outputSink, "MIT License");
+		assertEquals(1, outputSink.getFilesWritten());
+		assertEquals("MIT License", new String(Files.readAllBytes(new File(root, "text/MIT.txt").toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testVariantsUnchanged() throws Exception {
+		File json = new File(root, "licenses.json");
+		WriteIfChangedOutputSink outputSink = new WriteIfChangedOutputSink(root);
+		outputSink.write(json, "{\n  \"licenseId\": \"MIT\"\n}".getBytes(StandardCharsets.UTF_8));
+		OutputVariants variants = new OutputVariants(outputSink);
+		variants.add(json);
+		variants.await();
+		assertEquals(4, outputSink.getFilesWritten());
+		File compressed = OutputVariants.compressedFile(json);
+		Files.setLastModifiedTime(compressed.toPath(), OLD_TIME);
+
+		outputSink = new WriteIfChangedOutputSink(root);
+		variants = new OutputVariants(outputSink);
+		variants.add(json);
+		variants.await();
+		assertEquals(0, outputSink.getFilesWritten());
+		assertEquals(3, outputSink.getFilesUnchanged());
+		assertEquals(OLD_TIME, Files.getLastModifiedTime(compressed.toPath()));
+	}
+}
@@ -250,6 +250,39 @@ public class LicenseXmlDocumentTest {
 		assertTrue(UnitTestHelper.isCollectionsEqual(TEST_EXCEPTION_URLS, v3Exception.getSeeAlsos()));
 	}
 
+	@Test
+	public void testV3CreatedOnFirstUse() throws LicenseXmlException, InvalidSPDXAnalysisException {
+		File licenseFile = new File(TEST_FILE_PATH);
+		LicenseXmlDocument doc = new LicenseXmlDocument(licenseFile, v2ModelStore, v3ModelStore, copyManager, creationInfo);
+		doc.setCreateV3OnFirstUse(true);
+		ListedLicenseContainer licenseContainer = doc.getListedLicenses().get(0);
+		ListedExceptionContainer exceptionContainer = doc.getLicenseExceptions().get(0);
+		String licenseUri = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + licenseContainer.getV2ListedLicense().getLicenseId();
+		String exceptionUri = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + TEST_EXCEPTION_ID;
+		assertFalse(licenseContainer.isV3ListedLicenseCreated());
+		assertNull(licenseContainer.getV3ListedLicense());
+		assertFalse(v3ModelStore.exists(licenseUri));
+		assertFalse(exceptionContainer.isV3ExceptionCreated());
+		assertFalse(v3ModelStore.exists(exceptionUri));
+		// changes made to the V2 text and FSF libre flag before the V3 models are created are included
+		licenseContainer.getV2ListedLicense().setLicenseText("changed license text");
+		licenseContainer.getV2ListedLicense().setFsfLibre(null);
+		exceptionContainer.getV2Exception().setLicenseExceptionText("changed exception text");
+		ListedLicense v3License = licenseContainer.getOrCreateV3ListedLicense();
+		assertTrue(licenseContainer.isV3ListedLicenseCreated());
+		assertTrue(v3ModelStore.exists(licenseUri));
+		assertSame(v3License, licenseContainer.getV3ListedLicense());
+		assertEquals("changed license text", v3License.getLicenseText());
+		assertFalse(v3License.getIsFsfLibre().isPresent());
+		assertEquals(licenseContainer.getV2ListedLicense().getName(), v3License.getName().get());
+		assertEquals(RELEASE_DATE, v3License.getCreationInfo().getCreated());
+		ListedLicenseException v3Exception = exceptionContainer.getOrCreateV3Exception();
+		assertTrue(exceptionContainer.isV3ExceptionCreated());
+		assertSame(v3Exception, exceptionContainer.getV3Exception());
+		assertEquals("changed exception text", v3Exception.getAdditionText());
+		assertEquals(TEST_EXCEPTION_NAME, v3Exception.getName().get());
+	}
+
 	@Test
 	public void testParserBehavior() throws ParserConfigurationException, SAXException, IOException {
 		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
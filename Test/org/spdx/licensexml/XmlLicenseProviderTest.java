@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ *
+ */
+
+package org.spdx.licensexml;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.storage.IModelStore;
+
+/**
+ * Tests for the shared and per file model stores of the XmlLicenseProvider
+ */
+public class XmlLicenseProviderTest {
+
+	static final String[] LICENSE_FILES = new String[] {"AGPL-3.0-only.xml", "BSD-3-Clause.xml"};
+	static final String EXCEPTION_FILE = "test-license.xml";
+	static final String VERSION = "3.25.0";
+	static final String RELEASE_DATE = "2026-01-01T00:00:00Z";
+
+	Path xmlDir;
+
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		xmlDir = Files.createTempDirectory("xml-license-provider-test");
+		for (String fileName:LICENSE_FILES) {
+			FileUtils.copyFile(new File("TestFiles", fileName), xmlDir.resolve(fileName).toFile());
+		}
+		FileUtils.copyFile(new File("TestFiles", EXCEPTION_FILE), xmlDir.resolve(EXCEPTION_FILE).toFile());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(xmlDir.toFile());
+	}
+
+	private List<ListedLicenseContainer> licenses(XmlLicenseProvider provider) throws Exception {
+		List<ListedLicenseContainer> retval = new ArrayList<>();
+		Iterator<ListedLicenseContainer> iter = provider.getLicenseIterator();
+		while (iter.hasNext()) {
+			retval.add(iter.next());
+		}
+		retval.sort((a, b) -> a.getV2ListedLicense().getLicenseId().compareTo(b.getV2ListedLicense().getLicenseId()));
+		return retval;
+	}
+
+	@Test
+	public void testSharedStores() throws Exception {
+		XmlLicenseProvider provider = new XmlLicenseProvider(xmlDir.toFile(), VERSION, RELEASE_DATE);
+		assertFalse(provider.isPerFileStores());
+		for (ListedLicenseContainer license:licenses(provider)) {
+			assertSame(provider.v2ModelStore, license.getV2ListedLicense().getModelStore());
+			assertSame(provider.v3ModelStore, license.getV3ListedLicense().getModelStore());
+		}
+	}
+
+	@Test
+	public void testPerFileStores() throws Exception {
+		XmlLicenseProvider provider = new XmlLicenseProvider(xmlDir.toFile(), VERSION, RELEASE_DATE);
+		provider.setPerFileStores(true);
+		List<ListedLicenseContainer> perFile = licenses(provider);
+		List<ListedLicenseContainer> shared = licenses(new XmlLicenseProvider(xmlDir.toFile(), VERSION, RELEASE_DATE));
+		assertEquals(shared.size(), perFile.size());
+		Set<IModelStore> stores = new HashSet<>();
+		for (int i = 0; i < perFile.size(); i++) {
+			ListedLicenseContainer license = perFile.get(i);
+			assertNotSame(provider.v2ModelStore, license.getV2ListedLicense().getModelStore());
+			assertNotSame(provider.v3ModelStore, license.getV3ListedLicense().getModelStore());
+			stores.add(license.getV2ListedLicense().getModelStore());
+			assertNotSame(license.getV2ListedLicense().getModelStore(), license.getV3ListedLicense().getModelStore());
+			assertEquals(shared.get(i).getV2ListedLicense().getLicenseId(), license.getV2ListedLicense().getLicenseId());
+			assertEquals(shared.get(i).getV2ListedLicense().getLicenseText(), license.getV2ListedLicense().getLicenseText());
+			assertEquals(shared.get(i).getV3ListedLicense().getLicenseText(), license.getV3ListedLicense().getLicenseText());
+			assertEquals(shared.get(i).getV3ListedLicense().getCreationInfo().getCreated(),
+					license.getV3ListedLicense().getCreationInfo().getCreated());
+		}
+		// one store for each file
+		assertEquals(LICENSE_FILES.length + 1, stores.size());
+		Iterator<ListedExceptionContainer> exceptions = provider.getExceptionIterator();
+		assertTrue(exceptions.hasNext());
+		ListedExceptionContainer exception = exceptions.next();
+		assertFalse(stores.contains(exception.getV2Exception().getModelStore()));
+		// nothing is added to the stores shared by the provider
+		assertEquals(0, provider.v2ModelStore.getAllItems(null, null).count());
+		assertEquals(0, provider.v3ModelStore.getAllItems(null, null)
+				.filter(tv -> tv.getType().contains("ListedLicense")).count());
+	}
+
+	/**
+	 * @param iter iterator positioned on the first license
+	 * @return weak reference to the model store of the first license - no strong reference is kept by the caller
+	 */
+	private WeakReference<IModelStore> firstStore(Iterator<ListedLicenseContainer> iter) throws Exception {
+		return new WeakReference<>(iter.next().getV2ListedLicense().getModelStore());
+	}
+
+	@Test
+	public void testPerFileStoresReleased() throws Exception {
+		XmlLicenseProvider provider = new XmlLicenseProvider(xmlDir.toFile(), VERSION, RELEASE_DATE);
+		provider.setPerFileStores(true);
+		Iterator<ListedLicenseContainer> iter = provider.getLicenseIterator();
+		assertTrue(iter.hasNext());
+		WeakReference<IModelStore> first = firstStore(iter);
+		int count = 1;
+		while (iter.hasNext()) {
+			iter.next();
+			count++;
+		}
+		assertEquals(licenses(new XmlLicenseProvider(xmlDir.toFile(), VERSION, RELEASE_DATE)).size(), count);
+		for (int i = 0; i < 50 && first.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull("The model store of a consumed license is still reachable", first.get());
+	}
+}
@@ -25,6 +25,9 @@ import org.slf4j.LoggerFactory;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.license.CrossRef;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenselistpublisher.GeneratorMetrics;
+import org.spdx.licenselistpublisher.jfr.UrlCheckedEvent;
+import org.spdx.licenselistpublisher.licensegenerator.CompiledLicenseTemplate;
 
 /**
  * Helper class that provides details for each url in the array it receives
@@ -49,6 +52,16 @@ public class CrossRefHelper implements Callable<Collection<CrossRef>> {
      * @throws InvalidSPDXAnalysisException 
 	 */
 	public static Collection<CrossRef> buildUrlDetails(SpdxListedLicense license) throws InvalidSPDXAnalysisException {
+		return buildUrlDetails(license, CompiledLicenseTemplate.forLicense(license));
+	}
+
+	/**
+	 * @param license license
+	 * @param template compiled template for the license shared by all URLs
+	 * @return urlDetails the Array of CrossRefs containing the details from the SeeAlso or existing CrossRef array
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static Collection<CrossRef> buildUrlDetails(SpdxListedLicense license, CompiledLicenseTemplate template) throws InvalidSPDXAnalysisException {
 		Collection<CrossRef> crossRefs;
 		crossRefs = license.getCrossRef();
 		if (crossRefs.size() == 0) {
@@ -60,10 +73,26 @@ public class CrossRefHelper implements Callable<Collection<CrossRef>> {
 		    Optional<String> crossRefUrl = crossRef.getUrl();
 		    if (crossRefUrl.isPresent()) {
     			String url = crossRefUrl.get();
-    			if (OsiApi.isOsiUrl(url) && OsiApi.getInstance().isApiAvailable()) {
-    				OsiApi.getInstance().setCrossRefDetails(url, license, crossRef);
+    			UrlCheckedEvent event = new UrlCheckedEvent();
+    			event.begin();
+    			boolean osi = OsiApi.isOsiUrl(url) && OsiApi.getInstance().isApiAvailable();
+    			if (osi) {
+    				try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_OSI_LOOKUP, url)) {
+    					OsiApi.getInstance().setCrossRefDetails(url, license, crossRef);
+    				}
     			} else {
-    				setCrossRefDetails(url, license, crossRef);
+    				try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_CROSS_REF_URL, url)) {
+    					setCrossRefDetails(url, license, template, crossRef);
+    				}
+    			}
+    			event.end();
+    			if (event.shouldCommit()) {
+    				event.licenseId = license.getLicenseId();
+    				event.url = url;
+    				event.osi = osi;
+    				event.live = crossRef.getLive().orElse(false);
+    				event.match = crossRef.getMatch().orElse(null);
+    				event.commit();
     			}
 		    }
 		}
@@ -74,16 +103,17 @@ public class CrossRefHelper implements Callable<Collection<CrossRef>> {
 	 * Set the cross ref details based on information available from the internet at that URL
 	 * @param url URL of the site
 	 * @param license associated with the crossRef
+	 * @param template compiled template for the license
 	 * @param crossRef details will be added for this crossRef
 	 * @throws InvalidSPDXAnalysisException 
 	 */
-	private static void setCrossRefDetails(String url, SpdxListedLicense license, CrossRef crossRef) throws InvalidSPDXAnalysisException {
+	private static void setCrossRefDetails(String url, SpdxListedLicense license, CompiledLicenseTemplate template, CrossRef crossRef) throws InvalidSPDXAnalysisException {
 		try {
 			Boolean isValidUrl = Valid.urlValidator(url);
 	    	Boolean isLiveUrl = isValidUrl ? Live.urlLinkExists(url) : false;
 	    	Boolean isWaybackUrl = isValidUrl ? Wayback.isWayBackUrl(url) : false;
 	    	String currentDate = Timestamp.getTimestamp();
-	    	String matchStatus = isLiveUrl ? Match.checkMatch(url, license) : "N/A";
+	    	String matchStatus = isLiveUrl ? Match.checkMatch(url, license, template) : "N/A";
 	    	crossRef.setDetails(isValidUrl, isLiveUrl, isWaybackUrl, matchStatus, currentDate);
 	    } catch (Exception e) {
 	    	logger.error("Unexpected exception",e.getMessage());
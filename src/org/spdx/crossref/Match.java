@@ -18,13 +18,17 @@
 package org.spdx.crossref;
 
 import java.io.IOException;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
+import javax.annotation.Nullable;
+
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenselistpublisher.licensegenerator.CompiledLicenseTemplate;
 import org.spdx.utility.compare.LicenseCompareHelper;
 
 public class Match implements Callable<String> {
@@ -45,9 +49,22 @@ public class Match implements Callable<String> {
 	 * @return match; the match status
 	 */
     public static String checkMatch(String url, SpdxListedLicense license){
+    	return checkMatch(url, license, null);
+    }
+
+	/**
+	 * @param url the url in string form
+	 * @param license the license
+	 * @param template optional compiled template for the license - if null, the template is parsed for this URL
+	 * @return match; the match status
+	 */
+    public static String checkMatch(String url, SpdxListedLicense license, @Nullable CompiledLicenseTemplate template){
     	try {
 			Document doc = Jsoup.connect(url).timeout(30000).get();
 			String bodyText = doc.body().text();
+			if (Objects.nonNull(template)) {
+				return String.valueOf(template.isWithinText(bodyText));
+			}
 			return String.valueOf(LicenseCompareHelper.isStandardLicenseWithinText(bodyText, license));
 		} catch (IOException e) {
 			logger.warn("IO exception comparing license text for license ID {} and URL {}: {}", url,
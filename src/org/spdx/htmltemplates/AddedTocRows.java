@@ -0,0 +1,69 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.htmltemplates;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.license.LicenseException;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+
+/**
+ * Rows added one at a time through the deprecated add methods of the HTML tables of contents
+ *
+ */
+class AddedTocRows implements TocRows {
+
+	private static final String REFERENCE_PREFIX = "./";
+	private static final String REFERENCE_SUFFIX = ".html";
+
+	private final List<LicenseTocRow> licenses = new ArrayList<>();
+	private final List<ExceptionTocRow> exceptions = new ArrayList<>();
+
+	/**
+	 * @param reference reference to the HTML file in the form ./{file name}.html
+	 * @return base name of the file without an extension
+	 */
+	static String fileName(String reference) {
+		String retval = reference;
+		if (retval.startsWith(REFERENCE_PREFIX)) {
+			retval = retval.substring(REFERENCE_PREFIX.length());
+		}
+		if (retval.endsWith(REFERENCE_SUFFIX)) {
+			retval = retval.substring(0, retval.length() - REFERENCE_SUFFIX.length());
+		}
+		return retval;
+	}
+
+	void addLicense(SpdxListedLicense license, String reference, boolean deprecated,
+			@Nullable String deprecatedVersion) throws InvalidSPDXAnalysisException {
+		licenses.add(new LicenseTocRow(licenses.size(), license.getLicenseId(), license.getName(), fileName(reference),
+				license.isOsiApproved(), license.getFsfLibre(), deprecated, deprecatedVersion,
+				new ArrayList<>(license.getSeeAlso())));
+	}
+
+	void addException(LicenseException exception, String reference, boolean deprecated,
+			@Nullable String deprecatedVersion) throws InvalidSPDXAnalysisException {
+		exceptions.add(new ExceptionTocRow(exceptions.size(), exception.getLicenseExceptionId(), exception.getName(),
+				fileName(reference), deprecated, deprecatedVersion, new ArrayList<>(exception.getSeeAlso())));
+	}
+
+	@Override
+	public List<LicenseTocRow> getLicenses() {
+		List<LicenseTocRow> retval = new ArrayList<>(licenses);
+		retval.sort(LicenseTocRow.ID_ORDER);
+		return retval;
+	}
+
+	@Override
+	public List<ExceptionTocRow> getExceptions() {
+		List<ExceptionTocRow> retval = new ArrayList<>(exceptions);
+		retval.sort(ExceptionTocRow.ID_ORDER);
+		return retval;
+	}
+}
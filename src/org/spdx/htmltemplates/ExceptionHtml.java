@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.Map;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.license.ListedLicenseException;
 import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
+import org.spdx.licenselistpublisher.licensegenerator.ExceptionSnapshot;
 
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
@@ -64,6 +66,19 @@ public class ExceptionHtml {
 		mustacheMap.put("deprecatedVersion", exception.getDeprecatedVersion());
 	}
 
+	/**
+	 * @param exception snapshot of the exception
+	 */
+	public ExceptionHtml(ExceptionSnapshot exception) {
+		mustacheMap.put("name", exception.getName());
+		mustacheMap.put("id", exception.getLicenseExceptionId());
+		mustacheMap.put("text", exception.getExceptionTextHtml());
+		mustacheMap.put("getSourceUrl", new ArrayList<>(exception.getSeeAlso()));
+		mustacheMap.put("notes", exception.getComment());
+		mustacheMap.put("deprecated", exception.isDeprecated());
+		mustacheMap.put("deprecatedVersion", exception.getDeprecatedVersion());
+	}
+
 	/**
 	 * @param exceptionHtmlFile
 	 * @param exceptionHtmlTocReference
@@ -72,7 +87,6 @@ public class ExceptionHtml {
 	 */
 	public void writeToFile(File exceptionHtmlFile,
 			String exceptionHtmlTocReference) throws IOException, MustacheException {
-		mustacheMap.put("exceptionTocReference", exceptionHtmlTocReference);
         if (!exceptionHtmlFile.exists()) {
 			if (!exceptionHtmlFile.createNewFile()) {
 				throw(new IOException("Can not create new file "+exceptionHtmlFile.getName()));
@@ -80,9 +94,19 @@ public class ExceptionHtml {
 		}
 
         try (FileOutputStream stream = new FileOutputStream(exceptionHtmlFile); OutputStreamWriter writer = new OutputStreamWriter(stream, "UTF-8")) {
-            DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
-            Mustache mustache = builder.compile(HTML_TEMPLATE);
-            mustache.execute(writer, mustacheMap);
+            writeTo(writer, exceptionHtmlTocReference);
         }
 	}
+
+	/**
+	 * @param writer writer for the exception HTML - not closed
+	 * @param exceptionHtmlTocReference
+	 * @throws MustacheException
+	 */
+	public void writeTo(Writer writer, String exceptionHtmlTocReference) throws MustacheException {
+		mustacheMap.put("exceptionTocReference", exceptionHtmlTocReference);
+		DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
+		Mustache mustache = builder.compile(HTML_TEMPLATE);
+		mustache.execute(writer, mustacheMap);
+	}
 }
@@ -20,8 +20,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -207,31 +207,56 @@ public class ExceptionHtmlToc {
 		}
 	}
 
-	List<ExceptionRow> exceptions = new ArrayList<>();
-	List<DeprecatedExceptionRow> deprecatedExceptions = new ArrayList<>();
+	private final TocRows tocRows;
+	private final boolean listDeprecatedSeparately;
 
-	int currentRefNum = 1;
+	/**
+	 * @deprecated use <code>ExceptionHtmlToc(TocRows, boolean)</code> with the rows shared by the writers
+	 */
+	@Deprecated
+	public ExceptionHtmlToc() {
+		this(new AddedTocRows(), true);
+	}
 
 	/**
-	 * Add an exception to the table of contents
-	 * @param exception
-	 * @param exceptionHTMLReference
-	 * @throws InvalidSPDXAnalysisException 
+	 * @param tocRows rows of the exceptions to list
+	 * @param listDeprecatedSeparately if true, deprecated exceptions are listed in a separate table
 	 */
+	public ExceptionHtmlToc(TocRows tocRows, boolean listDeprecatedSeparately) {
+		this.tocRows = tocRows;
+		this.listDeprecatedSeparately = listDeprecatedSeparately;
+	}
+
+	/**
+	 * @param exception exception to add
+	 * @param exceptionHTMLReference reference to the exception HTML file in the form ./{file name}.html
+	 * @throws InvalidSPDXAnalysisException on errors reading the exception
+	 * @deprecated add the exception to the rows passed to the constructor
+	 */
+	@Deprecated
 	public void addException(LicenseException exception,
 			String exceptionHTMLReference) throws InvalidSPDXAnalysisException {
-		exceptions.add(new ExceptionRow(
-				StringEscapeUtils.escapeHtml4(exception.getLicenseExceptionId()),
-				StringEscapeUtils.escapeHtml4(exception.getName()),
-				currentRefNum++, exceptionHTMLReference));
+		addedRows().addException(exception, exceptionHTMLReference, false, null);
 	}
 
+	/**
+	 * @param exception deprecated exception to add
+	 * @param exceptionHTMLReference reference to the exception HTML file in the form ./{file name}.html
+	 * @param deprecatedVersion license list version the exception was deprecated in
+	 * @throws InvalidSPDXAnalysisException on errors reading the exception
+	 * @deprecated add the exception to the rows passed to the constructor
+	 */
+	@Deprecated
 	public void addDeprecatedException(LicenseException exception,
 			String exceptionHTMLReference, String deprecatedVersion) throws InvalidSPDXAnalysisException {
-		deprecatedExceptions.add(new DeprecatedExceptionRow(
-				StringEscapeUtils.escapeHtml4(exception.getLicenseExceptionId()),
-				StringEscapeUtils.escapeHtml4(exception.getName()),
-				currentRefNum++, exceptionHTMLReference, deprecatedVersion));
+		addedRows().addException(exception, exceptionHTMLReference, true, deprecatedVersion);
+	}
+
+	private AddedTocRows addedRows() {
+		if (!(tocRows instanceof AddedTocRows)) {
+			throw new IllegalStateException("Exceptions must be added to the rows passed to the constructor");
+		}
+		return (AddedTocRows)tocRows;
 	}
 
 	/**
@@ -242,29 +267,47 @@ public class ExceptionHtmlToc {
 	 * @throws MustacheException
 	 */
 	public void writeToFile(File exceptionTocFile, String version) throws MustacheException, IOException {
-
-		Map<String, Object> mustacheMap = new HashMap<>();
-		mustacheMap.put("version", StringEscapeUtils.escapeHtml4(version));
-		exceptions.sort(new Comparator<ExceptionRow>() {
-
-			@Override
-			public int compare(ExceptionRow arg0, ExceptionRow arg1) {
-				return arg0.getLicenseExceptionId().compareToIgnoreCase(arg1.getLicenseExceptionId());
-			}
-
-		});
-		mustacheMap.put("listedExceptions", exceptions);
-		mustacheMap.put("deprecatedExceptions", deprecatedExceptions);
         if (!exceptionTocFile.exists()) {
 			if (!exceptionTocFile.createNewFile()) {
 				throw(new IOException("Can not create new file "+exceptionTocFile.getName()));
 			}
 		}
         try (FileOutputStream stream = new FileOutputStream(exceptionTocFile); OutputStreamWriter writer = new OutputStreamWriter(stream, "UTF-8")) {
-            DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
-            Mustache mustache = builder.compile(HTML_TEMPLATE);
-            mustache.execute(writer, mustacheMap);
+            writeTo(writer, version);
         }
 	}
 
+	/**
+	 * Creates and writes an Exception Table of Contents
+	 * @param writer writer for the table of contents - not closed
+	 * @param version Version of the License List
+	 * @throws MustacheException
+	 */
+	public void writeTo(Writer writer, String version) throws MustacheException {
+
+		Map<String, Object> mustacheMap = new HashMap<>();
+		mustacheMap.put("version", StringEscapeUtils.escapeHtml4(version));
+		List<ExceptionRow> exceptions = new ArrayList<>();
+		List<DeprecatedExceptionRow> deprecatedExceptions = new ArrayList<>();
+		for (ExceptionTocRow exception:tocRows.getExceptions()) {
+			String reference = "./" + exception.getFileName() + ".html";
+			if (listDeprecatedSeparately && exception.isDeprecated()) {
+				deprecatedExceptions.add(new DeprecatedExceptionRow(
+						StringEscapeUtils.escapeHtml4(exception.getLicenseExceptionId()),
+						StringEscapeUtils.escapeHtml4(exception.getName()),
+						exception.getIndex() + 1, reference, exception.getDeprecatedVersion()));
+			} else {
+				exceptions.add(new ExceptionRow(
+						StringEscapeUtils.escapeHtml4(exception.getLicenseExceptionId()),
+						StringEscapeUtils.escapeHtml4(exception.getName()),
+						exception.getIndex() + 1, reference));
+			}
+		}
+		mustacheMap.put("listedExceptions", exceptions);
+		mustacheMap.put("deprecatedExceptions", deprecatedExceptions);
+        DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
+        Mustache mustache = builder.compile(HTML_TEMPLATE);
+        mustache.execute(writer, mustacheMap);
+	}
+
 }
@@ -0,0 +1,85 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.htmltemplates;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Table of contents row for a license exception
+ *
+ */
+public class ExceptionTocRow {
+
+	/**
+	 * Order of the rows in the table of contents
+	 */
+	public static final Comparator<ExceptionTocRow> ID_ORDER = Comparator.comparing(ExceptionTocRow::getLicenseExceptionId, String::compareToIgnoreCase);
+
+	private final int index;
+	private final String licenseExceptionId;
+	private final String name;
+	private final String fileName;
+	private final boolean deprecated;
+	private final @Nullable String deprecatedVersion;
+	private final List<String> seeAlso;
+
+	/**
+	 * @param index order the exception was added to the table of contents starting at 0
+	 * @param licenseExceptionId ID of the exception
+	 * @param name name of the exception
+	 * @param fileName base name of the files for the exception without an extension
+	 * @param deprecated true if the exception is deprecated
+	 * @param deprecatedVersion license list version the exception was deprecated in, null if not deprecated
+	 * @param seeAlso URLs for the exception
+	 */
+	public ExceptionTocRow(int index, String licenseExceptionId, String name, String fileName, boolean deprecated,
+			@Nullable String deprecatedVersion, List<String> seeAlso) {
+		this.index = index;
+		this.licenseExceptionId = licenseExceptionId;
+		this.name = name;
+		this.fileName = fileName;
+		this.deprecated = deprecated;
+		this.deprecatedVersion = deprecatedVersion;
+		this.seeAlso = Collections.unmodifiableList(seeAlso);
+	}
+
+	/**
+	 * @return order the exception was added to the table of contents starting at 0
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public String getLicenseExceptionId() {
+		return licenseExceptionId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return base name of the files for the exception without an extension
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	public boolean isDeprecated() {
+		return deprecated;
+	}
+
+	public @Nullable String getDeprecatedVersion() {
+		return deprecatedVersion;
+	}
+
+	public List<String> getSeeAlso() {
+		return seeAlso;
+	}
+}
@@ -20,9 +20,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,9 +33,10 @@ import org.spdx.crossref.Live;
 import org.spdx.crossref.Timestamp;
 import org.spdx.crossref.Valid;
 import org.spdx.crossref.Wayback;
-import org.spdx.library.model.v2.license.CrossRef;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseSnapshot;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseSnapshot.CrossRefSnapshot;
 
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
@@ -52,38 +52,6 @@ public class LicenseHTMLFile {
 
 	static final String TEMPLATE_FILE_NAME = "LicenseHTMLTemplate.html";
 
-	static Comparator<CrossRef> licenseComparator =	new Comparator<CrossRef>() {
-
-        @Override
-        public int compare(CrossRef o1, CrossRef o2) {
-            Optional<Integer> order1;
-            try {
-                order1 = o1.getOrder();
-            } catch (InvalidSPDXAnalysisException e) {
-                order1 = Optional.empty();
-            }
-            Optional<Integer> order2;
-            try {
-                order2 = o2.getOrder();
-            } catch (InvalidSPDXAnalysisException e) {
-                order2 = Optional.empty();;
-            }
-            if (order1.isPresent()) {
-                if (order2.isPresent()) {
-                    return order1.get().compareTo(order2.get());
-                } else {
-                    return -1;
-                }
-            } else {
-                if (order2.isPresent()) {
-                    return 0;
-                } else {
-                    return 1;
-                }
-            }
-        }
-    };
-    
 	/**
 	 * Parses a URL and stores the site name and the original URL
 	 * @author Gary O'Neall
@@ -141,6 +109,7 @@ public class LicenseHTMLFile {
 		public String getTimestamp() { return this.timestamp; }
 	}
 	private SpdxListedLicense license;
+	private LicenseSnapshot licenseSnapshot = null;
 	/**
 	 * @param license Listed license to be used
 	 */
@@ -164,6 +133,16 @@ public class LicenseHTMLFile {
 	 */
 	public void setLicense(SpdxListedLicense license) {
 		this.license = license;
+		this.licenseSnapshot = null;
+	}
+
+	/**
+	 * Use the snapshot of the license rather than reading the license properties
+	 * @param licenseSnapshot snapshot of the license to set
+	 */
+	public void setLicenseSnapshot(LicenseSnapshot licenseSnapshot) {
+		this.license = null;
+		this.licenseSnapshot = licenseSnapshot;
 	}
 
 	public void writeToFile(File htmlFile, String tableOfContentsReference) throws IOException, MustacheException, InvalidLicenseTemplateException, InvalidSPDXAnalysisException {
@@ -177,10 +156,7 @@ public class LicenseHTMLFile {
 		try {
 			stream = new FileOutputStream(htmlFile);
 			writer = new OutputStreamWriter(stream, "UTF-8");
-			DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
-	        Map<String, Object> mustacheMap = buildMustachMap();
-	        Mustache mustache = builder.compile(TEMPLATE_FILE_NAME);
-	        mustache.execute(writer, mustacheMap);
+			writeTo(writer, tableOfContentsReference);
 		} finally {
 			if (writer != null) {
 				writer.close();
@@ -190,6 +166,20 @@ public class LicenseHTMLFile {
 			}
 		}
 	}
+
+	/**
+	 * @param writer writer for the license HTML - not closed
+	 * @param tableOfContentsReference reference to the table of contents
+	 * @throws MustacheException
+	 * @throws InvalidLicenseTemplateException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void writeTo(Writer writer, String tableOfContentsReference) throws MustacheException, InvalidLicenseTemplateException, InvalidSPDXAnalysisException {
+		DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
+		Map<String, Object> mustacheMap = buildMustachMap();
+		Mustache mustache = builder.compile(TEMPLATE_FILE_NAME);
+		mustache.execute(writer, mustacheMap);
+	}
 	
 	/**
 	 * @return Mustache map of properties
@@ -198,6 +188,10 @@ public class LicenseHTMLFile {
 	 */
 	private Map<String, Object> buildMustachMap() throws InvalidLicenseTemplateException, InvalidSPDXAnalysisException {
 		Map<String, Object> retval = new HashMap<>();
+		LicenseSnapshot license = licenseSnapshot;
+		if (license == null && this.license != null) {
+			license = new LicenseSnapshot(this.license);
+		}
 		if (license != null) {
 			retval.put("licenseId", license.getLicenseId());
 			String licenseTextHtml = license.getLicenseTextHtml();
@@ -219,20 +213,10 @@ public class LicenseHTMLFile {
 			retval.put("fsfLibre", license.isFsfLibre());
 			retval.put("notFsfLibre", license.isNotFsfLibre());
 			List<FormattedUrl> otherWebPages = new ArrayList<>();
-			try {
-				List<CrossRef> crossRefCopy = new ArrayList<>();
-				for (CrossRef crossRef:license.getCrossRef()) {
-					crossRefCopy.add(crossRef);
-				}
-				Collections.sort(crossRefCopy, licenseComparator);
-
-					for (CrossRef crossRef:crossRefCopy) {
-						otherWebPages.add(new FormattedUrl(crossRef.getUrl(), crossRef.getValid(), 
-								crossRef.getLive(), crossRef.getIsWayBackLink(),
-								crossRef.getMatch(), crossRef.getTimestamp()));
-					}
-			} catch (InvalidSPDXAnalysisException e) {
-				throw new InvalidLicenseTemplateException("Error getting crossRefs",e);
+			for (CrossRefSnapshot crossRef:license.getCrossRefs()) {
+				otherWebPages.add(new FormattedUrl(crossRef.getUrl(), crossRef.getValid(), 
+						crossRef.getLive(), crossRef.getIsWayBackLink(),
+						crossRef.getMatch(), crossRef.getTimestamp()));
 			}
 			if (otherWebPages.size() == 0) {
 				otherWebPages = null;	// Force the template to print None
@@ -244,8 +228,8 @@ public class LicenseHTMLFile {
 				header = null;	// so the template will appropriately skip the header text
 			}
 			retval.put("licenseHeader", header);
-		    retval.put("deprecated", this.license.isDeprecated());
-	        retval.put("deprecatedVersion", this.license.getDeprecatedVersion());
+		    retval.put("deprecated", license.isDeprecated());
+	        retval.put("deprecatedVersion", license.getDeprecatedVersion());
 		}
 		return retval;
 	}
@@ -20,8 +20,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -239,10 +239,7 @@ public class LicenseTOCHTMLFile {
 		}
 	}
 
-	List<ListedSpdxLicense> listedLicenses = new ArrayList<>();
-	List<DeprecatedLicense> deprecatedLicenses = new ArrayList<>();
-
-      private int currentRefNumber = 1;
+      private final TocRows tocRows;
 
       String version;
       String releaseDate;
@@ -257,15 +254,56 @@ public class LicenseTOCHTMLFile {
     	  }
     	  return retval;
       }
+
+      /**
+       * @param version license list version
+       * @param releaseDate license list release date
+       * @deprecated use <code>LicenseTOCHTMLFile(String, String, TocRows)</code> with the rows shared by the writers
+       */
+      @Deprecated
       public LicenseTOCHTMLFile(String version, String releaseDate) {
+    	  this(version, releaseDate, new AddedTocRows());
+      }
+
+      /**
+       * @param version license list version
+       * @param releaseDate license list release date
+       * @param tocRows rows of the licenses to list
+       */
+      public LicenseTOCHTMLFile(String version, String releaseDate, TocRows tocRows) {
     	  this.version = version;
     	  this.releaseDate = releaseDate.substring(0, 10);
+    	  this.tocRows = tocRows;
       }
 
+	/**
+	 * @param license license to add
+	 * @param licHTMLReference reference to the license HTML file in the form ./{file name}.html
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 * @deprecated add the license to the rows passed to the constructor
+	 */
+	@Deprecated
 	public void addLicense(SpdxListedLicense license, String licHTMLReference) throws InvalidSPDXAnalysisException {
-		listedLicenses.add(new ListedSpdxLicense(licHTMLReference, String.valueOf(this.currentRefNumber),
-				license.getLicenseId(), license.isOsiApproved(), license.getFsfLibre(), license.getName()));
-		currentRefNumber++;
+		addedRows().addLicense(license, licHTMLReference, false, null);
+	}
+
+	/**
+	 * @param deprecatedLicense deprecated license to add
+	 * @param licHTMLReference reference to the license HTML file in the form ./{file name}.html
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 * @deprecated add the license to the rows passed to the constructor
+	 */
+	@Deprecated
+	public void addDeprecatedLicense(SpdxListedLicense deprecatedLicense,
+			String licHTMLReference) throws InvalidSPDXAnalysisException {
+		addedRows().addLicense(deprecatedLicense, licHTMLReference, true, deprecatedLicense.getDeprecatedVersion());
+	}
+
+	private AddedTocRows addedRows() {
+		if (!(tocRows instanceof AddedTocRows)) {
+			throw new IllegalStateException("Licenses must be added to the rows passed to the constructor");
+		}
+		return (AddedTocRows)tocRows;
 	}
 
 	public void writeToFile(File htmlFile) throws IOException, MustacheException {
@@ -276,12 +314,20 @@ public class LicenseTOCHTMLFile {
 		}
 
         try (FileOutputStream stream = new FileOutputStream(htmlFile); OutputStreamWriter writer = new OutputStreamWriter(stream, "UTF-8")) {
-            DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
-            Map<String, Object> mustacheMap = buildMustachMap();
-            Mustache mustache = builder.compile(HTML_TEMPLATE);
-            mustache.execute(writer, mustacheMap);
+            writeTo(writer);
         }
 	}
+
+	/**
+	 * @param writer writer for the table of contents HTML - not closed
+	 * @throws MustacheException
+	 */
+	public void writeTo(Writer writer) throws MustacheException {
+		DefaultMustacheFactory builder = new DefaultMustacheFactory(Utility.getMustacheResolver());
+		Map<String, Object> mustacheMap = buildMustachMap();
+		Mustache mustache = builder.compile(HTML_TEMPLATE);
+		mustache.execute(writer, mustacheMap);
+	}
 	/**
 	 * Build the a hash map to map the variables in the template to the values
 	 * @return the map build from the license
@@ -289,37 +335,22 @@ public class LicenseTOCHTMLFile {
 	private Map<String, Object> buildMustachMap() {
 		Map<String, Object> retval = new HashMap<>();
 		retval.put("version", generateVersionString(version, releaseDate));
-		this.listedLicenses.sort(new Comparator<ListedSpdxLicense>() {
-
-			@Override
-			public int compare(ListedSpdxLicense arg0, ListedSpdxLicense arg1) {
-				return arg0.getLicenseId().compareToIgnoreCase(arg1.getLicenseId());
-			}
-
-		});
-		retval.put("listedLicenses", this.listedLicenses);
-		this.deprecatedLicenses.sort(new Comparator<DeprecatedLicense>() {
-
-			@Override
-			public int compare(DeprecatedLicense arg0, DeprecatedLicense arg1) {
-				return arg0.getLicenseId().compareToIgnoreCase(arg1.getLicenseId());
+		List<ListedSpdxLicense> listedLicenses = new ArrayList<>();
+		List<DeprecatedLicense> deprecatedLicenses = new ArrayList<>();
+		// licenses and deprecated licenses are numbered in the order they were added
+		for (LicenseTocRow license:tocRows.getLicenses()) {
+			String reference = "./" + license.getFileName() + ".html";
+			String refNumber = String.valueOf(license.getIndex() + 1);
+			if (license.isDeprecated()) {
+				deprecatedLicenses.add(new DeprecatedLicense(reference, refNumber, license.getLicenseId(),
+						license.getName(), license.getDeprecatedVersion()));
+			} else {
+				listedLicenses.add(new ListedSpdxLicense(reference, refNumber, license.getLicenseId(),
+						license.isOsiApproved(), license.getFsfLibre(), license.getName()));
 			}
-			
-		});
-		retval.put("deprecatedLicenses", this.deprecatedLicenses);
+		}
+		retval.put("listedLicenses", listedLicenses);
+		retval.put("deprecatedLicenses", deprecatedLicenses);
 		return retval;
 	}
-	/**
-	 * @param deprecatedLicense
-	 * @param licHTMLReference
-	 * @throws InvalidSPDXAnalysisException 
-	 */
-	public void addDeprecatedLicense(SpdxListedLicense deprecatedLicense,
-			String licHTMLReference) throws InvalidSPDXAnalysisException {
-		deprecatedLicenses.add(new DeprecatedLicense(licHTMLReference, String.valueOf(this.currentRefNumber),
-				deprecatedLicense.getLicenseId(),
-				deprecatedLicense.getName(),
-				deprecatedLicense.getDeprecatedVersion()));
-		currentRefNumber++;
-	}
 }
@@ -0,0 +1,106 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.htmltemplates;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Table of contents row for a license
+ *
+ */
+public class LicenseTocRow {
+
+	/**
+	 * Order of the rows in the table of contents
+	 */
+	public static final Comparator<LicenseTocRow> ID_ORDER = Comparator.comparing(LicenseTocRow::getLicenseId, String::compareToIgnoreCase);
+
+	private final int index;
+	private final String licenseId;
+	private final String name;
+	private final String fileName;
+	private final boolean osiApproved;
+	private final @Nullable Boolean fsfLibre;
+	private final boolean deprecated;
+	private final @Nullable String deprecatedVersion;
+	private final List<String> seeAlso;
+
+	/**
+	 * @param index order the license was added to the table of contents starting at 0
+	 * @param licenseId ID of the license
+	 * @param name name of the license
+	 * @param fileName base name of the files for the license without an extension
+	 * @param osiApproved true if the license is OSI approved
+	 * @param fsfLibre true if the license is FSF libre, null if it is not known
+	 * @param deprecated true if the license is deprecated
+	 * @param deprecatedVersion license list version the license was deprecated in, null if not deprecated
+	 * @param seeAlso URLs for the license
+	 */
+	public LicenseTocRow(int index, String licenseId, String name, String fileName, boolean osiApproved,
+			@Nullable Boolean fsfLibre, boolean deprecated, @Nullable String deprecatedVersion, List<String> seeAlso) {
+		this.index = index;
+		this.licenseId = licenseId;
+		this.name = name;
+		this.fileName = fileName;
+		this.osiApproved = osiApproved;
+		this.fsfLibre = fsfLibre;
+		this.deprecated = deprecated;
+		this.deprecatedVersion = deprecatedVersion;
+		this.seeAlso = Collections.unmodifiableList(seeAlso);
+	}
+
+	/**
+	 * @return order the license was added to the table of contents starting at 0
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public String getLicenseId() {
+		return licenseId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return base name of the files for the license without an extension
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	public boolean isOsiApproved() {
+		return osiApproved;
+	}
+
+	/**
+	 * @return true if the license is FSF libre, null if it is not known
+	 */
+	public @Nullable Boolean getFsfLibre() {
+		return fsfLibre;
+	}
+
+	public boolean isFsfLibre() {
+		return Boolean.TRUE.equals(fsfLibre);
+	}
+
+	public boolean isDeprecated() {
+		return deprecated;
+	}
+
+	public @Nullable String getDeprecatedVersion() {
+		return deprecatedVersion;
+	}
+
+	public List<String> getSeeAlso() {
+		return seeAlso;
+	}
+}
@@ -0,0 +1,24 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.htmltemplates;
+
+import java.util.List;
+
+/**
+ * Rows of the license and exception tables of contents
+ *
+ */
+public interface TocRows {
+
+	/**
+	 * @return licenses sorted by ID ignoring case, licenses with the same ID are in the order they were added
+	 */
+	List<LicenseTocRow> getLicenses();
+
+	/**
+	 * @return exceptions sorted by ID ignoring case, exceptions with the same ID are in the order they were added
+	 */
+	List<ExceptionTocRow> getExceptions();
+}
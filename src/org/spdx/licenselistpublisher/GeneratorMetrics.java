@@ -0,0 +1,295 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Timing of each stage of the license generator
+ * <p>
+ * The time taken by each call of a stage is recorded in a histogram with power of two buckets along with the
+ * slowest items (license ID's, file names or URL's), so a report shows both the distribution of the times and
+ * which items are responsible for the slowest calls.  Stages may be timed concurrently from any thread.
+ * <p>
+ * The metrics are shared by all of the stages through <code>getInstance()</code> and are reset at the start of
+ * each run of the generator.
+ *
+ */
+public class GeneratorMetrics {
+
+	public static final String STAGE_XML_DISCOVERY = "xml.discovery";
+	public static final String STAGE_XML_PARSE = "xml.parse";
+	public static final String STAGE_XML_VALIDATE = "xml.validate";
+	public static final String STAGE_XML_EXTRACT = "xml.extract";
+	public static final String STAGE_CROSS_REF_URL = "crossref.url";
+	public static final String STAGE_OSI_LOOKUP = "osi.lookup";
+	public static final String STAGE_FSF_LOOKUP = "fsf.lookup";
+	public static final String STAGE_TEST_LICENSE = "test.license";
+	public static final String STAGE_TEST_EXCEPTION = "test.exception";
+	public static final String STAGE_WRITER_PREFIX = "writer.";
+
+	/**
+	 * Number of the slowest items kept for each stage
+	 */
+	static final int SLOWEST_ITEMS = 5;
+	static final int BUCKETS = 64;
+	static final double NANOS_PER_MILLI = 1000000.0;
+
+	private static class InstanceHolder {
+		private static final GeneratorMetrics INSTANCE = new GeneratorMetrics();
+	}
+
+	/**
+	 * @return metrics shared by all of the stages of the generator
+	 */
+	public static GeneratorMetrics getInstance() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * @param writerClass class of a license format writer
+	 * @param method writer method
+	 * @return stage name for the method of the writer
+	 */
+	public static String writerStage(Class<?> writerClass, String method) {
+		return STAGE_WRITER_PREFIX + writerClass.getSimpleName() + "." + method;
+	}
+
+	/**
+	 * Time of a single item - recorded when closed
+	 */
+	public class Timer implements AutoCloseable {
+		private final String stage;
+		private final @Nullable String item;
+		private final long start = System.nanoTime();
+
+		private Timer(String stage, @Nullable String item) {
+			this.stage = stage;
+			this.item = item;
+		}
+
+		@Override
+		public void close() {
+			record(stage, item, start, System.nanoTime());
+		}
+	}
+
+	private static class SlowItem {
+		final String item;
+		final long nanos;
+
+		SlowItem(String item, long nanos) {
+			this.item = item;
+			this.nanos = nanos;
+		}
+	}
+
+	/**
+	 * Histogram of the times for a stage
+	 */
+	private static class StageHistogram {
+		final LongAdder count = new LongAdder();
+		final LongAdder totalNanos = new LongAdder();
+		final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+		final AtomicLong maxNanos = new AtomicLong(0);
+		final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+		final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+		// bucket i counts the times t with 2^(i-1) <= t < 2^i nanoseconds
+		final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		final List<SlowItem> slowest = new ArrayList<>(SLOWEST_ITEMS + 1);
+
+		void record(@Nullable String item, long start, long end) {
+			long nanos = Math.max(0, end - start);
+			count.increment();
+			totalNanos.add(nanos);
+			minNanos.accumulateAndGet(nanos, Math::min);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+			firstStart.accumulateAndGet(start, Math::min);
+			lastEnd.accumulateAndGet(end, Math::max);
+			buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos)));
+			if (Objects.nonNull(item)) {
+				synchronized (slowest) {
+					if (slowest.size() < SLOWEST_ITEMS || nanos > slowest.get(slowest.size() - 1).nanos) {
+						slowest.add(new SlowItem(item, nanos));
+						slowest.sort(Comparator.comparingLong((SlowItem slowItem) -> slowItem.nanos).reversed());
+						if (slowest.size() > SLOWEST_ITEMS) {
+							slowest.remove(SLOWEST_ITEMS);
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * @param fraction fraction of the times which are less than or equal to the percentile
+		 * @return upper bound of the bucket containing the percentile in nanoseconds
+		 */
+		long percentile(double fraction) {
+			long total = count.sum();
+			long rank = (long)Math.ceil(total * fraction);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += buckets.get(i);
+				if (seen >= rank && seen > 0) {
+					return Math.min(bucketUpperBound(i), maxNanos.get());
+				}
+			}
+			return maxNanos.get();
+		}
+
+		JsonObject toJson() {
+			JsonObject retval = new JsonObject();
+			long n = count.sum();
+			long total = totalNanos.sum();
+			retval.addProperty("count", n);
+			retval.addProperty("totalMillis", millis(total));
+			retval.addProperty("meanMillis", n > 0 ? millis(total / n) : 0);
+			retval.addProperty("minMillis", n > 0 ? millis(minNanos.get()) : 0);
+			retval.addProperty("maxMillis", millis(maxNanos.get()));
+			retval.addProperty("p50Millis", millis(percentile(0.5)));
+			retval.addProperty("p90Millis", millis(percentile(0.9)));
+			retval.addProperty("p99Millis", millis(percentile(0.99)));
+			// calls may overlap, so the throughput is the count over the elapsed time from the first to the last call
+			long elapsed = lastEnd.get() - firstStart.get();
+			if (n > 0 && elapsed > 0) {
+				retval.addProperty("elapsedMillis", millis(elapsed));
+				retval.addProperty("throughputPerSecond", Math.round(n * 1000000000.0 / elapsed * 100) / 100.0);
+			}
+			JsonArray histogram = new JsonArray();
+			for (int i = 0; i < BUCKETS; i++) {
+				long bucketCount = buckets.get(i);
+				if (bucketCount > 0) {
+					JsonObject bucket = new JsonObject();
+					bucket.addProperty("upToMillis", millis(bucketUpperBound(i)));
+					bucket.addProperty("count", bucketCount);
+					histogram.add(bucket);
+				}
+			}
+			retval.add("histogram", histogram);
+			synchronized (slowest) {
+				if (!slowest.isEmpty()) {
+					JsonArray slowestItems = new JsonArray();
+					for (SlowItem slowItem:slowest) {
+						JsonObject item = new JsonObject();
+						item.addProperty("item", slowItem.item);
+						item.addProperty("millis", millis(slowItem.nanos));
+						slowestItems.add(item);
+					}
+					retval.add("slowest", slowestItems);
+				}
+			}
+			return retval;
+		}
+	}
+
+	private static long bucketUpperBound(int bucket) {
+		return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket);
+	}
+
+	private static double millis(long nanos) {
+		return Math.round(nanos / NANOS_PER_MILLI * 1000) / 1000.0;
+	}
+
+	private final Map<String, StageHistogram> stages = new ConcurrentHashMap<>();
+	private volatile long runStart = System.nanoTime();
+
+	GeneratorMetrics() {
+		// use getInstance() outside of tests
+	}
+
+	/**
+	 * Clear all of the recorded times and start timing a new run
+	 */
+	public void reset() {
+		stages.clear();
+		runStart = System.nanoTime();
+	}
+
+	/**
+	 * Start timing an item - use with try-with-resources
+	 * @param stage stage name
+	 * @param item license ID, file name or URL being processed - may be null
+	 * @return timer which records the time when closed
+	 */
+	public Timer start(String stage, @Nullable String item) {
+		return new Timer(stage, item);
+	}
+
+	/**
+	 * Start timing a stage which does not process a specific item
+	 * @param stage stage name
+	 * @return timer which records the time when closed
+	 */
+	public Timer start(String stage) {
+		return new Timer(stage, null);
+	}
+
+	/**
+	 * Record the time of an item
+	 * @param stage stage name
+	 * @param item item processed - may be null
+	 * @param startNanos start time from <code>System.nanoTime()</code>
+	 * @param endNanos end time from <code>System.nanoTime()</code>
+	 */
+	public void record(String stage, @Nullable String item, long startNanos, long endNanos) {
+		stages.computeIfAbsent(stage, name -> new StageHistogram()).record(item, startNanos, endNanos);
+	}
+
+	/**
+	 * @param stage stage name
+	 * @return number of times recorded for the stage
+	 */
+	public long getCount(String stage) {
+		StageHistogram histogram = stages.get(stage);
+		return Objects.isNull(histogram) ? 0 : histogram.count.sum();
+	}
+
+	/**
+	 * @return report of the recorded times for each stage ordered by stage name
+	 */
+	public JsonObject toJson() {
+		JsonObject retval = new JsonObject();
+		retval.addProperty("elapsedMillis", millis(System.nanoTime() - runStart));
+		JsonObject stagesJson = new JsonObject();
+		for (Map.Entry<String, StageHistogram> entry:new TreeMap<>(stages).entrySet()) {
+			stagesJson.add(entry.getKey(), entry.getValue().toJson());
+		}
+		retval.add("stages", stagesJson);
+		return retval;
+	}
+
+	/**
+	 * Write the JSON report of the recorded times
+	 * @param reportFile file to write the report to
+	 * @throws IOException on errors writing the file
+	 */
+	public void writeReport(File reportFile) throws IOException {
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+			gson.toJson(toJson(), writer);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher;
+
+import java.io.File;
+
+import javax.annotation.Nullable;
+
+/**
+ * Optional settings for <code>LicenseRDFAGenerator.generateLicenseData</code>
+ * <p>
+ * The defaults generate the same output as a run without any of the options set.
+ *
+ */
+public class GeneratorOptions {
+
+	private @Nullable File testCacheFile = null;
+	private boolean outputVariants = false;
+	private @Nullable File outputArchive = null;
+	private boolean writeIfChanged = false;
+	private @Nullable File outputManifest = null;
+	private @Nullable File metricsReport = null;
+	private boolean perFileStores = false;
+
+	/**
+	 * @return file used to cache test results between runs - null if all tests are run
+	 */
+	public @Nullable File getTestCacheFile() {
+		return testCacheFile;
+	}
+
+	/**
+	 * @param testCacheFile Optional file used to cache test results between runs - if null, all tests are run
+	 */
+	public void setTestCacheFile(@Nullable File testCacheFile) {
+		this.testCacheFile = testCacheFile;
+	}
+
+	/**
+	 * @return true if minified JSON and gzip compressed variants of the website and JSON output are generated
+	 */
+	public boolean isOutputVariants() {
+		return outputVariants;
+	}
+
+	/**
+	 * @param outputVariants if true, also generate minified JSON and gzip compressed variants of the website and JSON output
+	 */
+	public void setOutputVariants(boolean outputVariants) {
+		this.outputVariants = outputVariants;
+	}
+
+	/**
+	 * @return zip or tar archive file all of the output is written to - null if the output is written to the output directory
+	 */
+	public @Nullable File getOutputArchive() {
+		return outputArchive;
+	}
+
+	/**
+	 * @param outputArchive Optional zip or tar archive file to write all of the output to - if null, the output is
+	 * written to the output directory.  The paths of the archive entries are relative to the output directory.
+	 */
+	public void setOutputArchive(@Nullable File outputArchive) {
+		this.outputArchive = outputArchive;
+	}
+
+	/**
+	 * @return true if only the files in the output directory whose content has changed are rewritten
+	 */
+	public boolean isWriteIfChanged() {
+		return writeIfChanged;
+	}
+
+	/**
+	 * @param writeIfChanged if true, compare each generated file with the existing file in the output directory and
+	 * only rewrite it if its content has changed.  Without an output manifest every existing output file of the same
+	 * size is read back.
+	 */
+	public void setWriteIfChanged(boolean writeIfChanged) {
+		this.writeIfChanged = writeIfChanged;
+	}
+
+	/**
+	 * @return file recording the content hashes of the output files between runs - may be null
+	 */
+	public @Nullable File getOutputManifest() {
+		return outputManifest;
+	}
+
+	/**
+	 * @param outputManifest Optional file recording the content hashes of the output files between runs - if null,
+	 * the generated content is compared with the existing files.  Requires write if changed.
+	 */
+	public void setOutputManifest(@Nullable File outputManifest) {
+		this.outputManifest = outputManifest;
+	}
+
+	/**
+	 * @return file the JSON report of the time taken by each stage is written to - may be null
+	 */
+	public @Nullable File getMetricsReport() {
+		return metricsReport;
+	}
+
+	/**
+	 * @param metricsReport Optional file to write a JSON report of the time taken by each stage to - the report is
+	 * written even if the generation fails
+	 */
+	public void setMetricsReport(@Nullable File metricsReport) {
+		this.metricsReport = metricsReport;
+	}
+
+	/**
+	 * @return true if each license XML file is parsed into its own model stores
+	 */
+	public boolean isPerFileStores() {
+		return perFileStores;
+	}
+
+	/**
+	 * @param perFileStores if true, parse each license XML file into its own model stores which are released once the
+	 * licenses and exceptions in the file have been written.  This does not bound the peak memory - see
+	 * <code>LicenseRDFAGenerator.generateLicenseData</code>
+	 */
+	public void setPerFileStores(boolean perFileStores) {
+		this.perFileStores = perFileStores;
+	}
+}
@@ -20,13 +20,15 @@ import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -39,8 +41,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.crossref.CrossRefHelper;
 import org.spdx.library.ListedLicenses;
@@ -49,6 +52,8 @@ import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.license.SpdxListedLicenseException;
 import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
 import org.spdx.licenseTemplate.LicenseTextHelper;
+import org.spdx.licenselistpublisher.jfr.GeneratorRecording;
+import org.spdx.licenselistpublisher.jfr.TocWrittenEvent;
 import org.spdx.licenselistpublisher.licensegenerator.*;
 import org.spdx.licensexml.XmlLicenseProviderSingleFile;
 import org.spdx.licensexml.XmlLicenseProviderWithCrossRefDetails;
@@ -92,6 +97,28 @@ class ExpectedWarnings {
  *  
  *  If there is testfiles is passed in as a parameter, text from the test files will be used for the verbatim
  *  license or exception text.  To override this behavior, set an environment variable USE_SYSTEM_TEST to false
+ *  
+ *  To skip re-running tests whose inputs have not changed since a previous run, set an environment variable
+ *  LICENSE_TEST_CACHE to the path of a file used to cache the test results
+ *  
+ *  To also generate minified JSON and gzip compressed variants of the website and JSON output, set an environment
+ *  variable LICENSE_OUTPUT_VARIANTS to true
+ *  
+ *  To write all of the output to a single zip or tar archive rather than to the output directory, set an environment
+ *  variable LICENSE_OUTPUT_ARCHIVE to the path of the archive file ending in .zip, .tar, .tar.gz or .tgz
+ *  
+ *  To only rewrite the files in the output directory whose content has changed, set an environment variable
+ *  LICENSE_WRITE_IF_CHANGED to true.  Every existing output file the same size as the generated content is then read
+ *  back and compared.  To record the content hashes so unchanged files do not need to be read on the next run, also
+ *  set an environment variable LICENSE_OUTPUT_MANIFEST to the path of a manifest file.  The manifest requires
+ *  LICENSE_WRITE_IF_CHANGED and neither is supported with LICENSE_OUTPUT_ARCHIVE
+ *  
+ *  To write a JSON report of the time taken by each stage of the generator, set an environment variable
+ *  LICENSE_METRICS_REPORT to the path of the report file
+ *  
+ *  To parse each license XML file into its own model stores, which are released once the license has been written,
+ *  set an environment variable LICENSE_PER_FILE_STORES to true.  The peak memory still grows with the size of the
+ *  license list
  *
  * @author Gary O'Neall
  *
@@ -125,6 +152,13 @@ public class LicenseRDFAGenerator {
 	private static final String RDF_JSON_LD_FOLDER_NAME = "jsonld";
 	private static final String LICENSE_XML_FOLDER_NAME = "license-list-XML";
 	private static final String ENV_USE_SYSTEM_TEST = "USE_TEST_FOR_TEXT";
+	private static final String ENV_TEST_CACHE = "LICENSE_TEST_CACHE";
+	private static final String ENV_OUTPUT_VARIANTS = "LICENSE_OUTPUT_VARIANTS";
+	private static final String ENV_OUTPUT_ARCHIVE = "LICENSE_OUTPUT_ARCHIVE";
+	private static final String ENV_WRITE_IF_CHANGED = "LICENSE_WRITE_IF_CHANGED";
+	private static final String ENV_OUTPUT_MANIFEST = "LICENSE_OUTPUT_MANIFEST";
+	private static final String ENV_METRICS_REPORT = "LICENSE_METRICS_REPORT";
+	private static final String ENV_PER_FILE_STORES = "LICENSE_PER_FILE_STORES";
 
 	/**
 	 * @param args Arg 0 is either a license XML file or a directory of licenses in XML format,
@@ -134,9 +168,22 @@ public class LicenseRDFAGenerator {
 	 *             arg 4 is the optional directory of original license texts with file names {license-or-exception-id}.txt
 	 *             arg 5 is the optional file containing a list of warnings to ignore
 	 *             arg 6 is the optional directory of positive and negative tests for the licenses with the pattern {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt
+	 *             The flag --jfr or --jfr=file may be given anywhere to write a flight recording of the run
 	 */
 	public static void main(String[] args) {
 		SpdxModelFactory.init();
+		String jfrFile = null;
+		if (args != null) {
+			List<String> positionalArgs = new ArrayList<>();
+			for (String arg:args) {
+				if (GeneratorRecording.isJfrFlag(arg)) {
+					jfrFile = GeneratorRecording.recordingFile(arg);
+				} else {
+					positionalArgs.add(arg);
+				}
+			}
+			args = positionalArgs.toArray(new String[positionalArgs.size()]);
+		}
 		if (args == null || args.length < MIN_ARGS || args.length > MAX_ARGS) {
 			System.out.println("Invalid arguments");
 			usage();
@@ -245,46 +292,104 @@ public class LicenseRDFAGenerator {
 			}
 		}
 		
-		boolean useTestText = true;	// default to true
-		try {
-			String useTestTextStr = System.getenv(ENV_USE_SYSTEM_TEST);
-			if (Objects.nonNull(useTestTextStr)) {
-				useTestText = Boolean.parseBoolean(useTestTextStr);
+		boolean useTestText = envBoolean(ENV_USE_SYSTEM_TEST, true, "Using the default useTestText = true.");
+		GeneratorOptions options = new GeneratorOptions();
+		options.setTestCacheFile(envFile(ENV_TEST_CACHE, "Test results will not be cached."));
+		options.setOutputVariants(envBoolean(ENV_OUTPUT_VARIANTS, false, "Output variants will not be generated."));
+		options.setOutputArchive(envFile(ENV_OUTPUT_ARCHIVE, "Output will be written to the output directory."));
+		options.setWriteIfChanged(envBoolean(ENV_WRITE_IF_CHANGED, false, "All of the output files will be written."));
+		options.setOutputManifest(envFile(ENV_OUTPUT_MANIFEST, "Output files will be compared with the existing files."));
+		options.setMetricsReport(envFile(ENV_METRICS_REPORT, "A metrics report will not be written."));
+		options.setPerFileStores(envBoolean(ENV_PER_FILE_STORES, false, "All of the licenses will be kept in memory."));
+		
+		GeneratorRecording recording = null;
+		if (jfrFile != null) {
+			try {
+				recording = new GeneratorRecording(Paths.get(jfrFile));
+			} catch (IOException | ParseException e) {
+				System.out.println("Unable to start the flight recording "+jfrFile+": "+e.getMessage()+".  The run will not be recorded.");
 			}
-		} catch(SecurityException ex) {
-			System.out.println("Security exception checking for the environment variable "+ENV_USE_SYSTEM_TEST+".  Using the default useTestText = true.");
 		}
-		
+		List<String> warnings = null;
 		try {
-			List<String> warnings = generateLicenseData(licenseXmlFileOrDir, dir, version, releaseDate, testFileDir, useTestText, fullTestDir);
-			if (!warnings.isEmpty()) {
-				List<String> nonIgnoredWarnings = new ArrayList<>();
-				for (String warning:warnings) {
-					boolean ignore = false;
-					for (String ignoreStr:ignoredWarnings) {
-						if (warning.toLowerCase().startsWith(ignoreStr.toLowerCase())) {
-							ignore = true;
-							System.out.println("Ignoring warning '"+ignoreStr+"'");
-							break;
-						}
-					}
-					if (!ignore) {
-						nonIgnoredWarnings.add(warning);
+			warnings = generateLicenseData(licenseXmlFileOrDir, dir, version, releaseDate, testFileDir, useTestText, fullTestDir, options);
+		} catch (LicenseGeneratorException e) {
+			System.out.println(e.getMessage());
+			stopRecording(recording);
+			System.exit(ERROR_STATUS);
+		}
+		stopRecording(recording);
+		if (!warnings.isEmpty()) {
+			List<String> nonIgnoredWarnings = new ArrayList<>();
+			for (String warning:warnings) {
+				boolean ignore = false;
+				for (String ignoreStr:ignoredWarnings) {
+					if (warning.toLowerCase().startsWith(ignoreStr.toLowerCase())) {
+						ignore = true;
+						System.out.println("Ignoring warning '"+ignoreStr+"'");
+						break;
 					}
 				}
-				if (!nonIgnoredWarnings.isEmpty()) {
-					for (String msg:nonIgnoredWarnings) {
-						System.out.print("WARNING: ");
-						System.out.println(msg);
-					}
-					System.exit(WARNING_STATUS);
+				if (!ignore) {
+					nonIgnoredWarnings.add(warning);
 				}
 			}
-		} catch (LicenseGeneratorException e) {
-			System.out.println(e.getMessage());
-			System.exit(ERROR_STATUS);
+			if (!nonIgnoredWarnings.isEmpty()) {
+				for (String msg:nonIgnoredWarnings) {
+					System.out.print("WARNING: ");
+					System.out.println(msg);
+				}
+				System.exit(WARNING_STATUS);
+			}
+		}
+	}
+
+	/**
+	 * Stop a flight recording and write it to its destination
+	 * @param recording recording to stop - may be null
+	 */
+	private static void stopRecording(GeneratorRecording recording) {
+		if (recording != null) {
+			recording.close();
+			System.out.println("Wrote flight recording to "+recording.getDestination());
+		}
+	}
+
+	/**
+	 * @param name name of the environment variable
+	 * @param fallbackMsg message describing the behavior if the environment variable can not be read
+	 * @return file named by the environment variable - null if the variable is not set or is blank
+	 */
+	private static File envFile(String name, String fallbackMsg) {
+		try {
+			String value = System.getenv(name);
+			if (Objects.nonNull(value) && !value.isBlank()) {
+				return new File(value);
+			}
+		} catch(SecurityException ex) {
+			System.out.println("Security exception checking for the environment variable "+name+".  "+fallbackMsg);
 		}
+		return null;
 	}
+
+	/**
+	 * @param name name of the environment variable
+	 * @param defaultValue value if the environment variable is not set
+	 * @param fallbackMsg message describing the behavior if the environment variable can not be read
+	 * @return boolean value of the environment variable
+	 */
+	private static boolean envBoolean(String name, boolean defaultValue, String fallbackMsg) {
+		try {
+			String value = System.getenv(name);
+			if (Objects.nonNull(value)) {
+				return Boolean.parseBoolean(value);
+			}
+		} catch(SecurityException ex) {
+			System.out.println("Security exception checking for the environment variable "+name+".  "+fallbackMsg);
+		}
+		return defaultValue;
+	}
+
 	/**
 	 * Generate license data
 	 * @param licenseXml License XML file or directory containing license XML files
@@ -301,111 +406,176 @@ public class LicenseRDFAGenerator {
 			                                       String version, String releaseDateUnformatted,
 												   File testFileDir, boolean useTestText,
 												   File fullTestDir) throws LicenseGeneratorException {
+		return generateLicenseData(licenseXml, dir, version, releaseDateUnformatted, testFileDir, useTestText, 
+				fullTestDir, new GeneratorOptions());
+	}
+
+	/**
+	 * Generate license data
+	 * <p>
+	 * The time taken by each stage is recorded in <code>GeneratorMetrics</code>.
+	 * <p>
+	 * With per file stores the model stores each license and exception is parsed into are released once every
+	 * writer has written them.  This only reduces the memory held while the licenses are being written.  The
+	 * duplicate license check keeps the tokens of every license and the RDF/XML and JSON-LD tables of contents are
+	 * written from a single model of the whole list, so peak memory is still proportional to the size of the list.
+	 * @param licenseXml License XML file or directory containing license XML files
+	 * @param dir Output directory for the generated results - if an output archive is set, the paths of the archive entries are relative to this directory
+	 * @param version Version for the license list
+	 * @param releaseDateUnformatted Release data string for the license
+	 * @param testFileDir Directory of license text to test the generated licenses against
+	 * @param useTestText use the text file from the testFileDir for the verbatim text rather than the text from the XML document
+	 * @param fullTestDir Directory for testing license texts with the pattern {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt
+	 * @param options optional settings for the test cache, output variants, output archive, write if changed,
+	 * output manifest, metrics report and per file stores
+	 * @return warnings list of warnings
+	 * @throws LicenseGeneratorException on errors
+	 */
+	public static List<String> generateLicenseData(File licenseXml, File dir,
+			                                       String version, String releaseDateUnformatted,
+												   File testFileDir, boolean useTestText,
+												   File fullTestDir, GeneratorOptions options) throws LicenseGeneratorException {
+		File testCacheFile = options.getTestCacheFile();
+		boolean outputVariants = options.isOutputVariants();
+		File outputArchive = options.getOutputArchive();
+		boolean writeIfChanged = options.isWriteIfChanged();
+		File outputManifest = options.getOutputManifest();
+		File metricsReport = options.getMetricsReport();
+		boolean perFileStores = options.isPerFileStores();
+		GeneratorMetrics.getInstance().reset();
 		String releaseDate = convertDateFormat(releaseDateUnformatted);
 		List<String> warnings = new ArrayList<>();
 		List<ILicenseFormatWriter> writers = new ArrayList<>();
 		ISpdxListedLicenseProvider licenseProvider = null;
-		try {
+		if (outputVariants && outputArchive != null) {
+			// the variants are generated from the files written to the output directory
+			throw new LicenseGeneratorException("Output variants are not supported when writing to an output archive");
+		}
+		if (writeIfChanged && outputArchive != null) {
+			throw new LicenseGeneratorException("Write if changed is not supported when writing to an output archive");
+		}
+		if (outputManifest != null && !writeIfChanged) {
+			throw new LicenseGeneratorException("An output manifest is only supported when write if changed is enabled");
+		}
+		try (OutputSink outputSink = openOutputSink(dir, outputArchive, writeIfChanged, outputManifest)) {
 			File licenseXmlOutputFolder = new File(dir.getPath() + File.separator +  LICENSE_XML_FOLDER_NAME);
-			if (!licenseXmlOutputFolder.isDirectory() && !licenseXmlOutputFolder.mkdir()) {
-				throw new LicenseGeneratorException("Error: license-xml folder is not a directory");
-			}
+			createFolder(outputSink, licenseXmlOutputFolder, "Error: license-xml folder is not a directory");
 			if (licenseXml.isDirectory()) {
-				licenseProvider = new XmlLicenseProviderWithCrossRefDetails(licenseXml, version, releaseDate);
-				FileUtils.copyDirectory(licenseXml, licenseXmlOutputFolder);
+				XmlLicenseProviderWithCrossRefDetails xmlLicenseProvider = new XmlLicenseProviderWithCrossRefDetails(licenseXml, version, releaseDate);
+				xmlLicenseProvider.setPerFileStores(perFileStores);
+				// the V3 licenses are created by the SPDX v3 JSON-LD writer once the V2 licenses have been updated
+				xmlLicenseProvider.setCreateV3OnFirstUse(true);
+				licenseProvider = xmlLicenseProvider;
+				copyDirectory(outputSink, licenseXml, licenseXmlOutputFolder);
 			} else {
-				licenseProvider = new XmlLicenseProviderSingleFile(licenseXml, version, releaseDate);
-				Files.copy(licenseXml.toPath(), licenseXmlOutputFolder.toPath().resolve(licenseXml.getName()));
+				XmlLicenseProviderSingleFile singleFileProvider = new XmlLicenseProviderSingleFile(licenseXml, version, releaseDate);
+				singleFileProvider.setCreateV3OnFirstUse(true);
+				licenseProvider = singleFileProvider;
+				outputSink.copy(licenseXml.toPath(), new File(licenseXmlOutputFolder, licenseXml.getName()));
 			}
 			File textFolder = new File(dir.getPath() + File.separator +  TEXT_FOLDER_NAME);
-			if (!textFolder.isDirectory() && !textFolder.mkdir()) {
-				throw new LicenseGeneratorException("Error: text folder is not a directory");
-			}
+			createFolder(outputSink, textFolder, "Error: text folder is not a directory");
 			writers.add(new LicenseTextFormatWriter(textFolder));
 			File templateFolder = new File(dir.getPath() + File.separator +  TEMPLATE_FOLDER_NAME);
-			if (!templateFolder.isDirectory() && !templateFolder.mkdir()) {
-				throw new LicenseGeneratorException("Error: template folder is not a directory");
-			}
+			createFolder(outputSink, templateFolder, "Error: template folder is not a directory");
 			writers.add(new LicenseTemplateFormatWriter(templateFolder));
 			File htmlFolder = new File(dir.getPath() + File.separator +  HTML_FOLDER_NAME);
-			if (!htmlFolder.isDirectory() && !htmlFolder.mkdir()) {
-				throw new LicenseGeneratorException("Error: HTML folder is not a directory");
-			}
+			createFolder(outputSink, htmlFolder, "Error: HTML folder is not a directory");
 			writers.add(new LicenseHtmlFormatWriter(version, releaseDate, htmlFolder));
 			File rdfaFolder = new File(dir.getPath() + File.separator +  RDFA_FOLDER_NAME);
-			if (!rdfaFolder.isDirectory() && !rdfaFolder.mkdir()) {
-				throw new LicenseGeneratorException("Error: RDFa folder is not a directory");
-			}
+			createFolder(outputSink, rdfaFolder, "Error: RDFa folder is not a directory");
 			writers.add(new LicenseRdfaFormatWriter(version, releaseDate, rdfaFolder));	// Note: RDFa format is the same as the HTML
 			File jsonFolder = new File(dir.getPath() + File.separator +  JSON_FOLDER_NAME);
-			if (!jsonFolder.isDirectory() && !jsonFolder.mkdir()) {
-				throw new LicenseGeneratorException("Error: JSON folder is not a directory");
-			}
+			createFolder(outputSink, jsonFolder, "Error: JSON folder is not a directory");
 			File jsonFolderDetails = new File(dir.getPath() + File.separator +  JSON_FOLDER_NAME+ File.separator + "details");
-			if (!jsonFolderDetails.isDirectory() && !jsonFolderDetails.mkdir()) {
-				throw new LicenseGeneratorException("Error: JSON folder is not a directory");
-			}
+			createFolder(outputSink, jsonFolderDetails, "Error: JSON folder is not a directory");
 			File jsonFolderExceptions = new File(dir.getPath() + File.separator +  JSON_FOLDER_NAME + File.separator + "exceptions");
-			if (!jsonFolderExceptions.isDirectory() && !jsonFolderExceptions.mkdir()) {
-				throw new LicenseGeneratorException("Error: JSON folder is not a directory");
-			}
-			writers.add(new LicenseJsonFormatWriter(version, releaseDate, jsonFolder, jsonFolderDetails, jsonFolderExceptions));
+			createFolder(outputSink, jsonFolderExceptions, "Error: JSON folder is not a directory");
+			// the JSON and website writers share the per-license JSON details
+			JsonDetailRegistry jsonDetails = new JsonDetailRegistry();
+			LicenseJsonFormatWriter jsonWriter = new LicenseJsonFormatWriter(version, releaseDate, jsonFolder, jsonFolderDetails, jsonFolderExceptions, jsonDetails);
+			if (outputVariants) {
+				jsonWriter.setOutputVariants(new OutputVariants(outputSink));
+			}
+			writers.add(jsonWriter);
 			File website = new File(dir.getPath() + File.separator +  WEBSITE_FOLDER_NAME);
-			if (!website.isDirectory() && !website.mkdir()) {
-				throw new LicenseGeneratorException("Error: Website folder is not a directory");
-			}
-			writers.add(new SpdxWebsiteFormatWriter(version, releaseDate, website));
+			createFolder(outputSink, website, "Error: Website folder is not a directory");
+			// the website and RDF writers share the per-license JSON-LD and Turtle serializations
+			RdfArtifactRegistry rdfArtifacts = new RdfArtifactRegistry();
+			SpdxWebsiteFormatWriter websiteWriter = new SpdxWebsiteFormatWriter(version, releaseDate, website, rdfArtifacts, jsonDetails);
+			if (outputVariants) {
+				websiteWriter.setOutputVariants(new OutputVariants(outputSink));
+			}
+			writers.add(websiteWriter);
 			File rdfXml = new File(dir.getPath() + File.separator +  RDFXML_FOLDER_NAME);
-			if (!rdfXml.isDirectory() && !rdfXml.mkdir()) {
-				throw new LicenseGeneratorException("Error: RdfXML folder is not a directory");
-			}
+			createFolder(outputSink, rdfXml, "Error: RdfXML folder is not a directory");
 			File rdfTurtle = new File(dir.getPath() + File.separator +  RDFTURTLE_FOLDER_NAME);
-			if (!rdfTurtle.isDirectory() && !rdfTurtle.mkdir()) {
-				throw new LicenseGeneratorException("Error: RDF Turtle folder is not a directory");
-			}
+			createFolder(outputSink, rdfTurtle, "Error: RDF Turtle folder is not a directory");
 			File rdfNt = new File(dir.getPath() + File.separator +  RDFNT_FOLDER_NAME);
-			if (!rdfNt.isDirectory() && !rdfNt.mkdir()) {
-				throw new LicenseGeneratorException("Error: RDF NT folder is not a directory");
-			}
+			createFolder(outputSink, rdfNt, "Error: RDF NT folder is not a directory");
 			File rdfJsonLd  = new File(dir.getPath() + File.separator +  RDF_JSON_LD_FOLDER_NAME);
-			if (!rdfJsonLd.isDirectory() && !rdfJsonLd.mkdir()) {
-				throw new LicenseGeneratorException("Error: RDF JSON-LD folder is not a directory");
-			}
-			writers.add(new LicenseRdfFormatWriter(rdfXml, rdfTurtle, rdfNt, rdfJsonLd));
+			createFolder(outputSink, rdfJsonLd, "Error: RDF JSON-LD folder is not a directory");
+			writers.add(new LicenseRdfFormatWriter(rdfXml, rdfTurtle, rdfNt, rdfJsonLd, true, rdfArtifacts));
 			File markdownFile = new File(dir.getPath() + File.separator +  TABLE_OF_CONTENTS_FILE_NAME);
-			if (!markdownFile.isFile() && !markdownFile.createNewFile()) {
-				throw new LicenseGeneratorException("Error: Unable to create markdown file");
-			}
 			writers.add(new LicenseMarkdownFormatWriter(version, releaseDate, markdownFile));
 			File v3JsonLd = new File(dir.getPath() + File.separator + LicenseV3JsonLdFormatWriter.SPDX_V3_FOLDER_NAME + 
 					File.separator + LicenseV3JsonLdFormatWriter.SPDX_V3_JSON_LD_FOLDER_NAME);
-			if (!v3JsonLd.isDirectory() && !v3JsonLd.mkdirs()) {
-				throw new LicenseGeneratorException("Error: SPDX V3 Json-LD folder is not a directory");
-			}
+			createFolder(outputSink, v3JsonLd, "Error: SPDX V3 Json-LD folder is not a directory");
 			writers.add(new LicenseV3JsonLdFormatWriter(version, releaseDate, v3JsonLd));
+			// the table of contents rows are added once here and shared by all of the writers
+			TocSummary tocSummary = new TocSummary();
+			for (ILicenseFormatWriter writer:writers) {
+				writer.setOutputSink(outputSink);
+				writer.setTocSummary(tocSummary);
+			}
 			ILicenseTester tester = null;
+			CachingLicenseTester testCache = null;
 			if (testFileDir != null) {
 				if (fullTestDir != null) {
 					tester = new CombinedLicenseTester(testFileDir, fullTestDir);
 				} else {
 					tester = new SimpleLicenseTester(testFileDir);
 				}
+				if (testCacheFile != null) {
+					testCache = new CachingLicenseTester(tester, testCacheFile);
+					tester = testCache;
+				}
+			}
+			// the test cache is written even if the run fails - it only holds the results of completed tests
+			try (CachingLicenseTester closeTestCache = testCache;
+					LicenseTestStage testStage = new LicenseTestStage(tester)) {
+				System.out.print("Processing License List");
+				Set<String> licenseIds = writeLicenseList(version, releaseDate, licenseProvider, warnings, 
+						writers, tocSummary, testStage, useTestText);
+				System.out.println();
+				System.out.print("Processing Exceptions");
+				writeExceptionList(version, releaseDate, licenseProvider, warnings, writers, tocSummary, testStage, 
+						licenseIds, useTestText);
+				System.out.println();
+			}
+			if (tester != null && tester.getStatistics() != null) {
+				System.out.println(tester.getStatistics());
 			}
-			System.out.print("Processing License List");
-			Set<String> licenseIds = writeLicenseList(version, releaseDate, licenseProvider, warnings, 
-					writers, tester, useTestText);
-			System.out.println();
-			System.out.print("Processing Exceptions");
-			writeExceptionList(version, releaseDate, licenseProvider, warnings, writers, tester, 
-					licenseIds, useTestText);
-			System.out.println();
 			System.out.print("Writing table of contents");
 			for (ILicenseFormatWriter writer : writers) {
-				writer.writeToC();
+				TocWrittenEvent event = new TocWrittenEvent();
+				event.begin();
+				try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(
+						GeneratorMetrics.writerStage(writer.getClass(), "writeToC"))) {
+					writer.writeToC();
+				}
+				event.end();
+				if (event.shouldCommit()) {
+					event.writer = writer.getClass();
+					event.commit();
+				}
 			}
-			writeCssFile(website);
-			writeSortTableFile(website);
+			writeCssFile(website, outputSink);
+			writeSortTableFile(website, outputSink);
 			System.out.println();
+			if (outputSink.getStatistics() != null) {
+				System.out.println(outputSink.getStatistics());
+			}
 			warnings.addAll(licenseProvider.getWarnings());
 			System.out.println("Completed processing licenses");
 			return warnings;
@@ -415,6 +585,76 @@ public class LicenseRDFAGenerator {
 			throw(e);
 		} catch (Exception e) {
 			throw new LicenseGeneratorException("\nUnhandled exception generating html: "+e.getMessage(),e);
+		} finally {
+			if (metricsReport != null) {
+				try {
+					GeneratorMetrics.getInstance().writeReport(metricsReport);
+					System.out.println("Wrote metrics report to "+metricsReport.getPath());
+				} catch (IOException e) {
+					System.out.println("Unable to write the metrics report "+metricsReport.getPath()+": "+e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param dir output directory
+	 * @param outputArchive archive file to write the output to - if null, the output is written to the output directory
+	 * @param writeIfChanged if true, only rewrite the files in the output directory whose content has changed
+	 * @param outputManifest manifest of the output content hashes - may be null
+	 * @return sink to write the output to
+	 * @throws LicenseGeneratorException if the archive could not be created or the manifest could not be read
+	 */
+	private static OutputSink openOutputSink(File dir, File outputArchive, boolean writeIfChanged, 
+			File outputManifest) throws LicenseGeneratorException {
+		if (writeIfChanged) {
+			try {
+				return new WriteIfChangedOutputSink(dir, outputManifest);
+			} catch (IOException e) {
+				throw new LicenseGeneratorException("Unable to read the output manifest "+outputManifest.getPath(), e);
+			}
+		}
+		if (outputArchive == null) {
+			return DirectoryOutputSink.INSTANCE;
+		}
+		try {
+			return new ArchiveOutputSink(outputArchive, dir);
+		} catch (IllegalArgumentException e) {
+			throw new LicenseGeneratorException(e.getMessage(), e);
+		} catch (IOException e) {
+			throw new LicenseGeneratorException("Unable to create the output archive "+outputArchive.getPath(), e);
+		}
+	}
+
+	/**
+	 * Create an output folder
+	 * @param outputSink sink the output is written to
+	 * @param folder folder to create
+	 * @param errorMessage message if the folder can not be created
+	 * @throws LicenseGeneratorException if the folder can not be created
+	 */
+	private static void createFolder(OutputSink outputSink, File folder, String errorMessage) throws LicenseGeneratorException {
+		try {
+			outputSink.createFolder(folder);
+		} catch (IOException e) {
+			throw new LicenseGeneratorException(errorMessage, e);
+		}
+	}
+
+	/**
+	 * Copy all of the files in a directory to the output
+	 * @param outputSink sink the output is written to
+	 * @param source directory to copy
+	 * @param destination output folder to copy the files to
+	 * @throws IOException
+	 */
+	private static void copyDirectory(OutputSink outputSink, File source, File destination) throws IOException {
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(source.toPath())) {
+			files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+		for (Path file:files) {
+			outputSink.copy(file, new File(destination, source.toPath().relativize(file).toString()));
 		}
 	}
 
@@ -441,23 +681,28 @@ public class LicenseRDFAGenerator {
 	 * @param licenseProvider Provides the licensing information
 	 * @param warnings Populated with any warnings if they occur
 	 * @param writers License Format Writers to handle the writing for the different formats
-	 * @param tester License tester used to test the results of licenses
+	 * @param tocSummary Table of contents summary shared by the writers - a row is added for each exception written
+	 * @param testStage Runs the license tester, if any, on the exceptions ahead of writing them
 	 * @param licenseIds license IDs
 	 * @param useTestText use the text file from the testFileDir for the verbatim text rather than the text from the XML document
 	 * @throws IOException
 	 * @throws LicenseGeneratorException
 	 * @throws InvalidLicenseTemplateException
 	 * @throws InvalidSPDXAnalysisException 
+	 * @throws SpdxCompareException 
 	*/
 	private static void writeExceptionList(String version, String releaseDate,
 			ISpdxListedLicenseProvider licenseProvider, List<String> warnings, List<ILicenseFormatWriter> writers,
-			ILicenseTester tester, Set<String> licenseIds, boolean useTestText) throws IOException, LicenseGeneratorException, InvalidLicenseTemplateException, InvalidSPDXAnalysisException {
+			TocSummary tocSummary, LicenseTestStage testStage, Set<String> licenseIds, boolean useTestText) throws IOException, LicenseGeneratorException, InvalidLicenseTemplateException, InvalidSPDXAnalysisException, SpdxCompareException {
 		// Collect license ID's to check for any duplicate ID's being used (e.g. license ID == exception ID)
-		Iterator<ListedExceptionContainer> exceptionIter = licenseProvider.getExceptionIterator();
+		ILicenseTester tester = testStage.getTester();
+		Iterator<LicenseTestStage.TestedItem<ListedExceptionContainer>> exceptionIter = 
+				testStage.testExceptions(licenseProvider.getExceptionIterator());
 		Map<String, String> addedExceptionsMap = new HashMap<>();
 		while (exceptionIter.hasNext()) {
 			System.out.print(".");
-			ListedExceptionContainer nextExceptionContainer = exceptionIter.next();
+			LicenseTestStage.TestedItem<ListedExceptionContainer> testedException = exceptionIter.next();
+			ListedExceptionContainer nextExceptionContainer = testedException.getItem();
 			addExternalMetaData(nextExceptionContainer);
 			if (nextExceptionContainer.getV2Exception().getLicenseExceptionId() != null && 
 					!nextExceptionContainer.getV2Exception().getLicenseExceptionId().isEmpty()) {
@@ -480,7 +725,7 @@ public class LicenseRDFAGenerator {
 				checkText(nextExceptionContainer.getV2Exception().getLicenseExceptionText(),
 						"License Exception Text for "+nextExceptionContainer.getV2Exception().getLicenseExceptionId(), warnings);
 				if (tester != null) {
-					List<String> testResults = tester.testException(nextExceptionContainer);
+					List<String> testResults = testedException.getTestResults();
 					if (testResults != null && testResults.size() > 0) {
 						for (String testResult:testResults) {
 							warnings.add("Test for exception "+nextExceptionContainer.getV2Exception().getLicenseExceptionId() + " failed: "+testResult);
@@ -489,13 +734,20 @@ public class LicenseRDFAGenerator {
 						String testText = tester.getExceptionTestText(nextExceptionContainer.getV2Exception().getLicenseExceptionId());
 						if (Objects.nonNull(testText)) {
 							nextExceptionContainer.getV2Exception().setLicenseExceptionText(testText);
-							nextExceptionContainer.getV3Exception().setAdditionText(testText);
+							if (nextExceptionContainer.isV3ExceptionCreated()) {
+								nextExceptionContainer.getV3Exception().setAdditionText(testText);
+							}
 						}
 					}
 				}
 				for (ILicenseFormatWriter writer:writers) {
-					writer.writeException(nextExceptionContainer);
+					try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(
+							GeneratorMetrics.writerStage(writer.getClass(), "writeException"),
+							nextExceptionContainer.getV2Exception().getLicenseExceptionId())) {
+						writer.writeException(nextExceptionContainer);
+					}
 				}
+				tocSummary.addException(nextExceptionContainer.getSnapshot());
 			}
 		}
 	}
@@ -549,7 +801,8 @@ public class LicenseRDFAGenerator {
 	 * @param licenseProvider Provides the licensing information
 	 * @param warnings Populated with any warnings if they occur
 	 * @param writers License Format Writers to handle the writing for the different formats
-	 * @param tester license tester to test the results of each license added
+	 * @param tocSummary Table of contents summary shared by the writers - a row is added for each license written
+	 * @param testStage runs the license tester, if any, on each license ahead of adding it
 	 * @param useTestText use the text file from the testFileDir for the verbatim text rather than the text from the XML document
 	 * @return list of license ID's which have been added
 	 * @throws LicenseGeneratorException
@@ -561,24 +814,30 @@ public class LicenseRDFAGenerator {
 	 */
 	private static Set<String> writeLicenseList(String version, String releaseDate,
 			ISpdxListedLicenseProvider licenseProvider, List<String> warnings,
-			List<ILicenseFormatWriter> writers, ILicenseTester tester, boolean useTestText) 
+			List<ILicenseFormatWriter> writers, TocSummary tocSummary, LicenseTestStage testStage, boolean useTestText) 
 					throws LicenseGeneratorException, InvalidSPDXAnalysisException, IOException, SpdxListedLicenseException, SpdxCompareException, InvalidLicenseTemplateException {
+		ILicenseTester tester = testStage.getTester();
 		Iterator<ListedLicenseContainer> licenseIter = licenseProvider.getLicenseIterator();
 		try {
 			Map<String, String[]> addedLicIdTextMap = new HashMap<>();	// keep track for duplicate checking
-			while (licenseIter.hasNext()) {
+			// the token strings are shared between licenses so each license only adds a reference per token
+			Map<String, String> tokenVocabulary = new HashMap<>();
+			Iterator<LicenseTestStage.TestedItem<ListedLicenseContainer>> testedLicenseIter = testStage.testLicenses(licenseIter);
+			while (testedLicenseIter.hasNext()) {
 				System.out.print(".");
-				ListedLicenseContainer licenseContainer = licenseIter.next();
+				LicenseTestStage.TestedItem<ListedLicenseContainer> testedLicense = testedLicenseIter.next();
+				ListedLicenseContainer licenseContainer = testedLicense.getItem();
 				if (licenseProvider instanceof XmlLicenseProviderSingleFile) {
 					licenseContainer.getV2ListedLicense().getCrossRef().addAll(
-							CrossRefHelper.buildUrlDetails(licenseContainer.getV2ListedLicense()));
+							CrossRefHelper.buildUrlDetails(licenseContainer.getV2ListedLicense(),
+									licenseContainer.getCompiledTemplate()));
 				}
 				addExternalMetaData(licenseContainer);
 				String licenseId = licenseContainer.getV2ListedLicense().getLicenseId();
 				if (licenseId != null && !licenseId.isEmpty()) {
 					checkText(licenseContainer.getV2ListedLicense().getLicenseText(), "License text for "+licenseId, warnings);
 					if (tester != null) {
-						List<String> testResults = tester.testLicense(licenseContainer);
+						List<String> testResults = testedLicense.getTestResults();
 						if (testResults != null && !testResults.isEmpty()) {
 							for (String testResult:testResults) {
 								warnings.add("Test for license "+licenseId + " failed: "+testResult);
@@ -587,7 +846,9 @@ public class LicenseRDFAGenerator {
 							String testText = tester.getLicenseTestText(licenseId);
 							if (Objects.nonNull(testText)) {
 								licenseContainer.getV2ListedLicense().setLicenseText(testText);
-								licenseContainer.getV3ListedLicense().setLicenseText(testText);
+								if (licenseContainer.isV3ListedLicenseCreated()) {
+									licenseContainer.getV3ListedLicense().setLicenseText(testText);
+								}
 							}
 						}
 					}
@@ -596,6 +857,9 @@ public class LicenseRDFAGenerator {
 						String[] licenseTokens = LicenseTextHelper.tokenizeLicenseText(
 								licenseContainer.getV2ListedLicense().getLicenseText(),
 								new HashMap<>());
+						for (int i = 0; i < licenseTokens.length; i++) {
+							licenseTokens[i] = tokenVocabulary.computeIfAbsent(licenseTokens[i], token -> token);
+						}
 						for (Entry<String, String[]> entry : addedLicIdTextMap.entrySet()) {
                             if (LicenseTextHelper.isLicenseTextEquivalent(entry.getValue(), licenseTokens)) {
                                 warnings.add("Duplicates licenses: " + licenseContainer.getV2ListedLicense().getLicenseId() + ", " + entry.getKey());
@@ -604,15 +868,21 @@ public class LicenseRDFAGenerator {
 						addedLicIdTextMap.put(licenseId, licenseTokens);
 					}
 					for (ILicenseFormatWriter writer : writers) {
-						if (writer instanceof LicenseTextFormatWriter) {
-							((LicenseTextFormatWriter)(writer)).writeLicense(licenseContainer, 
-									licenseContainer.getV2ListedLicense().isDeprecated(), 
-									licenseContainer.getV2ListedLicense().getDeprecatedVersion(), !useTestText);
-						} else {
-							writer.writeLicense(licenseContainer, licenseContainer.getV2ListedLicense().isDeprecated(), 
-									licenseContainer.getV2ListedLicense().getDeprecatedVersion());
+						try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(
+								GeneratorMetrics.writerStage(writer.getClass(), "writeLicense"), licenseId)) {
+							if (writer instanceof LicenseTextFormatWriter) {
+								((LicenseTextFormatWriter)(writer)).writeLicense(licenseContainer, 
+										licenseContainer.getV2ListedLicense().isDeprecated(), 
+										licenseContainer.getV2ListedLicense().getDeprecatedVersion(), !useTestText);
+							} else {
+								writer.writeLicense(licenseContainer, licenseContainer.getV2ListedLicense().isDeprecated(), 
+										licenseContainer.getV2ListedLicense().getDeprecatedVersion());
+							}
 						}
 					}
+					tocSummary.addLicense(licenseContainer.getSnapshot(), 
+							licenseContainer.getV2ListedLicense().isDeprecated(),
+							licenseContainer.getV2ListedLicense().getDeprecatedVersion());
 				}
 			}
 			if (addedLicIdTextMap.size() == 1) {
@@ -650,68 +920,60 @@ public class LicenseRDFAGenerator {
 	 * @throws InvalidSPDXAnalysisException 
 	 */
 	private static void addExternalMetaData(ListedLicenseContainer licenseContainer) throws LicenseGeneratorException, InvalidSPDXAnalysisException {
-		Boolean fsfLibre = FsfLicenseDataParser.getFsfLicenseDataParser().isSpdxLicenseFsfLibre(licenseContainer.getV2ListedLicense().getLicenseId());
+		String licenseId = licenseContainer.getV2ListedLicense().getLicenseId();
+		Boolean fsfLibre;
+		try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_FSF_LOOKUP, licenseId)) {
+			fsfLibre = FsfLicenseDataParser.getFsfLicenseDataParser().isSpdxLicenseFsfLibre(licenseId);
+		}
 		licenseContainer.getV2ListedLicense().setFsfLibre(fsfLibre);
-		licenseContainer.getV3ListedLicense().setIsFsfLibre(fsfLibre);
+		// a V3 license which has not been created yet takes the value from the V2 license
+		if (licenseContainer.isV3ListedLicenseCreated()) {
+			licenseContainer.getV3ListedLicense().setIsFsfLibre(fsfLibre);
+		}
 	}
 
 	/**
 	 * Copy a file from the resources directory to a destination file
 	 * @param resourceFileName filename of the file in the resources directory
 	 * @param destination target file - warning, this will be overwritten
+	 * @param outputSink sink the output is written to
 	 * @throws IOException
 	 */
-	private static void copyResourceFile(String resourceFileName, File destination) throws IOException {
+	private static void copyResourceFile(String resourceFileName, File destination, OutputSink outputSink) throws IOException {
 		File resourceFile = new File(resourceFileName);
 		if (resourceFile.exists()) {
-			Files.copy(resourceFile.toPath(), destination.toPath());
+			outputSink.copy(resourceFile.toPath(), destination);
 		} else {
-			InputStream is = LicenseRDFAGenerator.class.getClassLoader().getResourceAsStream(resourceFileName);
-			InputStreamReader reader = new InputStreamReader(is);
-			FileWriter writer = new FileWriter(destination);
-			try {
-				char[] buf = new char[2048];
-				int len = reader.read(buf);
-				while (len > 0) {
-					writer.write(buf, 0, len);
-					len = reader.read(buf);
-				}
-			} finally {
-				if (writer != null) {
-					writer.close();
-				}
-				reader.close();
+			try (InputStream is = LicenseRDFAGenerator.class.getClassLoader().getResourceAsStream(resourceFileName);
+					OutputStream out = outputSink.newOutputStream(destination)) {
+				is.transferTo(out);
 			}
 		}
 	}
 
-	private static void writeCssFile(File dir) throws IOException {
+	private static void writeCssFile(File dir, OutputSink outputSink) throws IOException {
 		File cssFile = new File(dir.getPath()+ File.separator + CSS_FILE_NAME);
-		if (cssFile.exists()) {
-			if (!cssFile.delete()) {
-				throw(new IOException("Unable to delete old file"));
-			}
-		}
-		copyResourceFile(CSS_TEMPLATE_FILE, cssFile);
+		copyResourceFile(CSS_TEMPLATE_FILE, cssFile, outputSink);
 	}
 
-	private static void writeSortTableFile(File dir) throws IOException {
+	private static void writeSortTableFile(File dir, OutputSink outputSink) throws IOException {
 		File sortTableFile = new File(dir.getPath()+ File.separator + SORTTABLE_FILE_NAME);
-		if (sortTableFile.exists()) {
+		if (!(outputSink instanceof ArchiveOutputSink) && sortTableFile.exists()) {
 			return;	// assume we don't need to create it
 		}
-		copyResourceFile(SORTTABLE_JS_FILE, sortTableFile);
+		copyResourceFile(SORTTABLE_JS_FILE, sortTableFile, outputSink);
 	}
 
 	private static void usage() {
 		System.out.println("Usage:");
-		System.out.println("LicenseRDFAGenerator licenseXmlFileOrDir outputDirectory [version] [releasedate] [testfiles] [ignoredwarnings]");
+		System.out.println("LicenseRDFAGenerator licenseXmlFileOrDir outputDirectory [version] [releasedate] [testfiles] [ignoredwarnings] [--jfr[=file]]");
 		System.out.println("   licenseXmlFileOrDir - a license XML file or a directory of license XML files");
 		System.out.println("   outputDirectory - Directory to store the output from the license generator");
 		System.out.println("   [version] - Version of the SPDX license list");
 		System.out.println("   [releasedate] - Release date of the SPDX license list");
 		System.out.println("   [testfiles] - Directory of original text files to compare the generated licenses against");
 		System.out.println("   [ignoredwarnings] - Either a file name or a JSON-formatted collection of warnings to be ignored");
+		System.out.println("   --jfr[=file] - Write a Java Flight Recorder recording of the run to file (default "+GeneratorRecording.DEFAULT_RECORDING_FILE+")");
 	}
 
 }
@@ -0,0 +1,302 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.IModelCopyManager;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseTester;
+import org.spdx.licenselistpublisher.licensegenerator.SimpleLicenseTester;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.LicenseXmlException;
+import org.spdx.licensexml.XmlLicenseProvider;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.utility.compare.SpdxCompareException;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests a directory of license XML files against the matching license texts in a single JVM
+ * <p>
+ * TestLicenseXMLBatch licenseXmlDirectory textDirectory reportFile [testDirectory] [threads]
+ * <p>
+ * Each license or exception found in the XML files is tested against {textDirectory}/{id}.txt
+ * and, if a test directory is supplied, against the files in {testDirectory}/{id}/(license|exception)/(good|bad).
+ * The results are written to the report file in JSON format.
+ *
+ */
+public class LicenseXmlBatchTester {
+
+	static final int MIN_ARGS = 3;
+	static final int MAX_ARGS = 5;
+	static final int ERROR_STATUS = 1;
+	static final int WARNING_STATUS = 64;
+
+	public static final String STATUS_PASSED = "passed";
+	public static final String STATUS_FAILED = "failed";
+	public static final String STATUS_INVALID = "invalid";
+
+	/**
+	 * Result of testing a single license XML file
+	 */
+	public static class FileResult {
+		String file;
+		List<String> ids = new ArrayList<>();
+		String status;
+		List<String> errors = new ArrayList<>();
+
+		public String getFile() {
+			return file;
+		}
+
+		public List<String> getIds() {
+			return ids;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public List<String> getErrors() {
+			return errors;
+		}
+	}
+
+	/**
+	 * Results of testing all license XML files
+	 */
+	public static class BatchReport {
+		int files;
+		int passed;
+		int failed;
+		int invalid;
+		List<FileResult> results = new ArrayList<>();
+
+		public int getFiles() {
+			return files;
+		}
+
+		public int getPassed() {
+			return passed;
+		}
+
+		public int getFailed() {
+			return failed;
+		}
+
+		public int getInvalid() {
+			return invalid;
+		}
+
+		public List<FileResult> getResults() {
+			return results;
+		}
+	}
+
+	/**
+	 * Test all license XML files in a directory and its subdirectories
+	 * @param licenseXmlDirectory directory containing license XML files
+	 * @param textDirectory directory of text files which should match the licenses in the form {license-or-exception-id}.txt
+	 * @param testDirectory optional directory of test files in the form {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt
+	 * @param threads number of files to test concurrently
+	 * @return report of the results for each file sorted by file path
+	 * @throws LicenseGeneratorException on unexpected errors running the tests
+	 */
+	public static BatchReport testLicenseXmlDirectory(File licenseXmlDirectory, File textDirectory,
+			@Nullable File testDirectory, int threads) throws LicenseGeneratorException {
+		List<File> xmlFiles = new ArrayList<>();
+		XmlLicenseProvider.addXmlFiles(licenseXmlDirectory, xmlFiles);
+		LicenseTester tester = Objects.nonNull(testDirectory) ? new LicenseTester(testDirectory) : null;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		BatchReport report = new BatchReport();
+		try {
+			List<Future<FileResult>> futures = new ArrayList<>();
+			for (File xmlFile:xmlFiles) {
+				futures.add(executor.submit(() -> testFile(licenseXmlDirectory, xmlFile, textDirectory, tester)));
+			}
+			for (Future<FileResult> future:futures) {
+				report.results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new LicenseGeneratorException("Interrupted testing license XML files", e);
+		} catch (ExecutionException e) {
+			throw new LicenseGeneratorException("Unexpected error testing license XML files", e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+		report.results.sort(Comparator.comparing(FileResult::getFile));
+		for (FileResult result:report.results) {
+			report.files++;
+			if (STATUS_PASSED.equals(result.status)) {
+				report.passed++;
+			} else if (STATUS_FAILED.equals(result.status)) {
+				report.failed++;
+			} else {
+				report.invalid++;
+			}
+		}
+		return report;
+	}
+
+	/**
+	 * Test a single license XML file using its own model stores so that files can be tested concurrently
+	 */
+	private static FileResult testFile(File licenseXmlDirectory, File xmlFile, File textDirectory,
+			@Nullable LicenseTester tester) throws IOException {
+		FileResult result = new FileResult();
+		result.file = licenseXmlDirectory.toPath().relativize(xmlFile.toPath()).toString().replace(File.separatorChar, '/');
+		IModelStore spdxV2ModelStore = new InMemSpdxStore();
+		IModelStore spdxV3ModelStore = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		try {
+			LicenseXmlDocument licDoc = new LicenseXmlDocument(xmlFile, spdxV2ModelStore, spdxV3ModelStore,
+					copyManager, LicenseXmlTester.createCreationInfo(spdxV3ModelStore, copyManager));
+			for (ListedLicenseContainer license:licDoc.getListedLicenses()) {
+				String id = license.getV2ListedLicense().getLicenseId();
+				result.ids.add(id);
+				result.errors.addAll(SimpleLicenseTester.testLicense(license.getV2ListedLicense(),
+						license.getCompiledTemplate(), new File(textDirectory, id + ".txt")));
+				if (Objects.nonNull(tester)) {
+					result.errors.addAll(tester.testLicense(license));
+				}
+			}
+			for (ListedExceptionContainer exception:licDoc.getLicenseExceptions()) {
+				String id = exception.getV2Exception().getLicenseExceptionId();
+				result.ids.add(id);
+				result.errors.addAll(SimpleLicenseTester.testException(exception.getV2Exception(),
+						exception.getCompiledTemplate(), new File(textDirectory, id + ".txt")));
+				if (Objects.nonNull(tester)) {
+					result.errors.addAll(tester.testException(exception));
+				}
+			}
+			if (result.ids.isEmpty()) {
+				result.errors.add("Empty license XML file - no licenses found");
+			}
+			result.status = result.errors.isEmpty() ? STATUS_PASSED : STATUS_FAILED;
+		} catch (LicenseXmlException e) {
+			result.status = STATUS_INVALID;
+			result.errors.add("Invalid license XML document: "+e.getMessage());
+		} catch (InvalidSPDXAnalysisException e) {
+			result.status = STATUS_INVALID;
+			result.errors.add("Invalid license SPDX definition: "+e.getMessage());
+		} catch (SpdxCompareException e) {
+			result.status = STATUS_INVALID;
+			result.errors.add("Compare error: "+e.getMessage());
+		}
+		return result;
+	}
+
+	/**
+	 * @param args arguments - see usage for documentation
+	 */
+	public static void main(String[] args) {
+		if (args == null || args.length < MIN_ARGS || args.length > MAX_ARGS) {
+			System.out.println("Invalid arguments");
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		File licenseXmlDirectory = new File(args[0]);
+		if (!licenseXmlDirectory.isDirectory()) {
+			System.out.println("License XML directory "+licenseXmlDirectory.getName()+" is not a directory");
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		File textDirectory = new File(args[1]);
+		if (!textDirectory.isDirectory()) {
+			System.out.println("Text directory "+textDirectory.getName()+" is not a directory");
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		File reportFile = new File(args[2]);
+		File testDirectory = null;
+		if (args.length > 3) {
+			testDirectory = new File(args[3]);
+			if (!testDirectory.isDirectory()) {
+				System.out.println("Test directory "+testDirectory.getName()+" is not a directory");
+				usage();
+				System.exit(ERROR_STATUS);
+			}
+		}
+		int threads = Runtime.getRuntime().availableProcessors();
+		if (args.length > 4) {
+			try {
+				threads = Integer.parseInt(args[4]);
+			} catch (NumberFormatException e) {
+				System.out.println("Invalid number of threads "+args[4]);
+				usage();
+				System.exit(ERROR_STATUS);
+			}
+		}
+		try {
+			BatchReport report = testLicenseXmlDirectory(licenseXmlDirectory, textDirectory, testDirectory, threads);
+			writeReport(report, reportFile);
+			System.out.println("Tested "+report.files+" license XML files: "+report.passed+" passed, "+
+					report.failed+" failed, "+report.invalid+" invalid");
+			for (FileResult result:report.results) {
+				if (!result.errors.isEmpty()) {
+					System.out.println(result.file+":");
+					for (String error:result.errors) {
+						System.out.print("\t");
+						System.out.println(error);
+					}
+				}
+			}
+			if (report.invalid > 0) {
+				System.exit(ERROR_STATUS);
+			} else if (report.failed > 0) {
+				System.exit(WARNING_STATUS);
+			}
+		} catch (LicenseGeneratorException e) {
+			System.out.println("Error testing license XML files: "+e.getMessage());
+			System.exit(ERROR_STATUS);
+		} catch (IOException e) {
+			System.out.println("I/O error writing report file: "+e.getMessage());
+			System.exit(ERROR_STATUS);
+		}
+	}
+
+	/**
+	 * Write the report in JSON format
+	 * @param report report to write
+	 * @param reportFile file to write the report to
+	 * @throws IOException on errors writing the file
+	 */
+	public static void writeReport(BatchReport report, File reportFile) throws IOException {
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		try (Writer writer = new OutputStreamWriter(Files.newOutputStream(reportFile.toPath()), StandardCharsets.UTF_8)) {
+			gson.toJson(report, writer);
+		}
+	}
+
+	private static void usage() {
+		System.out.println("Usage:");
+		System.out.println("TestLicenseXMLBatch licenseXmlDirectory textDirectory reportFile [testDirectory] [threads]");
+		System.out.println("   licenseXmlDirectory - directory of license XML files to test");
+		System.out.println("   textDirectory - directory of text files which should match the licenses in the form {license-or-exception-id}.txt");
+		System.out.println("   reportFile - file to write the JSON test report to");
+		System.out.println("   testDirectory - Optional directory of test files in the form {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt");
+		System.out.println("   threads - Optional number of files to test concurrently - defaults to the number of processors");
+	}
+}
@@ -0,0 +1,263 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+import javax.xml.validation.Schema;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseTester;
+import org.spdx.licensexml.LicenseXmlDocument;
+import org.spdx.licensexml.LicenseXmlException;
+import org.spdx.utility.compare.SpdxCompareException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP server which runs the same tests as TestLicenseXML
+ * <p>
+ * The SPDX model, the license XML schema and the test directory index are loaded once and
+ * shared by all requests so that CI jobs testing many files do not pay the JVM startup cost per file.
+ * The schema is always taken from the bundled copy so the server does not require network access.
+ * Request bodies larger than <code>MAX_REQUEST_BYTES</code> are rejected.
+ * <p>
+ * Requests are POSTed to <code>/test</code> as JSON in the form
+ * <code>{"name": "MIT.xml", "licenseXml": "...", "text": "..."}</code>.  The response is JSON in the form
+ * <code>{"status": "passed|failed|invalid", "errors": [...]}</code>
+ * <p>
+ * TestLicenseXMLServer port [testDirectory] [threads]
+ *
+ */
+public class LicenseXmlServer {
+
+	static final Logger logger = LoggerFactory.getLogger(LicenseXmlServer.class);
+
+	static final int MIN_ARGS = 1;
+	static final int MAX_ARGS = 3;
+	static final int ERROR_STATUS = 1;
+
+	public static final String TEST_PATH = "/test";
+	public static final String HEALTH_PATH = "/health";
+
+	public static final String STATUS_PASSED = "passed";
+	public static final String STATUS_FAILED = "failed";
+	public static final String STATUS_INVALID = "invalid";
+
+	/**
+	 * Maximum size of a request body in bytes - larger requests are rejected with a 413 status
+	 */
+	public static final int MAX_REQUEST_BYTES = 4 * 1024 * 1024;
+
+	/**
+	 * Request body for the test endpoint
+	 */
+	public static class TestRequest {
+		String name;
+		String licenseXml;
+		String text;
+
+		public TestRequest(String name, String licenseXml, String text) {
+			this.name = name;
+			this.licenseXml = licenseXml;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Response body for the test endpoint
+	 */
+	public static class TestResponse {
+		String status;
+		List<String> errors;
+
+		public TestResponse(String status, List<String> errors) {
+			this.status = status;
+			this.errors = errors;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public List<String> getErrors() {
+			return errors;
+		}
+	}
+
+	private final Gson gson = new Gson();
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final @Nullable LicenseTester tester;
+	private final Schema schema;
+
+	/**
+	 * @param port port to listen on - if 0, an ephemeral port is chosen
+	 * @param testDirectory optional directory of test files in the form {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt
+	 * @param threads number of requests to handle concurrently
+	 * @throws IOException on errors binding to the port or loading the schema
+	 */
+	public LicenseXmlServer(int port, @Nullable File testDirectory, int threads) throws IOException {
+		SpdxModelFactory.init();
+		try {
+			this.schema = LicenseXmlDocument.getBundledSchema();
+		} catch (LicenseXmlException e) {
+			throw new IOException("Unable to load the license XML schema", e);
+		}
+		this.tester = Objects.nonNull(testDirectory) ? new LicenseTester(testDirectory) : null;
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		this.executor = Executors.newFixedThreadPool(threads);
+		server.setExecutor(executor);
+		server.createContext(TEST_PATH, this::handleTest);
+		server.createContext(HEALTH_PATH, exchange -> writeResponse(exchange, 200, "{\"status\":\"ok\"}"));
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	public void stop() {
+		server.stop(0);
+		executor.shutdown();
+	}
+
+	/**
+	 * @return port the server is listening on
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	private void handleTest(HttpExchange exchange) throws IOException {
+		try {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				exchange.getResponseHeaders().add("Allow", "POST");
+				writeResponse(exchange, 405, gson.toJson(new TestResponse(STATUS_INVALID, List.of("Only POST is supported"))));
+				return;
+			}
+			TestRequest request;
+			try (InputStream is = exchange.getRequestBody()) {
+				byte[] body = is.readNBytes(MAX_REQUEST_BYTES + 1);
+				if (body.length > MAX_REQUEST_BYTES) {
+					writeResponse(exchange, 413, gson.toJson(new TestResponse(STATUS_INVALID, List.of("Request larger than "+MAX_REQUEST_BYTES+" bytes"))));
+					return;
+				}
+				request = gson.fromJson(new String(body, StandardCharsets.UTF_8), TestRequest.class);
+			} catch (JsonParseException e) {
+				writeResponse(exchange, 400, gson.toJson(new TestResponse(STATUS_INVALID, List.of("Invalid JSON request: "+e.getMessage()))));
+				return;
+			}
+			if (Objects.isNull(request) || Objects.isNull(request.licenseXml) || Objects.isNull(request.text)) {
+				writeResponse(exchange, 400, gson.toJson(new TestResponse(STATUS_INVALID, List.of("Missing licenseXml or text"))));
+				return;
+			}
+			writeResponse(exchange, 200, gson.toJson(test(request)));
+		} catch (Exception e) {
+			logger.error("Unexpected error testing license XML", e);
+			writeResponse(exchange, 500, gson.toJson(new TestResponse(STATUS_INVALID, List.of("Unexpected error: "+e.getMessage()))));
+		}
+	}
+
+	/**
+	 * @param request license XML and text to test
+	 * @return results of the test
+	 * @throws IOException on errors reading test files
+	 */
+	TestResponse test(TestRequest request) throws IOException {
+		String name = Objects.nonNull(request.name) ? request.name : "license XML";
+		try {
+			List<String> errors = LicenseXmlTester.testLicenseXml(request.licenseXml, name, request.text, tester, schema);
+			return new TestResponse(errors.isEmpty() ? STATUS_PASSED : STATUS_FAILED, errors);
+		} catch (LicenseXmlException e) {
+			return new TestResponse(STATUS_INVALID, List.of("Invalid license XML document: "+e.getMessage()));
+		} catch (InvalidSPDXAnalysisException e) {
+			return new TestResponse(STATUS_INVALID, List.of("Invalid license SPDX definition: "+e.getMessage()));
+		} catch (SpdxCompareException e) {
+			return new TestResponse(STATUS_INVALID, List.of("Compare error: "+e.getMessage()));
+		}
+	}
+
+	private static void writeResponse(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(body);
+		}
+	}
+
+	/**
+	 * @param args arguments - see usage for documentation
+	 */
+	public static void main(String[] args) {
+		if (args == null || args.length < MIN_ARGS || args.length > MAX_ARGS) {
+			System.out.println("Invalid arguments");
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		int port;
+		try {
+			port = Integer.parseInt(args[0]);
+		} catch (NumberFormatException e) {
+			System.out.println("Invalid port "+args[0]);
+			usage();
+			System.exit(ERROR_STATUS);
+			return;
+		}
+		File testDirectory = null;
+		if (args.length > 1) {
+			testDirectory = new File(args[1]);
+			if (!testDirectory.isDirectory()) {
+				System.out.println("Test directory "+testDirectory.getName()+" is not a directory");
+				usage();
+				System.exit(ERROR_STATUS);
+			}
+		}
+		int threads = Runtime.getRuntime().availableProcessors();
+		if (args.length > 2) {
+			try {
+				threads = Integer.parseInt(args[2]);
+			} catch (NumberFormatException e) {
+				System.out.println("Invalid number of threads "+args[2]);
+				usage();
+				System.exit(ERROR_STATUS);
+			}
+		}
+		try {
+			LicenseXmlServer server = new LicenseXmlServer(port, testDirectory, threads);
+			Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+			server.start();
+			System.out.println("License XML test server listening on http://localhost:"+server.getPort()+TEST_PATH);
+		} catch (IOException e) {
+			System.out.println("Unable to start server: "+e.getMessage());
+			System.exit(ERROR_STATUS);
+		}
+	}
+
+	private static void usage() {
+		System.out.println("Usage:");
+		System.out.println("TestLicenseXMLServer port [testDirectory] [threads]");
+		System.out.println("   port - port to listen on for requests on the loopback interface");
+		System.out.println("   testDirectory - Optional directory of test files in the form {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt");
+		System.out.println("   threads - Optional number of requests to process concurrently - defaults to the number of processors");
+	}
+}
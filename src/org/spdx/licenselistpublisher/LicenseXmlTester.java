@@ -28,6 +28,7 @@ import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.ModelCopyManager;
 import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.library.model.v3_0_1.core.CreationInfo;
 import org.spdx.licenselistpublisher.licensegenerator.LicenseTester;
 import org.spdx.licenselistpublisher.licensegenerator.SimpleLicenseTester;
 import org.spdx.licensexml.LicenseXmlDocument;
@@ -38,6 +39,7 @@ import org.spdx.storage.simple.InMemSpdxStore;
 import org.spdx.utility.compare.SpdxCompareException;
 
 import javax.annotation.Nullable;
+import javax.xml.validation.Schema;
 
 /**
  * Tests a license XML file against license text expected to match
@@ -143,10 +145,8 @@ public class LicenseXmlTester {
 		IModelStore spdxV2ModelStore = new InMemSpdxStore();
 		IModelStore spdxV3ModelStore = new InMemSpdxStore();
 		IModelCopyManager copyManager = new ModelCopyManager();
-		DateFormat format = new SimpleDateFormat(SpdxConstantsV3.SPDX_DATE_FORMAT);
-		String now = format.format(new Date());
 		LicenseXmlDocument licDoc = new LicenseXmlDocument(licenseXmlFile, spdxV2ModelStore, spdxV3ModelStore,
-				copyManager, XmlLicenseProvider.createCreationInfo(spdxV3ModelStore, copyManager, now, "3.25.0" ));
+				copyManager, createCreationInfo(spdxV3ModelStore, copyManager));
 		List<ListedLicenseContainer> licenses = licDoc.getListedLicenses();
 		if (licenses.isEmpty()) {
             return List.of("Empty license XML file - no licenses found");
@@ -154,7 +154,8 @@ public class LicenseXmlTester {
 		if (licenses.size() > 1) {
 			return List.of("More than one licenses found");
 		}
-		List<String> retval = SimpleLicenseTester.testLicense(licenses.get(0).getV2ListedLicense(), testFile);
+		List<String> retval = SimpleLicenseTester.testLicense(licenses.get(0).getV2ListedLicense(),
+				licenses.get(0).getCompiledTemplate(), testFile);
 		if (Objects.nonNull(testDirectory)) {
 			LicenseTester tester = new LicenseTester(testDirectory);
 			retval.addAll(tester.testLicense(licenses.get(0)));
@@ -162,6 +163,46 @@ public class LicenseXmlTester {
 		return retval;
 	}
 
+	/**
+	 * test license XML content against text and optionally a tester for a directory of test files
+	 * @param licenseXml content of a license XML document
+	 * @param documentName name used to identify the license XML in error messages
+	 * @param testText text which should match the license
+	 * @param tester optional tester for the directory of test files - may be shared between calls
+	 * @param schema schema to validate the license XML against
+	 * @return list of errors when comparing - if empty, no errors occurs
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @throws LicenseXmlException on errors parsing the LicenseXML
+	 * @throws IOException on errors reading the test files
+	 */
+	public static List<String> testLicenseXml(String licenseXml, String documentName, String testText, @Nullable LicenseTester tester,
+			Schema schema) throws InvalidSPDXAnalysisException, LicenseXmlException, IOException, SpdxCompareException {
+		IModelStore spdxV2ModelStore = new InMemSpdxStore();
+		IModelStore spdxV3ModelStore = new InMemSpdxStore();
+		IModelCopyManager copyManager = new ModelCopyManager();
+		LicenseXmlDocument licDoc = new LicenseXmlDocument(licenseXml, documentName, schema, spdxV2ModelStore, spdxV3ModelStore,
+				copyManager, createCreationInfo(spdxV3ModelStore, copyManager));
+		List<ListedLicenseContainer> licenses = licDoc.getListedLicenses();
+		if (licenses.isEmpty()) {
+            return List.of("Empty license XML file - no licenses found");
+		}
+		if (licenses.size() > 1) {
+			return List.of("More than one licenses found");
+		}
+		List<String> retval = SimpleLicenseTester.testLicenseText(licenses.get(0).getV2ListedLicense(),
+				licenses.get(0).getCompiledTemplate(), testText);
+		if (Objects.nonNull(tester)) {
+			retval.addAll(tester.testLicense(licenses.get(0)));
+		}
+		return retval;
+	}
+
+	static CreationInfo createCreationInfo(IModelStore spdxV3ModelStore, IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		DateFormat format = new SimpleDateFormat(SpdxConstantsV3.SPDX_DATE_FORMAT);
+		String now = format.format(new Date());
+		return XmlLicenseProvider.createCreationInfo(spdxV3ModelStore, copyManager, now, "3.25.0" );
+	}
+
 	private static void usage() {
 		System.out.println("Usage:");
 		System.out.println("TestLicenseXML licenseXmlFile textFile");
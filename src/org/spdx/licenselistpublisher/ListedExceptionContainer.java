@@ -18,7 +18,12 @@
 */
 package org.spdx.licenselistpublisher;
 
+import java.util.Objects;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicenseException;
+import org.spdx.licenselistpublisher.licensegenerator.CompiledLicenseTemplate;
+import org.spdx.licenselistpublisher.licensegenerator.ExceptionSnapshot;
 
 /**
  * Simple class that holds both the SPDX Spec version 2 and SPDX Spec version 3 forms of the Listed License Exceptions
@@ -26,9 +31,25 @@ import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicenseException;
  * @author Gary O'Neall
  */
 public class ListedExceptionContainer {
+
+	/**
+	 * Creates the SPDX Spec version 3 form of a listed license exception the first time it is used
+	 */
+	@FunctionalInterface
+	public interface V3ExceptionFactory {
+		/**
+		 * @param v2Exception current SPDX Spec version 2 form of the exception
+		 * @return SPDX Spec version 3 form of the exception
+		 * @throws InvalidSPDXAnalysisException on errors creating the exception
+		 */
+		ListedLicenseException create(org.spdx.library.model.v2.license.ListedLicenseException v2Exception) throws InvalidSPDXAnalysisException;
+	}
 	
 	private org.spdx.library.model.v2.license.ListedLicenseException v2Exception;
 	private ListedLicenseException v3Exception;
+	private V3ExceptionFactory v3Factory = null;
+	private CompiledLicenseTemplate compiledTemplate = null;
+	private ExceptionSnapshot snapshot = null;
 	
 	public ListedExceptionContainer(org.spdx.library.model.v2.license.ListedLicenseException v2Exception,
 			ListedLicenseException v3Exception) {
@@ -36,6 +57,18 @@ public class ListedExceptionContainer {
 		this.v3Exception = v3Exception;
 	}
 
+	/**
+	 * The V3 exception is not created until it is first retrieved with <code>getOrCreateV3Exception</code>, so runs
+	 * which do not write SPDX Spec version 3 formats do not build the V3 models
+	 * @param v2Exception the v2Exception
+	 * @param v3Factory creates the v3Exception from the v2Exception on first use
+	 */
+	public ListedExceptionContainer(org.spdx.library.model.v2.license.ListedLicenseException v2Exception,
+			V3ExceptionFactory v3Factory) {
+		this.v2Exception = v2Exception;
+		this.v3Factory = v3Factory;
+	}
+
 	/**
 	 * @return the v2Exception
 	 */
@@ -49,19 +82,69 @@ public class ListedExceptionContainer {
 	public void setV2Exception(
 			org.spdx.library.model.v2.license.ListedLicenseException v2Exception) {
 		this.v2Exception = v2Exception;
+		this.compiledTemplate = null;
+		this.snapshot = null;
+	}
+
+	/**
+	 * @return the v3Exception - null if the container creates it on first use and it has not been created yet
+	 */
+	public synchronized ListedLicenseException getV3Exception() {
+		return v3Exception;
 	}
 
 	/**
-	 * @return the v3Exception
+	 * @return the v3Exception, created from the current v2Exception if this is the first use
+	 * @throws InvalidSPDXAnalysisException on errors creating the v3Exception
 	 */
-	public ListedLicenseException getV3Exception() {
+	public synchronized ListedLicenseException getOrCreateV3Exception() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(v3Exception) && Objects.nonNull(v3Factory)) {
+			v3Exception = v3Factory.create(v2Exception);
+			v3Factory = null;
+		}
 		return v3Exception;
 	}
 
 	/**
 	 * @param v3Exception the v3Exception to set
 	 */
-	public void setV3Exception(ListedLicenseException v3Exception) {
+	public synchronized void setV3Exception(ListedLicenseException v3Exception) {
 		this.v3Exception = v3Exception;
+		this.v3Factory = null;
+	}
+
+	/**
+	 * Changes to the v2Exception only need to be copied to the v3Exception once it has been created
+	 * @return true if the v3Exception has been created
+	 */
+	public synchronized boolean isV3ExceptionCreated() {
+		return Objects.nonNull(v3Exception);
+	}
+
+	/**
+	 * The compiled template is shared by all testers and URL matching for the exception.
+	 * It is discarded when the V2 exception is replaced.
+	 * @return the template compiled from the V2 exception
+	 * @throws InvalidSPDXAnalysisException on errors retrieving the template
+	 */
+	public synchronized CompiledLicenseTemplate getCompiledTemplate() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(compiledTemplate)) {
+			compiledTemplate = CompiledLicenseTemplate.forException(v2Exception);
+		}
+		return compiledTemplate;
+	}
+
+	/**
+	 * The snapshot is read by the format writers in place of the V2 exception getters.
+	 * It is taken the first time it is used, so any changes to the V2 exception must be made before the exception is written,
+	 * and it is discarded when the V2 exception is replaced.
+	 * @return immutable copy of the V2 exception fields
+	 * @throws InvalidSPDXAnalysisException on errors reading the V2 exception
+	 */
+	public synchronized ExceptionSnapshot getSnapshot() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(snapshot)) {
+			snapshot = new ExceptionSnapshot(v2Exception);
+		}
+		return snapshot;
 	}
 }
@@ -18,7 +18,13 @@
 */
 package org.spdx.licenselistpublisher;
 
+import java.util.Objects;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
+import org.spdx.licenselistpublisher.licensegenerator.CompiledLicenseTemplate;
+import org.spdx.licenselistpublisher.licensegenerator.LicenseSnapshot;
 
 /**
  * Simple class that holds both the SPDX Spec version 2 and SPDX Spec version 3 forms of the Listed License
@@ -26,9 +32,25 @@ import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
  * @author Gary O'Neall
  */
 public class ListedLicenseContainer {
+
+	/**
+	 * Creates the SPDX Spec version 3 form of a listed license the first time it is used
+	 */
+	@FunctionalInterface
+	public interface V3LicenseFactory {
+		/**
+		 * @param v2ListedLicense current SPDX Spec version 2 form of the license
+		 * @return SPDX Spec version 3 form of the license
+		 * @throws InvalidSPDXAnalysisException on errors creating the license
+		 */
+		ListedLicense create(SpdxListedLicense v2ListedLicense) throws InvalidSPDXAnalysisException;
+	}
 	
 	private org.spdx.library.model.v2.license.SpdxListedLicense v2ListedLicense;
 	private ListedLicense v3ListedLicense;
+	private V3LicenseFactory v3Factory = null;
+	private CompiledLicenseTemplate compiledTemplate = null;
+	private LicenseSnapshot snapshot = null;
 
 	public ListedLicenseContainer(org.spdx.library.model.v2.license.SpdxListedLicense v2ListedLicense,
 			ListedLicense v3ListedLicense) {
@@ -36,6 +58,18 @@ public class ListedLicenseContainer {
 		this.v3ListedLicense = v3ListedLicense;
 	}
 
+	/**
+	 * The V3 license is not created until it is first retrieved with <code>getOrCreateV3ListedLicense</code>, so runs
+	 * which do not write SPDX Spec version 3 formats do not build the V3 models
+	 * @param v2ListedLicense the v2ListedLicense
+	 * @param v3Factory creates the v3ListedLicense from the v2ListedLicense on first use
+	 */
+	public ListedLicenseContainer(org.spdx.library.model.v2.license.SpdxListedLicense v2ListedLicense,
+			V3LicenseFactory v3Factory) {
+		this.v2ListedLicense = v2ListedLicense;
+		this.v3Factory = v3Factory;
+	}
+
 	/**
 	 * @return the v2ListedLicense
 	 */
@@ -49,21 +83,69 @@ public class ListedLicenseContainer {
 	public void setV2ListedLicense(
 			org.spdx.library.model.v2.license.SpdxListedLicense v2ListedLicense) {
 		this.v2ListedLicense = v2ListedLicense;
+		this.compiledTemplate = null;
+		this.snapshot = null;
+	}
+
+	/**
+	 * @return the v3ListedLicense - null if the container creates it on first use and it has not been created yet
+	 */
+	public synchronized ListedLicense getV3ListedLicense() {
+		return v3ListedLicense;
 	}
 
 	/**
-	 * @return the v3ListedLicense
+	 * @return the v3ListedLicense, created from the current v2ListedLicense if this is the first use
+	 * @throws InvalidSPDXAnalysisException on errors creating the v3ListedLicense
 	 */
-	public ListedLicense getV3ListedLicense() {
+	public synchronized ListedLicense getOrCreateV3ListedLicense() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(v3ListedLicense) && Objects.nonNull(v3Factory)) {
+			v3ListedLicense = v3Factory.create(v2ListedLicense);
+			v3Factory = null;
+		}
 		return v3ListedLicense;
 	}
 
 	/**
 	 * @param v3ListedLicense the v3ListedLicense to set
 	 */
-	public void setV3ListedLicense(ListedLicense v3ListedLicense) {
+	public synchronized void setV3ListedLicense(ListedLicense v3ListedLicense) {
 		this.v3ListedLicense = v3ListedLicense;
+		this.v3Factory = null;
+	}
+
+	/**
+	 * Changes to the v2ListedLicense only need to be copied to the v3ListedLicense once it has been created
+	 * @return true if the v3ListedLicense has been created
+	 */
+	public synchronized boolean isV3ListedLicenseCreated() {
+		return Objects.nonNull(v3ListedLicense);
+	}
+
+	/**
+	 * The compiled template is shared by all testers and URL matching for the license.
+	 * It is discarded when the V2 license is replaced.
+	 * @return the template compiled from the V2 license
+	 * @throws InvalidSPDXAnalysisException on errors retrieving the template
+	 */
+	public synchronized CompiledLicenseTemplate getCompiledTemplate() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(compiledTemplate)) {
+			compiledTemplate = CompiledLicenseTemplate.forLicense(v2ListedLicense);
+		}
+		return compiledTemplate;
+	}
+
+	/**
+	 * The snapshot is read by the format writers in place of the V2 license getters.
+	 * It is taken the first time it is used, so any changes to the V2 license must be made before the license is written,
+	 * and it is discarded when the V2 license is replaced.
+	 * @return immutable copy of the V2 license fields
+	 * @throws InvalidSPDXAnalysisException on errors reading the V2 license
+	 */
+	public synchronized LicenseSnapshot getSnapshot() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(snapshot)) {
+			snapshot = new LicenseSnapshot(v2ListedLicense);
+		}
+		return snapshot;
 	}
-	
-	
 }
@@ -26,6 +26,10 @@ public class Main {
 			LicenseRDFAGenerator.main(args);
 		} else if ("TestLicenseXML".equals(spdxTool)) {
 			LicenseXmlTester.main(args);
+		} else if ("TestLicenseXMLBatch".equals(spdxTool)) {
+			LicenseXmlBatchTester.main(args);
+		} else if ("TestLicenseXMLServer".equals(spdxTool)) {
+			LicenseXmlServer.main(args);
 		} else {
 			usage();
 		}
@@ -35,5 +39,7 @@ public class Main {
 		System.out.println("Usage: java -jar spdx-tools-jar-with-dependencies.jar <function> <parameters>");
 		System.out.println("LicenseRDFAGenerator - Generates license data");
 		System.out.println("TestLicenseXML - Tests a license XML file");
+		System.out.println("TestLicenseXMLBatch - Tests a directory of license XML files");
+		System.out.println("TestLicenseXMLServer - Serves TestLicenseXML requests over HTTP");
 	}
 }
@@ -19,13 +19,15 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.htmltemplates.ExceptionTocRow;
+import org.spdx.htmltemplates.LicenseTocRow;
 import org.spdx.library.model.v2.license.LicenseException;
+import org.spdx.library.model.v2.license.ListedLicenseException;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenselistpublisher.licensegenerator.TocSummary;
 
 /**
  * Holds license information and generates a file in markdown format which links to the HTML version of the license files
@@ -34,76 +36,25 @@ import org.spdx.library.model.v2.license.SpdxListedLicense;
  */
 public class MarkdownTable {
 
-	class ExceptionInfo {
-		public boolean isDeprecated() {
-			return deprecated;
-		}
-
-		public void setDeprecated(boolean deprecated) {
-			this.deprecated = deprecated;
-		}
-		private String id;
-		private String name;
-		private boolean deprecated;
-
-		private ExceptionInfo(String id, String name, boolean deprecated) {
-			this.id = id;
-			this.name = name;
-			this.deprecated = deprecated;
-		}
-
-		public String getId() {
-			return id;
-		}
-		public void setId(String id) {
-			this.id = id;
-		}
-		public String getName() {
-			return name;
-		}
-		public void setName(String name) {
-			this.name = name;
-		}
-	}
-
-	class LicenseInfo extends ExceptionInfo {
-		private boolean isOsiApproved;
-		private boolean isFsfLibre;
-
-		public LicenseInfo(String id, String name, boolean deprecated, boolean isOsiApproved, boolean isFsfLibre) {
-			super(id, name, deprecated);
-			this.isOsiApproved = isOsiApproved;
-			this.isFsfLibre = isFsfLibre;
-		}
-
-		public boolean isOsiApproved() {
-			return isOsiApproved;
-		}
-
-		public void setOsiApproved(boolean isOsiApproved) {
-			this.isOsiApproved = isOsiApproved;
-		}
-
-		public boolean isFsfLibre() {
-			return isFsfLibre;
-		}
-
-		public void setFsfLibre(boolean isFsfLibre) {
-			this.isFsfLibre = isFsfLibre;
-		}
-	}
-
-	List<ExceptionInfo> exceptions = new ArrayList<ExceptionInfo>();
-	List<LicenseInfo> licenses = new ArrayList<LicenseInfo>();
+	private final TocSummary tocSummary;
 
 	private String licenseListVersion;
 
 	public MarkdownTable(String licenseListVersion) {
+		this(licenseListVersion, new TocSummary());
+	}
+
+	/**
+	 * @param licenseListVersion license list version
+	 * @param tocSummary summary of the licenses and exceptions to include in the table of contents
+	 */
+	public MarkdownTable(String licenseListVersion, TocSummary tocSummary) {
 		if (licenseListVersion == null) {
 			this.licenseListVersion = "UNKNOWN";
 		} else {
 			this.licenseListVersion = licenseListVersion;
 		}
+		this.tocSummary = tocSummary;
 	}
 	/**
 	 * Add an exception to be added to the markdown table of contents
@@ -112,7 +63,8 @@ public class MarkdownTable {
 	 * @throws InvalidSPDXAnalysisException 
 	 */
 	public void addException(LicenseException exception, boolean deprecated) throws InvalidSPDXAnalysisException {
-		exceptions.add(new ExceptionInfo(exception.getLicenseExceptionId(), exception.getName(), deprecated));
+		tocSummary.addException(exception, deprecated, exception instanceof ListedLicenseException ? 
+				((ListedLicenseException)exception).getDeprecatedVersion() : null);
 	}
 
 	/**
@@ -122,7 +74,7 @@ public class MarkdownTable {
 	 * @throws InvalidSPDXAnalysisException 
 	 */
 	public void addLicense(SpdxListedLicense license, boolean deprecated) throws InvalidSPDXAnalysisException {
-		licenses.add(new LicenseInfo(license.getLicenseId(), license.getName(), deprecated, license.isOsiApproved(), license.isFsfLibre()));
+		tocSummary.addLicense(license, deprecated, license.getDeprecatedVersion());
 	}
 
 	/**
@@ -149,30 +101,16 @@ public class MarkdownTable {
 	 * @throws IOException
 	 */
 	public void writeTOC(Writer writer) throws IOException {
-		exceptions.sort(new Comparator<ExceptionInfo>() {
-
-			@Override
-			public int compare(ExceptionInfo arg0, ExceptionInfo arg1) {
-				return arg0.getId().compareToIgnoreCase(arg1.getId());
-			}
-
-		});
-		licenses.sort(new Comparator<LicenseInfo>() {
-
-			@Override
-			public int compare(LicenseInfo arg0, LicenseInfo arg1) {
-				return arg0.getId().compareToIgnoreCase(arg1.getId());
-			}
-
-		});
+		List<ExceptionTocRow> exceptions = tocSummary.getExceptions();
+		List<LicenseTocRow> licenses = tocSummary.getLicenses();
 		int maxLicenseName = "Full Name of License".length();
 		int maxExceptionName = "Full Name of Exception".length();
 		int maxDeprecatedLicenseName = "Full Name of License".length();
 		int maxShortIdLength = "Deprecated SPDX License Identifier".length();
 
-		for (LicenseInfo li:licenses) {
-			if (li.getId().length()+4 > maxShortIdLength) {
-				maxShortIdLength = li.getId().length()+4;
+		for (LicenseTocRow li:licenses) {
+			if (li.getLicenseId().length()+4 > maxShortIdLength) {
+				maxShortIdLength = li.getLicenseId().length()+4;
 			}
 			if (li.isDeprecated()) {
 				if (li.getName().length() > maxDeprecatedLicenseName) {
@@ -185,9 +123,9 @@ public class MarkdownTable {
 			}
 		}
 
-		for (ExceptionInfo ei:exceptions) {
-			if (ei.getId().length()+4 > maxShortIdLength) {
-				maxShortIdLength = ei.getId().length()+4;
+		for (ExceptionTocRow ei:exceptions) {
+			if (ei.getLicenseExceptionId().length()+4 > maxShortIdLength) {
+				maxShortIdLength = ei.getLicenseExceptionId().length()+4;
 			}
 			if (ei.getName().length() > maxExceptionName) {
 				maxExceptionName = ei.getName().length();
@@ -212,11 +150,11 @@ public class MarkdownTable {
 		addFill(writer, '-', 9);
 		writer.write("-|\n");
 		String licenseTableRowFormat = "| %-"+maxLicenseName+"s | %-"+maxShortIdLength+"s | %-4s | %-9s |\n";
-		for (LicenseInfo li:licenses) {
+		for (LicenseTocRow li:licenses) {
 			if (!li.isDeprecated()) {
-				String idStr = formatIdString(li.getId(),maxShortIdLength);
+				String idStr = formatIdString(li.getLicenseId(),maxShortIdLength);
 				writer.write(String.format(licenseTableRowFormat, li.getName(), idStr,
-						(li.isOsiApproved)?"Y":"", (li.isFsfLibre())?"Y":""));
+						(li.isOsiApproved())?"Y":"", (li.isFsfLibre())?"Y":""));
 			}
 		}
 		writer.write("\n");
@@ -231,9 +169,9 @@ public class MarkdownTable {
 		addFill(writer, '-', maxShortIdLength);
 		writer.write("-|\n");
 		String exceptionTableRowFormat = "| %-"+maxExceptionName+"s | %-"+maxShortIdLength+"s |\n";
-		for (ExceptionInfo ei:exceptions) {
+		for (ExceptionTocRow ei:exceptions) {
 			if (!ei.isDeprecated()) {
-				String idStr = formatIdString(ei.getId(),maxShortIdLength);
+				String idStr = formatIdString(ei.getLicenseExceptionId(),maxShortIdLength);
 				writer.write(String.format(exceptionTableRowFormat, ei.getName(), idStr));
 			}
 		}
@@ -249,20 +187,20 @@ public class MarkdownTable {
 				addFill(writer, '-', maxShortIdLength);
 				writer.write("-|\n");
 				String deprecatedLicenseTableRowFormat = "| %-"+maxLicenseName+"s | %-"+maxShortIdLength+"s \n";
-				for (LicenseInfo li:licenses) {
+				for (LicenseTocRow li:licenses) {
 					if (li.isDeprecated()) {
-						String idStr = formatIdString(li.getId(),maxShortIdLength);
+						String idStr = formatIdString(li.getLicenseId(),maxShortIdLength);
 						writer.write(String.format(deprecatedLicenseTableRowFormat, li.getName(), idStr));
 					}
 				}
 		// print the links
 		writer.write("\n");
 		String linkFormat = "[%s]: text/%s.txt\n";
-		for (LicenseInfo li:licenses) {
-			writer.write(String.format(linkFormat, li.getId(), li.getId()));
+		for (LicenseTocRow li:licenses) {
+			writer.write(String.format(linkFormat, li.getLicenseId(), li.getLicenseId()));
 		}
-		for (ExceptionInfo ei:exceptions) {
-			writer.write(String.format(linkFormat, ei.getId(), ei.getId()));
+		for (ExceptionTocRow ei:exceptions) {
+			writer.write(String.format(linkFormat, ei.getLicenseExceptionId(), ei.getLicenseExceptionId()));
 		}
 
 	}
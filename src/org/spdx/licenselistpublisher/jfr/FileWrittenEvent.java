@@ -0,0 +1,50 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An output file written by one of the license format writers
+ *
+ */
+@Name("org.spdx.licenselistpublisher.FileWritten")
+@Label("File Written")
+@Category({"SPDX", "License List Publisher"})
+@Description("Output file written to the output folder or archive")
+public class FileWrittenEvent extends Event {
+
+	@Label("Path")
+	public String path;
+
+	@Label("Size")
+	@DataAmount
+	public long bytes;
+
+	@Label("Unchanged")
+	@Description("True if the file was not rewritten because its content had not changed")
+	public boolean unchanged;
+
+	/**
+	 * End the event and commit it if it is enabled - used by all of the output sinks
+	 * @param path path of the file or archive entry
+	 * @param bytes size of the file
+	 * @param unchanged true if the file was not rewritten
+	 */
+	public void complete(String path, long bytes, boolean unchanged) {
+		end();
+		if (shouldCommit()) {
+			this.path = path;
+			this.bytes = bytes;
+			this.unchanged = unchanged;
+			commit();
+		}
+	}
+}
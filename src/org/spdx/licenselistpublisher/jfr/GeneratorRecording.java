@@ -0,0 +1,86 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Flight recording of a run of the license generator
+ * <p>
+ * The recording uses the JDK default settings along with the license generator events and is written to the
+ * destination file when it is closed.
+ *
+ */
+public class GeneratorRecording implements AutoCloseable {
+
+	/**
+	 * Command line flag to record a run - <code>--jfr</code> or <code>--jfr=file</code>
+	 */
+	public static final String JFR_FLAG = "--jfr";
+	public static final String DEFAULT_RECORDING_FILE = "license-generator.jfr";
+	static final String JDK_CONFIGURATION = "default";
+
+	private final Recording recording;
+	private final Path destination;
+
+	/**
+	 * Start a recording
+	 * @param destination file the recording is written to when closed
+	 * @throws IOException if the destination can not be written
+	 * @throws ParseException if the JDK settings can not be read
+	 */
+	public GeneratorRecording(Path destination) throws IOException, ParseException {
+		this.destination = destination;
+		recording = new Recording(Configuration.getConfiguration(JDK_CONFIGURATION));
+		recording.setName("License List Publisher");
+		recording.setDestination(destination);
+		recording.enable(LicenseParsedEvent.class);
+		recording.enable(UrlCheckedEvent.class);
+		recording.enable(TestExecutedEvent.class);
+		recording.enable(FileWrittenEvent.class);
+		recording.enable(TocWrittenEvent.class);
+		recording.start();
+	}
+
+	/**
+	 * @param arg command line argument
+	 * @return true if the argument is the flag to record the run
+	 */
+	public static boolean isJfrFlag(String arg) {
+		return JFR_FLAG.equals(arg) || arg.startsWith(JFR_FLAG + "=");
+	}
+
+	/**
+	 * @param arg command line flag to record the run
+	 * @return the recording file from the flag or the default recording file if none was specified
+	 */
+	public static String recordingFile(String arg) {
+		return arg.length() > JFR_FLAG.length() + 1 ? arg.substring(JFR_FLAG.length() + 1) : DEFAULT_RECORDING_FILE;
+	}
+
+	/**
+	 * @return file the recording is written to
+	 */
+	public Path getDestination() {
+		return destination;
+	}
+
+	/**
+	 * Stop the recording and write it to the destination
+	 */
+	@Override
+	public void close() {
+		try {
+			recording.stop();
+		} finally {
+			recording.close();
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A license XML document parsed and validated against the schema
+ *
+ */
+@Name("org.spdx.licenselistpublisher.LicenseParsed")
+@Label("License Parsed")
+@Category({"SPDX", "License List Publisher"})
+@Description("License XML document parsed and validated")
+public class LicenseParsedEvent extends Event {
+
+	@Label("Document Name")
+	@Description("Name of the license XML file")
+	public String documentName;
+
+	@Label("Size")
+	@DataAmount
+	public long bytes;
+
+	@Label("Valid")
+	@Description("False if the document could not be parsed or is not valid")
+	public boolean valid;
+}
@@ -0,0 +1,33 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The tests run for a license or exception
+ *
+ */
+@Name("org.spdx.licenselistpublisher.TestExecuted")
+@Label("Test Executed")
+@Category({"SPDX", "License List Publisher"})
+@Description("License or exception tested against its test files")
+public class TestExecutedEvent extends Event {
+
+	@Label("License ID")
+	@Description("License or exception ID")
+	public String licenseId;
+
+	@Label("Exception")
+	public boolean exception;
+
+	@Label("Failures")
+	@Description("Number of failed tests")
+	public int failures;
+}
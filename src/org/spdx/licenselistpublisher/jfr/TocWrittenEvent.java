@@ -0,0 +1,25 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The table of contents written by a license format writer
+ *
+ */
+@Name("org.spdx.licenselistpublisher.TocWritten")
+@Label("Table of Contents Written")
+@Category({"SPDX", "License List Publisher"})
+@Description("Table of contents written by a license format writer")
+public class TocWrittenEvent extends Event {
+
+	@Label("Writer")
+	public Class<?> writer;
+}
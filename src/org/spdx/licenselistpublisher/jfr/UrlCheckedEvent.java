@@ -0,0 +1,39 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A cross reference URL checked for a license
+ *
+ */
+@Name("org.spdx.licenselistpublisher.UrlChecked")
+@Label("URL Checked")
+@Category({"SPDX", "License List Publisher"})
+@Description("Cross reference URL checked for validity, liveness and matching text")
+public class UrlCheckedEvent extends Event {
+
+	@Label("License ID")
+	public String licenseId;
+
+	@Label("URL")
+	public String url;
+
+	@Label("OSI API")
+	@Description("True if the details were provided by the OSI API rather than fetching the URL")
+	public boolean osi;
+
+	@Label("Live")
+	public boolean live;
+
+	@Label("Match")
+	@Description("Result of matching the text at the URL to the license")
+	public String match;
+}
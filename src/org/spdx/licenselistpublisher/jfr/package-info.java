@@ -0,0 +1,9 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+/**
+ * Java Flight Recorder events for the license generator pipeline, viewable in JDK Mission Control
+ *
+ */
+package org.spdx.licenselistpublisher.jfr;
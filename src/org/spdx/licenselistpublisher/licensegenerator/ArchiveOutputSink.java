@@ -0,0 +1,313 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.spdx.licenselistpublisher.jfr.FileWrittenEvent;
+
+/**
+ * Writes all of the output files as entries in a single zip or tar archive
+ * <p>
+ * Each file is buffered in memory until it is closed and then queued for a single writer thread which appends
+ * the entries to the archive in the order they are completed.  The queue is bounded so the format writers are
+ * held back if the archive can not be written as fast as the files are produced.  Entry names are the paths of the
+ * files relative to the root output folder, which is not written to.
+ * <p>
+ * Errors writing the archive are reported by the next file written or by <code>close</code>.
+ *
+ */
+public class ArchiveOutputSink implements OutputSink {
+
+	/**
+	 * Supported archive formats
+	 */
+	public enum Format {
+		ZIP, TAR, TAR_GZ;
+
+		/**
+		 * @param archive archive file
+		 * @return format matching the extension of the archive file
+		 * @throws IllegalArgumentException if the extension is not .zip, .tar, .tar.gz or .tgz
+		 */
+		public static Format forFile(File archive) {
+			String name = archive.getName().toLowerCase(Locale.ROOT);
+			if (name.endsWith(".zip")) {
+				return ZIP;
+			} else if (name.endsWith(".tar")) {
+				return TAR;
+			} else if (name.endsWith(".tar.gz") || name.endsWith(".tgz")) {
+				return TAR_GZ;
+			} else {
+				throw new IllegalArgumentException("Unsupported archive file type for "+archive.getName()+" - must be .zip, .tar, .tar.gz or .tgz");
+			}
+		}
+	}
+
+	static final int QUEUE_CAPACITY = 64;
+
+	/**
+	 * Written by a format writer thread and read by the archive writer thread
+	 */
+	private static class Entry {
+		final String name;
+		final byte[] content;
+
+		Entry(String name, byte[] content) {
+			this.name = name;
+			this.content = content;
+		}
+	}
+
+	private static final Entry END = new Entry("", new byte[0]);
+
+	private final Path root;
+	private final ArchiveWriter archiveWriter;
+	private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private final Thread writerThread;
+	private volatile IOException error = null;
+	private boolean closed = false;
+
+	/**
+	 * @param archive archive file to create - the format is taken from the file extension
+	 * @param root root output folder - entry names are relative to this folder
+	 * @throws IOException on errors creating the archive file
+	 */
+	public ArchiveOutputSink(File archive, File root) throws IOException {
+		this(archive, root, Format.forFile(archive));
+	}
+
+	/**
+	 * @param archive archive file to create
+	 * @param root root output folder - entry names are relative to this folder
+	 * @param format archive format
+	 * @throws IOException on errors creating the archive file
+	 */
+	public ArchiveOutputSink(File archive, File root, Format format) throws IOException {
+		this.root = root.toPath().toAbsolutePath().normalize();
+		OutputStream out = new BufferedOutputStream(Files.newOutputStream(archive.toPath()));
+		long modified = System.currentTimeMillis();
+		switch (format) {
+			case ZIP: archiveWriter = new ZipArchiveWriter(out, modified); break;
+			case TAR: archiveWriter = new TarArchiveWriter(out, modified); break;
+			case TAR_GZ: archiveWriter = new TarArchiveWriter(new GZIPOutputStream(out), modified); break;
+			default: out.close(); throw new IllegalArgumentException("Unsupported archive format "+format);
+		}
+		writerThread = new Thread(this::writeEntries, "archive-writer-" + archive.getName());
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	/**
+	 * @param file file in the output folder
+	 * @return name of the archive entry for the file
+	 * @throws IOException if the file is not in the root output folder
+	 */
+	String entryName(File file) throws IOException {
+		Path path = file.toPath().toAbsolutePath().normalize();
+		if (!path.startsWith(root) || path.equals(root)) {
+			throw new IOException("Output file "+file.getPath()+" is not in the output folder "+root);
+		}
+		return root.relativize(path).toString().replace(File.separatorChar, '/');
+	}
+
+	@Override
+	public OutputStream newOutputStream(File file) throws IOException {
+		String name = entryName(file);
+		checkError();
+		return new ByteArrayOutputStream() {
+			private boolean entryClosed = false;
+
+			@Override
+			public void close() throws IOException {
+				if (!entryClosed) {
+					entryClosed = true;
+					enqueue(new Entry(name, toByteArray()));
+				}
+			}
+		};
+	}
+
+	@Override
+	public void write(File file, byte[] content) throws IOException {
+		enqueue(new Entry(entryName(file), content));
+	}
+
+	@Override
+	public void copy(Path source, File file) throws IOException {
+		enqueue(new Entry(entryName(file), Files.readAllBytes(source)));
+	}
+
+	@Override
+	public void createFolder(File folder) throws IOException {
+		// folders are implied by the entry names
+		if (!folder.toPath().toAbsolutePath().normalize().startsWith(root)) {
+			throw new IOException("Output folder "+folder.getPath()+" is not in the output folder "+root);
+		}
+	}
+
+	private void enqueue(Entry entry) throws IOException {
+		FileWrittenEvent event = new FileWrittenEvent();
+		event.begin();
+		checkError();
+		synchronized (this) {
+			if (closed) {
+				throw new IOException("Archive is closed - unable to add "+entry.name);
+			}
+		}
+		try {
+			queue.put(entry);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted adding "+entry.name+" to the archive");
+		}
+		event.complete(entry.name, entry.content.length, false);
+	}
+
+	private void checkError() throws IOException {
+		IOException e = error;
+		if (Objects.nonNull(e)) {
+			throw new IOException("Error writing the output archive: "+e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Runs on the writer thread until the end entry is queued
+	 */
+	private void writeEntries() {
+		Set<String> names = new HashSet<>();
+		try {
+			while (true) {
+				Entry entry = queue.take();
+				if (entry == END) {
+					break;
+				}
+				if (Objects.nonNull(error)) {
+					continue;	// drain the queue so the format writers are not blocked
+				}
+				try {
+					if (!names.add(entry.name)) {
+						throw new IOException("Duplicate output file "+entry.name);
+					}
+					archiveWriter.write(entry.name, entry.content);
+				} catch (IOException e) {
+					error = e;
+				}
+			}
+		} catch (InterruptedException e) {
+			error = new InterruptedIOException("Interrupted writing the output archive");
+		} finally {
+			try {
+				archiveWriter.close();
+			} catch (IOException e) {
+				if (Objects.isNull(error)) {
+					error = e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wait for all of the queued entries to be written and complete the archive
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+		try {
+			queue.put(END);
+			writerThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted completing the output archive");
+		}
+		checkError();
+	}
+
+	/**
+	 * Appends entries to an archive - only used from the writer thread
+	 */
+	private interface ArchiveWriter {
+		void write(String name, byte[] content) throws IOException;
+		void close() throws IOException;
+	}
+
+	private static class ZipArchiveWriter implements ArchiveWriter {
+		private final ZipOutputStream zip;
+		private final long modified;
+
+		ZipArchiveWriter(OutputStream out, long modified) {
+			this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+			this.modified = modified;
+		}
+
+		@Override
+		public void write(String name, byte[] content) throws IOException {
+			ZipEntry entry = new ZipEntry(name);
+			entry.setTime(modified);
+			zip.putNextEntry(entry);
+			zip.write(content);
+			zip.closeEntry();
+		}
+
+		@Override
+		public void close() throws IOException {
+			zip.close();
+		}
+	}
+
+	/**
+	 * Writes tar entries - long names and large sizes use POSIX (PAX) extended headers
+	 */
+	private static class TarArchiveWriter implements ArchiveWriter {
+		private final TarArchiveOutputStream tar;
+		private final long modified;
+
+		TarArchiveWriter(OutputStream out, long modified) {
+			this.tar = new TarArchiveOutputStream(out, StandardCharsets.UTF_8.name());
+			this.tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+			this.tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+			this.modified = modified;
+		}
+
+		@Override
+		public void write(String name, byte[] content) throws IOException {
+			TarArchiveEntry entry = new TarArchiveEntry(name);
+			entry.setSize(content.length);
+			entry.setModTime(modified);
+			tar.putArchiveEntry(entry);
+			tar.write(content);
+			tar.closeArchiveEntry();
+		}
+
+		@Override
+		public void close() throws IOException {
+			tar.close();
+		}
+	}
+}
@@ -0,0 +1,263 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.utility.compare.LicenseCompareHelper;
+import org.spdx.utility.compare.SpdxCompareException;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * License tester which caches the results of another tester in a JSON file
+ * <p>
+ * The results are keyed on a SHA-256 hash of the license or exception ID, the template and text used in the tests,
+ * the contents of each test file, the tester class and the java-spdx-library version.  If any of these change,
+ * the tests are run again.  Only the results used in a run are written back to the cache file.
+ *
+ */
+public class CachingLicenseTester implements ILicenseTester, Closeable {
+
+	static final Logger logger = LoggerFactory.getLogger(CachingLicenseTester.class);
+
+	/**
+	 * Incremented when a change to the publisher would change the test results for the same inputs
+	 */
+	static final String CACHE_FORMAT_VERSION = "1";
+	static final String SPDX_LIBRARY_POM_PROPERTIES = "/META-INF/maven/org.spdx/java-spdx-library/pom.properties";
+
+	private static final Type CACHE_TYPE = new TypeToken<Map<String, List<String>>>() {}.getType();
+
+	private final ILicenseTester tester;
+	private final File cacheFile;
+	private final Map<String, List<String>> cachedResults;
+	private final Map<String, List<String>> usedResults = new ConcurrentHashMap<>();
+	private final String libraryVersion;
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * @param tester tester whose results are cached
+	 * @param cacheFile file containing the cached results - created if it does not exist
+	 */
+	public CachingLicenseTester(ILicenseTester tester, File cacheFile) {
+		this.tester = tester;
+		this.cacheFile = cacheFile;
+		this.cachedResults = readCache(cacheFile);
+		this.libraryVersion = getLibraryVersion();
+	}
+
+	private static Map<String, List<String>> readCache(File cacheFile) {
+		Map<String, List<String>> retval = new ConcurrentHashMap<>();
+		if (cacheFile.isFile()) {
+			try (Reader reader = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8)) {
+				Map<String, List<String>> results = new Gson().fromJson(reader, CACHE_TYPE);
+				if (Objects.nonNull(results)) {
+					retval.putAll(results);
+				}
+			} catch (IOException | JsonParseException e) {
+				logger.warn("Unable to read the license test cache {} - all tests will be run", cacheFile, e);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @return the java-spdx-library version from the library jar
+	 */
+	static String getLibraryVersion() {
+		try (InputStream is = LicenseCompareHelper.class.getResourceAsStream(SPDX_LIBRARY_POM_PROPERTIES)) {
+			if (Objects.nonNull(is)) {
+				Properties properties = new Properties();
+				properties.load(is);
+				String version = properties.getProperty("version");
+				if (Objects.nonNull(version)) {
+					return version;
+				}
+			}
+		} catch (IOException e) {
+			logger.warn("Unable to read the java-spdx-library version", e);
+		}
+		// fall back to the location of the library so that a different library is a different key
+		return String.valueOf(LicenseCompareHelper.class.getProtectionDomain().getCodeSource());
+	}
+
+	@Override
+	public List<String> testLicense(ListedLicenseContainer licenseContainer) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
+		String licenseId = licenseContainer.getV2ListedLicense().getLicenseId();
+		List<Path> testFiles = tester.getLicenseTestFiles(licenseId);
+		if (Objects.isNull(testFiles)) {
+			return tester.testLicense(licenseContainer);
+		}
+		String key = cacheKey(testFiles, "license", licenseId,
+				String.valueOf(licenseContainer.getV2ListedLicense().isDeprecated()),
+				licenseContainer.getCompiledTemplate().getCompareTemplate());
+		List<String> results = cachedResults.get(key);
+		if (Objects.isNull(results)) {
+			results = tester.testLicense(licenseContainer);
+			misses.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+		usedResults.put(key, results);
+		return new ArrayList<>(results);
+	}
+
+	@Override
+	public List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
+		String exceptionId = exceptionContainer.getV2Exception().getLicenseExceptionId();
+		List<Path> testFiles = tester.getExceptionTestFiles(exceptionId);
+		if (Objects.isNull(testFiles)) {
+			return tester.testException(exceptionContainer);
+		}
+		String key = cacheKey(testFiles, "exception", exceptionId,
+				String.valueOf(exceptionContainer.getV2Exception().isDeprecated()),
+				exceptionContainer.getCompiledTemplate().getCompareTemplate(),
+				exceptionContainer.getV2Exception().getLicenseExceptionText());
+		List<String> results = cachedResults.get(key);
+		if (Objects.isNull(results)) {
+			results = tester.testException(exceptionContainer);
+			misses.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+		usedResults.put(key, results);
+		return new ArrayList<>(results);
+	}
+
+	/**
+	 * @return number of test results found in the cache
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of tests which were run
+	 */
+	public int getMisses() {
+		return misses.get();
+	}
+
+	@Override
+	public String getStatistics() {
+		return "Used "+getHits()+" cached test results, ran "+getMisses()+" tests";
+	}
+
+	/**
+	 * @param testFiles files used by the test
+	 * @param values values used by the test
+	 * @return hex encoded SHA-256 of the values and test file contents
+	 * @throws IOException on errors reading the test files
+	 */
+	private String cacheKey(List<Path> testFiles, String... values) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 is not supported", e);
+		}
+		update(digest, CACHE_FORMAT_VERSION);
+		update(digest, libraryVersion);
+		update(digest, tester.getClass().getName());
+		for (String value:values) {
+			update(digest, Objects.isNull(value) ? "" : value);
+		}
+		for (Path testFile:testFiles) {
+			// the file name and whether the test is good or bad are part of the results
+			Path parent = testFile.getParent();
+			update(digest, (Objects.isNull(parent) || Objects.isNull(parent.getFileName()) ? "" : parent.getFileName() + "/") +
+					testFile.getFileName());
+			byte[] content = Files.readAllBytes(testFile);
+			update(digest, String.valueOf(content.length));
+			digest.update(content);
+		}
+		StringBuilder sb = new StringBuilder();
+		for (byte b:digest.digest()) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Add a length prefixed string to the digest so that adjacent values can not run into each other
+	 */
+	private static void update(MessageDigest digest, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		digest.update(String.valueOf(bytes.length).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte)':');
+		digest.update(bytes);
+	}
+
+	@Override
+	public @Nullable String getLicenseTestText(String licenseId) throws IOException {
+		return tester.getLicenseTestText(licenseId);
+	}
+
+	@Override
+	public @Nullable String getExceptionTestText(String licenseExceptionId) throws IOException {
+		return tester.getExceptionTestText(licenseExceptionId);
+	}
+
+	@Override
+	public @Nullable List<Path> getLicenseTestFiles(String licenseId) {
+		return tester.getLicenseTestFiles(licenseId);
+	}
+
+	@Override
+	public @Nullable List<Path> getExceptionTestFiles(String licenseExceptionId) {
+		return tester.getExceptionTestFiles(licenseExceptionId);
+	}
+
+	/**
+	 * Write the results used in this run to the cache file
+	 * @throws IOException on errors writing the cache file
+	 */
+	@Override
+	public void close() throws IOException {
+		Path cachePath = cacheFile.toPath().toAbsolutePath();
+		Files.createDirectories(cachePath.getParent());
+		Path tempFile = Files.createTempFile(cachePath.getParent(), cacheFile.getName(), ".tmp");
+		try {
+			try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				new GsonBuilder().create().toJson(new TreeMap<>(usedResults), CACHE_TYPE, writer);
+			}
+			Files.move(tempFile, cachePath, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+}
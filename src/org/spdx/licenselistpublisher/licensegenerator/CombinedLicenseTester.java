@@ -14,6 +14,8 @@ import org.spdx.utility.compare.SpdxCompareException;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,7 +37,7 @@ public class CombinedLicenseTester implements ILicenseTester {
     }
 
     @Override
-    public List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, InvalidSPDXAnalysisException {
+    public List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
         List<String> retval = simpleLicenseTester.testException(exceptionContainer);
         retval.addAll(licenseTester.testException(exceptionContainer));
         return retval;
@@ -59,4 +61,25 @@ public class CombinedLicenseTester implements ILicenseTester {
     public String getExceptionTestText(String licenseExceptionId) throws IOException {
         return simpleLicenseTester.getExceptionTestText(licenseExceptionId);
     }
+
+    @Nullable
+    @Override
+    public List<Path> getLicenseTestFiles(String licenseId) {
+        return combine(simpleLicenseTester.getLicenseTestFiles(licenseId), licenseTester.getLicenseTestFiles(licenseId));
+    }
+
+    @Nullable
+    @Override
+    public List<Path> getExceptionTestFiles(String licenseExceptionId) {
+        return combine(simpleLicenseTester.getExceptionTestFiles(licenseExceptionId), licenseTester.getExceptionTestFiles(licenseExceptionId));
+    }
+
+    private static @Nullable List<Path> combine(@Nullable List<Path> simpleTestFiles, @Nullable List<Path> testFiles) {
+        if (simpleTestFiles == null || testFiles == null) {
+            return null;
+        }
+        List<Path> retval = new ArrayList<>(simpleTestFiles);
+        retval.addAll(testFiles);
+        return retval;
+    }
 }
@@ -0,0 +1,233 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.license.License;
+import org.spdx.library.model.v2.license.LicenseException;
+import org.spdx.licenseTemplate.ILicenseTemplateOutputHandler;
+import org.spdx.licenseTemplate.LicenseParserException;
+import org.spdx.licenseTemplate.LicenseTemplateRule;
+import org.spdx.licenseTemplate.LicenseTemplateRuleException;
+import org.spdx.licenseTemplate.LicenseTextHelper;
+import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
+import org.spdx.utility.compare.CompareTemplateOutputHandler;
+import org.spdx.utility.compare.CompareTemplateOutputHandler.DifferenceDescription;
+import org.spdx.utility.compare.LicenseCompareHelper;
+import org.spdx.utility.compare.SpdxCompareException;
+import org.spdx.utility.compare.TemplateRegexMatcher;
+
+/**
+ * License or exception template which is parsed once and reused for every text compared against it
+ * <p>
+ * The results are the same as <code>LicenseCompareHelper.isTextStandardLicense</code>,
+ * <code>LicenseCompareHelper.isTextStandardException</code> and
+ * <code>LicenseCompareHelper.isStandardLicenseWithinText</code>.  The template is parsed into a list of
+ * template events the first time it is used and the events are replayed into a new compare handler for each text.
+ * <p>
+ * Instances are thread safe.
+ *
+ */
+public class CompiledLicenseTemplate {
+
+	static final Logger logger = LoggerFactory.getLogger(CompiledLicenseTemplate.class);
+
+	/**
+	 * Template event recorded while parsing the template
+	 */
+	private interface TemplateEvent {
+		void replay(ILicenseTemplateOutputHandler handler) throws LicenseTemplateRuleException;
+	}
+
+	/**
+	 * Records the template parse events so they can be replayed
+	 */
+	private static class TemplateEventRecorder implements ILicenseTemplateOutputHandler {
+
+		List<TemplateEvent> events = new ArrayList<>();
+
+		@Override
+		public void text(String text) {
+			events.add(handler -> handler.text(text));
+		}
+
+		@Override
+		public void variableRule(LicenseTemplateRule rule) {
+			events.add(handler -> handler.variableRule(copyRule(rule)));
+		}
+
+		@Override
+		public void beginOptional(LicenseTemplateRule rule) {
+			events.add(handler -> handler.beginOptional(copyRule(rule)));
+		}
+
+		@Override
+		public void endOptional(LicenseTemplateRule rule) {
+			events.add(handler -> handler.endOptional(copyRule(rule)));
+		}
+
+		@Override
+		public void completeParsing() {
+			// completeParsing is called on each replay
+		}
+	}
+
+	private final String id;
+	private final String compareTemplate;
+	private final @Nullable String standardTemplate;
+	private List<TemplateEvent> events = null;
+	private SpdxCompareException compileException = null;
+	private TemplateRegexMatcher regexMatcher = null;
+	private boolean regexMatcherFailed = false;
+
+	/**
+	 * @param id license or exception ID used in log messages
+	 * @param compareTemplate template used for comparing full texts
+	 * @param standardTemplate standard template used for finding the license within a larger text
+	 */
+	private CompiledLicenseTemplate(String id, String compareTemplate, @Nullable String standardTemplate) {
+		this.id = id;
+		this.compareTemplate = compareTemplate;
+		this.standardTemplate = standardTemplate;
+	}
+
+	/**
+	 * @param license license to compile the template for - the license text is used if there is no template
+	 * @return compiled template for the license
+	 * @throws InvalidSPDXAnalysisException on errors retrieving the template
+	 */
+	public static CompiledLicenseTemplate forLicense(License license) throws InvalidSPDXAnalysisException {
+		String standardTemplate = license.getStandardLicenseTemplate();
+		String compareTemplate = standardTemplate;
+		if (compareTemplate == null || compareTemplate.trim().isEmpty()) {
+			compareTemplate = license.getLicenseText();
+		}
+		return new CompiledLicenseTemplate(license.getId(), compareTemplate, standardTemplate);
+	}
+
+	/**
+	 * @param exception exception to compile the template for - the exception text is used if there is no template
+	 * @return compiled template for the exception
+	 * @throws InvalidSPDXAnalysisException on errors retrieving the template
+	 */
+	public static CompiledLicenseTemplate forException(LicenseException exception) throws InvalidSPDXAnalysisException {
+		String standardTemplate = exception.getLicenseExceptionTemplate();
+		String compareTemplate = standardTemplate;
+		if (compareTemplate == null || compareTemplate.trim().isEmpty()) {
+			compareTemplate = exception.getLicenseExceptionText();
+		}
+		return new CompiledLicenseTemplate(exception.getId(), compareTemplate, standardTemplate);
+	}
+
+	/**
+	 * @return template used for comparing full texts
+	 */
+	public String getCompareTemplate() {
+		return compareTemplate;
+	}
+
+	/**
+	 * @return the recorded template events, parsing the template if it has not already been parsed
+	 * @throws SpdxCompareException if the template is invalid
+	 */
+	private synchronized List<TemplateEvent> getEvents() throws SpdxCompareException {
+		if (Objects.isNull(events) && Objects.isNull(compileException)) {
+			TemplateEventRecorder recorder = new TemplateEventRecorder();
+			try {
+				SpdxLicenseTemplateHelper.parseTemplate(LicenseCompareHelper.removeCommentChars(compareTemplate), recorder);
+				events = Collections.unmodifiableList(recorder.events);
+			} catch (LicenseTemplateRuleException e) {
+				compileException = new SpdxCompareException("Invalid template rule found during compare: "+e.getMessage(),e);
+			} catch (LicenseParserException e) {
+				compileException = new SpdxCompareException("Invalid template found during compare: "+e.getMessage(),e);
+			}
+		}
+		if (Objects.nonNull(compileException)) {
+			throw compileException;
+		}
+		return events;
+	}
+
+	/**
+	 * Compare text to the template
+	 * @param text text to compare
+	 * @return description of the differences
+	 * @throws SpdxCompareException on invalid templates or errors reading the text
+	 */
+	public DifferenceDescription compare(String text) throws SpdxCompareException {
+		List<TemplateEvent> templateEvents = getEvents();
+		CompareTemplateOutputHandler compareHandler;
+		try {
+			compareHandler = new CompareTemplateOutputHandler(LicenseTextHelper.removeLineSeparators(LicenseCompareHelper.removeCommentChars(text)));
+		} catch (IOException e) {
+			throw new SpdxCompareException("IO Error reading the compare text: "+e.getMessage(),e);
+		}
+		try {
+			for (TemplateEvent event:templateEvents) {
+				event.replay(compareHandler);
+			}
+			compareHandler.completeParsing();
+		} catch (LicenseTemplateRuleException e) {
+			throw new SpdxCompareException("Invalid template rule found during compare: "+e.getMessage(),e);
+		} catch (LicenseParserException e) {
+			throw new SpdxCompareException("Invalid template found during compare: "+e.getMessage(),e);
+		}
+		return compareHandler.getDifferences();
+	}
+
+	/**
+	 * @param text text to search
+	 * @return true if the standard license template is found within the text
+	 */
+	public boolean isWithinText(String text) {
+		TemplateRegexMatcher matcher = getRegexMatcher();
+		if (Objects.isNull(matcher)) {
+			return false;
+		}
+		try {
+			synchronized(matcher) {
+				return matcher.isTemplateMatchWithinText(text);
+			}
+		} catch (SpdxCompareException e) {
+			logger.warn("Compare error getting optional text for license {}", id, e);
+			return false;
+		} catch (InvalidSPDXAnalysisException e) {
+			logger.warn("SPDX error getting optional text for license {}", id, e);
+			return false;
+		}
+	}
+
+	private synchronized @Nullable TemplateRegexMatcher getRegexMatcher() {
+		if (Objects.isNull(regexMatcher) && !regexMatcherFailed) {
+			try {
+				regexMatcher = new TemplateRegexMatcher(standardTemplate);
+			} catch (SpdxCompareException e) {
+				logger.warn("Compare error getting optional text for license {}", id, e);
+				regexMatcherFailed = true;
+			}
+		}
+		return regexMatcher;
+	}
+
+	/**
+	 * The compare handler may update rules when it merges adjacent rules, so each replay gets its own copy
+	 */
+	private static LicenseTemplateRule copyRule(LicenseTemplateRule rule) throws LicenseTemplateRuleException {
+		LicenseTemplateRule copy = new LicenseTemplateRule(rule.getName(), rule.getType(), "", rule.getMatch(), "");
+		copy.setOriginal(rule.getOriginal());
+		copy.setExample(rule.getExample());
+		return copy;
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+import org.spdx.licenselistpublisher.jfr.FileWrittenEvent;
+
+/**
+ * Writes each output file directly to the file system
+ * <p>
+ * This is the default sink for all of the license format writers.
+ *
+ */
+public class DirectoryOutputSink implements OutputSink {
+
+	/**
+	 * The directory sink has no state, so a single instance is shared
+	 */
+	public static final DirectoryOutputSink INSTANCE = new DirectoryOutputSink();
+
+	private DirectoryOutputSink() {
+		// use INSTANCE
+	}
+
+	@Override
+	public OutputStream newOutputStream(File file) throws IOException {
+		FileWrittenEvent event = new FileWrittenEvent();
+		event.begin();
+		createParent(file);
+		return new BufferedOutputStream(new FilterOutputStream(Files.newOutputStream(file.toPath())) {
+			private long bytes = 0;
+			private boolean fileClosed = false;
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				out.write(b, off, len);
+				bytes += len;
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				out.write(b);
+				bytes++;
+			}
+
+			@Override
+			public void close() throws IOException {
+				super.close();
+				if (!fileClosed) {
+					fileClosed = true;
+					event.complete(file.getPath(), bytes, false);
+				}
+			}
+		});
+	}
+
+	private void createParent(File file) throws IOException {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (Objects.nonNull(parent)) {
+			createFolder(parent);
+		}
+	}
+
+	@Override
+	public void createFolder(File folder) throws IOException {
+		if (!folder.isDirectory() && !folder.mkdirs() && !folder.isDirectory()) {
+			throw new IOException("Unable to create folder "+folder.getPath());
+		}
+	}
+
+	@Override
+	public void move(Path source, File file) throws IOException {
+		FileWrittenEvent event = new FileWrittenEvent();
+		event.begin();
+		createParent(file);
+		Files.move(source, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		event.complete(file.getPath(), file.length(), false);
+	}
+
+	@Override
+	public void close() {
+		// each file is closed when it is written
+	}
+}
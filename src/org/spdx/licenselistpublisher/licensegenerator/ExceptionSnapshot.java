@@ -0,0 +1,94 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.license.ListedLicenseException;
+
+/**
+ * Immutable copy of the fields of a listed license exception read by the format writers
+ * <p>
+ * See <code>LicenseSnapshot</code> - the snapshot is not updated if the exception is changed after it is taken.
+ *
+ */
+public class ExceptionSnapshot {
+
+	private final String licenseExceptionId;
+	private final String name;
+	private final String fileName;
+	private final String licenseExceptionText;
+	private final String exceptionTextHtml;
+	private final @Nullable String licenseExceptionTemplate;
+	private final @Nullable String comment;
+	private final boolean deprecated;
+	private final @Nullable String deprecatedVersion;
+	private final List<String> seeAlso;
+
+	/**
+	 * @param exception exception to copy
+	 * @throws InvalidSPDXAnalysisException on errors reading the exception
+	 */
+	public ExceptionSnapshot(ListedLicenseException exception) throws InvalidSPDXAnalysisException {
+		this.licenseExceptionId = exception.getLicenseExceptionId();
+		this.name = exception.getName();
+		this.fileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(licenseExceptionId);
+		this.licenseExceptionText = exception.getLicenseExceptionText();
+		this.exceptionTextHtml = exception.getExceptionTextHtml();
+		this.licenseExceptionTemplate = exception.getLicenseExceptionTemplate();
+		this.comment = exception.getComment();
+		this.deprecated = exception.isDeprecated();
+		this.deprecatedVersion = exception.getDeprecatedVersion();
+		this.seeAlso = Collections.unmodifiableList(new ArrayList<>(exception.getSeeAlso()));
+	}
+
+	public String getLicenseExceptionId() {
+		return licenseExceptionId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return base name of the files for the exception without an extension
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	public String getLicenseExceptionText() {
+		return licenseExceptionText;
+	}
+
+	public String getExceptionTextHtml() {
+		return exceptionTextHtml;
+	}
+
+	public @Nullable String getLicenseExceptionTemplate() {
+		return licenseExceptionTemplate;
+	}
+
+	public @Nullable String getComment() {
+		return comment;
+	}
+
+	public boolean isDeprecated() {
+		return deprecated;
+	}
+
+	public @Nullable String getDeprecatedVersion() {
+		return deprecatedVersion;
+	}
+
+	public List<String> getSeeAlso() {
+		return seeAlso;
+	}
+}
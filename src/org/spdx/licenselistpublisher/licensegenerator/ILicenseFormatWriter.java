@@ -58,4 +58,25 @@ public interface ILicenseFormatWriter {
 	 */
 	void writeException(ListedExceptionContainer exceptionContainer) throws IOException, LicenseGeneratorException, InvalidLicenseTemplateException, InvalidSPDXAnalysisException;
 
+	/**
+	 * @return sink the files for the format are written to
+	 */
+	OutputSink getOutputSink();
+
+	/**
+	 * @param outputSink sink the files for the format are written to - defaults to writing the files directly
+	 */
+	void setOutputSink(OutputSink outputSink);
+
+	/**
+	 * Build the table of contents from a summary shared with other writers rather than from rows kept by the writer
+	 * <p>
+	 * The licenses and exceptions are added to the shared summary by its owner, so the writer no longer adds them.
+	 * Writers without a table of contents built from the summary ignore it.
+	 * @param tocSummary summary of the licenses and exceptions
+	 */
+	default void setTocSummary(TocSummary tocSummary) {
+		// no table of contents rows
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -38,9 +39,10 @@ public interface ILicenseTester {
 	 * @param exceptionContainer Exception to test
 	 * @return list of test failure descriptions.  List is empty if all tests pass.
 	 * @throws IOException on I/O error reading test file(s)
+	 * @throws SpdxCompareException on error executing the compare
 	 * @throws InvalidSPDXAnalysisException on error parsing SPDX licenses
 	 */
-    List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, InvalidSPDXAnalysisException;
+    List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException;
 
 	/**
 	 * Test a license against the license test files
@@ -66,4 +68,27 @@ public interface ILicenseTester {
 	 */
 	@Nullable String getExceptionTestText(String licenseExceptionId) throws IOException;
 
+	/**
+	 * @param licenseId license ID
+	 * @return files read when testing the license, used to detect changes to the tests - null if the results can not be cached
+	 */
+	default @Nullable List<Path> getLicenseTestFiles(String licenseId) {
+		return null;
+	}
+
+	/**
+	 * @param licenseExceptionId license exception ID
+	 * @return files read when testing the exception, used to detect changes to the tests - null if the results can not be cached
+	 */
+	default @Nullable List<Path> getExceptionTestFiles(String licenseExceptionId) {
+		return null;
+	}
+
+	/**
+	 * @return summary of the tests run for the end of the run - null if there is nothing to report
+	 */
+	default @Nullable String getStatistics() {
+		return null;
+	}
+
 }
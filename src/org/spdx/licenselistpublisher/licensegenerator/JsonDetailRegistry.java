@@ -0,0 +1,108 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.license.ListedLicenseException;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
+import org.spdx.storage.listedlicense.ExceptionJson;
+import org.spdx.storage.listedlicense.LicenseJson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Shares the JSON detail document for a license or exception between the JSON and website writers
+ * <p>
+ * The detail document is built and encoded once per license or exception and the same bytes are written to
+ * <code>json/details</code> or <code>json/exceptions</code> and to the website folder.  The cross references in
+ * the license details are always sorted by their order and then by URL - previously only the JSON writer sorted them
+ * and the website used the unspecified order of the model store.
+ * <p>
+ * The licenses and exceptions are written one at a time by all of the writers, so only the document for the
+ * most recent license or exception is kept.
+ *
+ */
+public class JsonDetailRegistry {
+
+	private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+	private String cachedKey = null;
+	private byte[] cachedDetails = null;
+	private int encodings = 0;
+
+	/**
+	 * @param license license
+	 * @return UTF-8 encoded JSON details for the license
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 * @throws InvalidLicenseTemplateException on errors converting the license template
+	 */
+	public synchronized byte[] getLicenseDetails(SpdxListedLicense license) throws InvalidSPDXAnalysisException, InvalidLicenseTemplateException {
+		String key = "license:" + license.getLicenseId();
+		if (!key.equals(cachedKey)) {
+			LicenseJson licJson = new LicenseJson();
+			licJson.copyFrom(license);
+			licJson.sortCrossRef();
+			cache(key, licJson);
+		}
+		return cachedDetails;
+	}
+
+	/**
+	 * @param exception license exception
+	 * @return UTF-8 encoded JSON details for the exception
+	 * @throws InvalidSPDXAnalysisException on errors reading the exception
+	 */
+	public synchronized byte[] getExceptionDetails(ListedLicenseException exception) throws InvalidSPDXAnalysisException {
+		String key = "exception:" + exception.getLicenseExceptionId();
+		if (!key.equals(cachedKey)) {
+			ExceptionJson exceptionJson = new ExceptionJson();
+			exceptionJson.copyFrom(exception);
+			cache(key, exceptionJson);
+		}
+		return cachedDetails;
+	}
+
+	private void cache(String key, Object jsonSerializableObject) {
+		cachedDetails = JsonOutput.encode(gson, jsonSerializableObject);
+		cachedKey = key;
+		encodings++;
+	}
+
+	/**
+	 * Write the JSON details for a license
+	 * @param license license
+	 * @param file file to write
+	 * @param outputSink sink to write the file to
+	 * @throws IOException on errors writing the file
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 * @throws InvalidLicenseTemplateException on errors converting the license template
+	 */
+	public void writeLicenseDetails(SpdxListedLicense license, File file, OutputSink outputSink) throws IOException, InvalidSPDXAnalysisException, InvalidLicenseTemplateException {
+		outputSink.write(file, getLicenseDetails(license));
+	}
+
+	/**
+	 * Write the JSON details for an exception
+	 * @param exception license exception
+	 * @param file file to write
+	 * @param outputSink sink to write the file to
+	 * @throws IOException on errors writing the file
+	 * @throws InvalidSPDXAnalysisException on errors reading the exception
+	 */
+	public void writeExceptionDetails(ListedLicenseException exception, File file, OutputSink outputSink) throws IOException, InvalidSPDXAnalysisException {
+		outputSink.write(file, getExceptionDetails(exception));
+	}
+
+	/**
+	 * @return number of licenses and exceptions encoded
+	 */
+	public synchronized int getEncodingCount() {
+		return encodings;
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Streams Gson serialization to files and byte arrays
+ * <p>
+ * The output is the same as <code>gson.toJson(object)</code> encoded in UTF-8, but the JSON is written through a
+ * <code>JsonWriter</code> rather than being built as a string first.
+ *
+ */
+public class JsonOutput {
+
+	private JsonOutput() {
+		// static methods only
+	}
+
+	/**
+	 * Serialize a Gson compatible POJO class to a file
+	 * @param gson Gson used to serialize the object - the pretty printing and other settings are used
+	 * @param jsonSerializableObject object to serialize
+	 * @param file file to write to
+	 * @throws IOException on errors writing the file
+	 */
+	public static void write(Gson gson, Object jsonSerializableObject, File file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			write(gson, jsonSerializableObject, writer);
+		}
+	}
+
+	/**
+	 * Serialize a Gson compatible POJO class to UTF-8 bytes
+	 * @param gson Gson used to serialize the object
+	 * @param jsonSerializableObject object to serialize
+	 * @return the UTF-8 encoded JSON
+	 */
+	public static byte[] encode(Gson gson, Object jsonSerializableObject) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+			write(gson, jsonSerializableObject, writer);
+		} catch (IOException e) {
+			throw new JsonIOException("Unexpected I/O error encoding JSON in memory", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Serialize a Gson compatible POJO class to a writer
+	 * @param gson Gson used to serialize the object
+	 * @param jsonSerializableObject object to serialize
+	 * @param writer writer for the JSON - flushed but not closed
+	 * @throws IOException on errors writing the JSON
+	 */
+	public static void write(Gson gson, Object jsonSerializableObject, Writer writer) throws IOException {
+		// the JsonWriter is not closed since that would close the writer owned by the caller
+		JsonWriter jsonWriter = gson.newJsonWriter(writer);
+		try {
+			gson.toJson(jsonSerializableObject, jsonSerializableObject.getClass(), jsonWriter);
+		} catch (JsonIOException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException)e.getCause();
+			}
+			throw e;
+		}
+		jsonWriter.flush();
+	}
+}
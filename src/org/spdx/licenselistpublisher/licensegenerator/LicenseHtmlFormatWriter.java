@@ -18,13 +18,10 @@ package org.spdx.licenselistpublisher.licensegenerator;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
-import org.spdx.library.model.v2.license.ListedLicenseException;
-import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
 import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
@@ -53,6 +50,7 @@ public class LicenseHtmlFormatWriter implements ILicenseFormatWriter {
 
 	private File htmlFolder;
 	private Charset utf8 = Charset.forName("UTF-8");
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param version License list version
@@ -77,19 +75,29 @@ public class LicenseHtmlFormatWriter implements ILicenseFormatWriter {
 		this.htmlFolder = htmlFolder;
 	}
 
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.licenselistpublisher.licensegenerator.ILicenseFormatWriter#addLicense(org.spdx.rdfparser.license.SpdxListedLicense, boolean)
 	 */
 	@Override
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, String deprecatedVersion) throws IOException, InvalidSPDXAnalysisException {
-		SpdxListedLicense license = licenseContainer.getV2ListedLicense();
-		String licBaseHtmlFileName = formLicenseHTMLFileName(license.getLicenseId());
+		LicenseSnapshot license = licenseContainer.getSnapshot();
+		String licBaseHtmlFileName = license.getFileName();
 		String licHtmlFileName = licBaseHtmlFileName + ".html";
 		File htmlTextFile = new File(htmlFolder.getPath() + File.separator + licHtmlFileName);
 		try {
-			Files.write(htmlTextFile.toPath(), license.getLicenseTextHtml().getBytes(utf8));
+			outputSink.write(htmlTextFile, license.getLicenseTextHtml().getBytes(utf8));
 		} catch (InvalidLicenseTemplateException e) {
-			Files.write(htmlTextFile.toPath(), SpdxLicenseTemplateHelper.formatEscapeHTML(license.getLicenseText()).getBytes(utf8));
+			outputSink.write(htmlTextFile, SpdxLicenseTemplateHelper.formatEscapeHTML(license.getLicenseText()).getBytes(utf8));
 		}
 	}
 
@@ -124,10 +132,10 @@ public class LicenseHtmlFormatWriter implements ILicenseFormatWriter {
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, InvalidSPDXAnalysisException {
-		ListedLicenseException exception = exceptionContainer.getV2Exception();
-		String exceptionHtmlFileName = formLicenseHTMLFileName(exception.getLicenseExceptionId());
+		ExceptionSnapshot exception = exceptionContainer.getSnapshot();
+		String exceptionHtmlFileName = exception.getFileName();
 		File htmlTextFile = new File(htmlFolder.getPath() + File.separator + exceptionHtmlFileName + ".html");
-		Files.write(htmlTextFile.toPath(), exception.getExceptionTextHtml().getBytes(utf8));
+		outputSink.write(htmlTextFile, exception.getExceptionTextHtml().getBytes(utf8));
 	}
 
 }
@@ -16,17 +16,18 @@
 package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.htmltemplates.ExceptionTocRow;
+import org.spdx.htmltemplates.LicenseTocRow;
 import org.spdx.library.model.v2.license.ListedLicenseException;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
-import org.spdx.storage.listedlicense.ExceptionJson;
 import org.spdx.storage.listedlicense.ExceptionJsonTOC;
 import org.spdx.storage.listedlicense.LicenseJson;
 import org.spdx.storage.listedlicense.LicenseJsonTOC;
@@ -43,14 +44,20 @@ public class LicenseJsonFormatWriter implements ILicenseFormatWriter {
 
 	static final String LICENSE_TOC_JSON_FILE_NAME = "licenses.json";
 	static final String EXCEPTION_JSON_TOC_FILE_NAME = "exceptions.json";
+	static final String SPDX_LICENSES_URL = "https://spdx.org/licenses/";
 
 	private File jsonFolder;
 	private File jsonFolderExceptions;
 	private File jsonFolderDetails;
 	LicenseJson licJson;
-	LicenseJsonTOC tableOfContentsJSON;
-	ExceptionJsonTOC jsonExceptionToc;
+	private final String version;
+	private final String releaseDate;
+	private TocSummary tocSummary = new TocSummary();
+	private boolean addToTocSummary = true;
 	Gson gson = new GsonBuilder().setPrettyPrinting().create();
+	private final JsonDetailRegistry jsonDetails;
+	private OutputVariants outputVariants = null;
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param version License list version
@@ -61,12 +68,80 @@ public class LicenseJsonFormatWriter implements ILicenseFormatWriter {
 	 */
 	public LicenseJsonFormatWriter(String version, String releaseDate,
 			File jsonFolder, File jsonFolderDetails, File jsonFolderExceptions) {
+		this(version, releaseDate, jsonFolder, jsonFolderDetails, jsonFolderExceptions, new JsonDetailRegistry());
+	}
+
+	/**
+	 * @param version License list version
+	 * @param releaseDate release date for the license list
+	 * @param jsonFolder Folder to output the main JSON file
+	 * @param jsonFolderDetails Folder to output a detailed JSON file per license
+	 * @param jsonFolderExceptions Folder to output a detailed JSON file per exception
+	 * @param jsonDetails registry of JSON detail documents shared with other writers
+	 */
+	public LicenseJsonFormatWriter(String version, String releaseDate,
+			File jsonFolder, File jsonFolderDetails, File jsonFolderExceptions, JsonDetailRegistry jsonDetails) {
+		this.jsonDetails = jsonDetails;
 		this.jsonFolder = jsonFolder;
 		this.jsonFolderDetails = jsonFolderDetails;
 		this.jsonFolderExceptions = jsonFolderExceptions;
 		licJson = new LicenseJson();
-		tableOfContentsJSON = new LicenseJsonTOC(version, releaseDate);
-		jsonExceptionToc = new ExceptionJsonTOC(version, releaseDate);
+		this.version = version;
+		this.releaseDate = releaseDate;
+	}
+
+	/**
+	 * @param version License list version
+	 * @param releaseDate release date for the license list
+	 * @param tocSummary summary of the licenses
+	 * @return JSON table of contents for the licenses sorted by ID
+	 */
+	static LicenseJsonTOC licenseJsonToc(String version, String releaseDate, TocSummary tocSummary) {
+		LicenseJsonTOC retval = new LicenseJsonTOC(version, releaseDate);
+		for (LicenseTocRow license:tocSummary.getLicenses()) {
+			LicenseJsonTOC.LicenseJson licenseJson = new LicenseJsonTOC.LicenseJson();
+			licenseJson.setDeprecatedLicenseId(license.isDeprecated());
+			licenseJson.setDetailsUrl(toAbsoluteURL(license.getFileName() + ".json"));
+			licenseJson.setLicenseId(license.getLicenseId());
+			licenseJson.setName(license.getName());
+			licenseJson.setOsiApproved(license.isOsiApproved());
+			licenseJson.setFsfLibre(license.getFsfLibre());
+			licenseJson.setReference(toAbsoluteURL(license.getFileName() + ".html"));
+			licenseJson.setReferenceNumber(license.getIndex());
+			licenseJson.setSeeAlso(new ArrayList<>(license.getSeeAlso()));
+			retval.getLicenses().add(licenseJson);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param version License list version
+	 * @param releaseDate release date for the license list
+	 * @param tocSummary summary of the exceptions
+	 * @return JSON table of contents for the exceptions sorted by ID
+	 */
+	static ExceptionJsonTOC exceptionJsonToc(String version, String releaseDate, TocSummary tocSummary) {
+		ExceptionJsonTOC retval = new ExceptionJsonTOC(version, releaseDate);
+		for (ExceptionTocRow exception:tocSummary.getExceptions()) {
+			ExceptionJsonTOC.ExceptionJson exceptionJson = new ExceptionJsonTOC.ExceptionJson();
+			exceptionJson.setLicenseExceptionId(exception.getLicenseExceptionId());
+			exceptionJson.setDeprecatedLicenseId(exception.isDeprecated());
+			exceptionJson.setDetailsUrl(toAbsoluteURL(exception.getFileName() + ".json"));
+			exceptionJson.setName(exception.getName());
+			exceptionJson.setReference(toAbsoluteURL(exception.getFileName() + ".html"));
+			exceptionJson.setReferenceNumber(exception.getIndex() + 1);
+			exceptionJson.setSeeAlso(new ArrayList<>(exception.getSeeAlso()));
+			retval.getExceptions().add(exceptionJson);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param fileName name of a file on the licenses website
+	 * @return URL of the file on the licenses website
+	 */
+	private static String toAbsoluteURL(String fileName) {
+		return SPDX_LICENSES_URL + fileName;
 	}
 
 	/**
@@ -111,21 +186,60 @@ public class LicenseJsonFormatWriter implements ILicenseFormatWriter {
 		this.jsonFolderDetails = jsonFolderDetails;
 	}
 
+	@Override
+	public void setTocSummary(TocSummary tocSummary) {
+		this.tocSummary = tocSummary;
+		this.addToTocSummary = false;
+	}
+
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
+	/**
+	 * @return the outputVariants
+	 */
+	public OutputVariants getOutputVariants() {
+		return outputVariants;
+	}
+
+	/**
+	 * @param outputVariants if not null, minified and compressed variants of the JSON files are generated
+	 */
+	public void setOutputVariants(OutputVariants outputVariants) {
+		this.outputVariants = outputVariants;
+	}
+
+	/**
+	 * Generate the minified and compressed variants of a file if enabled
+	 * @param file file which has been written
+	 */
+	private void addVariants(File file) {
+		if (outputVariants != null) {
+			outputVariants.add(file);
+		}
+	}
+
 
 	@Override
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, String deprecatedVersion) 
 			throws IOException, InvalidSPDXAnalysisException, InvalidLicenseTemplateException {
 		SpdxListedLicense license = licenseContainer.getV2ListedLicense();
-		licJson.copyFrom(license);
-		licJson.sortCrossRef();
-		String licBaseHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(license.getLicenseId());
-		String licHtmlFileName = licBaseHtmlFileName + ".html";
+		LicenseSnapshot snapshot = licenseContainer.getSnapshot();
+		String licBaseHtmlFileName = snapshot.getFileName();
 		String licJsonFileName = licBaseHtmlFileName + ".json";
-		String licHTMLReference = "./"+licHtmlFileName;
-		String licJSONReference = "./"+licJsonFileName;
 		File licJsonFile = new File(jsonFolder.getPath()+File.separator+"details"+File.separator+licJsonFileName);
-		writeToFile(licJsonFile, licJson);
-		tableOfContentsJSON.addLicense(license, licHTMLReference, licJSONReference, deprecated);
+		jsonDetails.writeLicenseDetails(license, licJsonFile, outputSink);
+		addVariants(licJsonFile);
+		if (addToTocSummary) {
+			tocSummary.addLicense(snapshot, deprecated, deprecatedVersion);
+		}
 	}
 
 	/**
@@ -135,8 +249,8 @@ public class LicenseJsonFormatWriter implements ILicenseFormatWriter {
 	 * @throws IOException 
 	 */
 	private void writeToFile(File file, Object jsonSerializableObject) throws IOException {
-		try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
-			writer.write(gson.toJson(jsonSerializableObject));
+		try (Writer writer = outputSink.newWriter(file)) {
+			JsonOutput.write(gson, jsonSerializableObject, writer);
 		}
 	}
 
@@ -146,26 +260,29 @@ public class LicenseJsonFormatWriter implements ILicenseFormatWriter {
 	@Override
 	public void writeToC() throws IOException {
 		File tocJsonFile = new File(jsonFolder.getPath()+File.separator+LICENSE_TOC_JSON_FILE_NAME);
-		tableOfContentsJSON.sort();
-		writeToFile(tocJsonFile, tableOfContentsJSON);
+		writeToFile(tocJsonFile, licenseJsonToc(version, releaseDate, tocSummary));
 		File exceptionJsonTocFile = new File(jsonFolder.getPath()+File.separator+EXCEPTION_JSON_TOC_FILE_NAME);
-		jsonExceptionToc.sort();
-		writeToFile(exceptionJsonTocFile, jsonExceptionToc);
+		writeToFile(exceptionJsonTocFile, exceptionJsonToc(version, releaseDate, tocSummary));
+		if (outputVariants != null) {
+			outputVariants.add(tocJsonFile);
+			outputVariants.add(exceptionJsonTocFile);
+			outputVariants.await();
+		}
 	}
 
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, InvalidSPDXAnalysisException {
 		ListedLicenseException exception = exceptionContainer.getV2Exception();
-		String exceptionHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(exception.getLicenseExceptionId());
+		ExceptionSnapshot snapshot = exceptionContainer.getSnapshot();
+		String exceptionHtmlFileName = snapshot.getFileName();
 		String exceptionJsonFileName = exceptionHtmlFileName + ".json";
-		String exceptionJSONReference= "./" + exceptionJsonFileName;
-		String exceptionHTMLReference = "./"+exceptionHtmlFileName + ".html";
-		ExceptionJson exceptionJson = new ExceptionJson();
-		jsonExceptionToc.addException(exception, exceptionHTMLReference, exceptionJSONReference, exception.isDeprecated());
-		exceptionJson.copyFrom(exception);
+		if (addToTocSummary) {
+			tocSummary.addException(snapshot);
+		}
 		File exceptionJsonFile = new File(jsonFolder.getPath() + File.separator + "exceptions" + File.separator +  exceptionJsonFileName);
-		writeToFile(exceptionJsonFile, exceptionJson);
+		jsonDetails.writeExceptionDetails(exception, exceptionJsonFile, outputSink);
+		addVariants(exceptionJsonFile);
 	}
 
 
@@ -17,6 +17,7 @@ package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
@@ -32,6 +33,9 @@ public class LicenseMarkdownFormatWriter implements ILicenseFormatWriter {
 
 	private File markdownFile;
 	private MarkdownTable markdownTable;
+	private final String version;
+	private boolean addToTocSummary = true;
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param version License list version
@@ -40,6 +44,7 @@ public class LicenseMarkdownFormatWriter implements ILicenseFormatWriter {
 	 */
 	public LicenseMarkdownFormatWriter(String version, String releaseDate, File markdownFile) {
 		this.markdownFile = markdownFile;
+		this.version = version;
 		markdownTable = new MarkdownTable(version);
 	}
 
@@ -57,19 +62,41 @@ public class LicenseMarkdownFormatWriter implements ILicenseFormatWriter {
 		this.markdownFile = markdownFile;
 	}
 
+	@Override
+	public void setTocSummary(TocSummary tocSummary) {
+		this.markdownTable = new MarkdownTable(version, tocSummary);
+		this.addToTocSummary = false;
+	}
+
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	@Override
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, String deprecatedVersion) throws IOException, InvalidSPDXAnalysisException {
-		markdownTable.addLicense(licenseContainer.getV2ListedLicense(), deprecated);
+		if (addToTocSummary) {
+			markdownTable.addLicense(licenseContainer.getV2ListedLicense(), deprecated);
+		}
 	}
 
 	@Override
 	public void writeToC() throws IOException {
-		markdownTable.writeToFile(markdownFile);
+		try (Writer writer = outputSink.newWriter(markdownFile)) {
+			markdownTable.writeTOC(writer);
+		}
 	}
 
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContianer)
 			throws IOException, InvalidSPDXAnalysisException {
-		markdownTable.addException(exceptionContianer.getV2Exception(), exceptionContianer.getV2Exception().isDeprecated());
+		if (addToTocSummary) {
+			markdownTable.addException(exceptionContianer.getV2Exception(), exceptionContianer.getV2Exception().isDeprecated());
+		}
 	}
 }
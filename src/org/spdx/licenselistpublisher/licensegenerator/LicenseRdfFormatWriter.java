@@ -19,9 +19,13 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.v2.ModelObjectV2;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.license.ListedLicenseException;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
@@ -39,11 +43,16 @@ import org.spdx.spdxRdfStore.RdfStore;
  */
 public class LicenseRdfFormatWriter implements ILicenseFormatWriter {
 
+	static final String TOC_FILE_NAME = "licenses";
+
 	private File rdfXml;
 	private File rdfTurtle;
 	private File rdfNt;
-	private RdfStore rdfStore;
+	private RdfStore rdfStore = null;
+	private StreamingRdfToc streamingToc = null;
 	private File rdfJsonLd;
+	private final RdfArtifactRegistry artifacts;
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param rdfXml File to store RDF XML formatted license list
@@ -53,12 +62,51 @@ public class LicenseRdfFormatWriter implements ILicenseFormatWriter {
 	 * @throws InvalidSPDXAnalysisException 
 	 */
 	public LicenseRdfFormatWriter(File rdfXml, File rdfTurtle, File rdfNt, File rdfJsonLd) throws InvalidSPDXAnalysisException {
+		this(rdfXml, rdfTurtle, rdfNt, rdfJsonLd, true);
+	}
+
+	/**
+	 * @param rdfXml File to store RDF XML formatted license list
+	 * @param rdfTurtle File to store RDF Turtle formatted license list
+	 * @param rdfNt File to store RDF Nt formatted license list
+	 * @param rdfJsonLd File to store JSON-LD formatted license list
+	 * @param streamToC if true and rdfNt is not null, assemble the table of contents from the per-license N-Triples files
+	 * rather than holding all licenses in a single RDF store
+	 * @throws InvalidSPDXAnalysisException 
+	 */
+	public LicenseRdfFormatWriter(File rdfXml, File rdfTurtle, File rdfNt, File rdfJsonLd, boolean streamToC) throws InvalidSPDXAnalysisException {
+		this(rdfXml, rdfTurtle, rdfNt, rdfJsonLd, streamToC, new RdfArtifactRegistry());
+	}
+
+	/**
+	 * @param rdfXml File to store RDF XML formatted license list
+	 * @param rdfTurtle File to store RDF Turtle formatted license list
+	 * @param rdfNt File to store RDF Nt formatted license list
+	 * @param rdfJsonLd File to store JSON-LD formatted license list
+	 * @param streamToC if true and rdfNt is not null, assemble the table of contents from the per-license N-Triples files
+	 * rather than holding all licenses in a single RDF store
+	 * @param artifacts registry of RDF serializations shared with other writers
+	 * @throws InvalidSPDXAnalysisException 
+	 */
+	public LicenseRdfFormatWriter(File rdfXml, File rdfTurtle, File rdfNt, File rdfJsonLd, boolean streamToC,
+			RdfArtifactRegistry artifacts) throws InvalidSPDXAnalysisException {
 		this.rdfXml = rdfXml;
 		this.rdfTurtle = rdfTurtle;
 		this.rdfNt = rdfNt;
 		this.rdfJsonLd = rdfJsonLd;
-		rdfStore = new RdfStore();// Create store to hold licenses and exceptions
-		rdfStore.setDocumentUri(SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, true);
+		this.artifacts = artifacts;
+		artifacts.require(outputs(rdfXml, rdfTurtle, rdfNt, rdfJsonLd, "").keySet());
+		if (streamToC && rdfNt != null) {
+			streamingToc = new StreamingRdfToc(tocFile(rdfNt, ".nt"), tocFile(rdfTurtle, ".ttl"), 
+					tocFile(rdfXml, ".rdf"), tocFile(rdfJsonLd, ".jsonld"));
+		} else {
+			rdfStore = new RdfStore();// Create store to hold licenses and exceptions
+			rdfStore.setDocumentUri(SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, true);
+		}
+	}
+
+	private static File tocFile(File folder, String extension) {
+		return folder == null ? null : new File(folder.getPath() + File.separator + TOC_FILE_NAME + extension);
 	}
 
 	/**
@@ -103,47 +151,66 @@ public class LicenseRdfFormatWriter implements ILicenseFormatWriter {
 		this.rdfNt = rdfNt;
 	}
 
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	@Override
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, String deprecatedVersion) throws IOException, LicenseGeneratorException, InvalidSPDXAnalysisException {
 		SpdxListedLicense license = licenseContainer.getV2ListedLicense();
-		RdfStore onlyThisLicense = new RdfStore();
-		onlyThisLicense.setDocumentUri(license.getDocumentUri(), true);
-		ModelCopyManager copyManager = new ModelCopyManager();
-		copyManager.copy(onlyThisLicense, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + license.getId(),
-				license.getModelStore(), license.getDocumentUri() + license.getId(), 
-				license.getSpecVersion(), license.getDocumentUri());
-		String licBaseFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(license.getLicenseId());
-		writeRdf(onlyThisLicense, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, rdfXml, rdfTurtle, rdfNt, rdfJsonLd, licBaseFileName);
+		String licBaseFileName = licenseContainer.getSnapshot().getFileName();
+		writeArtifacts(license, licBaseFileName);
 		// Copy to the table of contents
-		copyManager.copy(rdfStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + license.getId(), license.getModelStore(),
-				license.getDocumentUri() + license.getId(), license.getSpecVersion(), license.getDocumentUri());
+		if (streamingToc != null) {
+			streamingToc.add(licBaseFileName, artifacts.get(license, OutputFormat.N_TRIPLET));
+		} else {
+			new ModelCopyManager().copy(rdfStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + license.getId(), license.getModelStore(),
+					license.getDocumentUri() + license.getId(), license.getSpecVersion(), license.getDocumentUri());
+		}
+	}
+
+	/**
+	 * Write the RDF representations of a license or exception from the shared artifacts
+	 * @param object license or exception
+	 * @param name Name of the file
+	 * @throws LicenseGeneratorException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void writeArtifacts(ModelObjectV2 object, String name) throws LicenseGeneratorException, InvalidSPDXAnalysisException {
+		for (Entry<OutputFormat, File> output:outputs(rdfXml, rdfTurtle, rdfNt, rdfJsonLd, name).entrySet()) {
+			artifacts.write(object, output.getKey(), output.getValue(), outputSink);
+		}
 	}
 
 	/**
-	 * Write the RDF representations of the licenses and exceptions
-	 * @param rdfStore Store with the licenses and exceptions
-	 * @param documentUri Document URI containing the elements to be written
 	 * @param rdfXml Folder for the RdfXML representation
 	 * @param rdfTurtle Folder for the Turtle representation
 	 * @param rdfNt Folder for the NT representation
 	 * @param rdfJsonLd Folder for the JSON-LD representation
 	 * @param name Name of the file
-	 * @throws LicenseGeneratorException
+	 * @return file for each format with a folder
 	 */
-	private static void writeRdf(RdfStore rdfStore, String documentUri, File rdfXml, File rdfTurtle,
-			File rdfNt, File rdfJsonLd, String name) throws LicenseGeneratorException {
+	private static Map<OutputFormat, File> outputs(File rdfXml, File rdfTurtle, File rdfNt, File rdfJsonLd, String name) {
+		Map<OutputFormat, File> outputs = new EnumMap<>(OutputFormat.class);
 		if (rdfXml != null) {
-			writeRdf(rdfStore, documentUri, rdfXml.getPath() + File.separator + name + ".rdf", OutputFormat.XML_ABBREV);
+			outputs.put(OutputFormat.XML_ABBREV, new File(rdfXml.getPath() + File.separator + name + ".rdf"));
 		}
 		if (rdfTurtle != null) {
-			writeRdf(rdfStore, documentUri, rdfTurtle.getPath() + File.separator + name + ".ttl", OutputFormat.TURTLE);
+			outputs.put(OutputFormat.TURTLE, new File(rdfTurtle.getPath() + File.separator + name + ".ttl"));
 		}
 		if (rdfNt != null) {
-			writeRdf(rdfStore, documentUri, rdfNt.getPath() + File.separator + name + ".nt", OutputFormat.N_TRIPLET);
+			outputs.put(OutputFormat.N_TRIPLET, new File(rdfNt.getPath() + File.separator + name + ".nt"));
 		}
 		if (rdfJsonLd != null) {
-			writeRdf(rdfStore, documentUri, rdfJsonLd.getPath() + File.separator + name + ".jsonld", OutputFormat.JSON_LD);
+			outputs.put(OutputFormat.JSON_LD, new File(rdfJsonLd.getPath() + File.separator + name + ".jsonld"));
 		}
+		return outputs;
 	}
 
 	/**
@@ -191,24 +258,27 @@ public class LicenseRdfFormatWriter implements ILicenseFormatWriter {
 
 	@Override
 	public void writeToC() throws IOException, LicenseGeneratorException {
-		writeRdf(rdfStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, rdfXml, rdfTurtle, rdfNt, rdfJsonLd, "licenses");
+		if (streamingToc != null) {
+			streamingToc.write(outputSink);
+		} else {
+			// the formats are written concurrently
+			ParallelRdfWriter.write(rdfStore, outputs(rdfXml, rdfTurtle, rdfNt, rdfJsonLd, TOC_FILE_NAME), outputSink);
+		}
 	}
 
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, LicenseGeneratorException, InvalidSPDXAnalysisException {
 		ListedLicenseException exception = exceptionContainer.getV2Exception();
-		String exceptionHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(exception.getLicenseExceptionId());
-		RdfStore onlyThisException = new RdfStore();
-		onlyThisException.setDocumentUri(exception.getDocumentUri(), true);
-		ModelCopyManager copyManager = new ModelCopyManager();
-		copyManager.copy(onlyThisException, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + exception.getId(), 
-				exception.getModelStore(), exception.getDocumentUri() + exception.getId(), 
-				exception.getSpecVersion(), exception.getDocumentUri());
-		writeRdf(onlyThisException, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, rdfXml, rdfTurtle, rdfNt, rdfJsonLd, exceptionHtmlFileName);
+		String exceptionHtmlFileName = exceptionContainer.getSnapshot().getFileName();
+		writeArtifacts(exception, exceptionHtmlFileName);
 		// Copy to the table of contents
-		copyManager.copy(rdfStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + exception.getId(), 
-				exception.getModelStore(), exception.getDocumentUri() + exception.getId(), 
-				exception.getSpecVersion(), exception.getDocumentUri());
+		if (streamingToc != null) {
+			streamingToc.add(exceptionHtmlFileName, artifacts.get(exception, OutputFormat.N_TRIPLET));
+		} else {
+			new ModelCopyManager().copy(rdfStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + exception.getId(), 
+					exception.getModelStore(), exception.getDocumentUri() + exception.getId(), 
+					exception.getSpecVersion(), exception.getDocumentUri());
+		}
 	}
 }
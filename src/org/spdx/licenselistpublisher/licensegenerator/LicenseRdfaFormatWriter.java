@@ -17,14 +17,13 @@ package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.htmltemplates.ExceptionHtml;
 import org.spdx.htmltemplates.ExceptionHtmlToc;
 import org.spdx.htmltemplates.LicenseHTMLFile;
 import org.spdx.htmltemplates.LicenseTOCHTMLFile;
-import org.spdx.library.model.v2.license.ListedLicenseException;
-import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
 import org.spdx.licenselistpublisher.LicenseGeneratorException;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
@@ -47,7 +46,10 @@ public class LicenseRdfaFormatWriter implements ILicenseFormatWriter {
 	private LicenseHTMLFile licHtml;
 	private LicenseTOCHTMLFile tableOfContentsHTML;
 	private ExceptionHtmlToc htmlExceptionToc;
+	private TocSummary tocSummary = new TocSummary();
+	private boolean addToTocSummary = true;
 	private String exceptionHtmlTocReference = "./" + EXCEPTION_TOC_FILE_NAME;
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param version License list version
@@ -58,9 +60,9 @@ public class LicenseRdfaFormatWriter implements ILicenseFormatWriter {
 		this.rdfaFolder = rdfaFolder;
 		this.version = version;
 		this.releaseDate = releaseDate;
-		this.tableOfContentsHTML = new LicenseTOCHTMLFile(version, releaseDate);
+		this.tableOfContentsHTML = new LicenseTOCHTMLFile(version, releaseDate, tocSummary);
 		this.licHtml = new LicenseHTMLFile();
-		htmlExceptionToc = new ExceptionHtmlToc();
+		htmlExceptionToc = new ExceptionHtmlToc(tocSummary, false);
 	}
 
 	/**
@@ -151,6 +153,24 @@ public class LicenseRdfaFormatWriter implements ILicenseFormatWriter {
 		this.tableOfContentsHTML = tableOfContentsHTML;
 	}
 
+	@Override
+	public void setTocSummary(TocSummary tocSummary) {
+		this.tocSummary = tocSummary;
+		this.addToTocSummary = false;
+		this.tableOfContentsHTML = new LicenseTOCHTMLFile(version, releaseDate, tocSummary);
+		this.htmlExceptionToc = new ExceptionHtmlToc(tocSummary, false);
+	}
+
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.licenselistpublisher.licensegenerator.ILicenseFormatWriter#writeLicense(org.spdx.rdfparser.license.SpdxListedLicense, boolean, java.lang.String)
 	 */
@@ -158,24 +178,21 @@ public class LicenseRdfaFormatWriter implements ILicenseFormatWriter {
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, 
 			String deprecatedVersion)
 			throws IOException, LicenseGeneratorException, InvalidSPDXAnalysisException {
-		SpdxListedLicense license = licenseContainer.getV2ListedLicense();
-		this.licHtml.setLicense(license);
-		String licBaseHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(license.getLicenseId());
+		LicenseSnapshot license = licenseContainer.getSnapshot();
+		this.licHtml.setLicenseSnapshot(license);
+		String licBaseHtmlFileName = license.getFileName();
 		String licHtmlFileName = licBaseHtmlFileName + ".html";
-		String licHTMLReference = "./"+licHtmlFileName;
 		String tocHTMLReference = "./"+LICENSE_TOC_HTML_FILE_NAME;
 		File licHtmlFile = new File(rdfaFolder.getPath()+File.separator+licHtmlFileName);
-		try {
-			licHtml.writeToFile(licHtmlFile, tocHTMLReference);
+		try (Writer writer = outputSink.newWriter(licHtmlFile)) {
+			licHtml.writeTo(writer, tocHTMLReference);
 		} catch (MustacheException e) {
 			throw new LicenseGeneratorException("Template55 error for license HTML file: "+e.getMessage(),e);
 		} catch (InvalidLicenseTemplateException e) {
 			throw new LicenseGeneratorException("License template error for license HTML file: "+e.getMessage(),e);
 		}
-		if (deprecated) {
-			tableOfContentsHTML.addDeprecatedLicense(license, licHTMLReference);
-		} else {
-			tableOfContentsHTML.addLicense(license, licHTMLReference);
+		if (addToTocSummary) {
+			tocSummary.addLicense(license, deprecated, deprecatedVersion);
 		}
 	}
 
@@ -185,21 +202,28 @@ public class LicenseRdfaFormatWriter implements ILicenseFormatWriter {
 	@Override
 	public void writeToC() throws IOException {
 		File tocHtmlFile = new File(rdfaFolder.getPath()+File.separator+LICENSE_TOC_HTML_FILE_NAME);
-		tableOfContentsHTML.writeToFile(tocHtmlFile);
+		try (Writer writer = outputSink.newWriter(tocHtmlFile)) {
+			tableOfContentsHTML.writeTo(writer);
+		}
 		File exceptionTocFile = new File(rdfaFolder.getPath()+File.separator+EXCEPTION_TOC_FILE_NAME);
-		htmlExceptionToc.writeToFile(exceptionTocFile, version);
+		try (Writer writer = outputSink.newWriter(exceptionTocFile)) {
+			htmlExceptionToc.writeTo(writer, version);
+		}
 	}
 
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, InvalidLicenseTemplateException, InvalidSPDXAnalysisException {
-		ListedLicenseException exception = exceptionContainer.getV2Exception();
+		ExceptionSnapshot exception = exceptionContainer.getSnapshot();
 		ExceptionHtml exceptionHtml = new ExceptionHtml(exception);
-		String exceptionHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(exception.getLicenseExceptionId());
-		String exceptionHTMLReference = "./"+exceptionHtmlFileName + ".html";
+		String exceptionHtmlFileName = exception.getFileName();
 		File exceptionHtmlFile = new File(rdfaFolder.getPath()+File.separator+exceptionHtmlFileName + ".html");
-		exceptionHtml.writeToFile(exceptionHtmlFile, exceptionHtmlTocReference);
-		htmlExceptionToc.addException(exception, exceptionHTMLReference);
+		try (Writer writer = outputSink.newWriter(exceptionHtmlFile)) {
+			exceptionHtml.writeTo(writer, exceptionHtmlTocReference);
+		}
+		if (addToTocSummary) {
+			tocSummary.addException(exception);
+		}
 	}
 
 }
@@ -0,0 +1,250 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.license.CrossRef;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
+
+/**
+ * Immutable copy of the fields of a listed license read by the format writers
+ * <p>
+ * Each getter on <code>SpdxListedLicense</code> is a property lookup in the model store, and the HTML getters
+ * convert the template to HTML on every call if there is no stored HTML.  The snapshot reads each field once,
+ * so the writers share the values rather than each repeating the lookups.  The file name and the order of the
+ * cross references are also computed once.
+ * <p>
+ * The snapshot is not updated if the license is changed after it is taken.
+ *
+ */
+public class LicenseSnapshot {
+
+	/**
+	 * Immutable copy of a cross reference
+	 */
+	public static class CrossRefSnapshot {
+		private final @Nullable String url;
+		private final @Nullable Boolean valid;
+		private final @Nullable Boolean live;
+		private final @Nullable Boolean wayBackLink;
+		private final @Nullable String match;
+		private final @Nullable String timestamp;
+		private final @Nullable Integer order;
+
+		CrossRefSnapshot(CrossRef crossRef) throws InvalidSPDXAnalysisException {
+			this.url = crossRef.getUrl().orElse(null);
+			this.valid = crossRef.getValid().orElse(null);
+			this.live = crossRef.getLive().orElse(null);
+			this.wayBackLink = crossRef.getIsWayBackLink().orElse(null);
+			this.match = crossRef.getMatch().orElse(null);
+			this.timestamp = crossRef.getTimestamp().orElse(null);
+			this.order = crossRef.getOrder().orElse(null);
+		}
+
+		public Optional<String> getUrl() {
+			return Optional.ofNullable(url);
+		}
+
+		public Optional<Boolean> getValid() {
+			return Optional.ofNullable(valid);
+		}
+
+		public Optional<Boolean> getLive() {
+			return Optional.ofNullable(live);
+		}
+
+		public Optional<Boolean> getIsWayBackLink() {
+			return Optional.ofNullable(wayBackLink);
+		}
+
+		public Optional<String> getMatch() {
+			return Optional.ofNullable(match);
+		}
+
+		public Optional<String> getTimestamp() {
+			return Optional.ofNullable(timestamp);
+		}
+
+		public Optional<Integer> getOrder() {
+			return Optional.ofNullable(order);
+		}
+	}
+
+	/**
+	 * Same order as the license HTML page has always used - cross references with an order first
+	 */
+	static final Comparator<CrossRefSnapshot> CROSS_REF_ORDER = (o1, o2) -> {
+		if (o1.order != null) {
+			if (o2.order != null) {
+				return o1.order.compareTo(o2.order);
+			} else {
+				return -1;
+			}
+		} else {
+			if (o2.order != null) {
+				return 0;
+			} else {
+				return 1;
+			}
+		}
+	};
+
+	private final String licenseId;
+	private final String name;
+	private final String fileName;
+	private final String licenseText;
+	private final @Nullable String licenseTextHtml;
+	private final @Nullable InvalidLicenseTemplateException licenseTextHtmlError;
+	private final @Nullable String standardLicenseTemplate;
+	private final @Nullable String licenseHeaderHtml;
+	private final @Nullable InvalidLicenseTemplateException licenseHeaderHtmlError;
+	private final @Nullable String comment;
+	private final boolean osiApproved;
+	private final @Nullable Boolean fsfLibre;
+	private final boolean notFsfLibre;
+	private final boolean deprecated;
+	private final @Nullable String deprecatedVersion;
+	private final List<String> seeAlso;
+	private final List<CrossRefSnapshot> crossRefs;
+
+	/**
+	 * @param license license to copy
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 */
+	public LicenseSnapshot(SpdxListedLicense license) throws InvalidSPDXAnalysisException {
+		this.licenseId = license.getLicenseId();
+		this.name = license.getName();
+		this.fileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(licenseId);
+		this.licenseText = license.getLicenseText();
+		String textHtml = null;
+		InvalidLicenseTemplateException textHtmlError = null;
+		try {
+			textHtml = license.getLicenseTextHtml();
+		} catch (InvalidLicenseTemplateException e) {
+			textHtmlError = e;
+		}
+		this.licenseTextHtml = textHtml;
+		this.licenseTextHtmlError = textHtmlError;
+		this.standardLicenseTemplate = license.getStandardLicenseTemplate();
+		String headerHtml = null;
+		InvalidLicenseTemplateException headerHtmlError = null;
+		try {
+			headerHtml = license.getLicenseHeaderHtml();
+		} catch (InvalidLicenseTemplateException e) {
+			headerHtmlError = e;
+		}
+		this.licenseHeaderHtml = headerHtml;
+		this.licenseHeaderHtmlError = headerHtmlError;
+		this.comment = license.getComment();
+		this.osiApproved = license.isOsiApproved();
+		this.fsfLibre = license.getFsfLibre();
+		this.notFsfLibre = license.isNotFsfLibre();
+		this.deprecated = license.isDeprecated();
+		this.deprecatedVersion = license.getDeprecatedVersion();
+		this.seeAlso = Collections.unmodifiableList(new ArrayList<>(license.getSeeAlso()));
+		List<CrossRefSnapshot> sortedCrossRefs = new ArrayList<>();
+		for (CrossRef crossRef:license.getCrossRef()) {
+			sortedCrossRefs.add(new CrossRefSnapshot(crossRef));
+		}
+		sortedCrossRefs.sort(CROSS_REF_ORDER);
+		this.crossRefs = Collections.unmodifiableList(sortedCrossRefs);
+	}
+
+	public String getLicenseId() {
+		return licenseId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return base name of the files for the license without an extension
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	public String getLicenseText() {
+		return licenseText;
+	}
+
+	/**
+	 * @return license text formatted as HTML
+	 * @throws InvalidLicenseTemplateException if the license template could not be converted to HTML
+	 */
+	public String getLicenseTextHtml() throws InvalidLicenseTemplateException {
+		if (licenseTextHtmlError != null) {
+			throw licenseTextHtmlError;
+		}
+		return licenseTextHtml;
+	}
+
+	public @Nullable String getStandardLicenseTemplate() {
+		return standardLicenseTemplate;
+	}
+
+	/**
+	 * @return standard license header formatted as HTML
+	 * @throws InvalidLicenseTemplateException if the header template could not be converted to HTML
+	 */
+	public @Nullable String getLicenseHeaderHtml() throws InvalidLicenseTemplateException {
+		if (licenseHeaderHtmlError != null) {
+			throw licenseHeaderHtmlError;
+		}
+		return licenseHeaderHtml;
+	}
+
+	public @Nullable String getComment() {
+		return comment;
+	}
+
+	public boolean isOsiApproved() {
+		return osiApproved;
+	}
+
+	/**
+	 * @return true if the license is FSF libre, null if it is not known
+	 */
+	public @Nullable Boolean getFsfLibre() {
+		return fsfLibre;
+	}
+
+	public boolean isFsfLibre() {
+		return Boolean.TRUE.equals(fsfLibre);
+	}
+
+	public boolean isNotFsfLibre() {
+		return notFsfLibre;
+	}
+
+	public boolean isDeprecated() {
+		return deprecated;
+	}
+
+	public @Nullable String getDeprecatedVersion() {
+		return deprecatedVersion;
+	}
+
+	public List<String> getSeeAlso() {
+		return seeAlso;
+	}
+
+	/**
+	 * @return cross references in the order they are listed on the license page
+	 */
+	public List<CrossRefSnapshot> getCrossRefs() {
+		return crossRefs;
+	}
+}
@@ -18,11 +18,8 @@ package org.spdx.licenselistpublisher.licensegenerator;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
-import org.spdx.library.model.v2.license.ListedLicenseException;
-import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.licenselistpublisher.LicenseGeneratorException;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
@@ -36,6 +33,7 @@ public class LicenseTemplateFormatWriter implements ILicenseFormatWriter {
 
 	private File templateFolder;
 	private Charset utf8 = Charset.forName("UTF-8");
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param templateFolder Folder containing the template files
@@ -58,22 +56,32 @@ public class LicenseTemplateFormatWriter implements ILicenseFormatWriter {
 		this.templateFolder = templateFolder;
 	}
 
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.licenselistpublisher.licensegenerator.ILicenseFormatWriter#writeLicense(org.spdx.rdfparser.license.SpdxListedLicense, boolean)
 	 */
 	@Override
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, 
 			String deprecatedVersion) throws IOException, InvalidSPDXAnalysisException {
-		SpdxListedLicense license = licenseContainer.getV2ListedLicense();
-		String licBaseHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(license.getLicenseId());
+		LicenseSnapshot license = licenseContainer.getSnapshot();
+		String licBaseHtmlFileName = license.getFileName();
 		if (deprecated) {
 			licBaseHtmlFileName = "deprecated_" + licBaseHtmlFileName;
 		}
 		File templateFile = new File(templateFolder.getPath() + File.separator + licBaseHtmlFileName + ".template.txt");
 		if (license.getStandardLicenseTemplate() != null && !license.getStandardLicenseTemplate().trim().isEmpty()) {
-			Files.write(templateFile.toPath(), license.getStandardLicenseTemplate().getBytes(utf8));
+			outputSink.write(templateFile, license.getStandardLicenseTemplate().getBytes(utf8));
 		} else {
-			Files.write(templateFile.toPath(), license.getLicenseText().getBytes(utf8));
+			outputSink.write(templateFile, license.getLicenseText().getBytes(utf8));
 		}
 	}
 
@@ -92,12 +100,12 @@ public class LicenseTemplateFormatWriter implements ILicenseFormatWriter {
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, LicenseGeneratorException, InvalidSPDXAnalysisException {
-		ListedLicenseException exception = exceptionContainer.getV2Exception();
-		String licBaseHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(exception.getLicenseExceptionId());
+		ExceptionSnapshot exception = exceptionContainer.getSnapshot();
+		String licBaseHtmlFileName = exception.getFileName();
 		if (exception.isDeprecated()) {
 			licBaseHtmlFileName = "deprecated_" + licBaseHtmlFileName;
 		}
 		File templateFile = new File(templateFolder.getPath() + File.separator + licBaseHtmlFileName + ".template.txt");
-		Files.write(templateFile.toPath(), exception.getLicenseExceptionTemplate().getBytes(utf8));
+		outputSink.write(templateFile, exception.getLicenseExceptionTemplate().getBytes(utf8));
 	}
 }
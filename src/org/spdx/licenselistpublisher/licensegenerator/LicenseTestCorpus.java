@@ -0,0 +1,174 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Index of the license test files built by scanning the test directories once
+ * <p>
+ * Two layouts are supported:
+ * <ul>
+ * <li>A text directory containing license and exception texts in the form {license-or-exception-id}.txt</li>
+ * <li>A test directory in the form {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt</li>
+ * </ul>
+ * Text files are matched by the exact name {license-or-exception-id}.txt.  The most recently read texts in the text
+ * directory are kept in a bounded cache so that a text read by the tests is shared with the test text substitution
+ * which follows shortly after.  A text which has been evicted is read again.  Test files in the test directory are
+ * only read once per test run and are not cached.
+ *
+ */
+public class LicenseTestCorpus {
+
+	public static final String TEXT_FILE_EXTENSION = ".txt";
+	public static final String GOOD_TESTS = "good";
+	public static final String BAD_TESTS = "bad";
+	static final String[] TEST_TYPES = new String[] {"license", "header", "exception"};
+	/**
+	 * Number of texts kept in the cache - well above the number of licenses read ahead of the writers
+	 */
+	static final int TEXT_CACHE_SIZE = 256;
+
+	private static final FileFilter TEXT_FILE_FILTER = file -> file.isFile() && file.getName().endsWith(TEXT_FILE_EXTENSION);
+	// test file extensions are matched ignoring case as in the original LicenseTester
+	private static final FileFilter TEST_FILE_FILTER = file -> file.isFile() && 
+			file.getName().toLowerCase(Locale.ROOT).endsWith(TEXT_FILE_EXTENSION);
+
+	private final Map<String, Path> textFiles;
+	private final Map<String, List<Path>> testFiles;
+	private final Map<String, Optional<String>> textCache = Collections.synchronizedMap(
+			new LinkedHashMap<String, Optional<String>>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Optional<String>> eldest) {
+			return size() > TEXT_CACHE_SIZE;
+		}
+	});
+
+	private LicenseTestCorpus(Map<String, Path> textFiles, Map<String, List<Path>> testFiles) {
+		this.textFiles = textFiles;
+		this.testFiles = testFiles;
+	}
+
+	/**
+	 * @param textDirectory directory containing license texts in the form {license-or-exception-id}.txt
+	 * @return index of the text files in the directory
+	 */
+	public static LicenseTestCorpus scanTextDirectory(File textDirectory) {
+		Map<String, Path> textFiles = new HashMap<>();
+		File[] files = textDirectory.listFiles(TEXT_FILE_FILTER);
+		if (Objects.nonNull(files)) {
+			for (File file:files) {
+				String name = file.getName();
+				textFiles.put(name.substring(0, name.length() - TEXT_FILE_EXTENSION.length()), file.toPath());
+			}
+		}
+		return new LicenseTestCorpus(textFiles, Collections.emptyMap());
+	}
+
+	/**
+	 * @param testDirectory directory of test files in the form {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt
+	 * @return index of the test files in the directory
+	 */
+	public static LicenseTestCorpus scanTestDirectory(File testDirectory) {
+		Map<String, List<Path>> testFiles = new HashMap<>();
+		File[] idDirs = testDirectory.listFiles(File::isDirectory);
+		if (Objects.nonNull(idDirs)) {
+			for (File idDir:idDirs) {
+				for (String testType:TEST_TYPES) {
+					for (String result:new String[] {GOOD_TESTS, BAD_TESTS}) {
+						File[] tests = new File(new File(idDir, testType), result).listFiles(TEST_FILE_FILTER);
+						if (Objects.nonNull(tests) && tests.length > 0) {
+							Arrays.sort(tests, Comparator.comparing(File::getName));
+							List<Path> paths = new ArrayList<>(tests.length);
+							for (File test:tests) {
+								paths.add(test.toPath());
+							}
+							testFiles.put(testKey(idDir.getName(), testType, result), Collections.unmodifiableList(paths));
+						}
+					}
+				}
+			}
+		}
+		return new LicenseTestCorpus(Collections.emptyMap(), testFiles);
+	}
+
+	private static String testKey(String id, String testType, String result) {
+		return id + "/" + testType + "/" + result;
+	}
+
+	/**
+	 * @param id license or exception ID
+	 * @return text from the text file {id}.txt or null if there is no text file for the ID
+	 * @throws IOException on errors reading the file
+	 */
+	public @Nullable String getText(String id) throws IOException {
+		Optional<String> text = textCache.get(id);
+		if (Objects.isNull(text)) {
+			Path textFile = textFiles.get(id);
+			text = Objects.isNull(textFile) ? Optional.empty() : Optional.of(readText(textFile));
+			textCache.put(id, text);
+		}
+		return text.orElse(null);
+	}
+
+	/**
+	 * @param id license or exception ID
+	 * @return the text file {id}.txt or null if there is no text file for the ID
+	 */
+	public @Nullable Path getTextFile(String id) {
+		return textFiles.get(id);
+	}
+
+	/**
+	 * @param id license or exception ID
+	 * @param testType one of license, header or exception
+	 * @param result <code>GOOD_TESTS</code> or <code>BAD_TESTS</code>
+	 * @return test files sorted by file name - empty if there are no tests
+	 */
+	public List<Path> getTestFiles(String id, String testType, String result) {
+		return testFiles.getOrDefault(testKey(id, testType, result), Collections.emptyList());
+	}
+
+	/**
+	 * Read a UTF-8 text file with a single bulk read
+	 * <p>
+	 * Line endings are normalized to <code>\n</code> and the last line is always terminated, which gives the same
+	 * result as appending each of the lines from <code>Files.lines</code> followed by a newline.
+	 * @param textFile file to read
+	 * @return the text
+	 * @throws IOException on errors reading the file or if the file is not valid UTF-8
+	 */
+	public static String readText(Path textFile) throws IOException {
+		String text = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(Files.readAllBytes(textFile))).toString();
+		if (text.indexOf('\r') >= 0) {
+			text = text.replace("\r\n", "\n").replace('\r', '\n');
+		}
+		if (!text.isEmpty() && text.charAt(text.length() - 1) != '\n') {
+			text = text + "\n";
+		}
+		return text;
+	}
+}
@@ -0,0 +1,240 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.licenselistpublisher.GeneratorMetrics;
+import org.spdx.licenselistpublisher.ListedExceptionContainer;
+import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licenselistpublisher.jfr.TestExecutedEvent;
+import org.spdx.utility.compare.SpdxCompareException;
+
+/**
+ * Runs the license and exception tests in a work stealing pool ahead of the code which consumes the results
+ * <p>
+ * The licenses and exceptions are read ahead from the provider's iterator and their tests are submitted to the pool.
+ * The returned iterators return the licenses and exceptions in the same order as the provider's iterator,
+ * and the test results are joined when they are requested, so the results are the same as testing each
+ * license in turn.  The <code>LicenseTester</code> further splits the tests for a license into one task per test file.
+ *
+ */
+public class LicenseTestStage implements Closeable {
+
+	/**
+	 * Number of items read ahead for each worker in the pool
+	 */
+	static final int READ_AHEAD_PER_THREAD = 4;
+
+	/**
+	 * Test run on a license or exception
+	 */
+	@FunctionalInterface
+	private interface ItemTest<T> {
+		List<String> test(T item) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * License or exception along with its pending test results
+	 */
+	public static class TestedItem<T> {
+		private final T item;
+		private final @Nullable ForkJoinTask<List<String>> testTask;
+
+		TestedItem(T item, @Nullable ForkJoinTask<List<String>> testTask) {
+			this.item = item;
+			this.testTask = testTask;
+		}
+
+		/**
+		 * @return the license or exception
+		 */
+		public T getItem() {
+			return item;
+		}
+
+		/**
+		 * Wait for the tests to complete
+		 * @return list of test failure descriptions.  List is empty if all tests pass or if there is no tester.
+		 * @throws IOException on I/O error reading test file(s)
+		 * @throws SpdxCompareException on error executing the compare
+		 * @throws InvalidSPDXAnalysisException on error parsing SPDX licenses
+		 */
+		public List<String> getTestResults() throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
+			if (Objects.isNull(testTask)) {
+				return new ArrayList<>();
+			}
+			return join(testTask);
+		}
+	}
+
+	/**
+	 * Iterator which keeps a window of items being tested ahead of the consumer
+	 */
+	private class ReadAheadIterator<T> implements Iterator<TestedItem<T>> {
+		private final Iterator<T> source;
+		private final ItemTest<T> itemTest;
+		private final Deque<TestedItem<T>> pending = new ArrayDeque<>();
+
+		ReadAheadIterator(Iterator<T> source, ItemTest<T> itemTest) {
+			this.source = source;
+			this.itemTest = itemTest;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !pending.isEmpty() || source.hasNext();
+		}
+
+		@Override
+		public TestedItem<T> next() {
+			while (pending.size() < readAhead && source.hasNext()) {
+				T item = source.next();
+				ForkJoinTask<List<String>> testTask = null;
+				if (Objects.nonNull(pool)) {
+					testTask = pool.submit(ForkJoinTask.adapt(() -> itemTest.test(item)));
+				}
+				pending.add(new TestedItem<>(item, testTask));
+			}
+			if (pending.isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			return pending.poll();
+		}
+	}
+
+	private final @Nullable ILicenseTester tester;
+	private final @Nullable ForkJoinPool pool;
+	private final int readAhead;
+
+	/**
+	 * @param tester tester to run on each license and exception - if null, no tests are run
+	 */
+	public LicenseTestStage(@Nullable ILicenseTester tester) {
+		this(tester, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param tester tester to run on each license and exception - if null, no tests are run
+	 * @param parallelism number of worker threads
+	 */
+	public LicenseTestStage(@Nullable ILicenseTester tester, int parallelism) {
+		this.tester = tester;
+		this.pool = Objects.nonNull(tester) ? new ForkJoinPool(parallelism) : null;
+		this.readAhead = Objects.nonNull(tester) ? parallelism * READ_AHEAD_PER_THREAD : 1;
+	}
+
+	/**
+	 * @return the tester or null if no tests are run
+	 */
+	public @Nullable ILicenseTester getTester() {
+		return tester;
+	}
+
+	/**
+	 * @param licenses licenses to test
+	 * @return the licenses in the same order along with their test results
+	 */
+	public Iterator<TestedItem<ListedLicenseContainer>> testLicenses(Iterator<ListedLicenseContainer> licenses) {
+		return new ReadAheadIterator<>(licenses, licenseContainer -> {
+			String licenseId = licenseContainer.getV2ListedLicense().getLicenseId();
+			if (licenseId == null || licenseId.isEmpty()) {
+				return new ArrayList<>();
+			}
+			TestExecutedEvent event = new TestExecutedEvent();
+			event.begin();
+			List<String> results;
+			try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_TEST_LICENSE, licenseId)) {
+				results = tester.testLicense(licenseContainer);
+			}
+			commitTestEvent(event, licenseId, false, results);
+			return results;
+		});
+	}
+
+	/**
+	 * @param exceptions exceptions to test
+	 * @return the exceptions in the same order along with their test results
+	 */
+	public Iterator<TestedItem<ListedExceptionContainer>> testExceptions(Iterator<ListedExceptionContainer> exceptions) {
+		return new ReadAheadIterator<>(exceptions, exceptionContainer -> {
+			String exceptionId = exceptionContainer.getV2Exception().getLicenseExceptionId();
+			if (exceptionId == null || exceptionId.isEmpty()) {
+				return new ArrayList<>();
+			}
+			TestExecutedEvent event = new TestExecutedEvent();
+			event.begin();
+			List<String> results;
+			try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_TEST_EXCEPTION, exceptionId)) {
+				results = tester.testException(exceptionContainer);
+			}
+			commitTestEvent(event, exceptionId, true, results);
+			return results;
+		});
+	}
+
+	/**
+	 * @param event test event to commit if it is enabled
+	 * @param id license or exception ID
+	 * @param exception true if an exception was tested
+	 * @param results failed tests
+	 */
+	private static void commitTestEvent(TestExecutedEvent event, String id, boolean exception, List<String> results) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.licenseId = id;
+			event.exception = exception;
+			event.failures = Objects.isNull(results) ? 0 : results.size();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Wait for a test task to complete, rethrowing any checked exception thrown by the test
+	 * @param task task to join
+	 * @return result of the task
+	 * @throws IOException on I/O error reading test file(s)
+	 * @throws SpdxCompareException on error executing the compare
+	 * @throws InvalidSPDXAnalysisException on error parsing SPDX licenses
+	 */
+	static <T> T join(ForkJoinTask<T> task) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
+		try {
+			return task.join();
+		} catch (RuntimeException e) {
+			Throwable cause = e.getCause();
+			while (Objects.nonNull(cause)) {
+				if (cause instanceof IOException) {
+					throw (IOException)cause;
+				} else if (cause instanceof SpdxCompareException) {
+					throw (SpdxCompareException)cause;
+				} else if (cause instanceof InvalidSPDXAnalysisException) {
+					throw (InvalidSPDXAnalysisException)cause;
+				}
+				cause = cause.getCause();
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() {
+		if (Objects.nonNull(pool)) {
+			pool.shutdownNow();
+		}
+	}
+}
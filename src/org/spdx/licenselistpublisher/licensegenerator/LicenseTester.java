@@ -16,14 +16,13 @@
 package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
-import java.io.FileFilter;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Stream;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.annotation.Nullable;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.license.License;
@@ -32,7 +31,6 @@ import org.spdx.licenseTemplate.LicenseTextHelper;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
 import org.spdx.utility.compare.CompareTemplateOutputHandler.DifferenceDescription;
-import org.spdx.utility.compare.LicenseCompareHelper;
 import org.spdx.utility.compare.SpdxCompareException;
 
 /**
@@ -47,22 +45,26 @@ import org.spdx.utility.compare.SpdxCompareException;
  */
 public class LicenseTester implements ILicenseTester {
 
-	private final Map<String,File> licenseIdToTestMap;
-	private static final FileFilter testFileFilter = arg0 -> (arg0.isFile() && arg0.getName().toLowerCase().endsWith(".txt"));
+	private final LicenseTestCorpus corpus;
 
 	/**
 	 * @param licenseTestDirectory Directory of license text files for comparison in the form {license-id}/(license|header|exception)/(good|bad)/{test-id}.txt
 	 */
 	public LicenseTester(File licenseTestDirectory) {
-		licenseIdToTestMap = new HashMap<>();
-		File[] licenseIdDirs = licenseTestDirectory.listFiles();
-		if (licenseIdDirs != null) {
-			for (File dir:licenseIdDirs) {
-				if (dir.isDirectory()) {
-					licenseIdToTestMap.put(dir.getName(),dir);
-				}
-			}
-		}
+		corpus = LicenseTestCorpus.scanTestDirectory(licenseTestDirectory);
+	}
+
+	/**
+	 * Test of a single test file
+	 */
+	@FunctionalInterface
+	private interface TextTest {
+		/**
+		 * @param testFile file being tested
+		 * @param text text of the test file
+		 * @return description of the test failure or null if the test passed
+		 */
+		@Nullable String test(Path testFile, String text) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException;
 	}
 
 	/**
@@ -76,49 +78,54 @@ public class LicenseTester implements ILicenseTester {
 	@Override
 	public List<String> testLicense(ListedLicenseContainer licenseContainer) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
 		License license = licenseContainer.getV2ListedLicense();
-		List<String> retval = new ArrayList<>();
-		File licenseDir = this.licenseIdToTestMap.get(license.getLicenseId());
-		if (licenseDir == null || !licenseDir.exists()) {
-			return retval;
-		}
-		File positiveTestDir = new File (licenseDir.getPath() + File.separator + "license" + File.separator + "good");
-		if (positiveTestDir.exists() && positiveTestDir.isDirectory()) {
-			File[] positiveTests = positiveTestDir.listFiles(testFileFilter);
-			if (positiveTests != null) {
-				for (File test:positiveTests) {
-					String text = readText(test);
-					DifferenceDescription result = LicenseCompareHelper.isTextStandardLicense(license, text);
-					if (result.isDifferenceFound()) {
-						retval.add("Test 'positive-"+test.toPath().getFileName()+"' failed due to difference found "+result.getDifferenceMessage());
-					}
-				}
+		CompiledLicenseTemplate template = licenseContainer.getCompiledTemplate();
+		String licenseId = license.getLicenseId();
+		return runTests(corpus.getTestFiles(licenseId, "license", LicenseTestCorpus.GOOD_TESTS), (test, text) -> {
+			DifferenceDescription result = template.compare(text);
+			return result.isDifferenceFound() ? "Test 'positive-"+test.getFileName()+"' failed due to difference found "+result.getDifferenceMessage() : null;
+		}, corpus.getTestFiles(licenseId, "license", LicenseTestCorpus.BAD_TESTS), (test, text) -> {
+			DifferenceDescription result = template.compare(text);
+			return !result.isDifferenceFound() ? "Test 'negative-"+test.getFileName()+"' failed - no difference found" : null;
+		});
+	}
+
+	/**
+	 * Run the positive and negative tests
+	 * <p>
+	 * Each test file is run as a separate fork join task so that the tests for a license are spread across
+	 * the workers when called from a <code>ForkJoinPool</code>.  The results are in the same order as running
+	 * the positive tests followed by the negative tests sequentially.
+	 * @param positiveTests positive test files
+	 * @param positiveTest test to run for each positive test file
+	 * @param negativeTests negative test files
+	 * @param negativeTest test to run for each negative test file
+	 * @return list of test failure descriptions
+	 */
+	private List<String> runTests(List<Path> positiveTests, TextTest positiveTest, List<Path> negativeTests, TextTest negativeTest) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
+		List<ForkJoinTask<String>> tasks = new ArrayList<>();
+		addTestTasks(positiveTests, positiveTest, tasks);
+		addTestTasks(negativeTests, negativeTest, tasks);
+		if (tasks.size() > 1) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			for (ForkJoinTask<String> task:tasks) {
+				task.invoke();
 			}
 		}
-		File negativeTestDir = new File (licenseDir.getPath() + File.separator + "license" + File.separator + "bad");
-		if (negativeTestDir.exists() && negativeTestDir.isDirectory()) {
-			File[] negativeTests = negativeTestDir.listFiles(testFileFilter);
-			if (negativeTests != null) {
-				for (File test:negativeTests) {
-					String text = readText(test);
-					DifferenceDescription result = LicenseCompareHelper.isTextStandardLicense(license, text);
-					if (!result.isDifferenceFound()) {
-						retval.add("Test 'negative-"+test.toPath().getFileName()+"' failed - no difference found");
-					}
-				}
+		List<String> retval = new ArrayList<>();
+		for (ForkJoinTask<String> task:tasks) {
+			String failure = LicenseTestStage.join(task);
+			if (failure != null) {
+				retval.add(failure);
 			}
 		}
 		return retval;
 	}
 
-	private String readText(File f) throws IOException {
-		StringBuilder text = new StringBuilder();
-		try (Stream<String> fileLines = Files.lines(f.toPath())) {
-		      fileLines.forEach(line -> {
-		            text.append(line);
-		            text.append("\n");
-		            });
+	private void addTestTasks(List<Path> tests, TextTest textTest, List<ForkJoinTask<String>> tasks) {
+		for (Path test:tests) {
+			tasks.add(ForkJoinTask.adapt(() -> textTest.test(test, LicenseTestCorpus.readText(test))));
 		}
-		return text.toString();
 	}
 
 	/**
@@ -126,40 +133,31 @@ public class LicenseTester implements ILicenseTester {
 	 * @param exceptionContainer exception to test
 	 * @return list of test failure descriptions.  List is empty if all tests pass.
 	 * @throws IOException on I/O error reading test file(s)
+	 * @throws SpdxCompareException on error executing the compare
 	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
 	 */
 	@Override
-	public List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, InvalidSPDXAnalysisException {
+	public List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, SpdxCompareException, InvalidSPDXAnalysisException {
 		LicenseException exception = exceptionContainer.getV2Exception();
-		List<String> retval = new ArrayList<>();
-		File exceptionDir = this.licenseIdToTestMap.get(exception.getLicenseExceptionId());
-		if (exceptionDir == null || !exceptionDir.exists()) {
-			return retval;
-		}
-		File positiveTestDir = new File (exceptionDir.getPath() + File.separator + "exception" + File.separator + "good");
-		if (positiveTestDir.exists() && positiveTestDir.isDirectory()) {
-			File[] positiveTests = positiveTestDir.listFiles(testFileFilter);
-			if (positiveTests != null) {
-				for (File test:positiveTests) {
-					String text = readText(test);
-					if (!LicenseTextHelper.isLicenseTextEquivalent(text, exception.getLicenseExceptionText())) {
-						retval.add("Test 'positive-"+test.toPath().getFileName()+"' failed due to difference found");
-					}
-				}
-			}
-		}
-		File negativeTestDir = new File (exceptionDir.getPath() + File.separator + "exception" + File.separator + "bad");
-		if (negativeTestDir.exists() && negativeTestDir.isDirectory()) {
-			File[] negativeTests = negativeTestDir.listFiles(testFileFilter);
-			if (negativeTests != null) {
-				for (File test:negativeTests) {
-					String text = readText(test);
-						if (LicenseTextHelper.isLicenseTextEquivalent(text, exception.getLicenseExceptionText())) {
-						retval.add("Test 'negative-"+test.toPath().getFileName()+"' failed - no difference found");
-					}
-				}
-			}
-		}
+		String exceptionId = exception.getLicenseExceptionId();
+		String exceptionText = exception.getLicenseExceptionText();
+		return runTests(corpus.getTestFiles(exceptionId, "exception", LicenseTestCorpus.GOOD_TESTS), (test, text) ->
+				!LicenseTextHelper.isLicenseTextEquivalent(text, exceptionText) ? "Test 'positive-"+test.getFileName()+"' failed due to difference found" : null,
+				corpus.getTestFiles(exceptionId, "exception", LicenseTestCorpus.BAD_TESTS), (test, text) ->
+				LicenseTextHelper.isLicenseTextEquivalent(text, exceptionText) ? "Test 'negative-"+test.getFileName()+"' failed - no difference found" : null);
+	}
+
+	@Override
+	public List<Path> getLicenseTestFiles(String licenseId) {
+		List<Path> retval = new ArrayList<>(corpus.getTestFiles(licenseId, "license", LicenseTestCorpus.GOOD_TESTS));
+		retval.addAll(corpus.getTestFiles(licenseId, "license", LicenseTestCorpus.BAD_TESTS));
+		return retval;
+	}
+
+	@Override
+	public List<Path> getExceptionTestFiles(String licenseExceptionId) {
+		List<Path> retval = new ArrayList<>(corpus.getTestFiles(licenseExceptionId, "exception", LicenseTestCorpus.GOOD_TESTS));
+		retval.addAll(corpus.getTestFiles(licenseExceptionId, "exception", LicenseTestCorpus.BAD_TESTS));
 		return retval;
 	}
 
@@ -17,17 +17,12 @@ package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
-import org.spdx.library.model.v2.license.ListedLicenseException;
-import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
 
@@ -43,7 +38,7 @@ public class LicenseTextFormatWriter implements ILicenseFormatWriter {
 	private static final int MAX_LINE_CHARS = 80;
 	private static final int TYPICAL_WORD_CHARS = 8;
 	private File textFolder;
-	private Charset utf8 = Charset.forName("UTF-8");
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param textFolder Folder to write the text files
@@ -65,6 +60,16 @@ public class LicenseTextFormatWriter implements ILicenseFormatWriter {
 	public void setTextFolder(File textFolder) {
 		this.textFolder = textFolder;
 	}
+
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
 	
 	/**
 	 * @param licenseContainer license to write
@@ -75,12 +80,12 @@ public class LicenseTextFormatWriter implements ILicenseFormatWriter {
 	 * @throws IOException 
 	 */
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, String deprecatedVersion, boolean wordWrapText) throws InvalidSPDXAnalysisException, IOException {
-		SpdxListedLicense license = licenseContainer.getV2ListedLicense();
-		String licBaseHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(license.getLicenseId());
+		LicenseSnapshot license = licenseContainer.getSnapshot();
+		String licBaseHtmlFileName = license.getFileName();
 		if (deprecated) {
 			licBaseHtmlFileName = "deprecated_" + licBaseHtmlFileName;
 		}
-		Path textFilePath = Paths.get(textFolder.getPath(), licBaseHtmlFileName + ".txt");
+		File textFile = new File(textFolder, licBaseHtmlFileName + ".txt");
 		String[] lines = license.getLicenseText().split("\\n");
 		List<String> wordWrappedLines = new ArrayList<String>();
 		for (String line:lines) {
@@ -104,7 +109,22 @@ public class LicenseTextFormatWriter implements ILicenseFormatWriter {
 				}
 			}
 		}
-		Files.write(textFilePath, wordWrappedLines, utf8);
+		writeLines(textFile, wordWrappedLines);
+	}
+
+	/**
+	 * Write lines of text, each followed by the line separator
+	 * @param file file to write
+	 * @param lines lines of text
+	 * @throws IOException
+	 */
+	private void writeLines(File file, List<String> lines) throws IOException {
+		try (Writer writer = outputSink.newWriter(file)) {
+			for (String line:lines) {
+				writer.write(line);
+				writer.write(System.lineSeparator());
+			}
+		}
 	}
 
 	/* (non-Javadoc)
@@ -124,9 +144,9 @@ public class LicenseTextFormatWriter implements ILicenseFormatWriter {
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, InvalidSPDXAnalysisException {
-		ListedLicenseException exception = exceptionContainer.getV2Exception();
-		String exceptionHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(exception.getLicenseExceptionId());
-		Path textFilePath = Paths.get(textFolder.getPath(), exceptionHtmlFileName + ".txt");
-		Files.write(textFilePath, Arrays.asList(exception.getLicenseExceptionText().split("\\n")), utf8);
+		ExceptionSnapshot exception = exceptionContainer.getSnapshot();
+		String exceptionHtmlFileName = exception.getFileName();
+		File textFile = new File(textFolder, exceptionHtmlFileName + ".txt");
+		writeLines(textFile, Arrays.asList(exception.getLicenseExceptionText().split("\\n")));
 	}
 }
@@ -19,11 +19,8 @@
 package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -74,6 +71,7 @@ public class LicenseV3JsonLdFormatWriter implements ILicenseFormatWriter {
 	private ElementCollection licenseTocCollection;
 	private ElementCollection exceptionTocCollection;
 	private IModelCopyManager copyManager = new ModelCopyManager();
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 	
 	/**
 	 * @param version License list version
@@ -116,25 +114,37 @@ public class LicenseV3JsonLdFormatWriter implements ILicenseFormatWriter {
 	 * @throws LicenseGeneratorException on any IO or SPDX parsing errors
 	 */
 	public static void writeV3JsonLD(JsonLDStore store, Path filePath, boolean pretty) throws LicenseGeneratorException {
-		if (!Files.exists(filePath)) {
-			try {
-				Files.createFile(filePath);
-			} catch (IOException e) {
-				throw new LicenseGeneratorException("Can not create JSONLD output file "+filePath);
-			}
-		}
+		writeV3JsonLD(store, filePath.toFile(), pretty, DirectoryOutputSink.INSTANCE);
+	}
+
+	/**
+	 * @param store JSONLD store containing the data to write
+	 * @param file file for the resultant JSON-LD
+	 * @param pretty if true, the JSON LD file will be formatted to be (more) human readable
+	 * @param outputSink sink to write the file to
+	 * @throws LicenseGeneratorException on any IO or SPDX parsing errors
+	 */
+	public static void writeV3JsonLD(JsonLDStore store, File file, boolean pretty, OutputSink outputSink) throws LicenseGeneratorException {
 		store.setPretty(pretty);
-		try (OutputStream stream = new FileOutputStream(filePath.toFile())) {
+		try (OutputStream stream = outputSink.newOutputStream(file)) {
 			store.serialize(stream);
-		} catch (FileNotFoundException e) {
-			throw new LicenseGeneratorException("Unexpected file not found error for "+filePath);
 		} catch (IOException e) {
-			throw new LicenseGeneratorException("I/O error writing JSONLD output file "+filePath, e);
+			throw new LicenseGeneratorException("I/O error writing JSONLD output file "+file, e);
 		} catch (InvalidSPDXAnalysisException e) {
-			throw new LicenseGeneratorException("SPDX exception creating JSONLD output file "+filePath, e);
+			throw new LicenseGeneratorException("SPDX exception creating JSONLD output file "+file, e);
 		}
 	}
 
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.licenselistpublisher.licensegenerator.ILicenseFormatWriter#writeLicense(org.spdx.licenselistpublisher.ListedLicenseContainer, boolean, java.lang.String)
 	 */
@@ -143,7 +153,7 @@ public class LicenseV3JsonLdFormatWriter implements ILicenseFormatWriter {
 			boolean deprecated, String deprecatedVersion)
 			throws IOException, LicenseGeneratorException,
 			InvalidSPDXAnalysisException, InvalidLicenseTemplateException {
-		ListedLicense license = licenseContainer.getV3ListedLicense();
+		ListedLicense license = licenseContainer.getOrCreateV3ListedLicense();
 		JsonLDStore onlyThisLicenseStore = new JsonLDStore(new InMemSpdxStore(), true);
 		ModelCopyManager onlyLicenseCopyManager = new ModelCopyManager();
 		TypedValue tv = onlyLicenseCopyManager.copy(onlyThisLicenseStore, license.getModelStore(), 
@@ -164,8 +174,8 @@ public class LicenseV3JsonLdFormatWriter implements ILicenseFormatWriter {
 				.setLocationHint(license.getObjectUri().replace(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE, LOCATION_PREFIX) + FILE_SUFFIX)
 				// TODO - we can write the file and get a hash to add a verified using
 				.build());
-		writeV3JsonLD(onlyThisLicenseStore, jsonLdFolder.toPath().resolve(
-				LicenseHtmlFormatWriter.formLicenseHTMLFileName(licenseId) + FILE_SUFFIX), true);
+		writeV3JsonLD(onlyThisLicenseStore, new File(jsonLdFolder,
+				LicenseHtmlFormatWriter.formLicenseHTMLFileName(licenseId) + FILE_SUFFIX), true, outputSink);
 		licenseTocCollection.getElements().add(new ExternalListedLicense(licenseTocCollection.getModelStore(),
 				license.getObjectUri(), licenseTocCollection.getCopyManager(), true, 
 				SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX));
@@ -176,12 +186,12 @@ public class LicenseV3JsonLdFormatWriter implements ILicenseFormatWriter {
 	 */
 	@Override
 	public void writeToC() throws IOException, LicenseGeneratorException {
-		writeV3JsonLD(this.licenseTocStore, jsonLdFolder.toPath().resolve(LICENSE_TOC_FILE), true);
+		writeV3JsonLD(this.licenseTocStore, new File(jsonLdFolder, LICENSE_TOC_FILE), true, outputSink);
 		List<String> verify = licenseTocDoc.verify();
 		if (!verify.isEmpty()) {
 			throw new LicenseGeneratorException("Invalid license TOC data generated: "+verify.get(0));
 		}
-		writeV3JsonLD(this.exceptionTocStore, jsonLdFolder.toPath().resolve(EXCEPTION_TOC_FILE), true);
+		writeV3JsonLD(this.exceptionTocStore, new File(jsonLdFolder, EXCEPTION_TOC_FILE), true, outputSink);
 		verify = exceptionTocDoc.verify();
 		if (!verify.isEmpty()) {
 			throw new LicenseGeneratorException("Invalid exception TOC data generated: "+verify.get(0));
@@ -195,7 +205,7 @@ public class LicenseV3JsonLdFormatWriter implements ILicenseFormatWriter {
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, LicenseGeneratorException,
 			InvalidLicenseTemplateException, InvalidSPDXAnalysisException {
-		ListedLicenseException exception = exceptionContainer.getV3Exception();
+		ListedLicenseException exception = exceptionContainer.getOrCreateV3Exception();
 		JsonLDStore onlyThisExceptionStore = new JsonLDStore(new InMemSpdxStore(), true);
 		ModelCopyManager onlyExceptionCopyManager = new ModelCopyManager();
 		TypedValue tv = onlyExceptionCopyManager.copy(onlyThisExceptionStore, exception.getModelStore(), 
@@ -217,8 +227,8 @@ public class LicenseV3JsonLdFormatWriter implements ILicenseFormatWriter {
 				.setLocationHint(exception.getObjectUri().replace(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE, LOCATION_PREFIX) + FILE_SUFFIX)
 				// TODO - we can write the file and get a hash to add a verified using
 				.build());
-		writeV3JsonLD(onlyThisExceptionStore, jsonLdFolder.toPath().resolve(
-				LicenseHtmlFormatWriter.formLicenseHTMLFileName(exceptionId) + FILE_SUFFIX), true);
+		writeV3JsonLD(onlyThisExceptionStore, new File(jsonLdFolder,
+				LicenseHtmlFormatWriter.formLicenseHTMLFileName(exceptionId) + FILE_SUFFIX), true, outputSink);
 		exceptionTocCollection.getElements().add(new ExternalListedLicense(exceptionTocCollection.getModelStore(),
 				exception.getObjectUri(), exceptionTocCollection.getCopyManager(), true, 
 				SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX));
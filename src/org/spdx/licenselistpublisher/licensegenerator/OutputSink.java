@@ -0,0 +1,98 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.annotation.Nullable;
+
+/**
+ * Destination for the files generated by the license format writers
+ * <p>
+ * The writers address their output by the file it would have in the output folder.  A sink may write the file
+ * directly (<code>DirectoryOutputSink</code>) or store it as an entry in a single archive
+ * (<code>ArchiveOutputSink</code>), so the writers must not read back files they have written.
+ * <p>
+ * Implementations must support files being written concurrently from different threads.
+ *
+ */
+public interface OutputSink extends Closeable {
+
+	/**
+	 * Open a file for writing - the file is complete when the stream is closed
+	 * @param file file in the output folder
+	 * @return stream to write the content of the file to
+	 * @throws IOException on errors opening the file
+	 */
+	OutputStream newOutputStream(File file) throws IOException;
+
+	/**
+	 * Create a folder for output files if the sink stores folders
+	 * @param folder folder in the output folder
+	 * @throws IOException if the folder can not be created
+	 */
+	void createFolder(File folder) throws IOException;
+
+	/**
+	 * Open a file for writing UTF-8 encoded text
+	 * @param file file in the output folder
+	 * @return buffered writer for the content of the file
+	 * @throws IOException on errors opening the file
+	 */
+	default Writer newWriter(File file) throws IOException {
+		return new BufferedWriter(new OutputStreamWriter(newOutputStream(file), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Write the complete content of a file
+	 * @param file file in the output folder
+	 * @param content content of the file
+	 * @throws IOException on errors writing the file
+	 */
+	default void write(File file, byte[] content) throws IOException {
+		try (OutputStream out = newOutputStream(file)) {
+			out.write(content);
+		}
+	}
+
+	/**
+	 * Copy a file into the output
+	 * @param source file to copy
+	 * @param file file in the output folder
+	 * @throws IOException on errors reading the source or writing the file
+	 */
+	default void copy(Path source, File file) throws IOException {
+		try (OutputStream out = newOutputStream(file)) {
+			Files.copy(source, out);
+		}
+	}
+
+	/**
+	 * Move a temporary file into the output
+	 * @param source file to move - deleted once it has been moved
+	 * @param file file in the output folder
+	 * @throws IOException on errors reading the source or writing the file
+	 */
+	default void move(Path source, File file) throws IOException {
+		copy(source, file);
+		Files.delete(source);
+	}
+
+	/**
+	 * @return summary of the files handled by the sink for the end of the run - null if there is nothing to report
+	 */
+	default @Nullable String getStatistics() {
+		return null;
+	}
+}
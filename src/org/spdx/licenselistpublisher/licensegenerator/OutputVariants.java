@@ -0,0 +1,156 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Generates minified and precompressed variants of the files served by the website and the JSON API
+ * <p>
+ * For each file added, a gzip compressed sibling <code>{file}.gz</code> is written.  JSON and JSON-LD files also get
+ * a minified sibling (<code>licenses.min.json</code> for <code>licenses.json</code>) which is compressed as well.
+ * The variants are generated in the common fork join pool while the writers continue; <code>await</code> must be
+ * called before the output is used.
+ *
+ */
+public class OutputVariants {
+
+	public static final String GZIP_EXTENSION = ".gz";
+	public static final String MINIFIED_SUFFIX = ".min";
+	static final String[] JSON_EXTENSIONS = new String[] {".json", ".jsonld"};
+
+	private final Gson minifiedGson = new GsonBuilder().disableHtmlEscaping().create();
+	private final List<ForkJoinTask<Void>> pending = new ArrayList<>();
+	private final OutputSink outputSink;
+
+	/**
+	 * Write the variants directly to the file system
+	 */
+	public OutputVariants() {
+		this(DirectoryOutputSink.INSTANCE);
+	}
+
+	/**
+	 * @param outputSink sink the variants are written to - the files they are generated from are read from the file system
+	 */
+	public OutputVariants(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
+	/**
+	 * Generate the variants of a file which has been completely written
+	 * @param file file to generate variants for
+	 */
+	public synchronized void add(File file) {
+		pending.add(ForkJoinPool.commonPool().submit(ForkJoinTask.adapt(() -> {
+			writeVariants(file);
+			return null;
+		})));
+	}
+
+	/**
+	 * Wait for all of the variants to be written
+	 * @throws IOException on errors writing any of the variants
+	 */
+	public void await() throws IOException {
+		List<ForkJoinTask<Void>> tasks;
+		synchronized (this) {
+			tasks = new ArrayList<>(pending);
+			pending.clear();
+		}
+		IOException error = null;
+		for (ForkJoinTask<Void> task:tasks) {
+			try {
+				task.join();
+			} catch (RuntimeException e) {
+				// exceptions may be wrapped or rethrown with the original as the cause when joined
+				Throwable cause = e;
+				while (Objects.nonNull(cause) && !(cause instanceof IOException)) {
+					cause = cause.getCause();
+				}
+				IOException ioe = Objects.nonNull(cause) ? (IOException)cause : new IOException(e.getMessage(), e);
+				if (Objects.isNull(error)) {
+					error = ioe;
+				} else {
+					error.addSuppressed(ioe);
+				}
+			}
+		}
+		if (Objects.nonNull(error)) {
+			throw error;
+		}
+	}
+
+	/**
+	 * @param file file
+	 * @return the minified file for a JSON or JSON-LD file, otherwise null
+	 */
+	public static File minifiedFile(File file) {
+		String name = file.getName();
+		for (String extension:JSON_EXTENSIONS) {
+			if (name.endsWith(extension) && !name.endsWith(MINIFIED_SUFFIX + extension)) {
+				return new File(file.getParentFile(), name.substring(0, name.length() - extension.length()) + MINIFIED_SUFFIX + extension);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param file file
+	 * @return the gzip compressed sibling of the file
+	 */
+	public static File compressedFile(File file) {
+		return new File(file.getPath() + GZIP_EXTENSION);
+	}
+
+	private void writeVariants(File file) throws IOException {
+		byte[] content = Files.readAllBytes(file.toPath());
+		compress(file, content);
+		File minified = minifiedFile(file);
+		if (Objects.nonNull(minified)) {
+			byte[] minifiedContent;
+			try {
+				JsonElement json = JsonParser.parseString(new String(content, StandardCharsets.UTF_8));
+				minifiedContent = minifiedGson.toJson(json).getBytes(StandardCharsets.UTF_8);
+			} catch (JsonParseException e) {
+				throw new IOException("Unable to minify JSON file "+file.getName(), e);
+			}
+			outputSink.write(minified, minifiedContent);
+			compress(minified, minifiedContent);
+		}
+	}
+
+	private void compress(File file, byte[] content) throws IOException {
+		// the variants are compressed once and served many times so the best compression is used
+		// the gzip header has no modification time, so unchanged content compresses to the same bytes
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4 + 64);
+		try (OutputStream out = new GZIPOutputStream(compressed) {
+			{
+				def.setLevel(Deflater.BEST_COMPRESSION);
+			}
+		}) {
+			out.write(content);
+		}
+		outputSink.write(compressedFile(file), compressed.toByteArray());
+	}
+}
@@ -0,0 +1,214 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.sparql.graph.GraphReadOnly;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.licenselistpublisher.LicenseGeneratorException;
+import org.spdx.spdxRdfStore.OutputFormat;
+import org.spdx.spdxRdfStore.RdfStore;
+
+/**
+ * Writes a graph in several RDF formats concurrently
+ * <p>
+ * The RDF store has a single output format, so it can only be serialized in one format at a time.  The store is
+ * serialized once to N-Triples, which is parsed into a read only model shared by the writers for the other formats.
+ * Each format is written to its own output file or byte buffer by a task in the common fork join pool.
+ *
+ */
+public class ParallelRdfWriter {
+
+	private ParallelRdfWriter() {
+		// static methods only
+	}
+
+	/**
+	 * Opens the output for a format - called concurrently for different formats
+	 */
+	@FunctionalInterface
+	private interface OutputOpener {
+		OutputStream open(OutputFormat format) throws IOException;
+	}
+
+	/**
+	 * Write all of the elements in an RDF store
+	 * @param rdfStore store containing the elements to write - the output format of the store is changed
+	 * @param outputs file to write for each format
+	 * @throws LicenseGeneratorException on errors serializing or writing the RDF
+	 */
+	public static void write(RdfStore rdfStore, Map<OutputFormat, File> outputs) throws LicenseGeneratorException {
+		write(rdfStore, outputs, DirectoryOutputSink.INSTANCE);
+	}
+
+	/**
+	 * Write all of the elements in an RDF store
+	 * @param rdfStore store containing the elements to write - the output format of the store is changed
+	 * @param outputs file to write for each format
+	 * @param outputSink sink to write the files to
+	 * @throws LicenseGeneratorException on errors serializing or writing the RDF
+	 */
+	public static void write(RdfStore rdfStore, Map<OutputFormat, File> outputs, OutputSink outputSink) throws LicenseGeneratorException {
+		write(rdfStore, outputs.keySet(), format -> outputSink.newOutputStream(outputs.get(format)));
+	}
+
+	/**
+	 * Serialize all of the elements in an RDF store
+	 * @param rdfStore store containing the elements to serialize - the output format of the store is changed
+	 * @param formats formats to serialize
+	 * @return the serialized bytes for each format
+	 * @throws LicenseGeneratorException on errors serializing the RDF
+	 */
+	public static Map<OutputFormat, byte[]> serialize(RdfStore rdfStore, Set<OutputFormat> formats) throws LicenseGeneratorException {
+		Map<OutputFormat, ByteArrayOutputStream> outputs = new ConcurrentHashMap<>();
+		write(rdfStore, formats, format -> outputs.computeIfAbsent(format, f -> new ByteArrayOutputStream()));
+		Map<OutputFormat, byte[]> retval = new EnumMap<>(OutputFormat.class);
+		for (Entry<OutputFormat, ByteArrayOutputStream> output:outputs.entrySet()) {
+			retval.put(output.getKey(), output.getValue().toByteArray());
+		}
+		return retval;
+	}
+
+	private static void write(RdfStore rdfStore, Set<OutputFormat> formats, OutputOpener opener) throws LicenseGeneratorException {
+		if (formats.isEmpty()) {
+			return;
+		}
+		if (formats.size() == 1) {
+			// nothing to run concurrently - serialize straight from the store
+			OutputFormat format = formats.iterator().next();
+			rdfStore.setOutputFormat(format);
+			try (OutputStream out = opener.open(format)) {
+				rdfStore.serialize(out);
+			} catch (IOException e) {
+				throw new LicenseGeneratorException("I/O error writing the RDF output", e);
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new LicenseGeneratorException("SPDX analysis exception generating the RDF output", e);
+			}
+			return;
+		}
+		ByteArrayOutputStream ntBytes = new ByteArrayOutputStream();
+		rdfStore.setOutputFormat(OutputFormat.N_TRIPLET);
+		try {
+			rdfStore.serialize(ntBytes);
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new LicenseGeneratorException("SPDX analysis exception generating the RDF output", e);
+		}
+		Model model = ModelFactory.createDefaultModel();
+		model.setNsPrefixes(StreamingRdfToc.PREFIXES);
+		try {
+			RDFParser.source(new ByteArrayInputStream(ntBytes.toByteArray())).lang(Lang.NTRIPLES).parse(model);
+		} catch (RiotException e) {
+			throw new LicenseGeneratorException("Error parsing the serialized RDF store", e);
+		}
+		List<ForkJoinTask<Void>> tasks = new ArrayList<>();
+		if (formats.contains(OutputFormat.N_TRIPLET)) {
+			tasks.add(ForkJoinTask.adapt(() -> {
+				try (OutputStream out = opener.open(OutputFormat.N_TRIPLET)) {
+					ntBytes.writeTo(out);
+				}
+				return null;
+			}));
+		}
+		Set<OutputFormat> otherFormats = EnumSet.copyOf(formats);
+		otherFormats.remove(OutputFormat.N_TRIPLET);
+		addWriteTasks(model, otherFormats, opener, tasks);
+		invokeAll(tasks);
+	}
+
+	/**
+	 * Write a model
+	 * @param model model to write - the model must not be modified while it is written
+	 * @param outputs file to write for each format
+	 * @throws LicenseGeneratorException on errors writing the RDF
+	 */
+	public static void write(Model model, Map<OutputFormat, File> outputs) throws LicenseGeneratorException {
+		write(model, outputs, DirectoryOutputSink.INSTANCE);
+	}
+
+	/**
+	 * Write a model
+	 * @param model model to write - the model must not be modified while it is written
+	 * @param outputs file to write for each format
+	 * @param outputSink sink to write the files to
+	 * @throws LicenseGeneratorException on errors writing the RDF
+	 */
+	public static void write(Model model, Map<OutputFormat, File> outputs, OutputSink outputSink) throws LicenseGeneratorException {
+		List<ForkJoinTask<Void>> tasks = new ArrayList<>();
+		addWriteTasks(model, outputs.keySet(), format -> outputSink.newOutputStream(outputs.get(format)), tasks);
+		invokeAll(tasks);
+	}
+
+	private static void addWriteTasks(Model model, Set<OutputFormat> formats, OutputOpener opener, List<ForkJoinTask<Void>> tasks) {
+		// any attempt by a writer to modify the shared model fails rather than racing with the other writers
+		Model readOnly = ModelFactory.createModelForGraph(new GraphReadOnly(model.getGraph()));
+		for (OutputFormat format:formats) {
+			tasks.add(ForkJoinTask.adapt(() -> {
+				try (OutputStream out = opener.open(format)) {
+					readOnly.write(out, jenaLang(format));
+				}
+				return null;
+			}));
+		}
+	}
+
+	/**
+	 * @param format RDF store output format
+	 * @return the Jena language name used by the RDF store for the format
+	 */
+	static String jenaLang(OutputFormat format) {
+		switch (format) {
+			case XML_ABBREV: return "RDF/XML-ABBREV";
+			case XML: return "RDF/XML";
+			case N_TRIPLET: return "NTRIPLE";
+			case TURTLE: return "TURTLE";
+			case JSON_LD: return "JSON-LD";
+			default: throw new IllegalArgumentException("Unsupported RDF output format "+format);
+		}
+	}
+
+	private static void invokeAll(List<ForkJoinTask<Void>> tasks) throws LicenseGeneratorException {
+		try {
+			if (tasks.size() > 1) {
+				ForkJoinTask.invokeAll(tasks);
+			} else {
+				for (ForkJoinTask<Void> task:tasks) {
+					task.invoke();
+				}
+			}
+		} catch (RuntimeException e) {
+			// exceptions may be wrapped or rethrown with the original as the cause when joined
+			Throwable cause = e;
+			while (Objects.nonNull(cause)) {
+				if (cause instanceof IOException) {
+					throw new LicenseGeneratorException("I/O error writing the RDF output", cause);
+				} else if (cause instanceof RiotException) {
+					throw new LicenseGeneratorException("Error writing the RDF output", cause);
+				}
+				cause = cause.getCause();
+			}
+			throw e;
+		}
+	}
+}
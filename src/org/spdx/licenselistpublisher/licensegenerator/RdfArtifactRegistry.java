@@ -0,0 +1,101 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.v2.ModelObjectV2;
+import org.spdx.licenselistpublisher.LicenseGeneratorException;
+import org.spdx.spdxRdfStore.OutputFormat;
+import org.spdx.spdxRdfStore.RdfStore;
+
+/**
+ * Shares the RDF serializations of a license or exception between the format writers
+ * <p>
+ * Each writer registers the formats it needs when it is created.  The first writer to request a license or
+ * exception copies it into an RDF store and serializes every registered format, and the following writers reuse
+ * the serialized bytes.  Artifacts are keyed on the URI of the license or exception in the store, so writers
+ * using a different URI for the same license do not share artifacts.
+ * <p>
+ * The licenses and exceptions are written one at a time by all of the writers, so only the artifacts for the
+ * most recent license or exception are kept.
+ *
+ */
+public class RdfArtifactRegistry {
+
+	private final Set<OutputFormat> formats = EnumSet.noneOf(OutputFormat.class);
+	private String cachedObjectUri = null;
+	private Map<OutputFormat, byte[]> cachedArtifacts = null;
+	private int serializations = 0;
+
+	/**
+	 * Register the formats needed by a writer
+	 * @param requiredFormats formats the writer will request
+	 */
+	public synchronized void require(Collection<OutputFormat> requiredFormats) {
+		if (!formats.containsAll(requiredFormats)) {
+			formats.addAll(requiredFormats);
+			cachedObjectUri = null;
+			cachedArtifacts = null;
+		}
+	}
+
+	/**
+	 * @param object license or exception
+	 * @param format RDF format
+	 * @return the serialization of the license or exception in the format
+	 * @throws LicenseGeneratorException on errors serializing the RDF
+	 * @throws InvalidSPDXAnalysisException on errors copying the license or exception
+	 */
+	public synchronized byte[] get(ModelObjectV2 object, OutputFormat format) throws LicenseGeneratorException, InvalidSPDXAnalysisException {
+		require(EnumSet.of(format));
+		String objectUri = object.getDocumentUri() + object.getId();
+		if (!objectUri.equals(cachedObjectUri)) {
+			cachedArtifacts = null;	// release the previous artifacts before serializing
+			RdfStore onlyThisObject = new RdfStore();
+			onlyThisObject.setDocumentUri(object.getDocumentUri(), true);
+			ModelCopyManager copyManager = new ModelCopyManager();
+			copyManager.copy(onlyThisObject, objectUri, object.getModelStore(), objectUri,
+					object.getSpecVersion(), object.getDocumentUri());
+			cachedArtifacts = ParallelRdfWriter.serialize(onlyThisObject, formats);
+			cachedObjectUri = objectUri;
+			serializations++;
+		}
+		return cachedArtifacts.get(format);
+	}
+
+	/**
+	 * Write the serialization of a license or exception to a file
+	 * @param object license or exception
+	 * @param format RDF format
+	 * @param file file to write
+	 * @param outputSink sink to write the file to
+	 * @throws LicenseGeneratorException on errors serializing the RDF or writing the file
+	 * @throws InvalidSPDXAnalysisException on errors copying the license or exception
+	 */
+	public void write(ModelObjectV2 object, OutputFormat format, File file, OutputSink outputSink) throws LicenseGeneratorException, InvalidSPDXAnalysisException {
+		byte[] artifact = get(object, format);
+		try {
+			outputSink.write(file, Objects.requireNonNull(artifact));
+		} catch (IOException e) {
+			throw new LicenseGeneratorException("I/O error writing RDF output file "+file.getName(), e);
+		}
+	}
+
+	/**
+	 * @return number of licenses and exceptions copied and serialized
+	 */
+	public synchronized int getSerializationCount() {
+		return serializations;
+	}
+}
@@ -17,11 +17,13 @@ package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.license.License;
@@ -29,7 +31,6 @@ import org.spdx.library.model.v2.license.LicenseException;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
 import org.spdx.utility.compare.CompareTemplateOutputHandler.DifferenceDescription;
-import org.spdx.utility.compare.LicenseCompareHelper;
 import org.spdx.utility.compare.SpdxCompareException;
 
 /**
@@ -40,24 +41,48 @@ import org.spdx.utility.compare.SpdxCompareException;
  */
 public class SimpleLicenseTester implements ILicenseTester {
 
-	private final File testFileDir;
+	private final LicenseTestCorpus corpus;
 
 	/**
 	 * @param testFileDir Directory containing license texts in the format [license-id].txt
 	 */
 	public SimpleLicenseTester(File testFileDir) {
-		this.testFileDir = testFileDir;
+		this.corpus = LicenseTestCorpus.scanTextDirectory(testFileDir);
 	}
 
 	public static List<String> testException(LicenseException exception, File compareFile) throws InvalidSPDXAnalysisException, IOException {
+		return testException(exception, CompiledLicenseTemplate.forException(exception), compareFile);
+	}
+
+	/**
+	 * Test an exception against a file which should match the exception
+	 * @param exception exception to test
+	 * @param template compiled template for the exception
+	 * @param compareFile file containing the text to compare
+	 * @return list of test failure descriptions.  List is empty if all tests pass.
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @throws IOException on errors reading the file
+	 */
+	public static List<String> testException(LicenseException exception, CompiledLicenseTemplate template, File compareFile) throws InvalidSPDXAnalysisException, IOException {
+		return testExceptionText(exception, template, compareFile.exists() ? LicenseTestCorpus.readText(compareFile.toPath()) : null);
+	}
+
+	/**
+	 * Test an exception against text which should match the exception
+	 * @param exception exception to test
+	 * @param template compiled template for the exception
+	 * @param compareText text to compare - if null, the test text is treated as missing
+	 * @return list of test failure descriptions.  List is empty if all tests pass.
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 */
+	public static List<String> testExceptionText(LicenseException exception, CompiledLicenseTemplate template, @Nullable String compareText) throws InvalidSPDXAnalysisException {
 		List<String> retval = new ArrayList<>();
-		if (!compareFile.exists()) {
+		if (Objects.isNull(compareText)) {
 			retval.add("No test text exists for license exception ID "+exception.getLicenseExceptionId());
 		} else {
-			String compareText = readText(compareFile);
 			DifferenceDescription result;
 			try {
-				result = LicenseCompareHelper.isTextStandardException(exception, compareText);
+				result = template.compare(compareText);
 				if (result.isDifferenceFound()) {
 					retval.add("Test for exception ID "+exception.getLicenseExceptionId() + " failed due to difference found "+result.getDifferenceMessage());
 				}
@@ -69,16 +94,51 @@ public class SimpleLicenseTester implements ILicenseTester {
 	}
 
 	public static List<String> testLicense(License license, File compareFile) throws InvalidSPDXAnalysisException, IOException {
+		return testLicense(license, CompiledLicenseTemplate.forLicense(license), compareFile);
+	}
+
+	/**
+	 * Test a license against a file which should match the license
+	 * @param license license to test
+	 * @param template compiled template for the license
+	 * @param compareFile file containing the text to compare
+	 * @return list of test failure descriptions.  List is empty if all tests pass.
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @throws IOException on errors reading the file
+	 */
+	public static List<String> testLicense(License license, CompiledLicenseTemplate template, File compareFile) throws InvalidSPDXAnalysisException, IOException {
+		return testLicenseText(license, template, compareFile.exists() ? LicenseTestCorpus.readText(compareFile.toPath()) : null);
+	}
+
+	/**
+	 * Test a license against text which should match the license
+	 * @param license license to test
+	 * @param compareText text to compare - if null, the test text is treated as missing
+	 * @return list of test failure descriptions.  List is empty if all tests pass.
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 */
+	public static List<String> testLicenseText(License license, @Nullable String compareText) throws InvalidSPDXAnalysisException {
+		return testLicenseText(license, CompiledLicenseTemplate.forLicense(license), compareText);
+	}
+
+	/**
+	 * Test a license against text which should match the license
+	 * @param license license to test
+	 * @param template compiled template for the license
+	 * @param compareText text to compare - if null, the test text is treated as missing
+	 * @return list of test failure descriptions.  List is empty if all tests pass.
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 */
+	public static List<String> testLicenseText(License license, CompiledLicenseTemplate template, @Nullable String compareText) throws InvalidSPDXAnalysisException {
 		List<String> retval = new ArrayList<>();
-		if (!compareFile.exists()) {
+		if (Objects.isNull(compareText)) {
 			if (!license.isDeprecated()) {
 				retval.add("No test text exists for license ID "+license.getLicenseId());
 			}
 		} else {
-			String compareText = readText(compareFile);
 			DifferenceDescription result;
 			try {
-				result = LicenseCompareHelper.isTextStandardLicense(license, compareText);
+				result = template.compare(compareText);
 				if (result.isDifferenceFound()) {
 					retval.add("Test for license ID "+license.getLicenseId() + " failed due to difference found "+result.getDifferenceMessage());
 				}
@@ -95,48 +155,38 @@ public class SimpleLicenseTester implements ILicenseTester {
 	@Override
 	public List<String> testException(ListedExceptionContainer exceptionContainer) throws IOException, InvalidSPDXAnalysisException {
 		LicenseException exception = exceptionContainer.getV2Exception();
-		File exceptionFile = new File(testFileDir.getPath() + File.separator + exception.getLicenseExceptionId() + ".txt");
-		return testException(exception, exceptionFile);
+		return testExceptionText(exception, exceptionContainer.getCompiledTemplate(), 
+				corpus.getText(exception.getLicenseExceptionId()));
 	}
 
-	private static String readText(File f) throws IOException {
-		StringBuilder text = new StringBuilder();
-		try(Stream<String> fileLines = Files.lines(f.toPath(), StandardCharsets.UTF_8)) {
-		      fileLines.forEach(line -> {
-		            text.append(line);
-		            text.append("\n");
-		            });
-		}
-		return text.toString();
-	}
 	/* (non-Javadoc)
 	 * @see org.spdx.licenselistpublisher.licensegenerator.ILicenseTester#testLicense(org.spdx.rdfparser.license.License)
 	 */
 	@Override
 	public List<String> testLicense(ListedLicenseContainer licenseContainer) throws IOException, InvalidSPDXAnalysisException {
 		License license = licenseContainer.getV2ListedLicense();
-		File licenseTextFile = new File(testFileDir.getPath() + File.separator + license.getLicenseId() + ".txt");
-		return testLicense(license, licenseTextFile);
+		return testLicenseText(license, licenseContainer.getCompiledTemplate(), corpus.getText(license.getLicenseId()));
 	}
 
 	@Override
 	public String getLicenseTestText(String licenseId) throws IOException {
-		File licenseTextFile = new File(testFileDir.getPath() + File.separator + licenseId + ".txt");
-		if (licenseTextFile.exists()) {
-			return readText(licenseTextFile);
-		} else {
-			return null;
-		}
+		return corpus.getText(licenseId);
 	}
 
 	@Override
 	public String getExceptionTestText(String licenseExceptionId) throws IOException {
-		File exceptionFile = new File(testFileDir.getPath() + File.separator + licenseExceptionId + ".txt");
-		if (exceptionFile.exists()) {
-			return readText(exceptionFile);
-		} else {
-			return null;
-		}
+		return corpus.getText(licenseExceptionId);
+	}
+
+	@Override
+	public List<Path> getLicenseTestFiles(String licenseId) {
+		Path textFile = corpus.getTextFile(licenseId);
+		return Objects.isNull(textFile) ? new ArrayList<>() : Collections.singletonList(textFile);
+	}
+
+	@Override
+	public List<Path> getExceptionTestFiles(String licenseExceptionId) {
+		return getLicenseTestFiles(licenseExceptionId);
 	}
 
 }
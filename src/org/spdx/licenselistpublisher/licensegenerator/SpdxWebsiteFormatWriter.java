@@ -16,16 +16,17 @@
 package org.spdx.licenselistpublisher.licensegenerator;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.htmltemplates.ExceptionHtml;
 import org.spdx.htmltemplates.ExceptionHtmlToc;
 import org.spdx.htmltemplates.LicenseHTMLFile;
 import org.spdx.htmltemplates.LicenseTOCHTMLFile;
-import org.spdx.library.ModelCopyManager;
 import org.spdx.library.model.v2.license.ListedLicenseException;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.licenseTemplate.InvalidLicenseTemplateException;
@@ -33,8 +34,6 @@ import org.spdx.licenselistpublisher.LicenseGeneratorException;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
 import org.spdx.spdxRdfStore.OutputFormat;
-import org.spdx.spdxRdfStore.RdfStore;
-import org.spdx.storage.listedlicense.ExceptionJson;
 import org.spdx.storage.listedlicense.ExceptionJsonTOC;
 import org.spdx.storage.listedlicense.LicenseJson;
 import org.spdx.storage.listedlicense.LicenseJsonTOC;
@@ -59,13 +58,17 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 	private LicenseHTMLFile licHtml;
 	private LicenseTOCHTMLFile tableOfContentsHTML;
 	LicenseJson licJson;
-	LicenseJsonTOC tableOfContentsJSON;
 	String exceptionHtmlTocReference = "./" + EXCEPTION_TOC_FILE_NAME;
 	ExceptionHtmlToc htmlExceptionToc;
-	ExceptionJsonTOC jsonExceptionToc;
+	private TocSummary tocSummary = new TocSummary();
+	private boolean addToTocSummary = true;
 	private String version;
 	private String releaseDate;
 	Gson gson = new GsonBuilder().setPrettyPrinting().create();
+	private final RdfArtifactRegistry artifacts;
+	private final JsonDetailRegistry jsonDetails;
+	private OutputVariants outputVariants = null;
+	private OutputSink outputSink = DirectoryOutputSink.INSTANCE;
 
 	/**
 	 * @param version License list version
@@ -73,13 +76,26 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 	 * @param websiteFolder Folder to store all of the website files
 	 */
 	public SpdxWebsiteFormatWriter(String version, String releaseDate, File websiteFolder) {
+		this(version, releaseDate, websiteFolder, new RdfArtifactRegistry(), new JsonDetailRegistry());
+	}
+
+	/**
+	 * @param version License list version
+	 * @param releaseDate release date for the license list
+	 * @param websiteFolder Folder to store all of the website files
+	 * @param artifacts registry of RDF serializations shared with other writers
+	 * @param jsonDetails registry of JSON detail documents shared with other writers
+	 */
+	public SpdxWebsiteFormatWriter(String version, String releaseDate, File websiteFolder, RdfArtifactRegistry artifacts,
+			JsonDetailRegistry jsonDetails) {
 		this.websiteFolder = websiteFolder;
-		this.tableOfContentsHTML = new LicenseTOCHTMLFile(version, releaseDate);
+		this.artifacts = artifacts;
+		this.jsonDetails = jsonDetails;
+		artifacts.require(EnumSet.of(OutputFormat.JSON_LD, OutputFormat.TURTLE));
+		this.tableOfContentsHTML = new LicenseTOCHTMLFile(version, releaseDate, tocSummary);
 		this.licHtml = new LicenseHTMLFile();
 		licJson = new LicenseJson();
-		tableOfContentsJSON = new LicenseJsonTOC(version, releaseDate);
-		htmlExceptionToc = new ExceptionHtmlToc();
-		jsonExceptionToc = new ExceptionJsonTOC(version, releaseDate);
+		htmlExceptionToc = new ExceptionHtmlToc(tocSummary, true);
 		this.version = version;
 		this.releaseDate = releaseDate;
 	}
@@ -130,10 +146,10 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 
 
 	/**
-	 * @return the tableOfContentsJSON
+	 * @return the JSON table of contents for the licenses written so far
 	 */
 	public LicenseJsonTOC getTableOfContentsJSON() {
-		return tableOfContentsJSON;
+		return LicenseJsonFormatWriter.licenseJsonToc(version, releaseDate, tocSummary);
 	}
 
 
@@ -148,10 +164,10 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 
 
 	/**
-	 * @return the jsonExceptionToc
+	 * @return the JSON table of contents for the exceptions written so far
 	 */
 	public ExceptionJsonTOC getJsonExceptionToc() {
-		return jsonExceptionToc;
+		return LicenseJsonFormatWriter.exceptionJsonToc(version, releaseDate, tocSummary);
 	}
 
 
@@ -198,6 +214,48 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 		this.tableOfContentsHTML = tableOfContentsHTML;
 	}
 
+	@Override
+	public OutputSink getOutputSink() {
+		return outputSink;
+	}
+
+	@Override
+	public void setOutputSink(OutputSink outputSink) {
+		this.outputSink = outputSink;
+	}
+
+	@Override
+	public void setTocSummary(TocSummary tocSummary) {
+		this.tocSummary = tocSummary;
+		this.addToTocSummary = false;
+		this.tableOfContentsHTML = new LicenseTOCHTMLFile(version, releaseDate, tocSummary);
+		this.htmlExceptionToc = new ExceptionHtmlToc(tocSummary, true);
+	}
+
+	/**
+	 * @return the outputVariants
+	 */
+	public OutputVariants getOutputVariants() {
+		return outputVariants;
+	}
+
+	/**
+	 * @param outputVariants if not null, minified and compressed variants of the HTML, JSON and JSON-LD files are generated
+	 */
+	public void setOutputVariants(OutputVariants outputVariants) {
+		this.outputVariants = outputVariants;
+	}
+
+	/**
+	 * Generate the minified and compressed variants of a file if enabled
+	 * @param file file which has been written
+	 */
+	private void addVariants(File file) {
+		if (outputVariants != null) {
+			outputVariants.add(file);
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.licenselistpublisher.licensegenerator.ILicenseFormatWriter#addLicense(org.spdx.rdfparser.license.SpdxListedLicense, boolean)
 	 */
@@ -205,42 +263,40 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 	public void writeLicense(ListedLicenseContainer licenseContainer, boolean deprecated, 
 			String deprecatedVersion) throws IOException, LicenseGeneratorException, InvalidSPDXAnalysisException, InvalidLicenseTemplateException {
 		SpdxListedLicense license = licenseContainer.getV2ListedLicense();
-		this.licHtml.setLicense(license);
-		String licBaseHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(license.getLicenseId());
+		LicenseSnapshot snapshot = licenseContainer.getSnapshot();
+		this.licHtml.setLicenseSnapshot(snapshot);
+		String licBaseHtmlFileName = snapshot.getFileName();
 		String licHtmlFileName = licBaseHtmlFileName + ".html";
 		String licJsonFileName = licBaseHtmlFileName + ".json";
-		String licHTMLReference = "./"+licHtmlFileName;
-		String licJSONReference = "./"+licJsonFileName;
 		String tocHTMLReference = "./"+LICENSE_TOC_HTML_FILE_NAME;
 		// the base file is used for direct references from tools, the html is used for rendering by the website
 		File licBaseHtmlFile = new File(websiteFolder.getPath()+File.separator+licBaseHtmlFileName);
 		File licJsonFile = new File(websiteFolder.getPath()+File.separator+licJsonFileName);
 		File licHtmlFile = new File(websiteFolder.getPath()+File.separator+licHtmlFileName);
 		try {
-			licHtml.writeToFile(licBaseHtmlFile, tocHTMLReference);
-			licHtml.writeToFile(licHtmlFile, tocHTMLReference);
+			// the same page is written to both files so it is only rendered once
+			StringWriter html = new StringWriter();
+			licHtml.writeTo(html, tocHTMLReference);
+			byte[] htmlBytes = html.toString().getBytes(StandardCharsets.UTF_8);
+			outputSink.write(licBaseHtmlFile, htmlBytes);
+			outputSink.write(licHtmlFile, htmlBytes);
 		} catch (MustacheException e) {
 			throw new LicenseGeneratorException("Template33 error for license HTML file: "+e.getMessage(),e);
 		} catch (InvalidLicenseTemplateException e) {
 			throw new LicenseGeneratorException("License template error for license HTML file: "+e.getMessage(),e);
 		}
-		licJson.copyFrom(license);
-		writeToFile(licJsonFile, licJson);
-		tableOfContentsJSON.addLicense(license, licHTMLReference, licJSONReference, deprecated);
-		if (deprecated) {
-			tableOfContentsHTML.addDeprecatedLicense(license, licHTMLReference);
-		} else {
-			tableOfContentsHTML.addLicense(license, licHTMLReference);
+		jsonDetails.writeLicenseDetails(license, licJsonFile, outputSink);
+		addVariants(licHtmlFile);
+		addVariants(licJsonFile);
+		if (addToTocSummary) {
+			tocSummary.addLicense(snapshot, deprecated, deprecatedVersion);
 		}
 		// JSON-LD format
-		RdfStore onlyThisLicense = new RdfStore();
-		onlyThisLicense.setDocumentUri(license.getDocumentUri(), true);
-		ModelCopyManager copyManager = new ModelCopyManager();
-		copyManager.copy(onlyThisLicense, license.getDocumentUri() + license.getId(), license.getModelStore(), 
-				license.getDocumentUri() + license.getId(), license.getSpecVersion(), license.getDocumentUri());
-		LicenseRdfFormatWriter.writeRdf(onlyThisLicense, license.getDocumentUri(), websiteFolder.getPath() + File.separator + licBaseHtmlFileName + ".jsonld", OutputFormat.JSON_LD);
+		File licJsonLdFile = new File(websiteFolder.getPath() + File.separator + licBaseHtmlFileName + ".jsonld");
+		artifacts.write(license, OutputFormat.JSON_LD, licJsonLdFile, outputSink);
+		addVariants(licJsonLdFile);
 		// Turtle format
-		LicenseRdfFormatWriter.writeRdf(onlyThisLicense, license.getDocumentUri(), websiteFolder.getPath() + File.separator + licBaseHtmlFileName + ".ttl", OutputFormat.TURTLE);
+		artifacts.write(license, OutputFormat.TURTLE, new File(websiteFolder.getPath() + File.separator + licBaseHtmlFileName + ".ttl"), outputSink);
 	}
 	
 	/**
@@ -250,8 +306,8 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 	 * @throws IOException 
 	 */
 	private void writeToFile(File file, Object jsonSerializableObject) throws IOException {
-		try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
-			writer.write(gson.toJson(jsonSerializableObject));
+		try (Writer writer = outputSink.newWriter(file)) {
+			JsonOutput.write(gson, jsonSerializableObject, writer);
 		}
 	}
 
@@ -263,46 +319,51 @@ public class SpdxWebsiteFormatWriter implements ILicenseFormatWriter {
 		File tocJsonFile = new File(websiteFolder.getPath()+File.separator+LICENSE_TOC_JSON_FILE_NAME);
 		File tocHtmlFile = new File(websiteFolder.getPath()+File.separator+LICENSE_TOC_HTML_FILE_NAME);
 		File exceptionTocFile = new File(websiteFolder.getPath()+File.separator+EXCEPTION_TOC_FILE_NAME);
-		writeToFile(tocJsonFile, tableOfContentsJSON);
-		tableOfContentsHTML.writeToFile(tocHtmlFile);
-		htmlExceptionToc.writeToFile(exceptionTocFile, this.version);
+		writeToFile(tocJsonFile, getTableOfContentsJSON());
+		try (Writer writer = outputSink.newWriter(tocHtmlFile)) {
+			tableOfContentsHTML.writeTo(writer);
+		}
+		try (Writer writer = outputSink.newWriter(exceptionTocFile)) {
+			htmlExceptionToc.writeTo(writer, this.version);
+		}
 		File exceptionJsonTocFile = new File(websiteFolder.getPath()+File.separator+EXCEPTION_JSON_TOC_FILE_NAME);
-		writeToFile(exceptionJsonTocFile, jsonExceptionToc);
+		writeToFile(exceptionJsonTocFile, getJsonExceptionToc());
+		if (outputVariants != null) {
+			for (File tocFile:new File[] {tocJsonFile, tocHtmlFile, exceptionTocFile, exceptionJsonTocFile}) {
+				outputVariants.add(tocFile);
+			}
+			outputVariants.await();
+		}
 	}
 
 	@Override
 	public void writeException(ListedExceptionContainer exceptionContainer)
 			throws IOException, InvalidLicenseTemplateException, LicenseGeneratorException, InvalidSPDXAnalysisException {
 		ListedLicenseException exception = exceptionContainer.getV2Exception();
-		ExceptionHtml exceptionHtml = new ExceptionHtml(exception);
-		String exceptionHtmlFileName = LicenseHtmlFormatWriter.formLicenseHTMLFileName(exception.getLicenseExceptionId());
-		String exceptionHTMLReference = "./"+exceptionHtmlFileName + ".html";
+		ExceptionSnapshot snapshot = exceptionContainer.getSnapshot();
+		ExceptionHtml exceptionHtml = new ExceptionHtml(snapshot);
+		String exceptionHtmlFileName = snapshot.getFileName();
 		String exceptionJsonFileName = exceptionHtmlFileName + ".json";
-		String exceptionJSONReference= "./" + exceptionJsonFileName;
 		File exceptionHtmlFile = new File(websiteFolder.getPath()+File.separator+exceptionHtmlFileName + ".html");
-		exceptionHtml.writeToFile(exceptionHtmlFile, exceptionHtmlTocReference);
 		File exceptionBaseFile = new File(websiteFolder.getPath()+File.separator+exceptionHtmlFileName);
-		exceptionHtml.writeToFile(exceptionBaseFile, exceptionHtmlTocReference);
-		if (exception.isDeprecated()) {
-			htmlExceptionToc.addDeprecatedException(exception, exceptionHTMLReference, exception.getDeprecatedVersion());
-		} else {
-			htmlExceptionToc.addException(exception, exceptionHTMLReference);
+		StringWriter html = new StringWriter();
+		exceptionHtml.writeTo(html, exceptionHtmlTocReference);
+		byte[] htmlBytes = html.toString().getBytes(StandardCharsets.UTF_8);
+		outputSink.write(exceptionHtmlFile, htmlBytes);
+		outputSink.write(exceptionBaseFile, htmlBytes);
+		if (addToTocSummary) {
+			tocSummary.addException(snapshot);
 		}
-		jsonExceptionToc.addException(exception, exceptionHTMLReference, exceptionJSONReference, exception.isDeprecated());
-		ExceptionJson exceptionJson = new ExceptionJson();
-		exceptionJson.copyFrom(exception);
 		File exceptionJsonFile = new File(websiteFolder.getPath() + File.separator + exceptionJsonFileName);
-		writeToFile(exceptionJsonFile, exceptionJson);
+		jsonDetails.writeExceptionDetails(exception, exceptionJsonFile, outputSink);
+		addVariants(exceptionHtmlFile);
+		addVariants(exceptionJsonFile);
 		// JSON-LD format
-		RdfStore onlyThisException = new RdfStore();
-		onlyThisException.setDocumentUri(exception.getDocumentUri(), true);
-		ModelCopyManager copyManager = new ModelCopyManager();
-		copyManager.copy(onlyThisException, exception.getDocumentUri() + exception.getId(), exception.getModelStore(),
-				exception.getDocumentUri() + exception.getId(), exception.getSpecVersion(), exception.getDocumentUri());
-		LicenseRdfFormatWriter.writeRdf(onlyThisException, exception.getDocumentUri(), 
-				websiteFolder.getPath() + File.separator + exceptionHtmlFileName + ".jsonld", OutputFormat.JSON_LD);
+		File exceptionJsonLdFile = new File(websiteFolder.getPath() + File.separator + exceptionHtmlFileName + ".jsonld");
+		artifacts.write(exception, OutputFormat.JSON_LD, exceptionJsonLdFile, outputSink);
+		addVariants(exceptionJsonLdFile);
 		// RDF Turtle format
-		LicenseRdfFormatWriter.writeRdf(onlyThisException, exception.getDocumentUri(), 
-                websiteFolder.getPath() + File.separator + exceptionHtmlFileName + ".ttl", OutputFormat.TURTLE);
+		artifacts.write(exception, OutputFormat.TURTLE, 
+				new File(websiteFolder.getPath() + File.separator + exceptionHtmlFileName + ".ttl"), outputSink);
 	}
 }
@@ -0,0 +1,301 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RDFWriter;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.licenselistpublisher.LicenseGeneratorException;
+import org.spdx.spdxRdfStore.OutputFormat;
+
+/**
+ * Assembles the RDF table of contents from the per-license N-Triples serializations rather than from a single model
+ * holding every license
+ * <p>
+ * N-Triples is line oriented and Jena labels blank nodes with globally unique labels, so the N-Triples table of
+ * contents is the concatenation of the per-license serializations.  The table of contents is assembled in temporary
+ * files which are moved to the output sink when it is complete.  Each license is added to the Turtle table of contents
+ * with the pretty Turtle writer under a single set of prefixes.  The triples of the license are sorted and its blank
+ * nodes are labelled from their properties first, so the layout of the Turtle is the same on every run.
+ * <p>
+ * RDF/XML and JSON-LD need the whole graph, so a model of the complete table of contents is built from the assembled
+ * N-Triples when the table of contents is finished and the two formats are then written concurrently.  The memory
+ * used by <code>write</code> is therefore proportional to the size of the license list.
+ *
+ */
+public class StreamingRdfToc {
+
+	static final Logger logger = LoggerFactory.getLogger(StreamingRdfToc.class);
+
+	/**
+	 * Prefixes used by the SPDX RDF store
+	 */
+	static final Map<String, String> PREFIXES = new LinkedHashMap<>();
+
+	static {
+		PREFIXES.put("spdx", "http://spdx.org/rdf/terms#");
+		PREFIXES.put("doap", "http://usefulinc.com/ns/doap#");
+		PREFIXES.put("ptr", "http://www.w3.org/2009/pointers#");
+		PREFIXES.put("rdfs", "http://www.w3.org/2000/01/rdf-schema#");
+	}
+
+	static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	/**
+	 * Order of the triples of a license - blank nodes must be labelled from their properties before sorting
+	 */
+	static final Comparator<Triple> TRIPLE_ORDER = Comparator.comparing((Triple t) -> NodeFmtLib.strNT(t.getSubject()))
+			.thenComparing(t -> t.getPredicate().getURI())
+			.thenComparing(t -> NodeFmtLib.strNT(t.getObject()));
+
+	private final File ntFile;
+	private final @Nullable File turtleFile;
+	private final @Nullable File rdfXmlFile;
+	private final @Nullable File jsonLdFile;
+	private Path ntTempFile = null;
+	private Path turtleTempFile = null;
+	private OutputStream ntOut = null;
+	private OutputStream turtleOut = null;
+	private byte[] turtlePrefixes = null;
+
+	/**
+	 * @param ntFile file for the N-Triples table of contents
+	 * @param turtleFile file for the Turtle table of contents - if null, no Turtle is written
+	 * @param rdfXmlFile file for the RDF/XML table of contents - if null, no RDF/XML is written
+	 * @param jsonLdFile file for the JSON-LD table of contents - if null, no JSON-LD is written
+	 */
+	public StreamingRdfToc(File ntFile, @Nullable File turtleFile, @Nullable File rdfXmlFile, @Nullable File jsonLdFile) {
+		this.ntFile = ntFile;
+		this.turtleFile = turtleFile;
+		this.rdfXmlFile = rdfXmlFile;
+		this.jsonLdFile = jsonLdFile;
+	}
+
+	/**
+	 * @param file table of contents file
+	 * @return temporary file in the same folder if it exists, otherwise in the default temporary folder
+	 * @throws IOException
+	 */
+	private static Path tempFile(File file) throws IOException {
+		File folder = file.getAbsoluteFile().getParentFile();
+		if (Objects.nonNull(folder) && folder.isDirectory()) {
+			return Files.createTempFile(folder.toPath(), file.getName(), TEMP_FILE_SUFFIX);
+		} else {
+			return Files.createTempFile(file.getName(), TEMP_FILE_SUFFIX);
+		}
+	}
+
+	private void open() throws IOException {
+		if (Objects.isNull(ntOut)) {
+			ntTempFile = tempFile(ntFile);
+			ntOut = new BufferedOutputStream(Files.newOutputStream(ntTempFile));
+			if (Objects.nonNull(turtleFile)) {
+				turtleTempFile = tempFile(turtleFile);
+				turtleOut = new BufferedOutputStream(Files.newOutputStream(turtleTempFile));
+				// the prefixes as written by the Turtle writer for a graph without any triples
+				Graph empty = GraphFactory.createDefaultGraph();
+				empty.getPrefixMapping().setNsPrefixes(PREFIXES);
+				turtlePrefixes = toTurtle(empty);
+				turtleOut.write(turtlePrefixes);
+			}
+		}
+	}
+
+	/**
+	 * @param graph graph to write
+	 * @return pretty Turtle for the graph including the prefixes
+	 */
+	private static byte[] toTurtle(Graph graph) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		RDFWriter.source(graph).format(RDFFormat.TURTLE_PRETTY).output(out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Copy a license graph with the triples added in order and the blank nodes labelled from their properties, so the
+	 * graph iterates in the same order - and the Turtle writer writes the same layout - on every run
+	 * @param graph graph for a single license or exception
+	 * @return sorted copy of the graph with the table of contents prefixes
+	 */
+	static Graph sortedGraph(Graph graph) {
+		Map<Node, List<String>> blankNodeProperties = new HashMap<>();
+		graph.find().forEachRemaining(t -> {
+			if (t.getSubject().isBlank()) {
+				String object = t.getObject().isBlank() ? "[]" : NodeFmtLib.strNT(t.getObject());
+				blankNodeProperties.computeIfAbsent(t.getSubject(), k -> new ArrayList<>())
+						.add(t.getPredicate().getURI() + " " + object);
+			}
+		});
+		Map<Node, String> keys = new HashMap<>();
+		for (Entry<Node, List<String>> entry:blankNodeProperties.entrySet()) {
+			Collections.sort(entry.getValue());
+			keys.put(entry.getKey(), String.join("\n", entry.getValue()));
+		}
+		List<Node> blankNodes = new ArrayList<>(keys.keySet());
+		blankNodes.sort(Comparator.comparing(keys::get));
+		Map<Node, Node> labels = new HashMap<>();
+		for (int i = 0; i < blankNodes.size(); i++) {
+			labels.put(blankNodes.get(i), NodeFactory.createBlankNode("b" + i));
+		}
+		List<Triple> triples = new ArrayList<>();
+		graph.find().forEachRemaining(t -> triples.add(Triple.create(labels.getOrDefault(t.getSubject(), t.getSubject()),
+				t.getPredicate(), labels.getOrDefault(t.getObject(), t.getObject()))));
+		triples.sort(TRIPLE_ORDER);
+		Graph sorted = GraphFactory.createDefaultGraph();
+		for (Triple triple:triples) {
+			sorted.add(triple);
+		}
+		sorted.getPrefixMapping().setNsPrefixes(PREFIXES);
+		return sorted;
+	}
+
+	/**
+	 * The Turtle writer labels blank nodes per graph written, so the labels are only unique within the table of contents
+	 * if every blank node is nested - a blank node is nested if it is the object of exactly one triple
+	 * @param graph graph for a single license or exception
+	 * @return true if the Turtle for the graph has no blank node labels
+	 */
+	private static boolean allBlankNodesNested(Graph graph) {
+		Map<Node, Integer> references = new HashMap<>();
+		graph.find().forEachRemaining(t -> {
+			if (t.getSubject().isBlank()) {
+				references.putIfAbsent(t.getSubject(), 0);
+			}
+			if (t.getObject().isBlank()) {
+				references.merge(t.getObject(), 1, Integer::sum);
+			}
+		});
+		return references.values().stream().allMatch(count -> count == 1);
+	}
+
+	/**
+	 * Add the triples from a license or exception to the table of contents
+	 * @param name name of the license or exception used in error messages
+	 * @param licenseNt N-Triples serialization of a single license or exception
+	 * @throws LicenseGeneratorException on errors writing the table of contents
+	 */
+	public void add(String name, byte[] licenseNt) throws LicenseGeneratorException {
+		try {
+			open();
+			ntOut.write(licenseNt);
+			if (Objects.nonNull(turtleOut)) {
+				Graph graph = RDFParser.source(new ByteArrayInputStream(licenseNt)).lang(Lang.NTRIPLES).toGraph();
+				byte[] turtle = allBlankNodesNested(graph) ? toTurtle(sortedGraph(graph)) : null;
+				if (Objects.nonNull(turtle) && turtle.length >= turtlePrefixes.length
+						&& Arrays.equals(turtle, 0, turtlePrefixes.length, turtlePrefixes, 0, turtlePrefixes.length)) {
+					// the prefixes are written once at the start of the table of contents
+					turtleOut.write(turtle, turtlePrefixes.length, turtle.length - turtlePrefixes.length);
+				} else {
+					// N-Triples is also Turtle and keeps the globally unique blank node labels
+					turtleOut.write('\n');
+					turtleOut.write(licenseNt);
+				}
+			}
+		} catch (IOException e) {
+			throw new LicenseGeneratorException("I/O error adding "+name+" to the RDF table of contents", e);
+		} catch (RiotException e) {
+			throw new LicenseGeneratorException("Error parsing "+name+" for the RDF table of contents", e);
+		}
+	}
+
+	/**
+	 * Complete the table of contents files
+	 * @throws LicenseGeneratorException on errors writing the table of contents
+	 */
+	public void write() throws LicenseGeneratorException {
+		write(DirectoryOutputSink.INSTANCE);
+	}
+
+	/**
+	 * Complete the table of contents files
+	 * @param outputSink sink to write the table of contents files to
+	 * @throws LicenseGeneratorException on errors writing the table of contents
+	 */
+	public void write(OutputSink outputSink) throws LicenseGeneratorException {
+		try {
+			open();
+			ntOut.close();
+			if (Objects.nonNull(turtleOut)) {
+				turtleOut.close();
+			}
+			Model model = null;
+			if (Objects.nonNull(rdfXmlFile) || Objects.nonNull(jsonLdFile)) {
+				model = ModelFactory.createDefaultModel();
+				model.setNsPrefixes(PREFIXES);
+				RDFParser.source(ntTempFile).lang(Lang.NTRIPLES).parse(model);
+			}
+			outputSink.move(ntTempFile, ntFile);
+			if (Objects.nonNull(turtleTempFile)) {
+				outputSink.move(turtleTempFile, turtleFile);
+			}
+			if (Objects.nonNull(model)) {
+				Map<OutputFormat, File> outputs = new EnumMap<>(OutputFormat.class);
+				if (Objects.nonNull(rdfXmlFile)) {
+					outputs.put(OutputFormat.XML_ABBREV, rdfXmlFile);
+				}
+				if (Objects.nonNull(jsonLdFile)) {
+					outputs.put(OutputFormat.JSON_LD, jsonLdFile);
+				}
+				ParallelRdfWriter.write(model, outputs, outputSink);
+			}
+		} catch (IOException e) {
+			throw new LicenseGeneratorException("I/O error writing the RDF table of contents", e);
+		} catch (RiotException e) {
+			throw new LicenseGeneratorException("Error parsing the N-Triples table of contents", e);
+		} finally {
+			deleteTempFile(ntTempFile);
+			deleteTempFile(turtleTempFile);
+			ntOut = null;
+			turtleOut = null;
+			turtlePrefixes = null;
+			ntTempFile = null;
+			turtleTempFile = null;
+		}
+	}
+
+	private static void deleteTempFile(@Nullable Path tempFile) {
+		if (Objects.nonNull(tempFile)) {
+			try {
+				Files.deleteIfExists(tempFile);
+			} catch (IOException e) {
+				logger.warn("Unable to delete temporary file "+tempFile, e);
+			}
+		}
+	}
+}
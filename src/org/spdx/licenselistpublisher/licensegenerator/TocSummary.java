@@ -0,0 +1,103 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.htmltemplates.ExceptionTocRow;
+import org.spdx.htmltemplates.LicenseTocRow;
+import org.spdx.htmltemplates.TocRows;
+import org.spdx.library.model.v2.license.LicenseException;
+import org.spdx.library.model.v2.license.SpdxListedLicense;
+
+/**
+ * Compact summary of the licenses and exceptions used to build the tables of contents
+ * <p>
+ * A row is added for each license and exception as it is written and the rows are sorted by ID once when a table
+ * of contents is written.  The generator shares a single summary between all of the format writers, which only
+ * render the rows in their own format, rather than each writer keeping its own rows.  The rows only hold the
+ * fields needed for the tables of contents so the licenses themselves can be released once they are written.
+ *
+ */
+public class TocSummary implements TocRows {
+
+	private final List<LicenseTocRow> licenses = new ArrayList<>();
+	private final List<ExceptionTocRow> exceptions = new ArrayList<>();
+	private List<LicenseTocRow> sortedLicenses = null;
+	private List<ExceptionTocRow> sortedExceptions = null;
+
+	/**
+	 * @param license license to add
+	 * @param deprecated true if the license is deprecated
+	 * @param deprecatedVersion license list version the license was deprecated in, null if not deprecated
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 */
+	public synchronized void addLicense(SpdxListedLicense license, boolean deprecated, @Nullable String deprecatedVersion) throws InvalidSPDXAnalysisException {
+		String licenseId = license.getLicenseId();
+		licenses.add(new LicenseTocRow(licenses.size(), licenseId, license.getName(),
+				LicenseHtmlFormatWriter.formLicenseHTMLFileName(licenseId), license.isOsiApproved(), license.getFsfLibre(),
+				deprecated, deprecatedVersion, new ArrayList<>(license.getSeeAlso())));
+		sortedLicenses = null;
+	}
+
+	/**
+	 * @param license snapshot of the license to add
+	 * @param deprecated true if the license is deprecated
+	 * @param deprecatedVersion license list version the license was deprecated in, null if not deprecated
+	 */
+	public synchronized void addLicense(LicenseSnapshot license, boolean deprecated, @Nullable String deprecatedVersion) {
+		licenses.add(new LicenseTocRow(licenses.size(), license.getLicenseId(), license.getName(), license.getFileName(),
+				license.isOsiApproved(), license.getFsfLibre(), deprecated, deprecatedVersion, license.getSeeAlso()));
+		sortedLicenses = null;
+	}
+
+	/**
+	 * @param exception exception to add
+	 * @param deprecated true if the exception is deprecated
+	 * @param deprecatedVersion license list version the exception was deprecated in, null if not deprecated
+	 * @throws InvalidSPDXAnalysisException on errors reading the exception
+	 */
+	public synchronized void addException(LicenseException exception, boolean deprecated, @Nullable String deprecatedVersion) throws InvalidSPDXAnalysisException {
+		String exceptionId = exception.getLicenseExceptionId();
+		exceptions.add(new ExceptionTocRow(exceptions.size(), exceptionId, exception.getName(),
+				LicenseHtmlFormatWriter.formLicenseHTMLFileName(exceptionId), deprecated, deprecatedVersion,
+				new ArrayList<>(exception.getSeeAlso())));
+		sortedExceptions = null;
+	}
+
+	/**
+	 * @param exception snapshot of the exception to add
+	 */
+	public synchronized void addException(ExceptionSnapshot exception) {
+		exceptions.add(new ExceptionTocRow(exceptions.size(), exception.getLicenseExceptionId(), exception.getName(),
+				exception.getFileName(), exception.isDeprecated(), exception.getDeprecatedVersion(), exception.getSeeAlso()));
+		sortedExceptions = null;
+	}
+
+	@Override
+	public synchronized List<LicenseTocRow> getLicenses() {
+		if (sortedLicenses == null) {
+			List<LicenseTocRow> sorted = new ArrayList<>(licenses);
+			sorted.sort(LicenseTocRow.ID_ORDER);
+			sortedLicenses = Collections.unmodifiableList(sorted);
+		}
+		return sortedLicenses;
+	}
+
+	@Override
+	public synchronized List<ExceptionTocRow> getExceptions() {
+		if (sortedExceptions == null) {
+			List<ExceptionTocRow> sorted = new ArrayList<>(exceptions);
+			sorted.sort(ExceptionTocRow.ID_ORDER);
+			sortedExceptions = Collections.unmodifiableList(sorted);
+		}
+		return sortedExceptions;
+	}
+}
@@ -0,0 +1,243 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Source Auditor Inc. 2026.
+ */
+package org.spdx.licenselistpublisher.licensegenerator;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.spdx.licenselistpublisher.jfr.FileWrittenEvent;
+
+/**
+ * Writes each output file to the file system only if its content has changed
+ * <p>
+ * The generated content is compared with the existing file and the write is skipped if they are the same, which
+ * leaves the modification time unchanged for tools such as rsync and git.  If a manifest file is provided, the
+ * SHA-256 hash and size of every file written are recorded in it when the sink is closed.  On the next run a file
+ * whose generated content matches the hash and size in the manifest is skipped without reading it from disk.
+ * <p>
+ * The manifest has one line per file with the hash, the size and the path relative to the output folder separated
+ * by spaces.  Files which were not generated by the run are dropped from the manifest.
+ *
+ */
+public class WriteIfChangedOutputSink implements OutputSink {
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	/**
+	 * Hash and size of a file
+	 */
+	private static class ManifestEntry {
+		final String hash;
+		final long size;
+
+		ManifestEntry(String hash, long size) {
+			this.hash = hash;
+			this.size = size;
+		}
+	}
+
+	private final Path root;
+	private final File manifest;
+	private final Map<String, ManifestEntry> previous = new ConcurrentHashMap<>();
+	private final Map<String, ManifestEntry> current = new ConcurrentHashMap<>();
+	private final AtomicInteger filesWritten = new AtomicInteger();
+	private final AtomicInteger filesUnchanged = new AtomicInteger();
+
+	/**
+	 * Compare the generated content with the existing files without a manifest
+	 * @param root root output folder
+	 */
+	public WriteIfChangedOutputSink(File root) {
+		this.root = root.toPath().toAbsolutePath().normalize();
+		this.manifest = null;
+	}
+
+	/**
+	 * @param root root output folder - the manifest paths are relative to this folder
+	 * @param manifest manifest of the content hashes - created when the sink is closed if it does not exist
+	 * @throws IOException on errors reading the manifest
+	 */
+	public WriteIfChangedOutputSink(File root, File manifest) throws IOException {
+		this.root = root.toPath().toAbsolutePath().normalize();
+		this.manifest = manifest;
+		if (Objects.nonNull(manifest) && manifest.exists()) {
+			readManifest();
+		}
+	}
+
+	private void readManifest() throws IOException {
+		List<String> lines = Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8);
+		for (String line:lines) {
+			if (line.isBlank()) {
+				continue;
+			}
+			String[] parts = line.split(" ", 3);
+			if (parts.length != 3) {
+				throw new IOException("Invalid line in output manifest "+manifest.getName()+": "+line);
+			}
+			try {
+				previous.put(parts[2], new ManifestEntry(parts[0], Long.parseLong(parts[1])));
+			} catch (NumberFormatException e) {
+				throw new IOException("Invalid size in output manifest "+manifest.getName()+": "+line, e);
+			}
+		}
+	}
+
+	/**
+	 * @return number of files written because they were new or had changed
+	 */
+	public int getFilesWritten() {
+		return filesWritten.get();
+	}
+
+	/**
+	 * @return number of files skipped because their content had not changed
+	 */
+	public int getFilesUnchanged() {
+		return filesUnchanged.get();
+	}
+
+	@Override
+	public String getStatistics() {
+		return "Wrote "+getFilesWritten()+" changed files, skipped "+getFilesUnchanged()+" unchanged files";
+	}
+
+	/**
+	 * @param file output file
+	 * @return path of the file in the manifest
+	 */
+	private String manifestPath(File file) {
+		Path path = file.toPath().toAbsolutePath().normalize();
+		if (path.startsWith(root)) {
+			path = root.relativize(path);
+		}
+		return path.toString().replace(File.separatorChar, '/');
+	}
+
+	static String hash(byte[] content) {
+		try {
+			byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+			StringBuilder sb = new StringBuilder(digest.length * 2);
+			for (byte b:digest) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+				sb.append(Character.forDigit(b & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(HASH_ALGORITHM+" is not supported by the Java runtime", e);
+		}
+	}
+
+	/**
+	 * @param file existing output file
+	 * @param path path of the file in the manifest
+	 * @param content generated content
+	 * @param hash hash of the generated content - null if there is no manifest
+	 * @return true if the file already has the generated content
+	 * @throws IOException on errors reading the existing file
+	 */
+	private boolean unchanged(File file, String path, byte[] content, String hash) throws IOException {
+		if (!file.isFile() || file.length() != content.length) {
+			return false;
+		}
+		ManifestEntry entry = previous.get(path);
+		if (Objects.nonNull(entry) && entry.size == content.length && entry.hash.equals(hash)) {
+			return true;
+		}
+		return Arrays.equals(content, Files.readAllBytes(file.toPath()));
+	}
+
+	@Override
+	public void write(File file, byte[] content) throws IOException {
+		FileWrittenEvent event = new FileWrittenEvent();
+		event.begin();
+		String path = manifestPath(file);
+		String hash = Objects.nonNull(manifest) ? hash(content) : null;
+		boolean unchanged = unchanged(file, path, content, hash);
+		if (unchanged) {
+			filesUnchanged.incrementAndGet();
+		} else {
+			File parent = file.getAbsoluteFile().getParentFile();
+			if (Objects.nonNull(parent)) {
+				createFolder(parent);
+			}
+			Files.write(file.toPath(), content);
+			filesWritten.incrementAndGet();
+		}
+		event.complete(file.getPath(), content.length, unchanged);
+		if (Objects.nonNull(hash)) {
+			current.put(path, new ManifestEntry(hash, content.length));
+		}
+	}
+
+	@Override
+	public OutputStream newOutputStream(File file) throws IOException {
+		return new ByteArrayOutputStream() {
+			private boolean fileClosed = false;
+
+			@Override
+			public void close() throws IOException {
+				if (!fileClosed) {
+					fileClosed = true;
+					WriteIfChangedOutputSink.this.write(file, toByteArray());
+				}
+			}
+		};
+	}
+
+	@Override
+	public void copy(Path source, File file) throws IOException {
+		write(file, Files.readAllBytes(source));
+	}
+
+	@Override
+	public void createFolder(File folder) throws IOException {
+		DirectoryOutputSink.INSTANCE.createFolder(folder);
+	}
+
+	/**
+	 * Write the manifest if one was provided
+	 */
+	@Override
+	public void close() throws IOException {
+		if (Objects.isNull(manifest)) {
+			return;
+		}
+		Path manifestPath = manifest.toPath().toAbsolutePath();
+		Files.createDirectories(manifestPath.getParent());
+		Path tempFile = Files.createTempFile(manifestPath.getParent(), manifest.getName(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, ManifestEntry> entry:new TreeMap<>(current).entrySet()) {
+					writer.write(entry.getValue().hash);
+					writer.write(' ');
+					writer.write(Long.toString(entry.getValue().size));
+					writer.write(' ');
+					writer.write(entry.getKey());
+					writer.write('\n');
+				}
+			}
+			Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+}
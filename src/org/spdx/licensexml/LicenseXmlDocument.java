@@ -20,12 +20,17 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -44,12 +49,15 @@ import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v3_0_1.core.CreationInfo;
 import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
 import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicenseException;
+import org.spdx.licenselistpublisher.GeneratorMetrics;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
+import org.spdx.licenselistpublisher.jfr.LicenseParsedEvent;
 import org.spdx.storage.IModelStore;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
@@ -62,16 +70,22 @@ public class LicenseXmlDocument {
 	static final Logger logger = LoggerFactory.getLogger(LicenseXmlDocument.class.getName());
 
 	public static final String PROP_SCHEMA_FILENAME = "listedLicenseSchema";
+	/**
+	 * If set to true, the bundled copy of the schema is used without trying the schema URL
+	 */
+	public static final String PROP_SCHEMA_OFFLINE = "listedLicenseSchemaOffline";
 	public static final String LICENSE_XML_SCHEMA_URL = "https://raw.githubusercontent.com/spdx/license-list-XML/master/schema/ListedLicense.xsd";
 	public static final String LICENSE_XML_SCHEMA_LOCATION = "org/spdx/licensexml/ListedLicense.xsd";
 
 	private static Schema _schema = null;	// cache of the license XML schema
+	private static Schema _bundledSchema = null;	// cache of the bundled copy of the license XML schema
 	private Document xmlDocument;
 	private IModelStore v2ModelStore;
 	private IModelStore v3ModelStore;
 	private IModelCopyManager copyManager;
 
 	private CreationInfo creationInfo;
+	private boolean createV3OnFirstUse = false;
 
 	/**
 	 * @param file XML file for the License
@@ -87,81 +101,168 @@ public class LicenseXmlDocument {
 		this.v3ModelStore = v3ModelStore;
 		this.copyManager = copyManager;
 		this.creationInfo = creationInfo;
+		this.xmlDocument = parse(new InputSource(file.toURI().toASCIIString()), () -> new StreamSource(file),
+				file.getName(), file::length, getSchema());
+	}
+
+	/**
+	 * @param xmlContent content of a license XML document
+	 * @param documentName name used to identify the document in error messages
+	 * @param schema schema to validate the document against - see <code>getBundledSchema</code>
+	 * @param v2ModelStore model store for SPDX Spec version 2 license and exceptions
+	 * @param v3ModelStore model store for SPDX Spec version 3 license and exceptions
+	 * @param copyManager copyManager to use for copying data between model stores
+	 * @param creationInfo Creation information to use for SPDX V3 licenses and exceptions
+	 */
+	public LicenseXmlDocument(String xmlContent, String documentName, Schema schema, IModelStore v2ModelStore,
+			IModelStore v3ModelStore, IModelCopyManager copyManager, CreationInfo creationInfo) throws LicenseXmlException {
+		this.v2ModelStore = v2ModelStore;
+		this.v3ModelStore = v3ModelStore;
+		this.copyManager = copyManager;
+		this.creationInfo = creationInfo;
+		this.xmlDocument = parse(new InputSource(new StringReader(xmlContent)), () -> new StreamSource(new StringReader(xmlContent)),
+				documentName, () -> xmlContent.getBytes(StandardCharsets.UTF_8).length, schema);
+	}
+
+	/**
+	 * Parses and validates a license XML document
+	 * @param input XML to parse
+	 * @param validationSource supplies a new source for the same XML to validate
+	 * @param documentName name used to identify the document in error messages
+	 * @param bytes size of the document
+	 * @param schema schema to validate the document against
+	 * @return the parsed document
+	 * @throws LicenseXmlException if the document can not be read, parsed or is not valid
+	 */
+	private static Document parse(InputSource input, Supplier<Source> validationSource, String documentName,
+			LongSupplier bytes, Schema schema) throws LicenseXmlException {
+		DocumentBuilder builder = newDocumentBuilder();
+		LicenseParsedEvent event = new LicenseParsedEvent();
+		event.begin();
+		try {
+			Document document;
+			try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_XML_PARSE, documentName)) {
+				document = builder.parse(input);
+			} catch (SAXException e) {
+				logger.error("Error parsing license XML document",e);
+				throw(new LicenseXmlException("Unable to parse license XML file: "+e.getMessage()));
+			} catch (IOException e) {
+				logger.error("I/O Error reading license XML file",e);
+				throw(new LicenseXmlException("I/O Error reading XML file: "+e.getMessage()));
+			}
+			try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_XML_VALIDATE, documentName)) {
+				assertValid(schema, validationSource.get(), documentName);
+			}
+			event.valid = true;
+			return document;
+		} finally {
+			commitParsedEvent(event, documentName, bytes);
+		}
+	}
+
+	/**
+	 * @param event parse event to commit if it is enabled
+	 * @param documentName name of the document
+	 * @param bytes size of the document - only evaluated if the event is committed
+	 */
+	private static void commitParsedEvent(LicenseParsedEvent event, String documentName, LongSupplier bytes) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.documentName = documentName;
+			event.bytes = bytes.getAsLong();
+			event.commit();
+		}
+	}
+
+	/**
+	 * @return document builder which does not access external entities
+	 * @throws LicenseXmlException
+	 */
+	private static DocumentBuilder newDocumentBuilder() throws LicenseXmlException {
 		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
 		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, ""); // Disable external access to prevent confidential file disclosures or SSRFs.
 		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, ""); // Disable external access to prevent confidential file disclosures or SSRFs.
-		DocumentBuilder builder;
 		try {
-			builder = factory.newDocumentBuilder();
+			return factory.newDocumentBuilder();
 		} catch (ParserConfigurationException e) {
 			logger.error("Parser configuration error creating document builder",e);
 			throw(new LicenseXmlException("Error creating parser for license XML file"));
 		}
-		try {
-			this.xmlDocument = builder.parse(file);
-		} catch (SAXException e) {
-			logger.error("Error parsing license XML document",e);
-			throw(new LicenseXmlException("Unable to parse license XML file: "+e.getMessage()));
-		} catch (IOException e) {
-			logger.error("I/O Error reading license XML file",e);
-			throw(new LicenseXmlException("I/O Error reading XML file: "+e.getMessage()));
-		}
-		assertValid(file);
 	}
 
 	/**
+	 * The schema is compiled once per JVM and shared by all documents
 	 * @return listed license XML schema
 	 * @throws LicenseXmlException
 	 */
-	private synchronized Schema getSchema() throws LicenseXmlException {
+	private static synchronized Schema getSchema() throws LicenseXmlException {
 		if (_schema == null) {
-			InputStream schemaIs = null;
-			try {
-				String schemaFilePath = System.getProperty(PROP_SCHEMA_FILENAME);
-				if (schemaFilePath != null) {
-					try {
-					    schemaIs = new FileInputStream(schemaFilePath);
-					} catch (IOException e) {
-						logger.error("IO Exception opening specified schema file "+schemaFilePath,e);
-						throw new LicenseXmlException("Invalid license XML schema file");
-					}
-				} else {
-					try {
-						URL schemaUrl = new URL(LICENSE_XML_SCHEMA_URL);
-						schemaIs = schemaUrl.openStream();
-					} catch (Exception e) {
-						logger.warn("Unable to open license XML schema URL, using cached copy",e);
-					}
-					if (schemaIs == null) {
-						schemaIs = LicenseXmlDocument.class.getClassLoader().getResourceAsStream(LICENSE_XML_SCHEMA_LOCATION);
-					}
+			String schemaFilePath = System.getProperty(PROP_SCHEMA_FILENAME);
+			if (schemaFilePath != null) {
+				try {
+					_schema = compileSchema(new FileInputStream(schemaFilePath));
+				} catch (IOException e) {
+					logger.error("IO Exception opening specified schema file "+schemaFilePath,e);
+					throw new LicenseXmlException("Invalid license XML schema file");
 				}
-				Source schemaSource = new StreamSource(schemaIs);
-				SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-				_schema = schemaFactory.newSchema(schemaSource);
-			} catch (SAXException e) {
-				logger.error("Invalid schema file",e);
-				throw new LicenseXmlException("Invalid Listed License Schema",e);
-			} finally {
-				if (schemaIs != null) {
-					try {
-						schemaIs.close();
-					} catch (IOException e) {
-						logger.warn("Unable to close Schema stream",e);
-					}
+			} else if (Boolean.parseBoolean(System.getProperty(PROP_SCHEMA_OFFLINE, "false"))) {
+				_schema = getBundledSchema();
+			} else {
+				InputStream schemaIs = null;
+				try {
+					URL schemaUrl = new URL(LICENSE_XML_SCHEMA_URL);
+					schemaIs = schemaUrl.openStream();
+				} catch (Exception e) {
+					logger.warn("Unable to open license XML schema URL, using cached copy",e);
 				}
+				_schema = Objects.nonNull(schemaIs) ? compileSchema(schemaIs) : getBundledSchema();
 			}
 		}
 		return _schema;
 	}
 
+	/**
+	 * The bundled copy of the schema does not require network access and ignores the schema system properties.
+	 * It is compiled once per JVM.
+	 * @return copy of the listed license XML schema bundled with the publisher
+	 * @throws LicenseXmlException
+	 */
+	public static synchronized Schema getBundledSchema() throws LicenseXmlException {
+		if (_bundledSchema == null) {
+			_bundledSchema = compileSchema(LicenseXmlDocument.class.getClassLoader().getResourceAsStream(LICENSE_XML_SCHEMA_LOCATION));
+		}
+		return _bundledSchema;
+	}
+
+	/**
+	 * @param schemaIs schema to compile - closed once compiled - null if the schema could not be opened
+	 * @return compiled schema
+	 * @throws LicenseXmlException
+	 */
+	private static Schema compileSchema(@Nullable InputStream schemaIs) throws LicenseXmlException {
+		if (Objects.isNull(schemaIs)) {
+			throw new LicenseXmlException("Unable to open the bundled license XML schema "+LICENSE_XML_SCHEMA_LOCATION);
+		}
+		try {
+			SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+			return schemaFactory.newSchema(new StreamSource(schemaIs));
+		} catch (SAXException e) {
+			logger.error("Invalid schema file",e);
+			throw new LicenseXmlException("Invalid Listed License Schema",e);
+		} finally {
+			try {
+				schemaIs.close();
+			} catch (IOException e) {
+				logger.warn("Unable to close Schema stream",e);
+			}
+		}
+	}
+
 	/**
 	 * Checks the xmlDocument for a valid file and throws a LicenseXmlException if not valid
 	 */
-	private void assertValid(File licenseXmlFile) throws LicenseXmlException {
+	private static void assertValid(Schema schema, Source xmlSource, String documentName) throws LicenseXmlException {
 		try {
-			Source xmlSource = new StreamSource(licenseXmlFile);
-			Schema schema = getSchema();
 			if (Objects.isNull(schema)) {
 			    throw new LicenseXmlException("Unable to open schema file for validation");
 			}
@@ -171,11 +272,11 @@ public class LicenseXmlDocument {
 			logger.error("Unable to open License List XML schema file",e);
 			throw new LicenseXmlException("Unable to open License List XML schema file");
 		} catch (SAXParseException e) {
-			logger.error("Invalid license XML file "+licenseXmlFile.getName(),e);
-			throw new LicenseXmlException("Parsing error in XML file "+licenseXmlFile.getName()+ " at line "+e.getLineNumber()+", column "+e.getColumnNumber()+":"+e.getMessage());
+			logger.error("Invalid license XML file "+documentName,e);
+			throw new LicenseXmlException("Parsing error in XML file "+documentName+ " at line "+e.getLineNumber()+", column "+e.getColumnNumber()+":"+e.getMessage());
 		} catch (SAXException e) {
-			logger.error("Invalid license XML file "+licenseXmlFile.getName(),e);
-			throw new LicenseXmlException("Invalid XML file "+licenseXmlFile.getName()+":"+e.getMessage());
+			logger.error("Invalid license XML file "+documentName,e);
+			throw new LicenseXmlException("Invalid XML file "+documentName+":"+e.getMessage());
 		} catch (IOException e) {
 			logger.error("IO Error validating license XML file",e);
 			throw new LicenseXmlException("IO Error validating license XML file");
@@ -186,6 +287,24 @@ public class LicenseXmlDocument {
 		this.xmlDocument = xmlDocument;
 	}
 
+	/**
+	 * @return true if the SPDX Spec version 3 licenses and exceptions are only created when they are first retrieved
+	 */
+	public boolean isCreateV3OnFirstUse() {
+		return createV3OnFirstUse;
+	}
+
+	/**
+	 * By default the SPDX Spec version 3 licenses and exceptions are created along with the version 2 forms.  If set,
+	 * they are only created when first retrieved with <code>getOrCreateV3ListedLicense</code> or
+	 * <code>getOrCreateV3Exception</code> and <code>getV3ListedLicense</code> and <code>getV3Exception</code> of the
+	 * containers return null until then.
+	 * @param createV3OnFirstUse if true, create the SPDX Spec version 3 forms the first time they are retrieved
+	 */
+	public void setCreateV3OnFirstUse(boolean createV3OnFirstUse) {
+		this.createV3OnFirstUse = createV3OnFirstUse;
+	}
+
 	/**
 	 * Will skip deprecated licenses
 	 * @return
@@ -198,7 +317,10 @@ public class LicenseXmlDocument {
 		NodeList licenseElements = rootElement.getElementsByTagName(SpdxConstantsCompatV2.LICENSEXML_ELEMENT_LICENSE);
 		for (int i = 0; i < licenseElements.getLength(); i++) {
 			Element licenseElement = (Element)(licenseElements.item(i));
-			retval.add(getListedLicense(licenseElement));
+			try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_XML_EXTRACT,
+					licenseElement.getAttribute(SpdxConstantsCompatV2.LICENSEXML_ATTRIBUTE_ID))) {
+				retval.add(getListedLicense(licenseElement));
+			}
 		}
 		return retval;
 	}
@@ -272,30 +394,17 @@ public class LicenseXmlDocument {
 		String licenseHtml = LicenseXmlHelper.getLicenseTextHtml(textElement);
 		org.spdx.library.model.v2.license.SpdxListedLicense licv2 = new org.spdx.library.model.v2.license.SpdxListedLicense(v2ModelStore, 
 				SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, id, copyManager, true);
-		ListedLicense licv3 = new ListedLicense(v3ModelStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + id,
-				copyManager, true, null);
-		licv3.setCreationInfo(creationInfo);
 		licv2.setName(name);
-		licv3.setName(name);
 		licv2.setLicenseText(text);
-		licv3.setLicenseText(text);
 		licv2.setSeeAlso(sourceUrls);
-		licv3.getSeeAlsos().addAll(sourceUrls);
 		licv2.setComment(comment);
-		licv3.setComment(comment);
 		licv2.setStandardLicenseHeader(licenseHeader);
-		licv3.setStandardLicenseHeader(licenseHeader);
 		licv2.setStandardLicenseTemplate(template);
-		licv3.setStandardLicenseTemplate(template);
 		licv2.setOsiApproved(osiApproved);
-		licv3.setIsOsiApproved(osiApproved);
 		licv2.setFsfLibre(fsfLibre);
-		licv3.setIsFsfLibre(fsfLibre);
 		licv2.setLicenseTextHtml(licenseHtml);
 		licv2.setDeprecated(deprecated);
-		licv3.setIsDeprecatedLicenseId(deprecated);
 		licv2.setDeprecatedVersion(deprecatedVersion);
-		licv3.setDeprecatedVersion(deprecatedVersion);
 		licv2.setLicenseHeaderHtml(licenseHeaderTemplateHtml);
 		licv2.setStandardLicenseHeaderTemplate(licenseHeaderTemplate);
 		int i = 0;
@@ -305,7 +414,38 @@ public class LicenseXmlDocument {
 					.build();
 			licv2.getCrossRef().add(crossRef);
 		}
-		return new ListedLicenseContainer(licv2, licv3);
+		ListedLicenseContainer.V3LicenseFactory v3Factory = v3LicenseFactory(v3ModelStore, copyManager, creationInfo, id, name,
+				sourceUrls, comment, licenseHeader, template, osiApproved, deprecated, deprecatedVersion);
+		return createV3OnFirstUse ? new ListedLicenseContainer(licv2, v3Factory) : 
+			new ListedLicenseContainer(licv2, v3Factory.create(licv2));
+	}
+
+	/**
+	 * The V3 license is created from the values parsed from the XML other than the license text and FSF libre flag,
+	 * which are taken from the V2 license since the generator may update them after the license is parsed.
+	 * The factory only holds the parsed values so the XML document can be released before the V3 license is created.
+	 * @return factory which creates the V3 license in the V3 model store
+	 */
+	private static ListedLicenseContainer.V3LicenseFactory v3LicenseFactory(IModelStore v3ModelStore,
+			IModelCopyManager copyManager, CreationInfo creationInfo, String id, String name, List<String> sourceUrls,
+			String comment, String licenseHeader, String template, boolean osiApproved, boolean deprecated,
+			String deprecatedVersion) {
+		return licv2 -> {
+			ListedLicense licv3 = new ListedLicense(v3ModelStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + id,
+					copyManager, true, null);
+			licv3.setCreationInfo(creationInfo);
+			licv3.setName(name);
+			licv3.setLicenseText(licv2.getLicenseText());
+			licv3.getSeeAlsos().addAll(sourceUrls);
+			licv3.setComment(comment);
+			licv3.setStandardLicenseHeader(licenseHeader);
+			licv3.setStandardLicenseTemplate(template);
+			licv3.setIsOsiApproved(osiApproved);
+			licv3.setIsFsfLibre(licv2.getFsfLibre());
+			licv3.setIsDeprecatedLicenseId(deprecated);
+			licv3.setDeprecatedVersion(deprecatedVersion);
+			return licv3;
+		};
 	}
 
 	/**
@@ -319,7 +459,10 @@ public class LicenseXmlDocument {
 		NodeList exceptionElements = rootElement.getElementsByTagName(SpdxConstantsCompatV2.LICENSEXML_ELEMENT_EXCEPTION);
 		for (int i = 0; i < exceptionElements.getLength(); i++) {
 			Element exceptionElement = (Element)(exceptionElements.item(i));
-			retval.add(getException(exceptionElement));
+			try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_XML_EXTRACT,
+					exceptionElement.getAttribute(SpdxConstantsCompatV2.LICENSEXML_ATTRIBUTE_ID))) {
+				retval.add(getException(exceptionElement));
+			}
 		}
 		return retval;
 	}
@@ -357,25 +500,41 @@ public class LicenseXmlDocument {
 		}
 		org.spdx.library.model.v2.license.ListedLicenseException exceptionV2 = new org.spdx.library.model.v2.license.ListedLicenseException(v2ModelStore, 
 				SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, id, copyManager, true);
-		ListedLicenseException exceptionV3 = new ListedLicenseException(v3ModelStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + id,
-				copyManager, true, null);
-		exceptionV3.setCreationInfo(creationInfo);
 		exceptionV2.setName(name);
-		exceptionV3.setName(name);
 		exceptionV2.setLicenseExceptionText(text);
-		exceptionV3.setAdditionText(text);
 		exceptionV2.setLicenseExceptionTemplate(template);
-		exceptionV3.setStandardAdditionTemplate(template);
 		exceptionV2.setSeeAlso(sourceUrls);
-		exceptionV3.getSeeAlsos().addAll(sourceUrls);
 		exceptionV2.setComment(comment);
-		exceptionV3.setComment(comment);
 		exceptionV2.setExceptionTextHtml(html);
 		exceptionV2.setDeprecated(deprecated);
-		exceptionV3.setIsDeprecatedAdditionId(deprecated);
 		exceptionV2.setDeprecatedVersion(deprecatedVersion);
-		exceptionV3.setDeprecatedVersion(deprecatedVersion);
-		return new ListedExceptionContainer(exceptionV2, exceptionV3);
+		ListedExceptionContainer.V3ExceptionFactory v3Factory = v3ExceptionFactory(v3ModelStore, copyManager, creationInfo, id,
+				name, sourceUrls, comment, template, deprecated, deprecatedVersion);
+		return createV3OnFirstUse ? new ListedExceptionContainer(exceptionV2, v3Factory) : 
+			new ListedExceptionContainer(exceptionV2, v3Factory.create(exceptionV2));
+	}
+
+	/**
+	 * The V3 exception is created from the values parsed from the XML other than the exception text, which is taken
+	 * from the V2 exception since the generator may update it after the exception is parsed
+	 * @return factory which creates the V3 exception in the V3 model store
+	 */
+	private static ListedExceptionContainer.V3ExceptionFactory v3ExceptionFactory(IModelStore v3ModelStore,
+			IModelCopyManager copyManager, CreationInfo creationInfo, String id, String name, List<String> sourceUrls,
+			String comment, String template, boolean deprecated, String deprecatedVersion) {
+		return exceptionV2 -> {
+			ListedLicenseException exceptionV3 = new ListedLicenseException(v3ModelStore, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + id,
+					copyManager, true, null);
+			exceptionV3.setCreationInfo(creationInfo);
+			exceptionV3.setName(name);
+			exceptionV3.setAdditionText(exceptionV2.getLicenseExceptionText());
+			exceptionV3.setStandardAdditionTemplate(template);
+			exceptionV3.getSeeAlsos().addAll(sourceUrls);
+			exceptionV3.setComment(comment);
+			exceptionV3.setIsDeprecatedAdditionId(deprecated);
+			exceptionV3.setDeprecatedVersion(deprecatedVersion);
+			return exceptionV3;
+		};
 	}
 
 }
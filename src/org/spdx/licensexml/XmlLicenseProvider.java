@@ -35,6 +35,7 @@ import org.spdx.library.ModelCopyManager;
 import org.spdx.library.model.v2.license.SpdxListedLicenseException;
 import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
 import org.spdx.library.model.v3_0_1.core.CreationInfo;
+import org.spdx.licenselistpublisher.GeneratorMetrics;
 import org.spdx.licenselistpublisher.ISpdxListedLicenseProvider;
 import org.spdx.licenselistpublisher.ListedExceptionContainer;
 import org.spdx.licenselistpublisher.ListedLicenseContainer;
@@ -70,8 +71,7 @@ public class XmlLicenseProvider implements ISpdxListedLicenseProvider {
 				fileListedLicenseIter = null;
 				while (xmlFileIndex < xmlFiles.size() && fileListedLicenseIter == null) {
 					try {
-						LicenseXmlDocument licDoc = new LicenseXmlDocument(xmlFiles.get(xmlFileIndex),
-								v2ModelStore, v3ModelStore, copyManager, creationInfo);
+						LicenseXmlDocument licDoc = openDocument(xmlFiles.get(xmlFileIndex));
 						try {
 							List<ListedLicenseContainer> licList = licDoc.getListedLicenses();
 							if (licList != null && !licList.isEmpty()) {
@@ -139,8 +139,7 @@ public class XmlLicenseProvider implements ISpdxListedLicenseProvider {
 				fileExceptionIterator = null;
 				while (xmlFileIndex < xmlFiles.size() && fileExceptionIterator == null) {
 					try {
-						LicenseXmlDocument licDoc = new LicenseXmlDocument(xmlFiles.get(xmlFileIndex), 
-								v2ModelStore, v3ModelStore, copyManager, creationInfo);
+						LicenseXmlDocument licDoc = openDocument(xmlFiles.get(xmlFileIndex));
 						List<ListedExceptionContainer> exceptionList = licDoc.getLicenseExceptions();
 						if (exceptionList != null && !exceptionList.isEmpty()) {
 							fileExceptionIterator = exceptionList.iterator();
@@ -196,6 +195,8 @@ public class XmlLicenseProvider implements ISpdxListedLicenseProvider {
 	protected String releaseDate;
 	protected String currentListVersion;
 	protected CreationInfo creationInfo;
+	private boolean perFileStores = false;
+	private boolean createV3OnFirstUse = false;
 
 	/**
 	 * @param xmlFileDirectory directory of XML files
@@ -211,9 +212,70 @@ public class XmlLicenseProvider implements ISpdxListedLicenseProvider {
 		this.currentListVersion = currentListVersion;
 		this.creationInfo = createCreationInfo(v3ModelStore, copyManager, releaseDate, currentListVersion);
 		this.xmlFiles = new ArrayList<File>();
-		addXmlFiles(xmlFileDirectory, this.xmlFiles);
+		try (GeneratorMetrics.Timer timer = GeneratorMetrics.getInstance().start(GeneratorMetrics.STAGE_XML_DISCOVERY, xmlFileDirectory.getName())) {
+			addXmlFiles(xmlFileDirectory, this.xmlFiles);
+		}
 	}
 	
+	/**
+	 * @return true if each XML file is parsed into its own model stores
+	 */
+	public boolean isPerFileStores() {
+		return perFileStores;
+	}
+
+	/**
+	 * With per file stores each XML file is parsed into its own model stores rather than the stores shared by the
+	 * provider.  The only references to the stores are from the license and exception containers, so the objects
+	 * for a license are released once every writer has consumed it.  Writers which keep their own copy of each
+	 * license, such as the RDF table of contents writer, are not affected.
+	 * @param perFileStores if true, parse each XML file into its own model stores
+	 */
+	public void setPerFileStores(boolean perFileStores) {
+		this.perFileStores = perFileStores;
+	}
+
+	/**
+	 * @return true if the SPDX Spec version 3 licenses and exceptions are only created when they are first retrieved
+	 */
+	public boolean isCreateV3OnFirstUse() {
+		return createV3OnFirstUse;
+	}
+
+	/**
+	 * @param createV3OnFirstUse if true, the SPDX Spec version 3 licenses and exceptions are only created when first
+	 * retrieved from their containers - see <code>LicenseXmlDocument.setCreateV3OnFirstUse</code>
+	 */
+	public void setCreateV3OnFirstUse(boolean createV3OnFirstUse) {
+		this.createV3OnFirstUse = createV3OnFirstUse;
+	}
+
+	/**
+	 * @param xmlFile license XML file
+	 * @return document for the file using the shared model stores or, with per file stores, stores for just this file
+	 * @throws LicenseXmlException on errors parsing the file or creating the stores for the file
+	 */
+	protected LicenseXmlDocument openDocument(File xmlFile) throws LicenseXmlException {
+		LicenseXmlDocument document;
+		if (!perFileStores) {
+			document = new LicenseXmlDocument(xmlFile, v2ModelStore, v3ModelStore, copyManager, creationInfo);
+			document.setCreateV3OnFirstUse(createV3OnFirstUse);
+			return document;
+		}
+		IModelStore documentV2Store = new InMemSpdxStore();
+		IModelStore documentV3Store = new InMemSpdxStore();
+		IModelCopyManager documentCopyManager = new ModelCopyManager();
+		CreationInfo documentCreationInfo;
+		try {
+			documentCreationInfo = createCreationInfo(documentV3Store, documentCopyManager, releaseDate, currentListVersion);
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new LicenseXmlException("Unable to create the creation info for "+xmlFile.getName(), e);
+		}
+		document = new LicenseXmlDocument(xmlFile, documentV2Store, documentV3Store, documentCopyManager, documentCreationInfo);
+		document.setCreateV3OnFirstUse(createV3OnFirstUse);
+		return document;
+	}
+
 	/**
 	 * @param modelStore Store to store the CreationInfo
 	 * @param copyManager Optional copyManager
@@ -245,7 +307,7 @@ public class XmlLicenseProvider implements ISpdxListedLicenseProvider {
 	 * @param xmlFileDirectory
 	 * @param alFiles
 	 */
-	private void addXmlFiles(File xmlFileDirectory, List<File> alFiles) {
+	public static void addXmlFiles(File xmlFileDirectory, List<File> alFiles) {
 
 		File[] directories = xmlFileDirectory.listFiles(new FileFilter() {
 
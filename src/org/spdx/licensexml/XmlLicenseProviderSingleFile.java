@@ -53,6 +53,14 @@ public class XmlLicenseProviderSingleFile implements ISpdxListedLicenseProvider
 				XmlLicenseProvider.createCreationInfo(v3ModelStore, copyManager, releaseDate, currentListVersion));
 	}
 
+	/**
+	 * @param createV3OnFirstUse if true, the SPDX Spec version 3 licenses and exceptions are only created when first
+	 * retrieved from their containers - see <code>LicenseXmlDocument.setCreateV3OnFirstUse</code>
+	 */
+	public void setCreateV3OnFirstUse(boolean createV3OnFirstUse) {
+		licDoc.setCreateV3OnFirstUse(createV3OnFirstUse);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.rdfparser.license.ISpdxListedLicenseProvider#getLicenseIterator()
 	 */
@@ -55,7 +55,9 @@ public class XmlLicenseProviderWithCrossRefDetails extends XmlLicenseProvider {
 		private void fillCrossRefPool() {
 			while (super.hasNext() && urlDetailsInProgress.size() < NUMBER_THREADS) {
 				ListedLicenseContainer nextLicense = super.next();
-				urlDetailsInProgress.put(nextLicense, executorService.submit(new CrossRefHelper(nextLicense.getV2ListedLicense())));
+				// the compiled template of the container is shared with the license testers
+				urlDetailsInProgress.put(nextLicense, executorService.submit(() -> CrossRefHelper.buildUrlDetails(
+						nextLicense.getV2ListedLicense(), nextLicense.getCompiledTemplate())));
 			}
 		}
 